@@ -35,6 +35,7 @@ import dev.hardwood.metadata.ColumnIndex;
 import dev.hardwood.metadata.ColumnMetaData;
 import dev.hardwood.metadata.FileMetaData;
 import dev.hardwood.metadata.OffsetIndex;
+import dev.hardwood.metadata.PageType;
 import dev.hardwood.metadata.RowGroup;
 import dev.hardwood.metadata.Statistics;
 import dev.hardwood.reader.ParquetFileReader;
@@ -403,7 +404,7 @@ public class InspectPagesCommand implements Command<CommandInvocation> {
             PageHeader header = PageHeaderReader.read(headerReader);
             int headerSize = headerReader.getBytesRead();
 
-            boolean isDictionary = header.type() == PageHeader.PageType.DICTIONARY_PAGE;
+            boolean isDictionary = header.type() == PageType.DICTIONARY_PAGE;
             String label = isDictionary ? "dict" : String.valueOf(pageIndex);
             Long firstRowIndex = null;
             Statistics inlineStats = null;
@@ -425,7 +426,7 @@ public class InspectPagesCommand implements Command<CommandInvocation> {
                     inlineStats
             ));
 
-            if (header.type() == PageHeader.PageType.DATA_PAGE || header.type() == PageHeader.PageType.DATA_PAGE_V2) {
+            if (header.type() == PageType.DATA_PAGE || header.type() == PageType.DATA_PAGE_V2) {
                 valuesRead += numValues(header);
                 pageIndex++;
                 if (valuesRead >= cmd.numValues()) {
@@ -453,7 +454,7 @@ public class InspectPagesCommand implements Command<CommandInvocation> {
         };
     }
 
-    private static String shortType(PageHeader.PageType type) {
+    private static String shortType(PageType type) {
         return switch (type) {
             case DATA_PAGE -> "DATA";
             case DATA_PAGE_V2 -> "DATA_V2";
@@ -0,0 +1,28 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood;
+
+import dev.hardwood.reader.DecodePriority;
+
+/// Snapshot of how long the page decodes of one [DecodePriority] class waited
+/// in a [HardwoodContext]'s decode queue before a pool thread picked them up.
+///
+/// **This API is [Experimental]:** the shape may change in future releases.
+///
+/// @param priority the priority class
+/// @param tasks the decodes of the class dispatched so far
+/// @param totalWaitNanos the summed queue wait of those decodes
+/// @param maxWaitNanos the longest queue wait of a single decode
+@Experimental
+public record DecodeQueueStats(DecodePriority priority, long tasks, long totalWaitNanos, long maxWaitNanos) {
+
+    /// The mean queue wait per decode, `0` when none was dispatched.
+    public long meanWaitNanos() {
+        return tasks == 0 ? 0 : totalWaitNanos / tasks;
+    }
+}
@@ -10,12 +10,15 @@ package dev.hardwood;
 import java.util.concurrent.ExecutorService;
 
 import dev.hardwood.internal.reader.HardwoodContextImpl;
+import dev.hardwood.reader.DecodePriority;
 import dev.hardwood.reader.ParquetFileReader;
 
 /// Context object that manages shared resources for Parquet file reading.
 ///
 /// Holds the thread pool for parallel page decoding, the libdeflate
-/// decompressor pool for native GZIP decompression, and the decompressor factory.
+/// decompressor pool for native GZIP decompression, the decompressor factory,
+/// the memory budget bounding the data its readers hold in flight, and the
+/// scheduler that shares the thread pool between readers by [DecodePriority].
 ///
 /// The context lifecycle is tied to either:
 ///
@@ -26,6 +29,15 @@ public interface HardwoodContext extends AutoCloseable {
     /// Get the executor service for parallel operations.
     ExecutorService executor();
 
+    /// Get a snapshot of the memory budget's usage: the bytes of fetched column
+    /// chunks, decoded pages and ready batches the context's readers currently hold.
+    MemoryBudgetUsage memoryUsage();
+
+    /// Get how long the page decodes of readers in `priority` waited for a pool
+    /// thread. Readers choose their class through the `hardwood.decode-priority`
+    /// [dev.hardwood.reader.ReaderConfig] option.
+    DecodeQueueStats decodeQueueStats(DecodePriority priority);
+
     @Override
     void close();
 
@@ -38,4 +50,15 @@ public interface HardwoodContext extends AutoCloseable {
     static HardwoodContext create(int threads) {
         return HardwoodContextImpl.create(threads);
     }
+
+    /// Create a new context with a thread pool of the specified size whose
+    /// readers share a `memoryBudgetBytes` budget for fetched column chunks,
+    /// decoded pages and ready batches. Reads ahead of demand are skipped and
+    /// page decodes wait while the budget is exhausted, each column still
+    /// decoding one page at a time so that a read always progresses. The batch
+    /// holders of each column and the chunk a column is blocked on are always
+    /// granted, so with enough columns these alone can exceed the budget.
+    static HardwoodContext create(int threads, long memoryBudgetBytes) {
+        return HardwoodContextImpl.create(threads, memoryBudgetBytes);
+    }
 }
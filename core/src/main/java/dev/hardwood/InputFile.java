@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Objects;
 
 import dev.hardwood.internal.reader.ByteBufferInputFile;
+import dev.hardwood.internal.reader.ChannelInputFile;
 import dev.hardwood.internal.reader.MappedInputFile;
 
 /// Abstraction for reading Parquet file data.
@@ -53,6 +54,30 @@ public interface InputFile extends Closeable {
     /// @throws IndexOutOfBoundsException if offset or length is out of range
     ByteBuffer readRange(long offset, int length) throws IOException;
 
+    /// Read several byte ranges from the file in one call.
+    ///
+    /// The pipeline submits the initial reads of all projected column chunks
+    /// of a row group through this method, so backends can merge, parallelise
+    /// or pipeline them instead of serving one [#readRange] at a time. The
+    /// default implementation issues one [#readRange] per range, in order.
+    ///
+    /// Ranges may overlap and need not be sorted. The returned list has one
+    /// buffer per requested range, in request order, with the same ownership
+    /// semantics as [#readRange].
+    ///
+    /// @param ranges the byte ranges to read
+    /// @return one [ByteBuffer] per range, in request order
+    /// @throws IOException if any of the reads fails
+    /// @throws IllegalStateException if [#open()] has not been called
+    /// @throws IndexOutOfBoundsException if a range is out of bounds
+    default List<ByteBuffer> readRanges(List<Range> ranges) throws IOException {
+        List<ByteBuffer> buffers = new ArrayList<>(ranges.size());
+        for (Range range : ranges) {
+            buffers.add(readRange(range.offset(), range.length()));
+        }
+        return buffers;
+    }
+
     /// Returns the total size of the file in bytes.
     ///
     /// @return the file size
@@ -65,6 +90,26 @@ public interface InputFile extends Closeable {
     /// @return a human-readable name or path
     String name();
 
+    /// A contiguous byte range within an [InputFile], as passed to [#readRanges].
+    ///
+    /// @param offset the byte offset of the first byte
+    /// @param length the number of bytes
+    record Range(long offset, int length) {
+
+        public Range {
+            if (offset < 0 || length < 0) {
+                throw new IllegalArgumentException(
+                        "Range offset and length must be non-negative, got offset=" + offset
+                                + ", length=" + length);
+            }
+        }
+
+        /// Returns the exclusive end offset of this range.
+        public long end() {
+            return offset + length;
+        }
+    }
+
     /// Creates an [InputFile] backed by an in-memory [ByteBuffer].
     ///
     /// Since the data is already in memory, no resource acquisition is needed
@@ -84,6 +129,22 @@ public interface InputFile extends Closeable {
         return new MappedInputFile(path);
     }
 
+    /// Creates an unopened [InputFile] for a local file path, read with the
+    /// given I/O strategy. See [LocalFileOptions] for the trade-off between
+    /// memory mapping and positional reads.
+    ///
+    /// @param path the file to read
+    /// @param options how to read the file
+    /// @return a new unopened InputFile
+    static InputFile of(Path path, LocalFileOptions options) {
+        Objects.requireNonNull(path, "path must not be null");
+        Objects.requireNonNull(options, "options must not be null");
+        return switch (options.access()) {
+            case MEMORY_MAP -> new MappedInputFile(path);
+            case POSITIONAL_READ -> new ChannelInputFile(path, options.directIo());
+        };
+    }
+
     /// Creates unopened [InputFile] instances for a list of local file paths.
     ///
     /// @param paths the files to read
@@ -0,0 +1,103 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood;
+
+import java.util.Objects;
+
+/// How [InputFile#of(java.nio.file.Path, LocalFileOptions)] reads a local file.
+///
+/// The default, [Access#MEMORY_MAP], maps the file and hands out zero-copy
+/// slices of the mapping. [Access#POSITIONAL_READ] instead issues a
+/// positional `FileChannel.read` per requested range into a freshly
+/// allocated direct buffer. It copies every byte once, but its memory use is
+/// bounded by the ranges in flight rather than by the page cache the kernel
+/// accounts to the process, which keeps RSS predictable when many large files
+/// are scanned concurrently.
+///
+/// With [Builder#directIo(boolean)], positional reads bypass the page cache
+/// (`O_DIRECT`) using block-aligned buffers. Not every file system supports
+/// direct I/O; opening fails there.
+///
+/// Obtain the defaults with [#defaults] or set options through [#builder].
+public final class LocalFileOptions {
+
+    /// The I/O strategy for a local file.
+    public enum Access {
+
+        /// Memory-map the file; reads return slices of the mapping.
+        MEMORY_MAP,
+
+        /// Read each range with a positional `FileChannel.read` into a
+        /// direct buffer.
+        POSITIONAL_READ
+    }
+
+    private static final LocalFileOptions DEFAULTS = builder().build();
+
+    private final Access access;
+    private final boolean directIo;
+
+    private LocalFileOptions(Access access, boolean directIo) {
+        this.access = access;
+        this.directIo = directIo;
+    }
+
+    /// The default options: [Access#MEMORY_MAP], no direct I/O.
+    public static LocalFileOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /// A builder for setting local file options.
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /// The I/O strategy.
+    public Access access() {
+        return access;
+    }
+
+    /// Whether positional reads bypass the page cache.
+    public boolean directIo() {
+        return directIo;
+    }
+
+    /// Builder for [LocalFileOptions].
+    public static final class Builder {
+
+        private Access access = Access.MEMORY_MAP;
+        private boolean directIo;
+
+        private Builder() {
+        }
+
+        /// Sets the I/O strategy. Default is [Access#MEMORY_MAP].
+        public Builder access(Access access) {
+            this.access = Objects.requireNonNull(access, "access must not be null");
+            return this;
+        }
+
+        /// Requests direct I/O (`O_DIRECT`) for [Access#POSITIONAL_READ].
+        /// Default is `false`.
+        public Builder directIo(boolean directIo) {
+            this.directIo = directIo;
+            return this;
+        }
+
+        /// Builds the immutable options.
+        ///
+        /// @throws IllegalStateException if direct I/O is requested together
+        ///         with [Access#MEMORY_MAP]
+        public LocalFileOptions build() {
+            if (directIo && access == Access.MEMORY_MAP) {
+                throw new IllegalStateException("directIo requires Access.POSITIONAL_READ");
+            }
+            return new LocalFileOptions(access, directIo);
+        }
+    }
+}
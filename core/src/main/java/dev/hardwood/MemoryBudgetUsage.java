@@ -0,0 +1,21 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood;
+
+/// Snapshot of a [HardwoodContext]'s memory budget: the bytes of fetched pages,
+/// decoded pages and ready batches its readers hold in flight.
+///
+/// **This API is [Experimental]:** the shape may change in future releases.
+///
+/// @param budgetBytes the configured budget, `Long.MAX_VALUE` when unbounded
+/// @param usedBytes the bytes currently held
+/// @param peakBytes the most bytes held at once since the context was created
+/// @param throttledAdmissions how many times a page had to wait for budget before it was fetched and decoded
+@Experimental
+public record MemoryBudgetUsage(long budgetBytes, long usedBytes, long peakBytes, long throttledAdmissions) {
+}
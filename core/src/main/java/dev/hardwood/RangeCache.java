@@ -0,0 +1,185 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/// Size-bounded, off-heap cache of byte ranges read from [InputFile]s,
+/// shared by every file that is handed the same instance.
+///
+/// Entries are keyed by a caller-supplied *file key* and the range's start
+/// offset. The file key must change whenever the file's content does —
+/// remote backends combine the object name with its ETag — so a cached range
+/// is never served for a different version of the file. A lookup hits when
+/// an entry exists at the requested offset and is at least as long as the
+/// requested length; the returned buffer is a slice of the cached copy.
+///
+/// The cache holds at most [#maxBytes()] bytes of range data in direct
+/// buffers. When an insertion exceeds the budget, entries are evicted with
+/// the CLOCK policy: each lookup hit marks its entry as referenced, and the
+/// eviction hand gives referenced entries a second chance before evicting
+/// the first unreferenced one. Hit, miss and eviction counters are kept for
+/// monitoring.
+///
+/// Thread-safe. Lookups are lock-free; insertions and evictions serialize
+/// on an internal lock.
+///
+/// **This API is [Experimental]:** the shape may change in future releases.
+@Experimental
+public final class RangeCache {
+
+    private final long maxBytes;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    /// The CLOCK ring; the head is the hand. Guarded by `this`.
+    private final ArrayDeque<Entry> clock = new ArrayDeque<>();
+    private final AtomicLong sizeBytes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private RangeCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /// Creates a cache holding at most `maxBytes` bytes of range data.
+    public static RangeCache create(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+        }
+        return new RangeCache(maxBytes);
+    }
+
+    /// Returns the cached bytes `[offset, offset + length)` of the file
+    /// identified by `fileKey`, or `null` on a miss.
+    public ByteBuffer get(String fileKey, long offset, int length) {
+        Entry entry = entries.get(new Key(fileKey, offset));
+        if (entry == null || entry.data.capacity() < length) {
+            misses.increment();
+            return null;
+        }
+        entry.referenced = true;
+        hits.increment();
+        return entry.data.slice(0, length);
+    }
+
+    /// Caches a copy of the remaining bytes of `data` as the range starting
+    /// at `offset` of the file identified by `fileKey`. `data`'s position is
+    /// not changed. Ranges larger than the whole cache are not stored, and an
+    /// existing entry at least as long as `data` is kept.
+    public void put(String fileKey, long offset, ByteBuffer data) {
+        Objects.requireNonNull(fileKey, "fileKey must not be null");
+        int length = data.remaining();
+        if (length == 0 || length > maxBytes) {
+            return;
+        }
+        Key key = new Key(fileKey, offset);
+        Entry existing = entries.get(key);
+        if (existing != null && existing.data.capacity() >= length) {
+            return;
+        }
+        ByteBuffer copy = ByteBuffer.allocateDirect(length);
+        copy.put(data.duplicate());
+        copy.flip();
+        Entry entry = new Entry(key, copy);
+
+        synchronized (this) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                previous.removed = true;
+                sizeBytes.addAndGet(-previous.data.capacity());
+            }
+            clock.addLast(entry);
+            long size = sizeBytes.addAndGet(length);
+            while (size > maxBytes) {
+                size = sizeBytes.addAndGet(-evictOne());
+            }
+        }
+    }
+
+    /// Advances the CLOCK hand until an unreferenced entry is found, evicts
+    /// it and returns its size. Must hold the lock.
+    private int evictOne() {
+        while (true) {
+            Entry candidate = clock.pollFirst();
+            if (candidate.removed) {
+                continue;
+            }
+            if (candidate.referenced) {
+                candidate.referenced = false;
+                clock.addLast(candidate);
+                continue;
+            }
+            candidate.removed = true;
+            entries.remove(candidate.key, candidate);
+            evictions.increment();
+            return candidate.data.capacity();
+        }
+    }
+
+    /// Drops every cached range.
+    public synchronized void clear() {
+        for (Entry entry : clock) {
+            entry.removed = true;
+        }
+        clock.clear();
+        entries.clear();
+        sizeBytes.set(0);
+    }
+
+    /// Maximum number of bytes of range data the cache holds.
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    /// Number of bytes of range data currently cached.
+    public long sizeBytes() {
+        return sizeBytes.get();
+    }
+
+    /// Number of ranges currently cached.
+    public int entryCount() {
+        return entries.size();
+    }
+
+    /// Number of [#get] calls served from the cache.
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /// Number of [#get] calls not served from the cache.
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /// Number of ranges evicted to stay within [#maxBytes()].
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private record Key(String fileKey, long offset) {
+    }
+
+    private static final class Entry {
+
+        final Key key;
+        final ByteBuffer data;
+        volatile boolean referenced;
+        /// Set once the entry has left the map; the ring drops it lazily.
+        boolean removed;
+
+        Entry(Key key, ByteBuffer data) {
+            this.key = key;
+            this.data = data;
+        }
+    }
+}
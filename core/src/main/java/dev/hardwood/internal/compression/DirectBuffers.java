@@ -12,19 +12,35 @@ import java.nio.ByteBuffer;
 /// Utility for ensuring a [ByteBuffer] is direct, as required by JNI-based
 /// compression libraries (Snappy, ZSTD). If the source buffer is already
 /// direct, it is returned as-is. Otherwise, its contents are copied into
-/// a freshly allocated direct buffer.
+/// a per-thread staging buffer that is reused across calls.
 final class DirectBuffers {
 
+    private static final ThreadLocal<ByteBuffer> STAGING_BUFFER = new ThreadLocal<>();
+
     private DirectBuffers() {
     }
 
+    /// Returns `src` if it is direct, otherwise a direct copy of its remaining
+    /// bytes. The copy lives in a buffer owned by the calling thread and is
+    /// overwritten by that thread's next call, so it must be consumed before
+    /// then.
     static ByteBuffer ensureDirect(ByteBuffer src) {
         if (src.isDirect()) {
             return src;
         }
-        ByteBuffer direct = ByteBuffer.allocateDirect(src.remaining());
-        direct.put(src);
+        ByteBuffer direct = borrowStagingBuffer(src.remaining());
+        direct.put(src.duplicate());
         direct.flip();
         return direct;
     }
+
+    private static ByteBuffer borrowStagingBuffer(int minSize) {
+        ByteBuffer buf = STAGING_BUFFER.get();
+        if (buf == null || buf.capacity() < minSize) {
+            buf = ByteBuffer.allocateDirect(minSize);
+            STAGING_BUFFER.set(buf);
+        }
+        buf.clear();
+        return buf;
+    }
 }
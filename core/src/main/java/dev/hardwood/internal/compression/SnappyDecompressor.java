@@ -13,43 +13,55 @@ import java.nio.ByteBuffer;
 import org.xerial.snappy.Snappy;
 
 /// Decompressor for Snappy compressed data.
+///
+/// snappy-java only decompresses direct-to-direct or heap-to-heap, and the
+/// value decoders read `byte[]`. A direct (mapped or channel-read) slice is
+/// therefore copied into a per-thread heap input buffer and decompressed
+/// heap-to-heap: that copies the compressed bytes rather than the larger
+/// decompressed ones. Heap slices are decompressed from their backing array
+/// without any copy.
 public class SnappyDecompressor implements Decompressor {
 
-    private static final ThreadLocal<ByteBuffer> DIRECT_OUTPUT_BUFFER = new ThreadLocal<>();
+    private static final ThreadLocal<byte[]> INPUT_BUFFER = new ThreadLocal<>();
     private static final ThreadLocal<byte[]> OUTPUT_BUFFER = new ThreadLocal<>();
 
     @Override
     public byte[] decompress(ByteBuffer compressed, int uncompressedSize) throws IOException {
-        ByteBuffer directInput = DirectBuffers.ensureDirect(compressed);
-        ByteBuffer directOutput = borrowDirectBuffer(uncompressedSize);
-        int actualSize = Snappy.uncompress(directInput, directOutput);
+        byte[] input;
+        int inputOffset;
+        int inputLength = compressed.remaining();
+        if (compressed.hasArray()) {
+            input = compressed.array();
+            inputOffset = compressed.arrayOffset() + compressed.position();
+        }
+        else {
+            input = borrow(INPUT_BUFFER, inputLength);
+            inputOffset = 0;
+            compressed.get(compressed.position(), input, 0, inputLength);
+        }
+
+        // The heap-to-heap call does not bound its writes by the output array,
+        // so check the length declared in the stream header first.
+        int declaredSize = Snappy.uncompressedLength(input, inputOffset, inputLength);
+        if (declaredSize != uncompressedSize) {
+            throw new IOException(
+                    "Snappy decompression size mismatch: expected " + uncompressedSize + ", got " + declaredSize);
+        }
 
+        byte[] output = borrow(OUTPUT_BUFFER, uncompressedSize);
+        int actualSize = Snappy.uncompress(input, inputOffset, inputLength, output, 0);
         if (actualSize != uncompressedSize) {
             throw new IOException(
                     "Snappy decompression size mismatch: expected " + uncompressedSize + ", got " + actualSize);
         }
-
-        byte[] output = borrowOutputBuffer(uncompressedSize);
-        directOutput.rewind();
-        directOutput.get(output, 0, uncompressedSize);
         return output;
     }
 
-    private static ByteBuffer borrowDirectBuffer(int minSize) {
-        ByteBuffer buf = DIRECT_OUTPUT_BUFFER.get();
-        if (buf == null || buf.capacity() < minSize) {
-            buf = ByteBuffer.allocateDirect(minSize);
-            DIRECT_OUTPUT_BUFFER.set(buf);
-        }
-        buf.clear();
-        return buf;
-    }
-
-    private static byte[] borrowOutputBuffer(int minSize) {
-        byte[] buf = OUTPUT_BUFFER.get();
+    private static byte[] borrow(ThreadLocal<byte[]> holder, int minSize) {
+        byte[] buf = holder.get();
         if (buf == null || buf.length < minSize) {
             buf = new byte[minSize];
-            OUTPUT_BUFFER.set(buf);
+            holder.set(buf);
         }
         return buf;
     }
@@ -13,6 +13,12 @@ import java.nio.ByteBuffer;
 import com.github.luben.zstd.Zstd;
 
 /// Decompressor for ZSTD compressed data.
+///
+/// Output always lands in a per-thread heap buffer, since the value decoders
+/// read `byte[]`. Input is consumed where it lives: direct (mapped or
+/// channel-read) slices go to the native decoder as-is, and heap slices are
+/// passed by their backing array, so neither side is staged through an extra
+/// buffer.
 public class ZstdDecompressor implements Decompressor {
 
     private static final ThreadLocal<byte[]> OUTPUT_BUFFER = new ThreadLocal<>();
@@ -20,7 +26,18 @@ public class ZstdDecompressor implements Decompressor {
     @Override
     public byte[] decompress(ByteBuffer compressed, int uncompressedSize) throws IOException {
         byte[] output = borrowOutputBuffer(uncompressedSize);
-        int actualSize = Zstd.decompress(output, DirectBuffers.ensureDirect(compressed));
+        int actualSize;
+        if (compressed.hasArray()) {
+            long result = Zstd.decompressByteArray(output, 0, uncompressedSize,
+                    compressed.array(), compressed.arrayOffset() + compressed.position(), compressed.remaining());
+            if (Zstd.isError(result)) {
+                throw new IOException("ZSTD decompression failed: " + Zstd.getErrorName(result));
+            }
+            actualSize = (int) result;
+        }
+        else {
+            actualSize = Zstd.decompress(output, DirectBuffers.ensureDirect(compressed));
+        }
 
         if (actualSize != uncompressedSize) {
             throw new IOException(
@@ -26,6 +26,8 @@ import net.jpountz.lz4.LZ4SafeDecompressor;
 /// If the data doesn't match Hadoop format, falls back to raw LZ4 block decompression.
 public class Lz4Decompressor implements Decompressor {
 
+    private static final ThreadLocal<byte[]> OUTPUT_BUFFER = new ThreadLocal<>();
+
     private final LZ4FastDecompressor fastDecompressor;
     private final LZ4SafeDecompressor safeDecompressor;
 
@@ -62,7 +64,7 @@ public class Lz4Decompressor implements Decompressor {
     /// Each block has both the uncompressed and compressed sizes in big-endian format,
     /// followed by the compressed data.
     private byte[] decompressHadoopFormat(byte[] compressed, int uncompressedSize) throws IOException {
-        byte[] uncompressed = new byte[uncompressedSize];
+        byte[] uncompressed = borrowOutputBuffer(uncompressedSize);
         int srcOffset = 0;
         int destOffset = 0;
 
@@ -126,12 +128,21 @@ public class Lz4Decompressor implements Decompressor {
 
     /// Decompress using raw LZ4 block format (no framing).
     private byte[] decompressRaw(ByteBuffer compressed, int uncompressedSize) {
-        byte[] uncompressed = new byte[uncompressedSize];
+        byte[] uncompressed = borrowOutputBuffer(uncompressedSize);
         ByteBuffer dest = ByteBuffer.wrap(uncompressed);
         fastDecompressor.decompress(compressed, 0, dest, 0, uncompressedSize);
         return uncompressed;
     }
 
+    private static byte[] borrowOutputBuffer(int minSize) {
+        byte[] buf = OUTPUT_BUFFER.get();
+        if (buf == null || buf.length < minSize) {
+            buf = new byte[minSize];
+            OUTPUT_BUFFER.set(buf);
+        }
+        return buf;
+    }
+
     @Override
     public String getName() {
         return "LZ4";
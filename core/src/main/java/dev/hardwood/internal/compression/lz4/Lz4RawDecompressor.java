@@ -20,6 +20,8 @@ import net.jpountz.lz4.LZ4FastDecompressor;
 /// without any framing or headers.
 public class Lz4RawDecompressor implements Decompressor {
 
+    private static final ThreadLocal<byte[]> OUTPUT_BUFFER = new ThreadLocal<>();
+
     private final LZ4FastDecompressor decompressor;
 
     public Lz4RawDecompressor() {
@@ -30,7 +32,7 @@ public class Lz4RawDecompressor implements Decompressor {
     public byte[] decompress(ByteBuffer compressed, int uncompressedSize) throws IOException {
         try {
             // Decompress directly from ByteBuffer - no copying
-            byte[] uncompressed = new byte[uncompressedSize];
+            byte[] uncompressed = borrowOutputBuffer(uncompressedSize);
             ByteBuffer dest = ByteBuffer.wrap(uncompressed);
 
             int compressedLength = compressed.remaining();
@@ -49,6 +51,15 @@ public class Lz4RawDecompressor implements Decompressor {
         }
     }
 
+    private static byte[] borrowOutputBuffer(int minSize) {
+        byte[] buf = OUTPUT_BUFFER.get();
+        if (buf == null || buf.length < minSize) {
+            buf = new byte[minSize];
+            OUTPUT_BUFFER.set(buf);
+        }
+        return buf;
+    }
+
     @Override
     public String getName() {
         return "LZ4_RAW";
@@ -8,9 +8,10 @@
 package dev.hardwood.internal.encoding;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
+import java.util.Arrays;
 
+import dev.hardwood.internal.encoding.simd.SimdOperations;
+import dev.hardwood.internal.encoding.simd.VectorSupport;
 import dev.hardwood.metadata.PhysicalType;
 
 /// Decoder for BYTE_STREAM_SPLIT encoding.
@@ -23,9 +24,15 @@ import dev.hardwood.metadata.PhysicalType;
 ///
 /// The encoded data is the concatenation of all streams: `[stream0][stream1]...[streamK-1]`
 ///
-/// To decode value i, gather `byte[i]` from each stream and reassemble.
+/// To decode value i, gather `byte[i]` from each stream and reassemble. Values
+/// are reassembled in blocks by a tile transpose of the streams (see
+/// [SimdOperations]) straight into the output array. With definition levels,
+/// the present values land densely at the front and are then spread out back
+/// to front, which never overwrites a value before it has been moved.
 public class ByteStreamSplitDecoder implements ValueDecoder {
 
+    private static final SimdOperations SIMD_OPS = VectorSupport.operations();
+
     private final byte[] data;
     private final int baseOffset;
     private final int numValues;
@@ -33,6 +40,13 @@ public class ByteStreamSplitDecoder implements ValueDecoder {
     private int currentIndex = 0;
 
     public ByteStreamSplitDecoder(byte[] data, int offset, int numValues, PhysicalType type, Integer typeLength) {
+        this(data, offset, data.length - offset, numValues, type, typeLength);
+    }
+
+    /// Decodes `numValues` values from the `length` bytes of `data` from
+    /// `offset` on, which must hold all of them.
+    public ByteStreamSplitDecoder(byte[] data, int offset, int length, int numValues, PhysicalType type,
+                                  Integer typeLength) {
         this.data = data;
         this.baseOffset = offset;
         this.numValues = numValues;
@@ -40,7 +54,7 @@ public class ByteStreamSplitDecoder implements ValueDecoder {
 
         // Validate that the data buffer has enough room for the expected values
         int expectedLength = numValues * byteWidth;
-        int availableLength = data.length - offset;
+        int availableLength = length;
         if (availableLength < expectedLength) {
             throw new IllegalArgumentException(
                     "Insufficient data: expected at least " + expectedLength + " bytes for " +
@@ -66,23 +80,11 @@ public class ByteStreamSplitDecoder implements ValueDecoder {
     /// Read DOUBLE values directly into a primitive double array.
     @Override
     public void readDoubles(double[] output, int[] definitionLevels, int maxDefLevel) throws IOException {
-        byte[] valueBytes = new byte[8];
-        ByteBuffer buffer = ByteBuffer.wrap(valueBytes).order(ByteOrder.LITTLE_ENDIAN);
-
-        if (definitionLevels == null) {
-            for (int i = 0; i < output.length; i++) {
-                gatherBytes(valueBytes);
-                buffer.rewind();
-                output[i] = buffer.getDouble();
-            }
-        }
-        else {
-            for (int i = 0; i < output.length; i++) {
-                if (definitionLevels[i] == maxDefLevel) {
-                    gatherBytes(valueBytes);
-                    buffer.rewind();
-                    output[i] = buffer.getDouble();
-                }
+        int count = countDefined(output.length, definitionLevels, maxDefLevel);
+        SIMD_OPS.gatherByteStreamsDoubles(data, nextValueOffset(count), numValues, output, 0, count);
+        if (definitionLevels != null) {
+            for (int i = output.length - 1, j = count - 1; i > j; i--) {
+                output[i] = definitionLevels[i] == maxDefLevel ? output[j--] : 0;
             }
         }
     }
@@ -90,23 +92,11 @@ public class ByteStreamSplitDecoder implements ValueDecoder {
     /// Read INT64 values directly into a primitive long array.
     @Override
     public void readLongs(long[] output, int[] definitionLevels, int maxDefLevel) throws IOException {
-        byte[] valueBytes = new byte[8];
-        ByteBuffer buffer = ByteBuffer.wrap(valueBytes).order(ByteOrder.LITTLE_ENDIAN);
-
-        if (definitionLevels == null) {
-            for (int i = 0; i < output.length; i++) {
-                gatherBytes(valueBytes);
-                buffer.rewind();
-                output[i] = buffer.getLong();
-            }
-        }
-        else {
-            for (int i = 0; i < output.length; i++) {
-                if (definitionLevels[i] == maxDefLevel) {
-                    gatherBytes(valueBytes);
-                    buffer.rewind();
-                    output[i] = buffer.getLong();
-                }
+        int count = countDefined(output.length, definitionLevels, maxDefLevel);
+        SIMD_OPS.gatherByteStreamsLongs(data, nextValueOffset(count), numValues, output, 0, count);
+        if (definitionLevels != null) {
+            for (int i = output.length - 1, j = count - 1; i > j; i--) {
+                output[i] = definitionLevels[i] == maxDefLevel ? output[j--] : 0;
             }
         }
     }
@@ -114,23 +104,11 @@ public class ByteStreamSplitDecoder implements ValueDecoder {
     /// Read INT32 values directly into a primitive int array.
     @Override
     public void readInts(int[] output, int[] definitionLevels, int maxDefLevel) throws IOException {
-        byte[] valueBytes = new byte[4];
-        ByteBuffer buffer = ByteBuffer.wrap(valueBytes).order(ByteOrder.LITTLE_ENDIAN);
-
-        if (definitionLevels == null) {
-            for (int i = 0; i < output.length; i++) {
-                gatherBytes(valueBytes);
-                buffer.rewind();
-                output[i] = buffer.getInt();
-            }
-        }
-        else {
-            for (int i = 0; i < output.length; i++) {
-                if (definitionLevels[i] == maxDefLevel) {
-                    gatherBytes(valueBytes);
-                    buffer.rewind();
-                    output[i] = buffer.getInt();
-                }
+        int count = countDefined(output.length, definitionLevels, maxDefLevel);
+        SIMD_OPS.gatherByteStreamsInts(data, nextValueOffset(count), numValues, output, 0, count);
+        if (definitionLevels != null) {
+            for (int i = output.length - 1, j = count - 1; i > j; i--) {
+                output[i] = definitionLevels[i] == maxDefLevel ? output[j--] : 0;
             }
         }
     }
@@ -138,57 +116,60 @@ public class ByteStreamSplitDecoder implements ValueDecoder {
     /// Read FLOAT values directly into a primitive float array.
     @Override
     public void readFloats(float[] output, int[] definitionLevels, int maxDefLevel) throws IOException {
-        byte[] valueBytes = new byte[4];
-        ByteBuffer buffer = ByteBuffer.wrap(valueBytes).order(ByteOrder.LITTLE_ENDIAN);
-
-        if (definitionLevels == null) {
-            for (int i = 0; i < output.length; i++) {
-                gatherBytes(valueBytes);
-                buffer.rewind();
-                output[i] = buffer.getFloat();
+        int count = countDefined(output.length, definitionLevels, maxDefLevel);
+        SIMD_OPS.gatherByteStreamsFloats(data, nextValueOffset(count), numValues, output, 0, count);
+        if (definitionLevels != null) {
+            for (int i = output.length - 1, j = count - 1; i > j; i--) {
+                output[i] = definitionLevels[i] == maxDefLevel ? output[j--] : 0;
             }
         }
-        else {
-            for (int i = 0; i < output.length; i++) {
+    }
+
+    /// Read FIXED_LEN_BYTE_ARRAY values into one contiguous buffer; every
+    /// position, null or not, spans `byteWidth` bytes.
+    @Override
+    public byte[] readBinaries(int[] offsets, int[] definitionLevels, int maxDefLevel) throws IOException {
+        int count = offsets.length - 1;
+        int defined = countDefined(count, definitionLevels, maxDefLevel);
+        byte[] bytes = new byte[Math.multiplyExact(count, byteWidth)];
+        SIMD_OPS.gatherByteStreams(data, nextValueOffset(defined), numValues, byteWidth, bytes, 0, defined);
+        for (int i = 0; i <= count; i++) {
+            offsets[i] = i * byteWidth;
+        }
+        if (definitionLevels != null) {
+            for (int i = count - 1, j = defined - 1; i > j; i--) {
                 if (definitionLevels[i] == maxDefLevel) {
-                    gatherBytes(valueBytes);
-                    buffer.rewind();
-                    output[i] = buffer.getFloat();
+                    System.arraycopy(bytes, j-- * byteWidth, bytes, i * byteWidth, byteWidth);
+                }
+                else {
+                    Arrays.fill(bytes, i * byteWidth, (i + 1) * byteWidth, (byte) 0);
                 }
             }
         }
+        return bytes;
     }
 
-    /// Read FIXED_LEN_BYTE_ARRAY values directly into a byte[][] array.
-    @Override
-    public void readByteArrays(byte[][] output, int[] definitionLevels, int maxDefLevel) throws IOException {
+    /// Number of positions among the first `length` that hold a value.
+    private static int countDefined(int length, int[] definitionLevels, int maxDefLevel) {
         if (definitionLevels == null) {
-            for (int i = 0; i < output.length; i++) {
-                byte[] valueBytes = new byte[byteWidth];
-                gatherBytes(valueBytes);
-                output[i] = valueBytes;
-            }
+            return length;
         }
-        else {
-            for (int i = 0; i < output.length; i++) {
-                if (definitionLevels[i] == maxDefLevel) {
-                    byte[] valueBytes = new byte[byteWidth];
-                    gatherBytes(valueBytes);
-                    output[i] = valueBytes;
-                }
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (definitionLevels[i] == maxDefLevel) {
+                count++;
             }
         }
+        return count;
     }
 
-    /// Gather bytes for the current value from byte streams and advance the index.
-    private void gatherBytes(byte[] valueBytes) throws IOException {
-        if (currentIndex >= numValues) {
+    /// Offset in stream 0 of the next value, consuming `count` values.
+    private int nextValueOffset(int count) throws IOException {
+        if (count > numValues - currentIndex) {
             throw new IOException("No more values to read");
         }
-        for (int k = 0; k < valueBytes.length; k++) {
-            int streamOffset = k * numValues;
-            valueBytes[k] = data[baseOffset + streamOffset + currentIndex];
-        }
-        currentIndex++;
+        int valueOffset = baseOffset + currentIndex;
+        currentIndex += count;
+        return valueOffset;
     }
 }
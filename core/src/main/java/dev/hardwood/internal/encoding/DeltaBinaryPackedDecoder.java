@@ -8,6 +8,10 @@
 package dev.hardwood.internal.encoding;
 
 import java.io.IOException;
+import java.util.Arrays;
+
+import dev.hardwood.internal.encoding.simd.SimdOperations;
+import dev.hardwood.internal.encoding.simd.VectorSupport;
 
 /// Decoder for DELTA_BINARY_PACKED encoding.
 ///
@@ -26,7 +30,10 @@ import java.io.IOException;
 /// @see <a href="https://github.com/apache/parquet-format/blob/master/Encodings.md">Parquet Encodings</a>
 public class DeltaBinaryPackedDecoder implements ValueDecoder {
 
+    private static final SimdOperations SIMD_OPS = VectorSupport.operations();
+
     private final byte[] data;
+    private final int dataEnd;
     private int pos;
 
     // Header values
@@ -37,7 +44,7 @@ public class DeltaBinaryPackedDecoder implements ValueDecoder {
     private int valuesPerMiniblock;
 
     // Reading state
-    private int valuesRead;
+    private int valuesDecoded;
     private long lastValue;
     private boolean headerRead;
 
@@ -45,17 +52,25 @@ public class DeltaBinaryPackedDecoder implements ValueDecoder {
     private long minDelta;
     private int[] bitWidths;
     private int currentMiniblock;
-    private int valuesInCurrentMiniblock;
 
-    // Bit unpacking buffer
-    private byte[] miniblockData;
-    private int bitPosition;
+    // The current miniblock, unpacked and prefix-summed as a whole; values are
+    // served from miniblockValues[miniblockPos, miniblockEnd)
+    private int[] packedDeltas;
+    private long[] miniblockValues;
+    private int miniblockPos;
+    private int miniblockEnd;
 
     public DeltaBinaryPackedDecoder(byte[] data, int offset) {
+        this(data, offset, data.length - offset);
+    }
+
+    /// Decodes the `length` bytes of `data` from `offset` on; reads never go
+    /// past them, even when `data` extends further.
+    public DeltaBinaryPackedDecoder(byte[] data, int offset, int length) {
         this.data = data;
+        this.dataEnd = offset + length;
         this.pos = offset;
         this.headerRead = false;
-        this.valuesRead = 0;
     }
 
     /// Returns the current read position.
@@ -65,22 +80,19 @@ public class DeltaBinaryPackedDecoder implements ValueDecoder {
         return pos;
     }
 
-    /// Read a single INT32 value from the stream.
-    public int readInt() throws IOException {
-        return (int) readLongValue();
-    }
-
-    /// Read a single INT64 value from the stream.
-    public long readLong() throws IOException {
-        return readLongValue();
-    }
-
     /// Read INT64 values directly into a primitive long array.
     @Override
     public void readLongs(long[] output, int[] definitionLevels, int maxDefLevel) throws IOException {
         if (definitionLevels == null) {
-            for (int i = 0; i < output.length; i++) {
-                output[i] = readLongValue();
+            int i = 0;
+            while (i < output.length) {
+                if (miniblockPos == miniblockEnd) {
+                    decodeNextMiniblock();
+                }
+                int n = Math.min(output.length - i, miniblockEnd - miniblockPos);
+                System.arraycopy(miniblockValues, miniblockPos, output, i, n);
+                miniblockPos += n;
+                i += n;
             }
         }
         else {
@@ -96,8 +108,19 @@ public class DeltaBinaryPackedDecoder implements ValueDecoder {
     @Override
     public void readInts(int[] output, int[] definitionLevels, int maxDefLevel) throws IOException {
         if (definitionLevels == null) {
-            for (int i = 0; i < output.length; i++) {
-                output[i] = (int) readLongValue();
+            int i = 0;
+            while (i < output.length) {
+                if (miniblockPos == miniblockEnd) {
+                    decodeNextMiniblock();
+                }
+                int n = Math.min(output.length - i, miniblockEnd - miniblockPos);
+                long[] values = miniblockValues;
+                int from = miniblockPos;
+                for (int k = 0; k < n; k++) {
+                    output[i + k] = (int) values[from + k];
+                }
+                miniblockPos += n;
+                i += n;
             }
         }
         else {
@@ -111,43 +134,102 @@ public class DeltaBinaryPackedDecoder implements ValueDecoder {
 
     /// Read a single value as a primitive long (no boxing).
     private long readLongValue() throws IOException {
+        if (miniblockPos == miniblockEnd) {
+            decodeNextMiniblock();
+        }
+        return miniblockValues[miniblockPos++];
+    }
+
+    /// Reconstructs the next run of values into [#miniblockValues]: the
+    /// header's first value on the first call, then one whole miniblock per
+    /// call. Miniblocks are unpacked a group of 8 values at a time with the
+    /// width-specialised kernels of [SimdOperations] and then prefix-summed.
+    private void decodeNextMiniblock() throws IOException {
         if (!headerRead) {
             readHeader();
             headerRead = true;
         }
 
-        if (valuesRead == 0) {
-            valuesRead = 1;
-            return firstValue;
+        if (valuesDecoded >= totalValueCount) {
+            throw new IOException("No more values to read");
         }
 
-        if (valuesRead >= totalValueCount) {
-            throw new IOException("No more values to read");
+        if (valuesDecoded == 0) {
+            miniblockValues[0] = firstValue;
+            miniblockPos = 0;
+            miniblockEnd = 1;
+            valuesDecoded = 1;
+            return;
         }
 
-        // Check if we need to start a new block (first value after header doesn't count)
-        int valuesAfterFirst = valuesRead - 1;
-        if (valuesAfterFirst % blockSize == 0) {
+        // The first value after the header does not count towards a block
+        if (currentMiniblock == miniblockCount) {
             readBlockHeader();
         }
 
-        // Check if we need a new miniblock
-        if (valuesInCurrentMiniblock >= valuesPerMiniblock) {
-            currentMiniblock++;
-            valuesInCurrentMiniblock = 0;
-            if (currentMiniblock < miniblockCount) {
-                loadMiniblock();
+        int bitWidth = bitWidths[currentMiniblock++];
+        int count = valuesPerMiniblock;
+        int bytesNeeded = (int) (((long) count * bitWidth + 7) / 8);
+        if (pos + bytesNeeded > dataEnd) {
+            throw new IOException("Unexpected EOF reading miniblock data: expected " + bytesNeeded
+                    + ", got " + (dataEnd - pos));
+        }
+
+        if (bitWidth <= 32) {
+            unpackDeltas(bitWidth, count);
+            lastValue = SIMD_OPS.prefixSumDeltas(packedDeltas, count, minDelta, lastValue, miniblockValues, 0);
+        }
+        else {
+            // Deltas of 33-64 bits only occur for INT64 columns with extreme jumps
+            long value = lastValue;
+            for (int i = 0; i < count; i++) {
+                value += minDelta + readBits(pos, i * bitWidth, bitWidth);
+                miniblockValues[i] = value;
             }
+            lastValue = value;
         }
+        pos += bytesNeeded;
 
-        // Unpack delta and reconstruct value
-        long packedDelta = unpackValue(bitWidths[currentMiniblock]);
-        long delta = minDelta + packedDelta;
-        lastValue += delta;
-        valuesInCurrentMiniblock++;
-        valuesRead++;
+        miniblockPos = 0;
+        miniblockEnd = Math.min(count, totalValueCount - valuesDecoded);
+        valuesDecoded += miniblockEnd;
+    }
 
-        return lastValue;
+    /// Unpacks the `count` deltas of the miniblock at `pos`, `count` being a
+    /// multiple of 8.
+    private void unpackDeltas(int bitWidth, int count) {
+        int[] deltas = packedDeltas;
+        if (bitWidth == 0) {
+            // All values in this miniblock have the same delta (minDelta)
+            Arrays.fill(deltas, 0, count, 0);
+        }
+        else if (bitWidth == 1) {
+            SIMD_OPS.unpackBitWidth1(data, pos, deltas, 0, count);
+        }
+        else if (bitWidth <= 8) {
+            SIMD_OPS.unpackBitWidthN(data, pos, deltas, 0, count, bitWidth);
+        }
+        else {
+            SIMD_OPS.unpackBitWidthWide(data, pos, deltas, 0, count, bitWidth);
+        }
+    }
+
+    /// Reads the `bitWidth`-bit value (up to 64 bits) starting `bitOffset` bits
+    /// past `start`.
+    private long readBits(int start, long bitOffset, int bitWidth) {
+        long value = 0;
+        int bitsRead = 0;
+        long bit = bitOffset;
+        while (bitsRead < bitWidth) {
+            int byteOffset = (int) (bit >>> 3);
+            int bitInByte = (int) (bit & 7);
+            int bitsToRead = Math.min(8 - bitInByte, bitWidth - bitsRead);
+            long bits = (data[start + byteOffset] >>> bitInByte) & ((1 << bitsToRead) - 1);
+            value |= bits << bitsRead;
+            bit += bitsToRead;
+            bitsRead += bitsToRead;
+        }
+        return value;
     }
 
     private void readHeader() throws IOException {
@@ -160,7 +242,15 @@ public class DeltaBinaryPackedDecoder implements ValueDecoder {
             throw new IOException("Invalid miniblock count: 0");
         }
         valuesPerMiniblock = blockSize / miniblockCount;
+        // The spec requires a multiple of 32; the group-wise unpacking needs 8
+        if (valuesPerMiniblock <= 0 || valuesPerMiniblock % 8 != 0) {
+            throw new IOException("Invalid values per miniblock: " + valuesPerMiniblock
+                    + " (block size " + blockSize + ", " + miniblockCount + " miniblocks)");
+        }
         bitWidths = new int[miniblockCount];
+        currentMiniblock = miniblockCount;
+        packedDeltas = new int[valuesPerMiniblock];
+        miniblockValues = new long[valuesPerMiniblock];
 
         lastValue = firstValue;
     }
@@ -170,59 +260,17 @@ public class DeltaBinaryPackedDecoder implements ValueDecoder {
 
         // Read bit widths for all miniblocks
         for (int i = 0; i < miniblockCount; i++) {
-            if (pos >= data.length) {
+            if (pos >= dataEnd) {
                 throw new IOException("Unexpected EOF reading bitwidths");
             }
-            bitWidths[i] = data[pos++] & 0xFF;
-        }
-
-        currentMiniblock = 0;
-        valuesInCurrentMiniblock = 0;
-        loadMiniblock();
-    }
-
-    private void loadMiniblock() throws IOException {
-        int bitWidth = bitWidths[currentMiniblock];
-        if (bitWidth == 0) {
-            // All values in this miniblock have the same delta (minDelta)
-            miniblockData = new byte[0];
-        }
-        else {
-            int bytesNeeded = (valuesPerMiniblock * bitWidth + 7) / 8;
-            if (pos + bytesNeeded > data.length) {
-                throw new IOException("Unexpected EOF reading miniblock data: expected " + bytesNeeded
-                        + ", got " + (data.length - pos));
+            int bitWidth = data[pos++] & 0xFF;
+            if (bitWidth > 64) {
+                throw new IOException("Invalid miniblock bit width: " + bitWidth);
             }
-            miniblockData = new byte[bytesNeeded];
-            System.arraycopy(data, pos, miniblockData, 0, bytesNeeded);
-            pos += bytesNeeded;
-        }
-        bitPosition = 0;
-    }
-
-    private long unpackValue(int bitWidth) {
-        if (bitWidth == 0) {
-            return 0;
-        }
-
-        long value = 0;
-        int bitsRemaining = bitWidth;
-
-        while (bitsRemaining > 0) {
-            int byteOffset = bitPosition / 8;
-            int bitOffset = bitPosition % 8;
-            int bitsAvailable = 8 - bitOffset;
-            int bitsToRead = Math.min(bitsAvailable, bitsRemaining);
-
-            int mask = (1 << bitsToRead) - 1;
-            long bits = (miniblockData[byteOffset] >>> bitOffset) & mask;
-            value |= bits << (bitWidth - bitsRemaining);
-
-            bitPosition += bitsToRead;
-            bitsRemaining -= bitsToRead;
+            bitWidths[i] = bitWidth;
         }
 
-        return value;
+        currentMiniblock = 0;
     }
 
     private int readUleb128() throws IOException {
@@ -230,7 +278,7 @@ public class DeltaBinaryPackedDecoder implements ValueDecoder {
         int shift = 0;
         int b;
         do {
-            if (pos >= data.length) {
+            if (pos >= dataEnd) {
                 throw new IOException("Unexpected EOF in ULEB128");
             }
             b = data[pos++] & 0xFF;
@@ -245,7 +293,7 @@ public class DeltaBinaryPackedDecoder implements ValueDecoder {
         int shift = 0;
         int b;
         do {
-            if (pos >= data.length) {
+            if (pos >= dataEnd) {
                 throw new IOException("Unexpected EOF in ULEB128");
             }
             b = data[pos++] & 0xFF;
@@ -35,6 +35,7 @@ public class DeltaByteArrayDecoder implements ValueDecoder {
 
     private final byte[] data;
     private final int offset;
+    private final int dataEnd;
 
     // All prefix lengths read from the delta-encoded header
     private int[] prefixLengths;
@@ -45,16 +46,19 @@ public class DeltaByteArrayDecoder implements ValueDecoder {
     private DeltaLengthByteArrayDecoder suffixDecoder;
     private boolean initialized;
 
-    // Previous value for prefix reconstruction
-    private byte[] previousValue;
-
     public DeltaByteArrayDecoder(byte[] data, int offset) {
+        this(data, offset, data.length - offset);
+    }
+
+    /// Decodes the `length` bytes of `data` from `offset` on; reads never go
+    /// past them, even when `data` extends further.
+    public DeltaByteArrayDecoder(byte[] data, int offset, int length) {
         this.data = data;
         this.offset = offset;
+        this.dataEnd = offset + length;
         this.currentIndex = 0;
         this.prefixLengths = null;
         this.initialized = false;
-        this.previousValue = new byte[0];
     }
 
     /// Initialize the decoder by reading all prefix lengths and preparing the suffix decoder.
@@ -71,64 +75,74 @@ public class DeltaByteArrayDecoder implements ValueDecoder {
 
         // Read all prefix lengths using DELTA_BINARY_PACKED
         // Prefix lengths are always encoded as INT32 per the spec
-        DeltaBinaryPackedDecoder prefixDecoder = new DeltaBinaryPackedDecoder(data, offset);
-        for (int i = 0; i < numNonNullValues; i++) {
-            prefixLengths[i] = prefixDecoder.readInt();
-        }
+        DeltaBinaryPackedDecoder prefixDecoder = new DeltaBinaryPackedDecoder(data, offset, dataEnd - offset);
+        prefixDecoder.readInts(prefixLengths, null, 0);
 
         // Create the suffix decoder (uses DELTA_LENGTH_BYTE_ARRAY)
         // Continue reading from where the prefix decoder stopped
-        suffixDecoder = new DeltaLengthByteArrayDecoder(data, prefixDecoder.getPos());
+        suffixDecoder = new DeltaLengthByteArrayDecoder(data, prefixDecoder.getPos(),
+                dataEnd - prefixDecoder.getPos());
         suffixDecoder.initialize(numNonNullValues);
 
         initialized = true;
     }
 
-    /// Read a single byte array value.
-    public byte[] readValue() throws IOException {
-        if (!initialized) {
-            throw new IOException("Must call initialize() before reading values");
-        }
-
-        if (currentIndex >= totalValues) {
-            throw new IOException("No more values to read");
-        }
-
-        int prefixLength = prefixLengths[currentIndex];
-        ByteBuffer suffix = suffixDecoder.readValue();
-        currentIndex++;
-
-        // Reconstruct the full value: prefix from previous + suffix
-        int suffixLength = suffix.remaining();
-        byte[] value = new byte[prefixLength + suffixLength];
-        if (prefixLength > 0) {
-            System.arraycopy(previousValue, 0, value, 0, prefixLength);
-        }
-        if (suffixLength > 0) {
-            suffix.get(value, prefixLength, suffixLength);
-        }
-
-        previousValue = value;
-        return value;
-    }
-
+    /// Two passes, like the PLAIN byte-array decode: the first validates the
+    /// prefix lengths against the value before and fills `offsets`, so the
+    /// second can reconstruct each value in place in a buffer of exactly the
+    /// page's decoded bytes — its prefix is copied from the previous value,
+    /// which already sits in the same buffer.
     @Override
-    public void readByteArrays(byte[][] output, int[] definitionLevels, int maxDefLevel) throws IOException {
+    public byte[] readBinaries(int[] offsets, int[] definitionLevels, int maxDefLevel) throws IOException {
         if (!initialized) {
             throw new IOException("Must call initialize() before reading values");
         }
 
-        if (definitionLevels == null) {
-            for (int i = 0; i < output.length; i++) {
-                output[i] = readValue();
+        int numValues = offsets.length - 1;
+        int next = currentIndex;
+        long total = 0;
+        int previousLength = 0;
+        for (int i = 0; i < numValues; i++) {
+            offsets[i] = (int) total;
+            if (definitionLevels != null && definitionLevels[i] != maxDefLevel) {
+                continue;
+            }
+            if (next >= totalValues) {
+                throw new IOException("No more values to read");
+            }
+            int prefixLength = prefixLengths[next];
+            if (prefixLength < 0 || prefixLength > previousLength) {
+                throw new IOException("Invalid DELTA_BYTE_ARRAY prefix length " + prefixLength
+                        + " for a previous value of " + previousLength + " bytes");
+            }
+            int suffixLength = suffixDecoder.peekLength(next - currentIndex);
+            if (suffixLength < 0) {
+                throw new IOException("Invalid byte array length: " + suffixLength);
+            }
+            previousLength = prefixLength + suffixLength;
+            total += previousLength;
+            if (total > Integer.MAX_VALUE) {
+                throw new IOException("DELTA_BYTE_ARRAY page exceeds 2 GB of value data");
             }
+            next++;
         }
-        else {
-            for (int i = 0; i < output.length; i++) {
-                if (definitionLevels[i] == maxDefLevel) {
-                    output[i] = readValue();
-                }
+        offsets[numValues] = (int) total;
+
+        byte[] bytes = new byte[(int) total];
+        int previousStart = 0;
+        for (int i = 0; i < numValues; i++) {
+            int start = offsets[i];
+            int length = offsets[i + 1] - start;
+            if (definitionLevels != null && definitionLevels[i] != maxDefLevel) {
+                continue;
             }
+            int prefixLength = prefixLengths[currentIndex++];
+            ByteBuffer suffix = suffixDecoder.readValue();
+            // Regions never overlap: the previous value ends at `start`.
+            System.arraycopy(bytes, previousStart, bytes, start, prefixLength);
+            suffix.get(bytes, start + prefixLength, length - prefixLength);
+            previousStart = start;
         }
+        return bytes;
     }
 }
@@ -9,6 +9,7 @@ package dev.hardwood.internal.encoding;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /// Decoder for DELTA_LENGTH_BYTE_ARRAY encoding.
 ///
@@ -28,6 +29,7 @@ import java.nio.ByteBuffer;
 public class DeltaLengthByteArrayDecoder implements ValueDecoder {
 
     private final byte[] data;
+    private final int dataEnd;
     private int pos;
 
     // All lengths read from the delta-encoded header
@@ -36,7 +38,14 @@ public class DeltaLengthByteArrayDecoder implements ValueDecoder {
     private int totalValues;
 
     public DeltaLengthByteArrayDecoder(byte[] data, int offset) {
+        this(data, offset, data.length - offset);
+    }
+
+    /// Decodes the `length` bytes of `data` from `offset` on; reads never go
+    /// past them, even when `data` extends further.
+    public DeltaLengthByteArrayDecoder(byte[] data, int offset, int length) {
         this.data = data;
+        this.dataEnd = offset + length;
         this.pos = offset;
         this.currentIndex = 0;
         this.lengths = null;
@@ -53,10 +62,8 @@ public class DeltaLengthByteArrayDecoder implements ValueDecoder {
 
         // Read all lengths using DELTA_BINARY_PACKED
         // Lengths are always encoded as INT32 per the spec
-        DeltaBinaryPackedDecoder lengthDecoder = new DeltaBinaryPackedDecoder(data, pos);
-        for (int i = 0; i < numNonNullValues; i++) {
-            lengths[i] = lengthDecoder.readInt();
-        }
+        DeltaBinaryPackedDecoder lengthDecoder = new DeltaBinaryPackedDecoder(data, pos, dataEnd - pos);
+        lengthDecoder.readInts(lengths, null, 0);
         pos = lengthDecoder.getPos();
     }
 
@@ -78,38 +85,61 @@ public class DeltaLengthByteArrayDecoder implements ValueDecoder {
             return EMPTY_BUFFER.duplicate();
         }
 
-        if (pos + length > data.length) {
+        if (pos + length > dataEnd) {
             throw new IOException("Unexpected EOF reading byte array: expected " + length
-                    + ", got " + (data.length - pos));
+                    + ", got " + (dataEnd - pos));
         }
         ByteBuffer result = ByteBuffer.wrap(data, pos, length);
         pos += length;
         return result;
     }
 
-    @Override
-    public void readByteArrays(byte[][] output, int[] definitionLevels, int maxDefLevel) throws IOException {
+    /// Returns the length of the value `ahead` positions after the next one to
+    /// be read, without consuming anything.
+    int peekLength(int ahead) throws IOException {
         if (lengths == null) {
             throw new IOException("Must call initialize() before reading values");
         }
+        if (ahead >= totalValues - currentIndex) {
+            throw new IOException("No more values to read");
+        }
+        return lengths[currentIndex + ahead];
+    }
 
-        if (definitionLevels == null) {
-            for (int i = 0; i < output.length; i++) {
-                output[i] = materialize(readValue());
-            }
+    /// The non-null values are stored back to back, so the page's value bytes
+    /// are copied out with a single `arraycopy`; `offsets` is derived from the
+    /// decoded lengths.
+    @Override
+    public byte[] readBinaries(int[] offsets, int[] definitionLevels, int maxDefLevel) throws IOException {
+        if (lengths == null) {
+            throw new IOException("Must call initialize() before reading values");
         }
-        else {
-            for (int i = 0; i < output.length; i++) {
-                if (definitionLevels[i] == maxDefLevel) {
-                    output[i] = materialize(readValue());
+
+        int numValues = offsets.length - 1;
+        int next = currentIndex;
+        long total = 0;
+        for (int i = 0; i < numValues; i++) {
+            offsets[i] = (int) total;
+            if (definitionLevels == null || definitionLevels[i] == maxDefLevel) {
+                if (next >= totalValues) {
+                    throw new IOException("No more values to read");
                 }
+                int length = lengths[next++];
+                if (length < 0) {
+                    throw new IOException("Invalid byte array length: " + length);
+                }
+                total += length;
             }
         }
-    }
+        if (total > dataEnd - pos) {
+            throw new IOException("Unexpected EOF reading byte arrays: expected " + total
+                    + ", got " + (dataEnd - pos));
+        }
+        offsets[numValues] = (int) total;
 
-    private static byte[] materialize(ByteBuffer buffer) {
-        byte[] result = new byte[buffer.remaining()];
-        buffer.get(result);
-        return result;
+        byte[] bytes = Arrays.copyOfRange(data, pos, pos + (int) total);
+        pos += (int) total;
+        currentIndex = next;
+        return bytes;
     }
 }
@@ -23,6 +23,7 @@ import dev.hardwood.metadata.PhysicalType;
 public class PlainDecoder implements ValueDecoder {
 
     private final byte[] data;
+    private final int dataEnd;
     private final PhysicalType type;
     private final Integer typeLength;
     private int pos;
@@ -32,15 +33,73 @@ public class PlainDecoder implements ValueDecoder {
     private int bitPosition = 8; // 8 means we need to read a new byte
 
     public PlainDecoder(byte[] data, int offset, PhysicalType type, Integer typeLength) {
+        this(data, offset, data.length - offset, type, typeLength);
+    }
+
+    /// Decodes the `length` bytes of `data` from `offset` on; reads never go
+    /// past them, even when `data` extends further.
+    public PlainDecoder(byte[] data, int offset, int length, PhysicalType type, Integer typeLength) {
         this.data = data;
+        this.dataEnd = offset + length;
         this.pos = offset;
         this.type = type;
         this.typeLength = typeLength;
     }
 
+    /// Skip the next `count` values of a fixed-width type by stepping over
+    /// their bytes.
+    @Override
+    public void skip(int count) throws IOException {
+        long numBytes = (long) count * fixedWidth();
+        if (pos + numBytes > dataEnd) {
+            throw new IOException("Unexpected EOF while skipping " + type + " values");
+        }
+        pos += (int) numBytes;
+    }
+
+    /// Read `count` INT32 values into `output[outPos, outPos + count)`.
+    public void readInts(int[] output, int outPos, int count) throws IOException {
+        int numBytes = count * 4;
+        if (pos + numBytes > dataEnd) {
+            throw new IOException("Unexpected EOF while reading INT32 values");
+        }
+        ByteBuffer.wrap(data, pos, numBytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(output, outPos, count);
+        pos += numBytes;
+    }
+
+    /// Read `count` INT64 values into `output[outPos, outPos + count)`.
+    public void readLongs(long[] output, int outPos, int count) throws IOException {
+        int numBytes = count * 8;
+        if (pos + numBytes > dataEnd) {
+            throw new IOException("Unexpected EOF while reading INT64 values");
+        }
+        ByteBuffer.wrap(data, pos, numBytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(output, outPos, count);
+        pos += numBytes;
+    }
+
+    /// Read `count` FLOAT values into `output[outPos, outPos + count)`.
+    public void readFloats(float[] output, int outPos, int count) throws IOException {
+        int numBytes = count * 4;
+        if (pos + numBytes > dataEnd) {
+            throw new IOException("Unexpected EOF while reading FLOAT values");
+        }
+        ByteBuffer.wrap(data, pos, numBytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(output, outPos, count);
+        pos += numBytes;
+    }
+
+    /// Read `count` DOUBLE values into `output[outPos, outPos + count)`.
+    public void readDoubles(double[] output, int outPos, int count) throws IOException {
+        int numBytes = count * 8;
+        if (pos + numBytes > dataEnd) {
+            throw new IOException("Unexpected EOF while reading DOUBLE values");
+        }
+        ByteBuffer.wrap(data, pos, numBytes).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(output, outPos, count);
+        pos += numBytes;
+    }
+
     /// Read a fixed-length byte array value.
     public byte[] readFixedLenByteArray(int length) throws IOException {
-        if (pos + length > data.length) {
+        if (pos + length > dataEnd) {
             throw new IOException("Unexpected EOF while reading fixed-length byte array");
         }
         byte[] result = Arrays.copyOfRange(data, pos, pos + length);
@@ -53,7 +112,7 @@ public class PlainDecoder implements ValueDecoder {
     public void readLongs(long[] output, int[] definitionLevels, int maxDefLevel) throws IOException {
         if (definitionLevels == null) {
             int numBytes = output.length * 8;
-            if (pos + numBytes > data.length) {
+            if (pos + numBytes > dataEnd) {
                 throw new IOException("Unexpected EOF while reading INT64 values");
             }
             ByteBuffer.wrap(data, pos, numBytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(output);
@@ -67,7 +126,7 @@ public class PlainDecoder implements ValueDecoder {
                 }
             }
             int numBytes = numDefined * 8;
-            if (pos + numBytes > data.length) {
+            if (pos + numBytes > dataEnd) {
                 throw new IOException("Unexpected EOF while reading INT64 values");
             }
             LongBuffer longBuffer = ByteBuffer.wrap(data, pos, numBytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
@@ -85,7 +144,7 @@ public class PlainDecoder implements ValueDecoder {
     public void readDoubles(double[] output, int[] definitionLevels, int maxDefLevel) throws IOException {
         if (definitionLevels == null) {
             int numBytes = output.length * 8;
-            if (pos + numBytes > data.length) {
+            if (pos + numBytes > dataEnd) {
                 throw new IOException("Unexpected EOF while reading DOUBLE values");
             }
             ByteBuffer.wrap(data, pos, numBytes).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(output);
@@ -99,7 +158,7 @@ public class PlainDecoder implements ValueDecoder {
                 }
             }
             int numBytes = numDefined * 8;
-            if (pos + numBytes > data.length) {
+            if (pos + numBytes > dataEnd) {
                 throw new IOException("Unexpected EOF while reading DOUBLE values");
             }
             DoubleBuffer doubleBuffer = ByteBuffer.wrap(data, pos, numBytes).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
@@ -117,7 +176,7 @@ public class PlainDecoder implements ValueDecoder {
     public void readInts(int[] output, int[] definitionLevels, int maxDefLevel) throws IOException {
         if (definitionLevels == null) {
             int numBytes = output.length * 4;
-            if (pos + numBytes > data.length) {
+            if (pos + numBytes > dataEnd) {
                 throw new IOException("Unexpected EOF while reading INT32 values");
             }
             ByteBuffer.wrap(data, pos, numBytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(output);
@@ -131,7 +190,7 @@ public class PlainDecoder implements ValueDecoder {
                 }
             }
             int numBytes = numDefined * 4;
-            if (pos + numBytes > data.length) {
+            if (pos + numBytes > dataEnd) {
                 throw new IOException("Unexpected EOF while reading INT32 values");
             }
             IntBuffer intBuffer = ByteBuffer.wrap(data, pos, numBytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
@@ -149,7 +208,7 @@ public class PlainDecoder implements ValueDecoder {
     public void readFloats(float[] output, int[] definitionLevels, int maxDefLevel) throws IOException {
         if (definitionLevels == null) {
             int numBytes = output.length * 4;
-            if (pos + numBytes > data.length) {
+            if (pos + numBytes > dataEnd) {
                 throw new IOException("Unexpected EOF while reading FLOAT values");
             }
             ByteBuffer.wrap(data, pos, numBytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(output);
@@ -163,7 +222,7 @@ public class PlainDecoder implements ValueDecoder {
                 }
             }
             int numBytes = numDefined * 4;
-            if (pos + numBytes > data.length) {
+            if (pos + numBytes > dataEnd) {
                 throw new IOException("Unexpected EOF while reading FLOAT values");
             }
             FloatBuffer floatBuffer = ByteBuffer.wrap(data, pos, numBytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
@@ -210,6 +269,103 @@ public class PlainDecoder implements ValueDecoder {
         }
     }
 
+    /// Read BYTE_ARRAY, FIXED_LEN_BYTE_ARRAY, or INT96 values into one
+    /// contiguous buffer; see [ValueDecoder#readBinaries].
+    @Override
+    public byte[] readBinaries(int[] offsets, int[] definitionLevels, int maxDefLevel) throws IOException {
+        return switch (type) {
+            case BYTE_ARRAY -> readVariableLengthBinaries(offsets, definitionLevels, maxDefLevel);
+            case FIXED_LEN_BYTE_ARRAY -> {
+                if (typeLength == null) {
+                    throw new IOException("FIXED_LEN_BYTE_ARRAY requires type_length in schema");
+                }
+                yield readFixedWidthBinaries(offsets, typeLength, true, definitionLevels, maxDefLevel);
+            }
+            case INT96 -> readFixedWidthBinaries(offsets, 12, false, definitionLevels, maxDefLevel);
+            default -> throw new IOException("readBinaries not supported for type: " + type);
+        };
+    }
+
+    /// Two passes over the length-prefixed values: the first validates the
+    /// prefixes and fills `offsets`, so the second can copy into a buffer of
+    /// exactly the page's value bytes.
+    private byte[] readVariableLengthBinaries(int[] offsets, int[] definitionLevels, int maxDefLevel)
+            throws IOException {
+        int numValues = offsets.length - 1;
+        int start = pos;
+        int p = start;
+        int total = 0;
+        for (int i = 0; i < numValues; i++) {
+            offsets[i] = total;
+            if (definitionLevels == null || definitionLevels[i] == maxDefLevel) {
+                if (p + 4 > dataEnd) {
+                    throw new IOException("Unexpected EOF while reading BYTE_ARRAY length");
+                }
+                int length = ByteBuffer.wrap(data, p, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+                p += 4;
+                if (length < 0) {
+                    throw new IOException("Invalid BYTE_ARRAY length: " + length);
+                }
+                if (length > dataEnd - p) {
+                    throw new IOException("Unexpected EOF while reading BYTE_ARRAY data");
+                }
+                p += length;
+                total += length;
+            }
+        }
+        offsets[numValues] = total;
+
+        byte[] bytes = new byte[total];
+        p = start;
+        for (int i = 0; i < numValues; i++) {
+            if (definitionLevels == null || definitionLevels[i] == maxDefLevel) {
+                int length = offsets[i + 1] - offsets[i];
+                System.arraycopy(data, p + 4, bytes, offsets[i], length);
+                p += 4 + length;
+            }
+        }
+        pos = p;
+        return bytes;
+    }
+
+    /// Reads `width`-byte values. With `reserveNulls` every position spans
+    /// `width` bytes, so `offsets[i] == i * width`; otherwise nulls are
+    /// zero-length.
+    private byte[] readFixedWidthBinaries(int[] offsets, int width, boolean reserveNulls,
+                                          int[] definitionLevels, int maxDefLevel) throws IOException {
+        int numValues = offsets.length - 1;
+        byte[] bytes = new byte[Math.multiplyExact(numValues, width)];
+        if (definitionLevels == null) {
+            int numBytes = numValues * width;
+            if (pos + numBytes > dataEnd) {
+                throw new IOException("Unexpected EOF while reading fixed-length byte array");
+            }
+            System.arraycopy(data, pos, bytes, 0, numBytes);
+            pos += numBytes;
+            for (int i = 0; i <= numValues; i++) {
+                offsets[i] = i * width;
+            }
+            return bytes;
+        }
+        int total = 0;
+        for (int i = 0; i < numValues; i++) {
+            offsets[i] = total;
+            if (definitionLevels[i] == maxDefLevel) {
+                if (pos + width > dataEnd) {
+                    throw new IOException("Unexpected EOF while reading fixed-length byte array");
+                }
+                System.arraycopy(data, pos, bytes, total, width);
+                pos += width;
+                total += width;
+            }
+            else if (reserveNulls) {
+                total += width;
+            }
+        }
+        offsets[numValues] = total;
+        return bytes;
+    }
+
     /// Read a single byte array value based on the physical type.
     private byte[] readByteArrayValue() throws IOException {
         return switch (type) {
@@ -225,11 +381,27 @@ public class PlainDecoder implements ValueDecoder {
         };
     }
 
+    /// Byte width of a fixed-width physical type.
+    private int fixedWidth() throws IOException {
+        return switch (type) {
+            case INT32, FLOAT -> 4;
+            case INT64, DOUBLE -> 8;
+            case INT96 -> 12;
+            case FIXED_LEN_BYTE_ARRAY -> {
+                if (typeLength == null) {
+                    throw new IOException("FIXED_LEN_BYTE_ARRAY requires type_length in schema");
+                }
+                yield typeLength;
+            }
+            default -> throw new IOException("Not a fixed-width type: " + type);
+        };
+    }
+
     private boolean readBoolean() throws IOException {
         // Booleans are bit-packed in PLAIN encoding (8 values per byte, LSB first)
         if (bitPosition == 8) {
             // Need to read a new byte
-            if (pos >= data.length) {
+            if (pos >= dataEnd) {
                 throw new IOException("Unexpected EOF while reading boolean");
             }
             currentByte = data[pos++] & 0xFF;
@@ -243,7 +415,7 @@ public class PlainDecoder implements ValueDecoder {
     }
 
     private byte[] readInt96() throws IOException {
-        if (pos + 12 > data.length) {
+        if (pos + 12 > dataEnd) {
             throw new IOException("Unexpected EOF while reading INT96");
         }
         byte[] result = Arrays.copyOfRange(data, pos, pos + 12);
@@ -253,7 +425,7 @@ public class PlainDecoder implements ValueDecoder {
 
     private byte[] readByteArray() throws IOException {
         // Read length (4 bytes, little-endian)
-        if (pos + 4 > data.length) {
+        if (pos + 4 > dataEnd) {
             throw new IOException("Unexpected EOF while reading BYTE_ARRAY length");
         }
         int length = ByteBuffer.wrap(data, pos, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
@@ -268,7 +440,7 @@ public class PlainDecoder implements ValueDecoder {
         }
 
         // Read data
-        if (pos + length > data.length) {
+        if (pos + length > dataEnd) {
             throw new IOException("Unexpected EOF while reading BYTE_ARRAY data");
         }
         byte[] result = Arrays.copyOfRange(data, pos, pos + length);
@@ -61,7 +61,9 @@ public class RleBitPackingHybridDecoder {
     }
 
     public void readInts(int[] buffer, int offset, int count) {
-        if (bitWidth == 0 || pos >= dataEnd) {
+        // The data may be used up while the current run still has values: the
+        // run's value is read with its header, and packed bits are buffered.
+        if (bitWidth == 0 || (remainingInRun == 0 && pos >= dataEnd)) {
             return;
         }
 
@@ -96,6 +98,114 @@ public class RleBitPackingHybridDecoder {
         }
     }
 
+    /// Decodes `count` 1-bit levels — the definition levels of a flat optional
+    /// column (`maxDef == 1`) — straight into validity words: bit `i` of `words`
+    /// is set when level `i` is 1 (present). No per-value level array is
+    /// materialised: an RLE run becomes a word fill, and a bit-packed run
+    /// already has the validity layout (LSB-first bits), so it is copied a
+    /// byte at a time.
+    ///
+    /// `words` must be zeroed over the first `count` bits.
+    ///
+    /// @return the number of set bits, i.e. present values
+    /// @throws IllegalStateException if the stream's bit width is not 1, or
+    ///         it holds fewer than `count` levels
+    public int readValidity(long[] words, int count) {
+        if (bitWidth != 1) {
+            throw new IllegalStateException("Validity decode requires bit width 1, got " + bitWidth);
+        }
+        if (pos >= dataEnd) {
+            // An empty level stream reads as all zeros, as in readInts.
+            return 0;
+        }
+        int outPos = 0;
+        while (outPos < count) {
+            if (remainingInRun == 0) {
+                readNextRun();
+                if (remainingInRun == 0) {
+                    throw new IllegalStateException("Insufficient RLE/Bit-Packing data: decoded "
+                            + outPos + " of " + count + " requested values");
+                }
+            }
+            int toRead = Math.min(count - outPos, remainingInRun);
+            if (isRleRun) {
+                if (currentValue != 0) {
+                    setBits(words, outPos, outPos + toRead);
+                }
+            }
+            else {
+                copyPackedBits(words, outPos, toRead);
+            }
+            outPos += toRead;
+            remainingInRun -= toRead;
+        }
+        int present = 0;
+        int fullWords = count >>> 6;
+        for (int w = 0; w < fullWords; w++) {
+            present += Long.bitCount(words[w]);
+        }
+        if ((count & 63) != 0) {
+            present += Long.bitCount(words[fullWords] & ((1L << count) - 1));
+        }
+        return present;
+    }
+
+    /// Copies `n` bit-packed 1-bit values to bit position `outPos` of `words`,
+    /// consuming leftover bits of a previous partial read first.
+    private void copyPackedBits(long[] words, int outPos, int n) {
+        int remaining = n;
+        int bit = outPos;
+        while (remaining > 0) {
+            if (bitsInBuffer == 0 && remaining >= 64 && pos + 8 <= dataEnd) {
+                // A whole word of levels at once.
+                long bits = dataBuffer.getLong(pos);
+                pos += 8;
+                int word = bit >>> 6;
+                int shift = bit & 63;
+                words[word] |= bits << shift;
+                if (shift != 0) {
+                    words[word + 1] |= bits >>> (64 - shift);
+                }
+                bit += 64;
+                remaining -= 64;
+                continue;
+            }
+            if (bitsInBuffer == 0) {
+                if (pos >= dataEnd) {
+                    throw new IllegalStateException("Insufficient RLE/Bit-Packing data in bit-packed run");
+                }
+                bitBuffer = data[pos++] & 0xFF;
+                bitsInBuffer = 8;
+            }
+            int take = Math.min(remaining, bitsInBuffer);
+            long bits = bitBuffer & ((1L << take) - 1);
+            int word = bit >>> 6;
+            int shift = bit & 63;
+            words[word] |= bits << shift;
+            if (shift + take > 64) {
+                words[word + 1] |= bits >>> (64 - shift);
+            }
+            bitBuffer >>>= take;
+            bitsInBuffer -= take;
+            bit += take;
+            remaining -= take;
+        }
+    }
+
+    private static void setBits(long[] words, int fromInclusive, int toExclusive) {
+        int firstWord = fromInclusive >>> 6;
+        int lastWord = (toExclusive - 1) >>> 6;
+        long firstMask = ~0L << fromInclusive;
+        long lastMask = ~0L >>> -toExclusive;
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        Arrays.fill(words, firstWord + 1, lastWord, ~0L);
+        words[lastWord] |= lastMask;
+    }
+
     // Type-specific dictionary lookups to avoid boxing
 
     public void readDictionaryLongs(long[] output, long[] dictionary, int[] defLevels, int maxDef) {
@@ -118,13 +228,27 @@ public class RleBitPackingHybridDecoder {
         applyDictionary(output, dictionary, indices, defLevels, maxDef);
     }
 
-    /// Resolves dictionary-encoded byte-array values, also writing each value's
-    /// dictionary entry index into `outDictIndices` (`-1` at null positions) so the
-    /// row reader can intern values by entry.
-    public void readDictionaryByteArrays(byte[][] output, int[] outDictIndices, byte[][] dictionary,
-                                         int[] defLevels, int maxDef) {
-        int[] indices = decodeIndices(output.length, defLevels, maxDef);
-        applyDictionary(output, outDictIndices, dictionary, indices, defLevels, maxDef);
+    /// Decodes dictionary entry indices for byte-array values into
+    /// `outDictIndices`, `-1` at null positions. The entries themselves are not
+    /// resolved: byte-array pages reference the dictionary by index.
+    ///
+    /// @throws IllegalStateException if an index is outside `[0, dictionarySize)`
+    public void readDictionaryIndices(int[] outDictIndices, int dictionarySize, int[] defLevels, int maxDef) {
+        int[] indices = decodeIndices(outDictIndices.length, defLevels, maxDef);
+        int idx = 0;
+        for (int i = 0; i < outDictIndices.length; i++) {
+            if (defLevels == null || defLevels[i] == maxDef) {
+                int d = indices[idx++];
+                if (d < 0 || d >= dictionarySize) {
+                    throw new IllegalStateException("Dictionary index " + d + " out of range for a dictionary of "
+                            + dictionarySize + " entries");
+                }
+                outDictIndices[i] = d;
+            }
+            else {
+                outDictIndices[i] = -1;
+            }
+        }
     }
 
     public void readBooleans(boolean[] output, int[] defLevels, int maxDef) {
@@ -221,30 +345,6 @@ public class RleBitPackingHybridDecoder {
         }
     }
 
-    private void applyDictionary(byte[][] output, int[] outDictIndices, byte[][] dict, int[] indices,
-                                 int[] defLevels, int maxDef) {
-        if (defLevels == null) {
-            for (int i = 0; i < output.length; i++) {
-                int d = indices[i];
-                output[i] = dict[d];
-                outDictIndices[i] = d;
-            }
-        }
-        else {
-            int idx = 0;
-            for (int i = 0; i < output.length; i++) {
-                if (defLevels[i] == maxDef) {
-                    int d = indices[idx++];
-                    output[i] = dict[d];
-                    outDictIndices[i] = d;
-                }
-                else {
-                    outDictIndices[i] = -1;
-                }
-            }
-        }
-    }
-
     private static int countNonNulls(int[] defLevels, int maxDef) {
         return SIMD_OPS.countNonNulls(defLevels, maxDef);
     }
@@ -284,12 +384,13 @@ public class RleBitPackingHybridDecoder {
         final int width = bitWidth;
         final int mask = bitMask;
 
-        // Drain leftover bits first
-        while (bitsInBuffer >= width && count > 0) {
-            output[outPos++] = (int) (bitBuffer & mask);
-            bitBuffer >>>= width;
-            bitsInBuffer -= width;
-            count--;
+        // Finish the values a previous read or skip left off byte-aligned one at
+        // a time: the bulk paths below read whole bytes from `pos`. A group of
+        // 8 values spans whole bytes, so this ends within the group.
+        if (bitsInBuffer > 0) {
+            int n = decodePackedValues(output, outPos, count, true);
+            outPos += n;
+            count -= n;
         }
 
         // Fast path for bit width 1 (common for definition levels)
@@ -344,9 +445,34 @@ public class RleBitPackingHybridDecoder {
                 count -= 8;
             }
         }
+        // Widths 9-32 (dictionary indices of dictionaries above 256 entries):
+        // width-specialised kernels, 8 values per `width` bytes, when the
+        // stream is byte-aligned at a group boundary
+        else if (bitsInBuffer == 0) {
+            int groups = Math.min(count >>> 3, (dataEnd - pos) / width);
+            if (groups > 0) {
+                int consumed = SIMD_OPS.unpackBitWidthWide(data, pos, output, outPos, groups * 8, width);
+                int unpacked = consumed / width * 8;
+                pos += consumed;
+                outPos += unpacked;
+                count -= unpacked;
+            }
+        }
 
         // Handle remaining values
-        while (count > 0) {
+        decodePackedValues(output, outPos, count, false);
+    }
+
+    /// Decodes up to `count` bit-packed values one at a time through the bit
+    /// buffer, stopping early at the end of the data or, with `untilAligned`,
+    /// once the stream is back on a byte boundary.
+    ///
+    /// @return the number of values decoded
+    private int decodePackedValues(int[] output, int outPos, int count, boolean untilAligned) {
+        final int width = bitWidth;
+        final int mask = bitMask;
+        int decoded = 0;
+        while (decoded < count) {
             while (bitsInBuffer < width && pos < dataEnd) {
                 bitBuffer |= ((long) (data[pos++] & 0xFF)) << bitsInBuffer;
                 bitsInBuffer += 8;
@@ -354,10 +480,61 @@ public class RleBitPackingHybridDecoder {
             if (bitsInBuffer < width) {
                 break;
             }
-            output[outPos++] = (int) (bitBuffer & mask);
+            output[outPos + decoded++] = (int) (bitBuffer & mask);
             bitBuffer >>>= width;
             bitsInBuffer -= width;
-            count--;
+            if (untilAligned && bitsInBuffer == 0) {
+                break;
+            }
+        }
+        return decoded;
+    }
+
+    /// Skips the next `count` values without decoding them: an RLE run is
+    /// consumed by count, a bit-packed run by moving the bit position.
+    ///
+    /// @throws IllegalStateException if the stream holds fewer than `count` values
+    public void skip(int count) {
+        if (bitWidth == 0) {
+            return;
+        }
+        int remaining = count;
+        while (remaining > 0) {
+            if (remainingInRun == 0) {
+                readNextRun();
+                if (remainingInRun == 0) {
+                    break;
+                }
+            }
+            int n = Math.min(remaining, remainingInRun);
+            if (!isRleRun) {
+                skipPackedBits((long) n * bitWidth);
+            }
+            remainingInRun -= n;
+            remaining -= n;
+        }
+        if (remaining > 0) {
+            throw new IllegalStateException("Insufficient RLE/Bit-Packing data: skipped "
+                    + (count - remaining) + " of " + count + " requested values");
+        }
+    }
+
+    /// Moves the bit-packed read position `bits` bits forward, keeping the
+    /// unread bits of a partially consumed byte in the bit buffer.
+    private void skipPackedBits(long bits) {
+        if (bits <= bitsInBuffer) {
+            bitBuffer >>>= bits;
+            bitsInBuffer -= (int) bits;
+            return;
+        }
+        long fromData = bits - bitsInBuffer;
+        bitBuffer = 0;
+        bitsInBuffer = 0;
+        pos += (int) (fromData >>> 3);
+        int partial = (int) (fromData & 7);
+        if (partial > 0 && pos < dataEnd) {
+            bitBuffer = (data[pos++] & 0xFF) >>> partial;
+            bitsInBuffer = 8 - partial;
         }
     }
 
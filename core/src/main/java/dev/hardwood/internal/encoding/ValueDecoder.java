@@ -22,6 +22,14 @@ public interface ValueDecoder {
         // No-op by default - most decoders don't need initialization
     }
 
+    /// Skip the next `count` encoded values without materializing them. Only
+    /// present values are encoded, so `count` excludes null positions.
+    ///
+    /// @param count the number of encoded values to skip
+    default void skip(int count) throws IOException {
+        throw new UnsupportedOperationException("skip not supported by this decoder");
+    }
+
     /// Read long values directly into a primitive array.
     ///
     /// @param output the output array to populate
@@ -75,4 +83,19 @@ public interface ValueDecoder {
     default void readByteArrays(byte[][] output, int[] definitionLevels, int maxDefLevel) throws IOException {
         throw new UnsupportedOperationException("readByteArrays not supported by this decoder");
     }
+
+    /// Read byte array values into one contiguous buffer, the layout of
+    /// `Page.ByteArrayPage`: value `i` spans `[offsets[i], offsets[i + 1])` of
+    /// the returned array. `offsets` has one slot per value plus a trailing
+    /// sentinel and is filled by this call. Null positions are zero-length,
+    /// except for `FIXED_LEN_BYTE_ARRAY`, where every position spans the type
+    /// width. Bytes past `offsets[offsets.length - 1]` are unspecified.
+    ///
+    /// @param offsets the offsets array to populate (length = number of values + 1)
+    /// @param definitionLevels definition levels indicating which positions have values (null for required columns)
+    /// @param maxDefLevel the maximum definition level (value is present when defLevel == maxDefLevel)
+    /// @return the value bytes
+    default byte[] readBinaries(int[] offsets, int[] definitionLevels, int maxDefLevel) throws IOException {
+        throw new UnsupportedOperationException("readBinaries not supported by this decoder");
+    }
 }
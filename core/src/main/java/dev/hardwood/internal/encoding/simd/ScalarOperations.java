@@ -7,6 +7,9 @@
  */
 package dev.hardwood.internal.encoding.simd;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.util.BitSet;
 
 /// Scalar (non-SIMD) implementation of vectorizable operations.
@@ -16,6 +19,17 @@ import java.util.BitSet;
 /// loop unrolling and other scalar optimizations for reasonable performance.
 public final class ScalarOperations implements SimdOperations {
 
+    private static final VarHandle LONG_LE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_LE =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    // Masks selecting alternating bytes, 16-bit and 32-bit halves of a long,
+    // used by the byte stream split tile transposes
+    private static final long BYTE_LANES = 0x00FF00FF00FF00FFL;
+    private static final long SHORT_LANES = 0x0000FFFF0000FFFFL;
+    private static final long INT_LANES = 0x00000000FFFFFFFFL;
+
     @Override
     public int countNonNulls(int[] defLevels, int maxDef) {
         int count0 = 0, count1 = 0, count2 = 0, count3 = 0;
@@ -114,6 +128,370 @@ public final class ScalarOperations implements SimdOperations {
         return bytesConsumed;
     }
 
+    @Override
+    public int unpackBitWidthWide(byte[] data, int dataPos, int[] output, int outPos, int count, int bitWidth) {
+        int groups = Math.min(count >>> 3, (data.length - dataPos) / bitWidth);
+        unpackWideGroups(data, dataPos, output, outPos, groups, bitWidth);
+        return groups * bitWidth;
+    }
+
+    /// Unpacks `groups` groups of 8 values of width 9-32, each group
+    /// occupying `bitWidth` bytes. The width-specialised kernels read every
+    /// value with one little-endian long load at the value's first byte; groups
+    /// whose last load would run past the end of `data` are assembled byte by
+    /// byte instead.
+    static void unpackWideGroups(byte[] data, int dataPos, int[] output, int outPos, int groups, int bitWidth) {
+        int lastLoad = (7 * bitWidth) >>> 3;
+        int headroom = data.length - dataPos - lastLoad - Long.BYTES;
+        int fastGroups = headroom < 0 ? 0 : Math.min(groups, headroom / bitWidth + 1);
+        switch (bitWidth) {
+            case 9 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack9(data, dataPos + g * 9, output, outPos + g * 8);
+                }
+            }
+            case 10 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack10(data, dataPos + g * 10, output, outPos + g * 8);
+                }
+            }
+            case 11 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack11(data, dataPos + g * 11, output, outPos + g * 8);
+                }
+            }
+            case 12 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack12(data, dataPos + g * 12, output, outPos + g * 8);
+                }
+            }
+            case 13 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack13(data, dataPos + g * 13, output, outPos + g * 8);
+                }
+            }
+            case 14 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack14(data, dataPos + g * 14, output, outPos + g * 8);
+                }
+            }
+            case 15 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack15(data, dataPos + g * 15, output, outPos + g * 8);
+                }
+            }
+            case 16 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack16(data, dataPos + g * 16, output, outPos + g * 8);
+                }
+            }
+            case 17 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack17(data, dataPos + g * 17, output, outPos + g * 8);
+                }
+            }
+            case 18 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack18(data, dataPos + g * 18, output, outPos + g * 8);
+                }
+            }
+            case 19 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack19(data, dataPos + g * 19, output, outPos + g * 8);
+                }
+            }
+            case 20 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack20(data, dataPos + g * 20, output, outPos + g * 8);
+                }
+            }
+            case 21 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack21(data, dataPos + g * 21, output, outPos + g * 8);
+                }
+            }
+            case 22 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack22(data, dataPos + g * 22, output, outPos + g * 8);
+                }
+            }
+            case 23 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack23(data, dataPos + g * 23, output, outPos + g * 8);
+                }
+            }
+            case 24 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack24(data, dataPos + g * 24, output, outPos + g * 8);
+                }
+            }
+            case 25 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack25(data, dataPos + g * 25, output, outPos + g * 8);
+                }
+            }
+            case 26 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack26(data, dataPos + g * 26, output, outPos + g * 8);
+                }
+            }
+            case 27 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack27(data, dataPos + g * 27, output, outPos + g * 8);
+                }
+            }
+            case 28 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack28(data, dataPos + g * 28, output, outPos + g * 8);
+                }
+            }
+            case 29 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack29(data, dataPos + g * 29, output, outPos + g * 8);
+                }
+            }
+            case 30 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack30(data, dataPos + g * 30, output, outPos + g * 8);
+                }
+            }
+            case 31 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack31(data, dataPos + g * 31, output, outPos + g * 8);
+                }
+            }
+            case 32 -> {
+                for (int g = 0; g < fastGroups; g++) {
+                    unpack32(data, dataPos + g * 32, output, outPos + g * 8);
+                }
+            }
+            default -> throw new IllegalArgumentException("Bit width must be between 9 and 32: " + bitWidth);
+        }
+        int p = dataPos + fastGroups * bitWidth;
+        int o = outPos + fastGroups * 8;
+        for (int g = fastGroups; g < groups; g++) {
+            unpackGroupBytewise(data, p, output, o, bitWidth);
+            p += bitWidth;
+            o += 8;
+        }
+    }
+
+    private static void unpackGroupBytewise(byte[] data, int p, int[] output, int o, int bitWidth) {
+        long mask = (1L << bitWidth) - 1;
+        long buffer = 0;
+        int bitsInBuffer = 0;
+        for (int i = 0; i < 8; i++) {
+            while (bitsInBuffer < bitWidth) {
+                buffer |= (long) (data[p++] & 0xFF) << bitsInBuffer;
+                bitsInBuffer += 8;
+            }
+            output[o + i] = (int) (buffer & mask);
+            buffer >>>= bitWidth;
+            bitsInBuffer -= bitWidth;
+        }
+    }
+
+    @Override
+    public long prefixSumDeltas(int[] deltas, int count, long minDelta, long previous, long[] output, int outPos) {
+        long value = previous;
+        for (int i = 0; i < count; i++) {
+            value += minDelta + (deltas[i] & 0xFFFFFFFFL);
+            output[outPos + i] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public void gatherByteStreamsInts(byte[] data, int offset, int stride, int[] output, int outPos, int count) {
+        transposeInts(data, offset, stride, output, outPos, count);
+    }
+
+    @Override
+    public void gatherByteStreamsFloats(byte[] data, int offset, int stride, float[] output, int outPos, int count) {
+        transposeFloats(data, offset, stride, output, outPos, count);
+    }
+
+    @Override
+    public void gatherByteStreamsLongs(byte[] data, int offset, int stride, long[] output, int outPos, int count) {
+        transposeLongs(data, offset, stride, output, outPos, count);
+    }
+
+    @Override
+    public void gatherByteStreamsDoubles(byte[] data, int offset, int stride, double[] output, int outPos, int count) {
+        transposeDoubles(data, offset, stride, output, outPos, count);
+    }
+
+    @Override
+    public void gatherByteStreams(byte[] data, int offset, int stride, int byteWidth, byte[] output, int outPos,
+                                  int count) {
+        transposeBytes(data, offset, stride, byteWidth, output, outPos, count);
+    }
+
+    static void transposeInts(byte[] data, int offset, int stride, int[] output, int outPos, int count) {
+        long[] rows = new long[4];
+        int i = 0;
+        for (; i + 8 <= count; i += 8) {
+            transpose4x8(data, offset + i, stride, rows);
+            for (int j = 0; j < 4; j++) {
+                output[outPos + i + j] = (int) rows[j];
+                output[outPos + i + j + 4] = (int) (rows[j] >>> 32);
+            }
+        }
+        for (; i < count; i++) {
+            output[outPos + i] = gatherInt(data, offset + i, stride);
+        }
+    }
+
+    static void transposeFloats(byte[] data, int offset, int stride, float[] output, int outPos, int count) {
+        long[] rows = new long[4];
+        int i = 0;
+        for (; i + 8 <= count; i += 8) {
+            transpose4x8(data, offset + i, stride, rows);
+            for (int j = 0; j < 4; j++) {
+                output[outPos + i + j] = Float.intBitsToFloat((int) rows[j]);
+                output[outPos + i + j + 4] = Float.intBitsToFloat((int) (rows[j] >>> 32));
+            }
+        }
+        for (; i < count; i++) {
+            output[outPos + i] = Float.intBitsToFloat(gatherInt(data, offset + i, stride));
+        }
+    }
+
+    static void transposeLongs(byte[] data, int offset, int stride, long[] output, int outPos, int count) {
+        long[] rows = new long[8];
+        int i = 0;
+        for (; i + 8 <= count; i += 8) {
+            transpose8x8(data, offset + i, stride, rows);
+            System.arraycopy(rows, 0, output, outPos + i, 8);
+        }
+        for (; i < count; i++) {
+            output[outPos + i] = gatherLong(data, offset + i, stride);
+        }
+    }
+
+    static void transposeDoubles(byte[] data, int offset, int stride, double[] output, int outPos, int count) {
+        long[] rows = new long[8];
+        int i = 0;
+        for (; i + 8 <= count; i += 8) {
+            transpose8x8(data, offset + i, stride, rows);
+            for (int j = 0; j < 8; j++) {
+                output[outPos + i + j] = Double.longBitsToDouble(rows[j]);
+            }
+        }
+        for (; i < count; i++) {
+            output[outPos + i] = Double.longBitsToDouble(gatherLong(data, offset + i, stride));
+        }
+    }
+
+    /// Transposes eight values at a time in tiles of eight, then four, then
+    /// single streams, storing each tile row straight into its value's bytes.
+    static void transposeBytes(byte[] data, int offset, int stride, int byteWidth, byte[] output, int outPos,
+                               int count) {
+        long[] rows = new long[8];
+        int i = 0;
+        for (; i + 8 <= count; i += 8) {
+            int valueStart = outPos + i * byteWidth;
+            int k = 0;
+            for (; k + 8 <= byteWidth; k += 8) {
+                transpose8x8(data, offset + k * stride + i, stride, rows);
+                for (int j = 0; j < 8; j++) {
+                    LONG_LE.set(output, valueStart + j * byteWidth + k, rows[j]);
+                }
+            }
+            if (k + 4 <= byteWidth) {
+                transpose4x8(data, offset + k * stride + i, stride, rows);
+                for (int j = 0; j < 4; j++) {
+                    INT_LE.set(output, valueStart + j * byteWidth + k, (int) rows[j]);
+                    INT_LE.set(output, valueStart + (j + 4) * byteWidth + k, (int) (rows[j] >>> 32));
+                }
+                k += 4;
+            }
+            for (; k < byteWidth; k++) {
+                int src = offset + k * stride + i;
+                for (int j = 0; j < 8; j++) {
+                    output[valueStart + j * byteWidth + k] = data[src + j];
+                }
+            }
+        }
+        for (; i < count; i++) {
+            int valueStart = outPos + i * byteWidth;
+            for (int k = 0; k < byteWidth; k++) {
+                output[valueStart + k] = data[offset + k * stride + i];
+            }
+        }
+    }
+
+    /// Transposes the 8x4 byte tile of values `pos..pos+7` in streams 0-3:
+    /// one long load per stream, then byte and 16-bit swaps leave values `j`
+    /// and `j + 4` in the low and high halves of `rows[j]`.
+    private static void transpose4x8(byte[] data, int pos, int stride, long[] rows) {
+        long x0 = (long) LONG_LE.get(data, pos);
+        long x1 = (long) LONG_LE.get(data, pos + stride);
+        long x2 = (long) LONG_LE.get(data, pos + 2 * stride);
+        long x3 = (long) LONG_LE.get(data, pos + 3 * stride);
+        long a0 = (x0 & BYTE_LANES) | ((x1 & BYTE_LANES) << 8);
+        long a1 = ((x0 >>> 8) & BYTE_LANES) | (x1 & ~BYTE_LANES);
+        long a2 = (x2 & BYTE_LANES) | ((x3 & BYTE_LANES) << 8);
+        long a3 = ((x2 >>> 8) & BYTE_LANES) | (x3 & ~BYTE_LANES);
+        rows[0] = (a0 & SHORT_LANES) | ((a2 & SHORT_LANES) << 16);
+        rows[1] = (a1 & SHORT_LANES) | ((a3 & SHORT_LANES) << 16);
+        rows[2] = ((a0 >>> 16) & SHORT_LANES) | (a2 & ~SHORT_LANES);
+        rows[3] = ((a1 >>> 16) & SHORT_LANES) | (a3 & ~SHORT_LANES);
+    }
+
+    /// Transposes the 8x8 byte tile of values `pos..pos+7` in streams 0-7,
+    /// leaving value `j` in `rows[j]`: byte, 16-bit and 32-bit swaps between
+    /// the eight stream words loaded with one long read each.
+    private static void transpose8x8(byte[] data, int pos, int stride, long[] rows) {
+        long x0 = (long) LONG_LE.get(data, pos);
+        long x1 = (long) LONG_LE.get(data, pos + stride);
+        long x2 = (long) LONG_LE.get(data, pos + 2 * stride);
+        long x3 = (long) LONG_LE.get(data, pos + 3 * stride);
+        long x4 = (long) LONG_LE.get(data, pos + 4 * stride);
+        long x5 = (long) LONG_LE.get(data, pos + 5 * stride);
+        long x6 = (long) LONG_LE.get(data, pos + 6 * stride);
+        long x7 = (long) LONG_LE.get(data, pos + 7 * stride);
+        long a0 = (x0 & BYTE_LANES) | ((x1 & BYTE_LANES) << 8);
+        long a1 = ((x0 >>> 8) & BYTE_LANES) | (x1 & ~BYTE_LANES);
+        long a2 = (x2 & BYTE_LANES) | ((x3 & BYTE_LANES) << 8);
+        long a3 = ((x2 >>> 8) & BYTE_LANES) | (x3 & ~BYTE_LANES);
+        long a4 = (x4 & BYTE_LANES) | ((x5 & BYTE_LANES) << 8);
+        long a5 = ((x4 >>> 8) & BYTE_LANES) | (x5 & ~BYTE_LANES);
+        long a6 = (x6 & BYTE_LANES) | ((x7 & BYTE_LANES) << 8);
+        long a7 = ((x6 >>> 8) & BYTE_LANES) | (x7 & ~BYTE_LANES);
+        long b0 = (a0 & SHORT_LANES) | ((a2 & SHORT_LANES) << 16);
+        long b1 = (a1 & SHORT_LANES) | ((a3 & SHORT_LANES) << 16);
+        long b2 = ((a0 >>> 16) & SHORT_LANES) | (a2 & ~SHORT_LANES);
+        long b3 = ((a1 >>> 16) & SHORT_LANES) | (a3 & ~SHORT_LANES);
+        long b4 = (a4 & SHORT_LANES) | ((a6 & SHORT_LANES) << 16);
+        long b5 = (a5 & SHORT_LANES) | ((a7 & SHORT_LANES) << 16);
+        long b6 = ((a4 >>> 16) & SHORT_LANES) | (a6 & ~SHORT_LANES);
+        long b7 = ((a5 >>> 16) & SHORT_LANES) | (a7 & ~SHORT_LANES);
+        rows[0] = (b0 & INT_LANES) | (b4 << 32);
+        rows[1] = (b1 & INT_LANES) | (b5 << 32);
+        rows[2] = (b2 & INT_LANES) | (b6 << 32);
+        rows[3] = (b3 & INT_LANES) | (b7 << 32);
+        rows[4] = (b0 >>> 32) | (b4 & ~INT_LANES);
+        rows[5] = (b1 >>> 32) | (b5 & ~INT_LANES);
+        rows[6] = (b2 >>> 32) | (b6 & ~INT_LANES);
+        rows[7] = (b3 >>> 32) | (b7 & ~INT_LANES);
+    }
+
+    private static int gatherInt(byte[] data, int pos, int stride) {
+        return (data[pos] & 0xFF)
+                | (data[pos + stride] & 0xFF) << 8
+                | (data[pos + 2 * stride] & 0xFF) << 16
+                | data[pos + 3 * stride] << 24;
+    }
+
+    private static long gatherLong(byte[] data, int pos, int stride) {
+        long value = 0;
+        for (int k = 7; k >= 0; k--) {
+            value = value << 8 | (data[pos + k * stride] & 0xFF);
+        }
+        return value;
+    }
+
     @Override
     public void applyDictionaryLongs(long[] output, long[] dict, int[] indices, int count) {
         // Unroll 4x to reduce loop overhead
@@ -170,4 +548,272 @@ public final class ScalarOperations implements SimdOperations {
             output[i] = dict[indices[i]];
         }
     }
+
+    // Generated width-specialised kernels: each unpacks one group of 8 values
+    // from `bitWidth` bytes. Value i starts at bit i * w, i.e. at byte
+    // (i * w) / 8 with shift (i * w) % 8; the shift plus the width never
+    // exceeds 39 bits, so a single long load covers it.
+    private static void unpack9(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x1FF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 1) >>> 1) & 0x1FF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 2) >>> 2) & 0x1FF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 3) >>> 3) & 0x1FF;
+        out[o + 4] = (int) ((long) LONG_LE.get(in, p + 4) >>> 4) & 0x1FF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 5) >>> 5) & 0x1FF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 6) >>> 6) & 0x1FF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 7) >>> 7) & 0x1FF;
+    }
+
+    private static void unpack10(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x3FF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 1) >>> 2) & 0x3FF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 2) >>> 4) & 0x3FF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 3) >>> 6) & 0x3FF;
+        out[o + 4] = (int) (long) LONG_LE.get(in, p + 5) & 0x3FF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 6) >>> 2) & 0x3FF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 7) >>> 4) & 0x3FF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 8) >>> 6) & 0x3FF;
+    }
+
+    private static void unpack11(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x7FF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 1) >>> 3) & 0x7FF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 2) >>> 6) & 0x7FF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 4) >>> 1) & 0x7FF;
+        out[o + 4] = (int) ((long) LONG_LE.get(in, p + 5) >>> 4) & 0x7FF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 6) >>> 7) & 0x7FF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 8) >>> 2) & 0x7FF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 9) >>> 5) & 0x7FF;
+    }
+
+    private static void unpack12(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0xFFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 1) >>> 4) & 0xFFF;
+        out[o + 2] = (int) (long) LONG_LE.get(in, p + 3) & 0xFFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 4) >>> 4) & 0xFFF;
+        out[o + 4] = (int) (long) LONG_LE.get(in, p + 6) & 0xFFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 7) >>> 4) & 0xFFF;
+        out[o + 6] = (int) (long) LONG_LE.get(in, p + 9) & 0xFFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 10) >>> 4) & 0xFFF;
+    }
+
+    private static void unpack13(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x1FFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 1) >>> 5) & 0x1FFF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 3) >>> 2) & 0x1FFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 4) >>> 7) & 0x1FFF;
+        out[o + 4] = (int) ((long) LONG_LE.get(in, p + 6) >>> 4) & 0x1FFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 8) >>> 1) & 0x1FFF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 9) >>> 6) & 0x1FFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 11) >>> 3) & 0x1FFF;
+    }
+
+    private static void unpack14(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x3FFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 1) >>> 6) & 0x3FFF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 3) >>> 4) & 0x3FFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 5) >>> 2) & 0x3FFF;
+        out[o + 4] = (int) (long) LONG_LE.get(in, p + 7) & 0x3FFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 8) >>> 6) & 0x3FFF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 10) >>> 4) & 0x3FFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 12) >>> 2) & 0x3FFF;
+    }
+
+    private static void unpack15(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x7FFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 1) >>> 7) & 0x7FFF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 3) >>> 6) & 0x7FFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 5) >>> 5) & 0x7FFF;
+        out[o + 4] = (int) ((long) LONG_LE.get(in, p + 7) >>> 4) & 0x7FFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 9) >>> 3) & 0x7FFF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 11) >>> 2) & 0x7FFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 13) >>> 1) & 0x7FFF;
+    }
+
+    private static void unpack16(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0xFFFF;
+        out[o + 1] = (int) (long) LONG_LE.get(in, p + 2) & 0xFFFF;
+        out[o + 2] = (int) (long) LONG_LE.get(in, p + 4) & 0xFFFF;
+        out[o + 3] = (int) (long) LONG_LE.get(in, p + 6) & 0xFFFF;
+        out[o + 4] = (int) (long) LONG_LE.get(in, p + 8) & 0xFFFF;
+        out[o + 5] = (int) (long) LONG_LE.get(in, p + 10) & 0xFFFF;
+        out[o + 6] = (int) (long) LONG_LE.get(in, p + 12) & 0xFFFF;
+        out[o + 7] = (int) (long) LONG_LE.get(in, p + 14) & 0xFFFF;
+    }
+
+    private static void unpack17(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x1FFFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 2) >>> 1) & 0x1FFFF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 4) >>> 2) & 0x1FFFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 6) >>> 3) & 0x1FFFF;
+        out[o + 4] = (int) ((long) LONG_LE.get(in, p + 8) >>> 4) & 0x1FFFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 10) >>> 5) & 0x1FFFF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 12) >>> 6) & 0x1FFFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 14) >>> 7) & 0x1FFFF;
+    }
+
+    private static void unpack18(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x3FFFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 2) >>> 2) & 0x3FFFF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 4) >>> 4) & 0x3FFFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 6) >>> 6) & 0x3FFFF;
+        out[o + 4] = (int) (long) LONG_LE.get(in, p + 9) & 0x3FFFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 11) >>> 2) & 0x3FFFF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 13) >>> 4) & 0x3FFFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 15) >>> 6) & 0x3FFFF;
+    }
+
+    private static void unpack19(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x7FFFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 2) >>> 3) & 0x7FFFF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 4) >>> 6) & 0x7FFFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 7) >>> 1) & 0x7FFFF;
+        out[o + 4] = (int) ((long) LONG_LE.get(in, p + 9) >>> 4) & 0x7FFFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 11) >>> 7) & 0x7FFFF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 14) >>> 2) & 0x7FFFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 16) >>> 5) & 0x7FFFF;
+    }
+
+    private static void unpack20(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0xFFFFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 2) >>> 4) & 0xFFFFF;
+        out[o + 2] = (int) (long) LONG_LE.get(in, p + 5) & 0xFFFFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 7) >>> 4) & 0xFFFFF;
+        out[o + 4] = (int) (long) LONG_LE.get(in, p + 10) & 0xFFFFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 12) >>> 4) & 0xFFFFF;
+        out[o + 6] = (int) (long) LONG_LE.get(in, p + 15) & 0xFFFFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 17) >>> 4) & 0xFFFFF;
+    }
+
+    private static void unpack21(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x1FFFFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 2) >>> 5) & 0x1FFFFF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 5) >>> 2) & 0x1FFFFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 7) >>> 7) & 0x1FFFFF;
+        out[o + 4] = (int) ((long) LONG_LE.get(in, p + 10) >>> 4) & 0x1FFFFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 13) >>> 1) & 0x1FFFFF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 15) >>> 6) & 0x1FFFFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 18) >>> 3) & 0x1FFFFF;
+    }
+
+    private static void unpack22(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x3FFFFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 2) >>> 6) & 0x3FFFFF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 5) >>> 4) & 0x3FFFFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 8) >>> 2) & 0x3FFFFF;
+        out[o + 4] = (int) (long) LONG_LE.get(in, p + 11) & 0x3FFFFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 13) >>> 6) & 0x3FFFFF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 16) >>> 4) & 0x3FFFFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 19) >>> 2) & 0x3FFFFF;
+    }
+
+    private static void unpack23(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x7FFFFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 2) >>> 7) & 0x7FFFFF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 5) >>> 6) & 0x7FFFFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 8) >>> 5) & 0x7FFFFF;
+        out[o + 4] = (int) ((long) LONG_LE.get(in, p + 11) >>> 4) & 0x7FFFFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 14) >>> 3) & 0x7FFFFF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 17) >>> 2) & 0x7FFFFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 20) >>> 1) & 0x7FFFFF;
+    }
+
+    private static void unpack24(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0xFFFFFF;
+        out[o + 1] = (int) (long) LONG_LE.get(in, p + 3) & 0xFFFFFF;
+        out[o + 2] = (int) (long) LONG_LE.get(in, p + 6) & 0xFFFFFF;
+        out[o + 3] = (int) (long) LONG_LE.get(in, p + 9) & 0xFFFFFF;
+        out[o + 4] = (int) (long) LONG_LE.get(in, p + 12) & 0xFFFFFF;
+        out[o + 5] = (int) (long) LONG_LE.get(in, p + 15) & 0xFFFFFF;
+        out[o + 6] = (int) (long) LONG_LE.get(in, p + 18) & 0xFFFFFF;
+        out[o + 7] = (int) (long) LONG_LE.get(in, p + 21) & 0xFFFFFF;
+    }
+
+    private static void unpack25(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x1FFFFFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 3) >>> 1) & 0x1FFFFFF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 6) >>> 2) & 0x1FFFFFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 9) >>> 3) & 0x1FFFFFF;
+        out[o + 4] = (int) ((long) LONG_LE.get(in, p + 12) >>> 4) & 0x1FFFFFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 15) >>> 5) & 0x1FFFFFF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 18) >>> 6) & 0x1FFFFFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 21) >>> 7) & 0x1FFFFFF;
+    }
+
+    private static void unpack26(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x3FFFFFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 3) >>> 2) & 0x3FFFFFF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 6) >>> 4) & 0x3FFFFFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 9) >>> 6) & 0x3FFFFFF;
+        out[o + 4] = (int) (long) LONG_LE.get(in, p + 13) & 0x3FFFFFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 16) >>> 2) & 0x3FFFFFF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 19) >>> 4) & 0x3FFFFFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 22) >>> 6) & 0x3FFFFFF;
+    }
+
+    private static void unpack27(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x7FFFFFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 3) >>> 3) & 0x7FFFFFF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 6) >>> 6) & 0x7FFFFFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 10) >>> 1) & 0x7FFFFFF;
+        out[o + 4] = (int) ((long) LONG_LE.get(in, p + 13) >>> 4) & 0x7FFFFFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 16) >>> 7) & 0x7FFFFFF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 20) >>> 2) & 0x7FFFFFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 23) >>> 5) & 0x7FFFFFF;
+    }
+
+    private static void unpack28(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0xFFFFFFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 3) >>> 4) & 0xFFFFFFF;
+        out[o + 2] = (int) (long) LONG_LE.get(in, p + 7) & 0xFFFFFFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 10) >>> 4) & 0xFFFFFFF;
+        out[o + 4] = (int) (long) LONG_LE.get(in, p + 14) & 0xFFFFFFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 17) >>> 4) & 0xFFFFFFF;
+        out[o + 6] = (int) (long) LONG_LE.get(in, p + 21) & 0xFFFFFFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 24) >>> 4) & 0xFFFFFFF;
+    }
+
+    private static void unpack29(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x1FFFFFFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 3) >>> 5) & 0x1FFFFFFF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 7) >>> 2) & 0x1FFFFFFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 10) >>> 7) & 0x1FFFFFFF;
+        out[o + 4] = (int) ((long) LONG_LE.get(in, p + 14) >>> 4) & 0x1FFFFFFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 18) >>> 1) & 0x1FFFFFFF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 21) >>> 6) & 0x1FFFFFFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 25) >>> 3) & 0x1FFFFFFF;
+    }
+
+    private static void unpack30(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x3FFFFFFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 3) >>> 6) & 0x3FFFFFFF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 7) >>> 4) & 0x3FFFFFFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 11) >>> 2) & 0x3FFFFFFF;
+        out[o + 4] = (int) (long) LONG_LE.get(in, p + 15) & 0x3FFFFFFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 18) >>> 6) & 0x3FFFFFFF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 22) >>> 4) & 0x3FFFFFFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 26) >>> 2) & 0x3FFFFFFF;
+    }
+
+    private static void unpack31(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p) & 0x7FFFFFFF;
+        out[o + 1] = (int) ((long) LONG_LE.get(in, p + 3) >>> 7) & 0x7FFFFFFF;
+        out[o + 2] = (int) ((long) LONG_LE.get(in, p + 7) >>> 6) & 0x7FFFFFFF;
+        out[o + 3] = (int) ((long) LONG_LE.get(in, p + 11) >>> 5) & 0x7FFFFFFF;
+        out[o + 4] = (int) ((long) LONG_LE.get(in, p + 15) >>> 4) & 0x7FFFFFFF;
+        out[o + 5] = (int) ((long) LONG_LE.get(in, p + 19) >>> 3) & 0x7FFFFFFF;
+        out[o + 6] = (int) ((long) LONG_LE.get(in, p + 23) >>> 2) & 0x7FFFFFFF;
+        out[o + 7] = (int) ((long) LONG_LE.get(in, p + 27) >>> 1) & 0x7FFFFFFF;
+    }
+
+    private static void unpack32(byte[] in, int p, int[] out, int o) {
+        out[o] = (int) (long) LONG_LE.get(in, p);
+        out[o + 1] = (int) (long) LONG_LE.get(in, p + 4);
+        out[o + 2] = (int) (long) LONG_LE.get(in, p + 8);
+        out[o + 3] = (int) (long) LONG_LE.get(in, p + 12);
+        out[o + 4] = (int) (long) LONG_LE.get(in, p + 16);
+        out[o + 5] = (int) (long) LONG_LE.get(in, p + 20);
+        out[o + 6] = (int) (long) LONG_LE.get(in, p + 24);
+        out[o + 7] = (int) (long) LONG_LE.get(in, p + 28);
+    }
 }
@@ -58,6 +58,75 @@ public interface SimdOperations {
     /// @return number of bytes consumed from data
     int unpackBitWidthN(byte[] data, int dataPos, int[] output, int outPos, int count, int bitWidth);
 
+    /// Unpack values with bit widths 9-32 from packed byte data, such as the
+    /// dictionary indices of dictionaries with more than 256 entries.
+    ///
+    /// Values are unpacked in groups of 8, each group occupying `bitWidth`
+    /// bytes; a trailing partial group and groups not fully contained in `data`
+    /// are left to the caller.
+    ///
+    /// @param data source byte array
+    /// @param dataPos starting position in data
+    /// @param output destination int array
+    /// @param outPos starting position in output
+    /// @param count number of values to unpack
+    /// @param bitWidth bits per value (9-32)
+    /// @return number of bytes consumed from data
+    int unpackBitWidthWide(byte[] data, int dataPos, int[] output, int outPos, int count, int bitWidth);
+
+    // ==================== Delta Operations ====================
+
+    /// Reconstruct DELTA_BINARY_PACKED values from the unpacked deltas of one
+    /// miniblock: `output[outPos + i] = previous + (minDelta + deltas[0]) + ... + (minDelta + deltas[i])`,
+    /// reading each delta as an unsigned 32-bit value. Arithmetic wraps, as the
+    /// encoding specifies.
+    ///
+    /// @param deltas unpacked deltas, relative to `minDelta`
+    /// @param count number of values to reconstruct
+    /// @param minDelta the block's minimum delta
+    /// @param previous the value preceding the miniblock
+    /// @param output destination array for the values
+    /// @param outPos starting position in output
+    /// @return the last value written, or `previous` when `count` is 0
+    long prefixSumDeltas(int[] deltas, int count, long minDelta, long previous, long[] output, int outPos);
+
+    // ==================== Byte Stream Split Operations ====================
+
+    /// Reassemble 4-byte BYTE_STREAM_SPLIT values: byte `k` of value `i` is read
+    /// from `data[offset + k * stride + i]` and the bytes are combined little-endian.
+    ///
+    /// @param data encoded page data
+    /// @param offset position of the first value's byte in stream 0
+    /// @param stride distance between two streams, i.e. the number of values in the page
+    /// @param output destination int array
+    /// @param outPos starting position in output
+    /// @param count number of values to reassemble
+    void gatherByteStreamsInts(byte[] data, int offset, int stride, int[] output, int outPos, int count);
+
+    /// Reassemble 4-byte BYTE_STREAM_SPLIT values as floats, with the
+    /// stream layout of `gatherByteStreamsInts`.
+    void gatherByteStreamsFloats(byte[] data, int offset, int stride, float[] output, int outPos, int count);
+
+    /// Reassemble 8-byte BYTE_STREAM_SPLIT values as longs, with the
+    /// stream layout of `gatherByteStreamsInts`.
+    void gatherByteStreamsLongs(byte[] data, int offset, int stride, long[] output, int outPos, int count);
+
+    /// Reassemble 8-byte BYTE_STREAM_SPLIT values as doubles, with the
+    /// stream layout of `gatherByteStreamsInts`.
+    void gatherByteStreamsDoubles(byte[] data, int offset, int stride, double[] output, int outPos, int count);
+
+    /// Reassemble `byteWidth`-byte BYTE_STREAM_SPLIT values, such as
+    /// FIXED_LEN_BYTE_ARRAY, writing them back to back into `output`.
+    ///
+    /// @param data encoded page data
+    /// @param offset position of the first value's byte in stream 0
+    /// @param stride distance between two streams, i.e. the number of values in the page
+    /// @param byteWidth bytes per value, i.e. the number of streams
+    /// @param output destination byte array
+    /// @param outPos byte position in output of the first value
+    /// @param count number of values to reassemble
+    void gatherByteStreams(byte[] data, int offset, int stride, int byteWidth, byte[] output, int outPos, int count);
+
     // ==================== Dictionary Operations ====================
 
     /// Apply dictionary lookup for long values.
@@ -7,6 +7,8 @@
  */
 package dev.hardwood.internal.metadata;
 
+import dev.hardwood.metadata.PageType;
+
 /// Header for a page in Parquet.
 public record PageHeader(
         PageType type,
@@ -16,26 +18,4 @@ public record PageHeader(
         DataPageHeaderV2 dataPageHeaderV2,
         DictionaryPageHeader dictionaryPageHeader,
         Integer crc) {
-
-    public enum PageType {
-        DATA_PAGE(0),
-        INDEX_PAGE(1),
-        DICTIONARY_PAGE(2),
-        DATA_PAGE_V2(3);
-
-        private final int thriftValue;
-
-        PageType(int thriftValue) {
-            this.thriftValue = thriftValue;
-        }
-
-        public static PageType fromThriftValue(int value) {
-            for (PageType type : values()) {
-                if (type.thriftValue == value) {
-                    return type;
-                }
-            }
-            throw new IllegalArgumentException("Unknown page type: " + value);
-        }
-    }
 }
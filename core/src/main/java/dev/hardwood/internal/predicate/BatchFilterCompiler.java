@@ -15,6 +15,13 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.IntUnaryOperator;
 
+import dev.hardwood.internal.predicate.matcher.binaries.BinaryEqBatchMatcher;
+import dev.hardwood.internal.predicate.matcher.binaries.BinaryGtBatchMatcher;
+import dev.hardwood.internal.predicate.matcher.binaries.BinaryGtEqBatchMatcher;
+import dev.hardwood.internal.predicate.matcher.binaries.BinaryInBatchMatcher;
+import dev.hardwood.internal.predicate.matcher.binaries.BinaryLtBatchMatcher;
+import dev.hardwood.internal.predicate.matcher.binaries.BinaryLtEqBatchMatcher;
+import dev.hardwood.internal.predicate.matcher.binaries.BinaryNotEqBatchMatcher;
 import dev.hardwood.internal.predicate.matcher.booleans.BooleanEqBatchMatcher;
 import dev.hardwood.internal.predicate.matcher.booleans.BooleanNotEqBatchMatcher;
 import dev.hardwood.internal.predicate.matcher.doubles.DoubleEqBatchMatcher;
@@ -46,6 +53,7 @@ import dev.hardwood.internal.predicate.matcher.longs.LongNotEqBatchMatcher;
 import dev.hardwood.internal.predicate.matcher.nulls.IsNotNullBatchMatcher;
 import dev.hardwood.internal.predicate.matcher.nulls.IsNullBatchMatcher;
 import dev.hardwood.reader.FilterPredicate;
+import dev.hardwood.schema.ColumnSchema;
 import dev.hardwood.schema.FileSchema;
 
 /// Compiles an eligible [ResolvedPredicate] into a [CompiledBatchFilter]:
@@ -56,15 +64,23 @@ import dev.hardwood.schema.FileSchema;
 /// Eligibility:
 ///
 /// - Every leaf must be a supported `(type, op)` whose column is a **top-level**
-///   projected field.
+///   projected field — or, when the caller evaluates nested batches
+///   ([dev.hardwood.internal.reader.NestedRowReader]), any projected leaf with
+///   `maxRepetitionLevel == 0`, such as a member of a (possibly nested) struct.
+///   Such a leaf has exactly one value slot per record, and its leaf validity
+///   is clear wherever the leaf or any enclosing struct is null.
 /// - `And`/`Or` may nest, as long as no single column appears in more than one
 ///   independent subtree. Same-column leaves under a single shared `And`/`Or`
 ///   fold into a per-column [AndBatchMatcher] / [OrBatchMatcher] composite — the
 ///   same mechanism that handles `id >= x AND id <= y` today.
 ///
-/// Anything else (intermediate-struct paths, `BinaryPredicate`,
-/// `GeospatialPredicate`, unsupported `(type, op)`) returns `null` and the
-/// caller falls back to [dev.hardwood.internal.reader.FilteredRowReader].
+/// Binary leaves (`BinaryPredicate`, `BinaryInPredicate`) compile to matchers
+/// that compare in place over the batch's packed bytes and, on dictionary-encoded
+/// string pages, test each chunk dictionary once and probe the entry bitset.
+///
+/// Anything else (intermediate-struct paths, `GeospatialPredicate`, unsupported
+/// `(type, op)`) returns `null` and the caller falls back to
+/// [dev.hardwood.internal.reader.FilteredRowReader].
 public final class BatchFilterCompiler {
 
     private BatchFilterCompiler() {}
@@ -72,12 +88,21 @@ public final class BatchFilterCompiler {
     /// Returns a [CompiledBatchFilter] or `null` if the predicate is not eligible.
     public static CompiledBatchFilter tryCompile(ResolvedPredicate predicate, FileSchema schema,
             IntUnaryOperator topLevelFieldIndex) {
+        return tryCompile(predicate, schema, topLevelFieldIndex, false);
+    }
+
+    /// Returns a [CompiledBatchFilter] or `null` if the predicate is not eligible.
+    /// With `structLeaves`, leaves on non-repeated struct members are eligible
+    /// too; `projection` then maps every file leaf column to its projected
+    /// column index.
+    public static CompiledBatchFilter tryCompile(ResolvedPredicate predicate, FileSchema schema,
+            IntUnaryOperator projection, boolean structLeaves) {
         // Shared scratch array — threaded through every recursive `compile` call
         // and populated in-place as subtrees commit their per-column matchers.
         // Not a "result" of any subtree; it lives here, so its lifetime is one
         // tryCompile invocation.
         ColumnBatchMatcher[] matchers = new ColumnBatchMatcher[schema.getColumnCount()];
-        Result r = compile(predicate, schema, topLevelFieldIndex, matchers);
+        Result r = compile(predicate, schema, projection, structLeaves, matchers);
         if (r == null) {
             return null;
         }
@@ -111,19 +136,20 @@ public final class BatchFilterCompiler {
     }
 
     private static Result compile(ResolvedPredicate p, FileSchema schema, IntUnaryOperator projection,
-            ColumnBatchMatcher[] matchers) {
+            boolean structLeaves, ColumnBatchMatcher[] matchers) {
         if (p instanceof ResolvedPredicate.And and) {
-            return compileCompound(and.children(), false, schema, projection, matchers);
+            return compileCompound(and.children(), false, schema, projection, structLeaves, matchers);
         }
         if (p instanceof ResolvedPredicate.Or or) {
-            return compileCompound(or.children(), true, schema, projection, matchers);
+            return compileCompound(or.children(), true, schema, projection, structLeaves, matchers);
         }
-        return compileLeaf(p, schema, projection);
+        return compileLeaf(p, schema, projection, structLeaves);
     }
 
-    private static Result compileLeaf(ResolvedPredicate leaf, FileSchema schema, IntUnaryOperator projection) {
+    private static Result compileLeaf(ResolvedPredicate leaf, FileSchema schema, IntUnaryOperator projection,
+            boolean structLeaves) {
         int fileIdx = leafColumnIndex(leaf);
-        if (fileIdx == -1 || !isTopLevel(schema, fileIdx) || !isSupported(leaf)) {
+        if (fileIdx == -1 || !isEligibleColumn(schema, fileIdx, structLeaves) || !isSupported(leaf)) {
             return null;
         }
         int projected = projection.applyAsInt(fileIdx);
@@ -141,10 +167,11 @@ public final class BatchFilterCompiler {
     }
 
     private static Result compileCompound(List<ResolvedPredicate> children, boolean isOr,
-            FileSchema schema, IntUnaryOperator projection, ColumnBatchMatcher[] matchers) {
+            FileSchema schema, IntUnaryOperator projection, boolean structLeaves,
+            ColumnBatchMatcher[] matchers) {
         int n = children.size();
         if (n == 1) {
-            return compile(children.getFirst(), schema, projection, matchers);
+            return compile(children.getFirst(), schema, projection, structLeaves, matchers);
         }
         // Compile each child and track whether every child so far is single-column
         // on the same column. `sharedColumnIndex` ends >= 0 iff that holds for all
@@ -152,7 +179,7 @@ public final class BatchFilterCompiler {
         Result[] childResults = new Result[n];
         int sharedColumnIndex = -1;
         for (int i = 0; i < n; i++) {
-            Result cr = compile(children.get(i), schema, projection, matchers);
+            Result cr = compile(children.get(i), schema, projection, structLeaves, matchers);
             if (cr == null) {
                 return null;
             }
@@ -241,14 +268,19 @@ public final class BatchFilterCompiler {
             case ResolvedPredicate.BooleanPredicate p -> p.columnIndex();
             case ResolvedPredicate.IntInPredicate p -> p.columnIndex();
             case ResolvedPredicate.LongInPredicate p -> p.columnIndex();
+            case ResolvedPredicate.BinaryPredicate p -> p.columnIndex();
+            case ResolvedPredicate.BinaryInPredicate p -> p.columnIndex();
             case ResolvedPredicate.IsNullPredicate p -> p.columnIndex();
             case ResolvedPredicate.IsNotNullPredicate p -> p.columnIndex();
             default -> -1;
         };
     }
 
-    private static boolean isTopLevel(FileSchema schema, int columnIndex) {
-        return schema.getColumn(columnIndex).fieldPath().elements().size() == 1;
+    private static boolean isEligibleColumn(FileSchema schema, int columnIndex, boolean structLeaves) {
+        ColumnSchema column = schema.getColumn(columnIndex);
+        return structLeaves
+                ? column.maxRepetitionLevel() == 0
+                : column.fieldPath().elements().size() == 1;
     }
 
     private static boolean isSupported(ResolvedPredicate leaf) {
@@ -259,6 +291,8 @@ public final class BatchFilterCompiler {
             case ResolvedPredicate.FloatPredicate ignored -> true;
             case ResolvedPredicate.IntInPredicate ignored -> true;
             case ResolvedPredicate.LongInPredicate ignored -> true;
+            case ResolvedPredicate.BinaryPredicate ignored -> true;
+            case ResolvedPredicate.BinaryInPredicate ignored -> true;
             case ResolvedPredicate.IsNullPredicate ignored -> true;
             case ResolvedPredicate.IsNotNullPredicate ignored -> true;
             case ResolvedPredicate.BooleanPredicate p ->
@@ -310,6 +344,15 @@ public final class BatchFilterCompiler {
             };
             case ResolvedPredicate.IntInPredicate p -> new IntInBatchMatcher(p.values());
             case ResolvedPredicate.LongInPredicate p -> new LongInBatchMatcher(p.values());
+            case ResolvedPredicate.BinaryPredicate p -> switch (p.op()) {
+                case GT -> new BinaryGtBatchMatcher(p.value(), p.signed());
+                case LT -> new BinaryLtBatchMatcher(p.value(), p.signed());
+                case LT_EQ -> new BinaryLtEqBatchMatcher(p.value(), p.signed());
+                case GT_EQ -> new BinaryGtEqBatchMatcher(p.value(), p.signed());
+                case EQ -> new BinaryEqBatchMatcher(p.value());
+                case NOT_EQ -> new BinaryNotEqBatchMatcher(p.value());
+            };
+            case ResolvedPredicate.BinaryInPredicate p -> new BinaryInBatchMatcher(p.values());
             case ResolvedPredicate.IsNullPredicate p -> new IsNullBatchMatcher();
             case ResolvedPredicate.IsNotNullPredicate p -> new IsNotNullBatchMatcher();
             default -> throw new IllegalStateException(
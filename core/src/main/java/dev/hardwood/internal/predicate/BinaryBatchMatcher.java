@@ -0,0 +1,13 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.predicate;
+
+/// Marker for `BYTE_ARRAY` / `FIXED_LEN_BYTE_ARRAY` typed [ColumnBatchMatcher]s.
+/// Implementations cast `batch.values` to [dev.hardwood.internal.reader.BinaryBatchValues].
+public non-sealed interface BinaryBatchMatcher extends ColumnBatchMatcher {
+}
@@ -46,4 +46,24 @@ public final class BinaryComparator {
         // Remaining bytes: compare as unsigned
         return Arrays.compareUnsigned(a, 1, a.length, b, 1, a.length);
     }
+
+    /// [#compareSigned(byte[], byte[])] over `a[from, to)`, so values packed in a
+    /// batch buffer compare without being copied out.
+    ///
+    /// @return negative if a < b, zero if equal, positive if a > b
+    public static int compareSigned(byte[] a, int from, int to, byte[] b) {
+        int length = to - from;
+        if (length != b.length) {
+            throw new IllegalArgumentException(
+                    "Signed binary comparison requires same-length arrays: " + length + " vs " + b.length);
+        }
+        if (length == 0) {
+            return 0;
+        }
+        int cmp = a[from] - b[0];
+        if (cmp != 0) {
+            return cmp;
+        }
+        return Arrays.compareUnsigned(a, from + 1, to, b, 1, length);
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.predicate;
+
+import dev.hardwood.internal.reader.Dictionary;
+
+/// Shared utilities for evaluating value predicates against the dictionary of a fully
+/// dictionary-encoded column chunk.
+///
+/// Used by [RowGroupFilterEvaluator] after [StatisticsFilterSupport] and [BloomFilterSupport]:
+/// when every data page references the dictionary, its entries are exactly the chunk's distinct
+/// non-null values, so a leaf that no entry satisfies matches no row. Each entry is decided as a
+/// single-point `[entry, entry]` range through the statistics comparisons, so the dictionary
+/// applies the same ordering and `±0` / `NaN` rules as min/max pruning.
+final class DictionaryFilterSupport {
+
+    private DictionaryFilterSupport() {
+    }
+
+    /// Whether the column's dictionary proves no row satisfies `leaf`. Returns `false` (cannot
+    /// prove it) when no source is supplied, the chunk is not fully dictionary encoded, or the
+    /// leaf is not a value comparison or membership test.
+    static boolean noEntryMatches(DictionarySource dictionaries, int columnIndex, ResolvedPredicate leaf) {
+        if (dictionaries == null) {
+            return false;
+        }
+        Dictionary dictionary = dictionaries.forColumn(columnIndex);
+        if (dictionary == null) {
+            return false;
+        }
+        return switch (leaf) {
+            case ResolvedPredicate.IntPredicate p when dictionary instanceof Dictionary.IntDictionary d -> {
+                for (int entry : d.values()) {
+                    if (!StatisticsFilterSupport.canDrop(p.op(), p.value(), entry, entry)) {
+                        yield false;
+                    }
+                }
+                yield true;
+            }
+            case ResolvedPredicate.LongPredicate p when dictionary instanceof Dictionary.LongDictionary d -> {
+                for (long entry : d.values()) {
+                    if (!StatisticsFilterSupport.canDrop(p.op(), p.value(), entry, entry)) {
+                        yield false;
+                    }
+                }
+                yield true;
+            }
+            case ResolvedPredicate.FloatPredicate p when dictionary instanceof Dictionary.FloatDictionary d -> {
+                for (float entry : d.values()) {
+                    if (!StatisticsFilterSupport.canDropFloat(p.op(), p.value(), entry, entry,
+                            p.ieee754TotalOrder())) {
+                        yield false;
+                    }
+                }
+                yield true;
+            }
+            case ResolvedPredicate.DoublePredicate p when dictionary instanceof Dictionary.DoubleDictionary d -> {
+                for (double entry : d.values()) {
+                    if (!StatisticsFilterSupport.canDropDouble(p.op(), p.value(), entry, entry,
+                            p.ieee754TotalOrder())) {
+                        yield false;
+                    }
+                }
+                yield true;
+            }
+            case ResolvedPredicate.BinaryPredicate p when dictionary instanceof Dictionary.ByteArrayDictionary d ->
+                    isEmpty(d.matchingEntries(p.op(), p.value(), p.signed()));
+            case ResolvedPredicate.IntInPredicate p when dictionary instanceof Dictionary.IntDictionary d -> {
+                for (int entry : d.values()) {
+                    if (!StatisticsFilterSupport.canDropIntIn(p.values(), entry, entry)) {
+                        yield false;
+                    }
+                }
+                yield true;
+            }
+            case ResolvedPredicate.LongInPredicate p when dictionary instanceof Dictionary.LongDictionary d -> {
+                for (long entry : d.values()) {
+                    if (!StatisticsFilterSupport.canDropLongIn(p.values(), entry, entry)) {
+                        yield false;
+                    }
+                }
+                yield true;
+            }
+            case ResolvedPredicate.BinaryInPredicate p when dictionary instanceof Dictionary.ByteArrayDictionary d ->
+                    isEmpty(d.matchingEntries(p.values()));
+            default -> false;
+        };
+    }
+
+    private static boolean isEmpty(long[] words) {
+        for (long word : words) {
+            if (word != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
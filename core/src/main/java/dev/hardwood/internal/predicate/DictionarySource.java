@@ -0,0 +1,24 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.predicate;
+
+import dev.hardwood.internal.reader.Dictionary;
+
+/// Column-indexed access to the dictionaries of a row group's fully dictionary-encoded chunks.
+///
+/// Decouples [RowGroupFilterEvaluator] from the I/O needed to fetch a dictionary page, so the
+/// evaluator stays unit-testable and reads a dictionary only when statistics and bloom filters
+/// have failed to decide a leaf on that column.
+public interface DictionarySource {
+
+    /// Returns the dictionary for the given original column index, or `null` unless every data
+    /// page of the column chunk is known to be dictionary encoded — only then is the dictionary
+    /// a complete list of the chunk's non-null values. Implementations may read lazily and cache
+    /// the result (including absence).
+    Dictionary forColumn(int columnIndex);
+}
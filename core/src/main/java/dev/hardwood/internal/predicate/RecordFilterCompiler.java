@@ -11,6 +11,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.function.IntUnaryOperator;
 
+import dev.hardwood.internal.reader.BinaryBatchValues;
+import dev.hardwood.internal.reader.BinaryColumnView;
+import dev.hardwood.internal.reader.Dictionary;
 import dev.hardwood.reader.FilterPredicate.Operator;
 import dev.hardwood.reader.RowReader;
 import dev.hardwood.row.StructAccessor;
@@ -370,38 +373,7 @@ public final class RecordFilterCompiler {
     }
 
     private static RowMatcher binaryLeaf(String[] path, String name, Operator op, byte[] v, boolean signed) {
-        return switch (op) {
-            case EQ -> row -> {
-                StructAccessor a = resolve(row, path);
-                if (a == null || a.isNull(name)) return false;
-                return compareBinary(a.getBinary(name), v, signed) == 0;
-            };
-            case NOT_EQ -> row -> {
-                StructAccessor a = resolve(row, path);
-                if (a == null || a.isNull(name)) return false;
-                return compareBinary(a.getBinary(name), v, signed) != 0;
-            };
-            case LT -> row -> {
-                StructAccessor a = resolve(row, path);
-                if (a == null || a.isNull(name)) return false;
-                return compareBinary(a.getBinary(name), v, signed) < 0;
-            };
-            case LT_EQ -> row -> {
-                StructAccessor a = resolve(row, path);
-                if (a == null || a.isNull(name)) return false;
-                return compareBinary(a.getBinary(name), v, signed) <= 0;
-            };
-            case GT -> row -> {
-                StructAccessor a = resolve(row, path);
-                if (a == null || a.isNull(name)) return false;
-                return compareBinary(a.getBinary(name), v, signed) > 0;
-            };
-            case GT_EQ -> row -> {
-                StructAccessor a = resolve(row, path);
-                if (a == null || a.isNull(name)) return false;
-                return compareBinary(a.getBinary(name), v, signed) >= 0;
-            };
-        };
+        return new BinaryLeafMatcher(path, name, op, v, signed, null);
     }
 
     static int compareBinary(byte[] left, byte[] right, boolean signed) {
@@ -435,15 +407,94 @@ public final class RecordFilterCompiler {
     }
 
     private static RowMatcher binaryInLeaf(String[] path, String name, byte[][] values) {
-        return row -> {
+        return new BinaryLeafMatcher(path, name, null, null, false, values);
+    }
+
+    /// A binary comparison (`op` against `value`) or `in` (`candidates`) leaf.
+    ///
+    /// On a row view that exposes its batch values in place ([BinaryColumnView])
+    /// the value is not materialised: a dictionary-encoded value is a bit probe
+    /// into the entries of its dictionary that match, evaluated once per
+    /// dictionary ([Dictionary.ByteArrayDictionary#matchingEntries]), and any
+    /// other value is compared where it lies. Other rows go through
+    /// `getBinary`. A matcher serves one reader, so the cached dictionary
+    /// result needs no synchronisation.
+    private static final class BinaryLeafMatcher implements RowMatcher {
+        private final String[] path;
+        private final String name;
+        private final Operator op;
+        private final byte[] value;
+        private final boolean signed;
+        private final byte[][] candidates;
+
+        private Dictionary.ByteArrayDictionary dictionary;
+        private long[] dictionaryMatches;
+
+        BinaryLeafMatcher(String[] path, String name, Operator op, byte[] value, boolean signed,
+                          byte[][] candidates) {
+            this.path = path;
+            this.name = name;
+            this.op = op;
+            this.value = value;
+            this.signed = signed;
+            this.candidates = candidates;
+        }
+
+        @Override
+        public boolean test(StructAccessor row) {
             StructAccessor a = resolve(row, path);
-            if (a == null || a.isNull(name)) return false;
-            byte[] val = a.getBinary(name);
-            for (byte[] value : values) {
-                if (Arrays.equals(val, value)) return true;
+            if (a == null || a.isNull(name)) {
+                return false;
             }
-            return false;
-        };
+            if (a instanceof BinaryColumnView view) {
+                BinaryBatchValues values = view.binaryValues(name);
+                if (values != null) {
+                    int index = view.valueIndex();
+                    Dictionary.ByteArrayDictionary dict = values.dictionary;
+                    if (dict != null) {
+                        int entry = values.dictIndices[index];
+                        if (entry >= 0) {
+                            return (entryMatches(dict)[entry >>> 6] & (1L << entry)) != 0;
+                        }
+                    }
+                    return matches(values.bytes, values.offsets[index], values.offsets[index + 1]);
+                }
+            }
+            byte[] bytes = a.getBinary(name);
+            return matches(bytes, 0, bytes.length);
+        }
+
+        private long[] entryMatches(Dictionary.ByteArrayDictionary dict) {
+            if (dict != dictionary) {
+                dictionaryMatches = candidates != null
+                        ? dict.matchingEntries(candidates)
+                        : dict.matchingEntries(op, value, signed);
+                dictionary = dict;
+            }
+            return dictionaryMatches;
+        }
+
+        private boolean matches(byte[] bytes, int from, int to) {
+            if (candidates != null) {
+                for (byte[] candidate : candidates) {
+                    if (Arrays.equals(bytes, from, to, candidate, 0, candidate.length)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            int cmp = signed
+                    ? BinaryComparator.compareSigned(bytes, from, to, value)
+                    : Arrays.compareUnsigned(bytes, from, to, value, 0, value.length);
+            return switch (op) {
+                case EQ -> cmp == 0;
+                case NOT_EQ -> cmp != 0;
+                case LT -> cmp < 0;
+                case LT_EQ -> cmp <= 0;
+                case GT -> cmp > 0;
+                case GT_EQ -> cmp >= 0;
+            };
+        }
     }
 
     private static RowMatcher isNullLeaf(String[] path, String name) {
@@ -0,0 +1,126 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.predicate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import dev.hardwood.InputFile;
+import dev.hardwood.internal.ExceptionContext;
+import dev.hardwood.internal.reader.Dictionary;
+import dev.hardwood.internal.reader.DictionaryParser;
+import dev.hardwood.internal.reader.HardwoodContextImpl;
+import dev.hardwood.metadata.ColumnMetaData;
+import dev.hardwood.metadata.Encoding;
+import dev.hardwood.metadata.PageEncodingStats;
+import dev.hardwood.metadata.PageType;
+import dev.hardwood.metadata.RowGroup;
+import dev.hardwood.schema.FileSchema;
+
+/// [DictionarySource] backed by one `(InputFile, RowGroup)` pair.
+///
+/// Each column's dictionary page is read lazily — only when [#forColumn] is first called for it —
+/// and the result (including absence) is cached for the lifetime of this source, mirroring
+/// [RowGroupBloomFilterSource]. Only the dictionary page is read, never the data pages.
+public final class RowGroupDictionarySource implements DictionarySource {
+
+    private final InputFile inputFile;
+    private final RowGroup rowGroup;
+    private final FileSchema schema;
+    private final HardwoodContextImpl context;
+    /// Per-column cache indexed by column position; `read[i]` tells "not read yet" apart from
+    /// "read, not eligible" so absence is cached too.
+    private final Dictionary[] dictionaries;
+    private final boolean[] read;
+
+    public RowGroupDictionarySource(InputFile inputFile, RowGroup rowGroup, FileSchema schema,
+            HardwoodContextImpl context) {
+        this.inputFile = inputFile;
+        this.rowGroup = rowGroup;
+        this.schema = schema;
+        this.context = context;
+        int columnCount = rowGroup.columns().size();
+        this.dictionaries = new Dictionary[columnCount];
+        this.read = new boolean[columnCount];
+    }
+
+    @Override
+    public Dictionary forColumn(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= dictionaries.length || columnIndex >= schema.getColumnCount()) {
+            return null;
+        }
+        if (!read[columnIndex]) {
+            dictionaries[columnIndex] = readDictionary(columnIndex);
+            read[columnIndex] = true;
+        }
+        return dictionaries[columnIndex];
+    }
+
+    private Dictionary readDictionary(int columnIndex) {
+        ColumnMetaData metaData = rowGroup.columns().get(columnIndex).metaData();
+        if (!isFullyDictionaryEncoded(metaData)) {
+            return null;
+        }
+        // Only an explicit dictionary offset ahead of the first data page bounds the dictionary
+        // region without probing; chunks whose writer omitted it are left to statistics.
+        Long dictOffset = metaData.dictionaryPageOffset();
+        if (dictOffset == null || dictOffset <= 0 || dictOffset >= metaData.dataPageOffset()) {
+            return null;
+        }
+        try {
+            ByteBuffer region = inputFile.readRange(dictOffset,
+                    Math.toIntExact(metaData.dataPageOffset() - dictOffset));
+            return DictionaryParser.parse(region, schema.getColumn(columnIndex), metaData, context);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(ExceptionContext.filePrefix(inputFile.name())
+                    + "Failed to read dictionary for column " + columnIndex, e);
+        }
+    }
+
+    /// Whether every data page of the chunk is known to be dictionary encoded.
+    ///
+    /// The page encoding statistics answer this exactly. Without them, only the legacy
+    /// `PLAIN_DICTIONARY` encoding list is conclusive: apart from the level encodings it names
+    /// nothing but the dictionary. Under `RLE_DICTIONARY` the dictionary page itself is `PLAIN`,
+    /// so a `PLAIN` entry cannot tell a fallback data page apart and the chunk is not eligible.
+    static boolean isFullyDictionaryEncoded(ColumnMetaData metaData) {
+        List<PageEncodingStats> encodingStats = metaData.encodingStats();
+        if (encodingStats != null) {
+            boolean hasDataPages = false;
+            for (PageEncodingStats stats : encodingStats) {
+                if (stats.count() <= 0 || stats.pageType() == PageType.DICTIONARY_PAGE
+                        || stats.pageType() == PageType.INDEX_PAGE) {
+                    continue;
+                }
+                if (!isDictionaryEncoding(stats.encoding())) {
+                    return false;
+                }
+                hasDataPages = true;
+            }
+            return hasDataPages;
+        }
+        Set<Encoding> encodings = metaData.encodings().isEmpty()
+                ? EnumSet.noneOf(Encoding.class)
+                : EnumSet.copyOf(metaData.encodings());
+        if (!encodings.remove(Encoding.PLAIN_DICTIONARY)) {
+            return false;
+        }
+        encodings.remove(Encoding.RLE);
+        encodings.remove(Encoding.BIT_PACKED);
+        return encodings.isEmpty();
+    }
+
+    private static boolean isDictionaryEncoding(Encoding encoding) {
+        return encoding == Encoding.PLAIN_DICTIONARY || encoding == Encoding.RLE_DICTIONARY;
+    }
+}
@@ -15,8 +15,8 @@ import dev.hardwood.metadata.RowGroup;
 import dev.hardwood.metadata.Statistics;
 import dev.hardwood.reader.FilterPredicate;
 
-/// Evaluates filter predicates against row group statistics and bloom filters to determine
-/// whether a row group can be skipped — or read without per-row filtering.
+/// Evaluates filter predicates against row group statistics, bloom filters and dictionaries to
+/// determine whether a row group can be skipped — or read without per-row filtering.
 ///
 /// Uses a conservative approach: if statistics are absent for a column,
 /// the row group is never dropped (it may contain matching rows) and never
@@ -27,6 +27,13 @@ import dev.hardwood.reader.FilterPredicate;
 /// slot drops the row group even when it falls inside the statistics min/max range. The two
 /// checks are complementary — either one proving no match is sufficient. A bloom filter can
 /// only prove absence, so it never upgrades a decision to [StatsDecision#ALWAYS_MATCHES].
+///
+/// Equality and membership leaves still undecided after both checks — and range leaves on
+/// chunks without min/max statistics — consult the column's dictionary when a [DictionarySource]
+/// is supplied and every data page of the chunk is dictionary encoded: the dictionary then lists
+/// every distinct non-null value, so a leaf no entry satisfies drops the row group. This catches
+/// in-range values that bloom filters, when present, rule out only probabilistically — typical
+/// for low-cardinality columns such as status codes.
 public class RowGroupFilterEvaluator {
 
     /// Determines whether a row group can be skipped using statistics only (no bloom filters).
@@ -66,6 +73,19 @@ public class RowGroupFilterEvaluator {
     /// @return the statistics decision for the row group
     public static StatsDecision decideRowGroup(ResolvedPredicate predicate, RowGroup rowGroup,
             BloomFilterSource bloomFilters) {
+        return decideRowGroup(predicate, rowGroup, bloomFilters, null);
+    }
+
+    /// Evaluates the predicate against the row group's statistics, bloom filters and — for leaves
+    /// those leave undecided — the dictionaries of fully dictionary-encoded column chunks.
+    ///
+    /// @param predicate the resolved predicate to evaluate
+    /// @param rowGroup the row group to check
+    /// @param bloomFilters source of the row group's bloom filters, or `null` to skip them
+    /// @param dictionaries source of the row group's dictionaries, or `null` to skip them
+    /// @return the decision for the row group
+    public static StatsDecision decideRowGroup(ResolvedPredicate predicate, RowGroup rowGroup,
+            BloomFilterSource bloomFilters, DictionarySource dictionaries) {
         return switch (predicate) {
             case ResolvedPredicate.IntPredicate p -> {
                 StatsDecision decision = statisticsDecision(p, p.columnIndex(), rowGroup);
@@ -74,7 +94,7 @@ public class RowGroupFilterEvaluator {
                         && BloomFilterSupport.valueAbsent(bloomFilters, p.columnIndex(), p.value())) {
                     yield StatsDecision.CANNOT_MATCH;
                 }
-                yield decision;
+                yield dictionaryDecision(p, p.columnIndex(), rowGroup, decision, dictionaries);
             }
             case ResolvedPredicate.LongPredicate p -> {
                 StatsDecision decision = statisticsDecision(p, p.columnIndex(), rowGroup);
@@ -83,7 +103,7 @@ public class RowGroupFilterEvaluator {
                         && BloomFilterSupport.valueAbsent(bloomFilters, p.columnIndex(), p.value())) {
                     yield StatsDecision.CANNOT_MATCH;
                 }
-                yield decision;
+                yield dictionaryDecision(p, p.columnIndex(), rowGroup, decision, dictionaries);
             }
             case ResolvedPredicate.FloatPredicate p -> {
                 StatsDecision decision = statisticsDecision(p, p.columnIndex(), rowGroup);
@@ -92,7 +112,7 @@ public class RowGroupFilterEvaluator {
                         && BloomFilterSupport.valueAbsent(bloomFilters, p.columnIndex(), p.value())) {
                     yield StatsDecision.CANNOT_MATCH;
                 }
-                yield decision;
+                yield dictionaryDecision(p, p.columnIndex(), rowGroup, decision, dictionaries);
             }
             case ResolvedPredicate.Float16Predicate p ->
                     statisticsDecision(p, p.columnIndex(), rowGroup);
@@ -103,7 +123,7 @@ public class RowGroupFilterEvaluator {
                         && BloomFilterSupport.valueAbsent(bloomFilters, p.columnIndex(), p.value())) {
                     yield StatsDecision.CANNOT_MATCH;
                 }
-                yield decision;
+                yield dictionaryDecision(p, p.columnIndex(), rowGroup, decision, dictionaries);
             }
             case ResolvedPredicate.BooleanPredicate p ->
                     statisticsDecision(p, p.columnIndex(), rowGroup);
@@ -114,7 +134,7 @@ public class RowGroupFilterEvaluator {
                         && BloomFilterSupport.valueAbsent(bloomFilters, p.columnIndex(), p.value())) {
                     yield StatsDecision.CANNOT_MATCH;
                 }
-                yield decision;
+                yield dictionaryDecision(p, p.columnIndex(), rowGroup, decision, dictionaries);
             }
             case ResolvedPredicate.IntInPredicate p -> {
                 StatsDecision decision = statisticsDecision(p, p.columnIndex(), rowGroup);
@@ -122,7 +142,7 @@ public class RowGroupFilterEvaluator {
                         && BloomFilterSupport.absentAll(bloomFilters, p.columnIndex(), p.values())) {
                     yield StatsDecision.CANNOT_MATCH;
                 }
-                yield decision;
+                yield dictionaryDecision(p, p.columnIndex(), rowGroup, decision, dictionaries);
             }
             case ResolvedPredicate.LongInPredicate p -> {
                 StatsDecision decision = statisticsDecision(p, p.columnIndex(), rowGroup);
@@ -130,7 +150,7 @@ public class RowGroupFilterEvaluator {
                         && BloomFilterSupport.absentAll(bloomFilters, p.columnIndex(), p.values())) {
                     yield StatsDecision.CANNOT_MATCH;
                 }
-                yield decision;
+                yield dictionaryDecision(p, p.columnIndex(), rowGroup, decision, dictionaries);
             }
             case ResolvedPredicate.BinaryInPredicate p -> {
                 StatsDecision decision = statisticsDecision(p, p.columnIndex(), rowGroup);
@@ -138,7 +158,7 @@ public class RowGroupFilterEvaluator {
                         && BloomFilterSupport.absentAll(bloomFilters, p.columnIndex(), p.values())) {
                     yield StatsDecision.CANNOT_MATCH;
                 }
-                yield decision;
+                yield dictionaryDecision(p, p.columnIndex(), rowGroup, decision, dictionaries);
             }
             case ResolvedPredicate.IsNullPredicate p -> {
                 Statistics stats = getStatistics(p.columnIndex(), rowGroup);
@@ -169,7 +189,7 @@ public class RowGroupFilterEvaluator {
                 }
                 StatsDecision result = StatsDecision.ALWAYS_MATCHES;
                 for (ResolvedPredicate child : a.children()) {
-                    result = StatsDecision.and(result, decideRowGroup(child, rowGroup, bloomFilters));
+                    result = StatsDecision.and(result, decideRowGroup(child, rowGroup, bloomFilters, dictionaries));
                     if (result == StatsDecision.CANNOT_MATCH) {
                         break;
                     }
@@ -182,7 +202,7 @@ public class RowGroupFilterEvaluator {
                 }
                 StatsDecision result = StatsDecision.CANNOT_MATCH;
                 for (ResolvedPredicate child : o.children()) {
-                    result = StatsDecision.or(result, decideRowGroup(child, rowGroup, bloomFilters));
+                    result = StatsDecision.or(result, decideRowGroup(child, rowGroup, bloomFilters, dictionaries));
                     if (result == StatsDecision.ALWAYS_MATCHES) {
                         break;
                     }
@@ -205,6 +225,35 @@ public class RowGroupFilterEvaluator {
         };
     }
 
+    /// Refines an undecided leaf with the column's dictionary: when no dictionary entry satisfies
+    /// the leaf, no row does. Only [StatsDecision#MIGHT_MATCH] is refined, and the dictionary is
+    /// read only where it can decide more than the statistics did: an `EQ` or `IN` leaf may target
+    /// a value between two entries, but a range or `NOT_EQ` leaf kept by exact min/max bounds is
+    /// already satisfied by the entry at one of those bounds.
+    private static StatsDecision dictionaryDecision(ResolvedPredicate leaf, int columnIndex, RowGroup rowGroup,
+            StatsDecision decision, DictionarySource dictionaries) {
+        if (decision != StatsDecision.MIGHT_MATCH || dictionaries == null) {
+            return decision;
+        }
+        boolean pointLookup = switch (leaf) {
+            case ResolvedPredicate.IntPredicate p -> p.op() == FilterPredicate.Operator.EQ;
+            case ResolvedPredicate.LongPredicate p -> p.op() == FilterPredicate.Operator.EQ;
+            case ResolvedPredicate.FloatPredicate p -> p.op() == FilterPredicate.Operator.EQ;
+            case ResolvedPredicate.DoublePredicate p -> p.op() == FilterPredicate.Operator.EQ;
+            case ResolvedPredicate.BinaryPredicate p -> p.op() == FilterPredicate.Operator.EQ;
+            default -> true;
+        };
+        if (!pointLookup) {
+            Statistics stats = getStatistics(columnIndex, rowGroup);
+            if (stats != null && stats.minValue() != null && stats.maxValue() != null) {
+                return decision;
+            }
+        }
+        return DictionaryFilterSupport.noEntryMatches(dictionaries, columnIndex, leaf)
+                ? StatsDecision.CANNOT_MATCH
+                : decision;
+    }
+
     /// The column's min/max statistics decision for the leaf, [StatsDecision#MIGHT_MATCH]
     /// when statistics are absent.
     private static StatsDecision statisticsDecision(ResolvedPredicate leaf, int columnIndex,
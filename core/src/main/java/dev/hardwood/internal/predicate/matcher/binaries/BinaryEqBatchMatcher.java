@@ -0,0 +1,32 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.predicate.matcher.binaries;
+
+import java.util.Arrays;
+
+import dev.hardwood.internal.reader.Dictionary;
+import dev.hardwood.reader.FilterPredicate;
+
+public final class BinaryEqBatchMatcher extends DictionaryAwareBinaryBatchMatcher {
+
+    private final byte[] literal;
+
+    public BinaryEqBatchMatcher(byte[] literal) {
+        this.literal = literal;
+    }
+
+    @Override
+    boolean matches(byte[] bytes, int from, int to) {
+        return Arrays.equals(bytes, from, to, literal, 0, literal.length);
+    }
+
+    @Override
+    long[] matchingEntries(Dictionary.ByteArrayDictionary dictionary) {
+        return dictionary.matchingEntries(FilterPredicate.Operator.EQ, literal, false);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.predicate.matcher.binaries;
+
+import java.util.Arrays;
+
+import dev.hardwood.internal.reader.Dictionary;
+
+/// IN-list matcher for binary columns. Plain values scan the list linearly;
+/// dictionary-encoded values probe the entry bitset, which the dictionary
+/// builds by hash lookup against the list once per chunk.
+public final class BinaryInBatchMatcher extends DictionaryAwareBinaryBatchMatcher {
+
+    private final byte[][] values;
+
+    public BinaryInBatchMatcher(byte[][] values) {
+        this.values = values;
+    }
+
+    @Override
+    boolean matches(byte[] bytes, int from, int to) {
+        for (byte[] member : values) {
+            if (Arrays.equals(bytes, from, to, member, 0, member.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    long[] matchingEntries(Dictionary.ByteArrayDictionary dictionary) {
+        return dictionary.matchingEntries(values);
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.predicate.matcher.binaries;
+
+import dev.hardwood.internal.reader.Dictionary;
+import dev.hardwood.reader.FilterPredicate;
+
+public final class BinaryLtBatchMatcher extends DictionaryAwareBinaryBatchMatcher {
+
+    private final byte[] literal;
+    private final boolean signed;
+
+    public BinaryLtBatchMatcher(byte[] literal, boolean signed) {
+        this.literal = literal;
+        this.signed = signed;
+    }
+
+    @Override
+    boolean matches(byte[] bytes, int from, int to) {
+        return compare(bytes, from, to, literal, signed) < 0;
+    }
+
+    @Override
+    long[] matchingEntries(Dictionary.ByteArrayDictionary dictionary) {
+        return dictionary.matchingEntries(FilterPredicate.Operator.LT, literal, signed);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.predicate.matcher.binaries;
+
+import java.util.Arrays;
+
+import dev.hardwood.internal.predicate.BinaryBatchMatcher;
+import dev.hardwood.internal.predicate.BinaryComparator;
+import dev.hardwood.internal.reader.BatchExchange;
+import dev.hardwood.internal.reader.BinaryBatchValues;
+import dev.hardwood.internal.reader.Dictionary;
+
+/// Shared batch loop of the binary matchers. Values are tested in place over
+/// the batch's contiguous `bytes` / `offsets` buffers; when the batch carries
+/// dictionary indices (string columns, see [BinaryBatchValues#dictIndices]) the
+/// predicate is instead evaluated once per chunk dictionary into an entry-id
+/// bitset, and each dictionary-encoded row is a single bit probe.
+///
+/// The bitset of the most recent dictionary is cached; a drain sees one chunk
+/// dictionary at a time, so it is recomputed once per column chunk.
+abstract sealed class DictionaryAwareBinaryBatchMatcher implements BinaryBatchMatcher
+        permits BinaryEqBatchMatcher, BinaryNotEqBatchMatcher, BinaryLtBatchMatcher, BinaryLtEqBatchMatcher,
+        BinaryGtBatchMatcher, BinaryGtEqBatchMatcher, BinaryInBatchMatcher {
+
+    /// The entries of `dictionary` that match, held together so a reader of the
+    /// field always sees a consistent pair.
+    private record EntryMatches(Dictionary.ByteArrayDictionary dictionary, long[] words) {}
+
+    private EntryMatches entryMatches;
+
+    /// Whether the value `bytes[from, to)` matches.
+    abstract boolean matches(byte[] bytes, int from, int to);
+
+    /// The bitset of `dictionary`'s entries that match.
+    abstract long[] matchingEntries(Dictionary.ByteArrayDictionary dictionary);
+
+    @Override
+    public final void test(BatchExchange.Batch batch, long[] outWords) {
+        BinaryBatchValues vals = (BinaryBatchValues) batch.values;
+        byte[] bytes = vals.bytes;
+        int[] offsets = vals.offsets;
+        int n = batch.recordCount;
+        int activeWords = (n + 63) >>> 6;
+
+        Dictionary.ByteArrayDictionary dictionary = vals.dictionary;
+        if (dictionary == null) {
+            for (int w = 0; w < activeWords; w++) {
+                int base = w << 6;
+                int limit = Math.min(64, n - base);
+                long word = 0L;
+                for (int b = 0; b < limit; b++) {
+                    int i = base + b;
+                    word |= (matches(bytes, offsets[i], offsets[i + 1]) ? 1L : 0L) << b;
+                }
+                outWords[w] = word;
+            }
+        }
+        else {
+            // A batch straddling a chunk boundary, or mixing dictionary and plain
+            // pages, records -1 for the values not on this dictionary.
+            long[] entries = entryWords(dictionary);
+            int[] ids = vals.dictIndices;
+            for (int w = 0; w < activeWords; w++) {
+                int base = w << 6;
+                int limit = Math.min(64, n - base);
+                long word = 0L;
+                for (int b = 0; b < limit; b++) {
+                    int i = base + b;
+                    int id = ids[i];
+                    long hit = id >= 0
+                            ? (entries[id >>> 6] >>> id) & 1L
+                            : (matches(bytes, offsets[i], offsets[i + 1]) ? 1L : 0L);
+                    word |= hit << b;
+                }
+                outWords[w] = word;
+            }
+        }
+
+        long[] validity = batch.validity;
+        if (validity != null) {
+            for (int w = 0; w < activeWords; w++) {
+                outWords[w] &= validity[w];
+            }
+        }
+    }
+
+    private long[] entryWords(Dictionary.ByteArrayDictionary dictionary) {
+        EntryMatches cached = entryMatches;
+        if (cached == null || cached.dictionary() != dictionary) {
+            cached = new EntryMatches(dictionary, matchingEntries(dictionary));
+            entryMatches = cached;
+        }
+        return cached.words();
+    }
+
+    /// Compares `bytes[from, to)` to `literal`: unsigned lexicographically, or as
+    /// big-endian two's complement for `FIXED_LEN_BYTE_ARRAY` decimals.
+    static int compare(byte[] bytes, int from, int to, byte[] literal, boolean signed) {
+        return signed
+                ? BinaryComparator.compareSigned(bytes, from, to, literal)
+                : Arrays.compareUnsigned(bytes, from, to, literal, 0, literal.length);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+/// In-flight page depth of one [ColumnWorker], adapted by its retriever from what
+/// the column's pages cost.
+///
+/// Two signals drive it:
+///
+/// - **Page footprint.** A running average of [ColumnWorker#pageFootprint] caps
+///   the depth at `bytesTarget / average`, so columns of large pages (blobs,
+///   wide binaries) stay shallow while tiny dictionary-id pages may go deep.
+/// - **Drain starvation.** The drain counts a starvation when it parks for the
+///   next page in sequence while the retriever is parked at the depth and no
+///   later submitted page has finished decoding either. Every submitted page is
+///   then still decoding, and a deeper pipeline would have had more of them
+///   running; the depth grows by one page, up to the cap. A park behind one slow
+///   page whose successors are done does not count. After `decayPages` pages
+///   without starvation the depth shrinks by one page back toward the initial depth.
+///
+/// Not thread-safe: only the retriever calls it; the drain's starvation count
+/// reaches it as a plain snapshot.
+final class AdaptiveDepth {
+
+    /// Pages without drain starvation after which the depth shrinks by one.
+    static final int DECAY_PAGES = 64;
+
+    private final int initial;
+    private final int min;
+    private final int max;
+    private final long bytesTarget;
+
+    private int depth;
+    private long averageFootprint;
+    private int seenStarvations;
+    private int pagesSinceStarved;
+
+    /// @param initial the depth before any page is seen, and the floor it decays back to
+    /// @param min the lowest depth the footprint cap may impose
+    /// @param max the highest depth, at most the reorder buffer's capacity
+    /// @param bytesTarget the page footprint the column aims to keep in flight
+    AdaptiveDepth(int initial, int min, int max, long bytesTarget) {
+        if (min < 1 || min > initial || initial > max) {
+            throw new IllegalArgumentException("Depth bounds must satisfy 1 <= min <= initial <= max, got "
+                    + min + ", " + initial + ", " + max);
+        }
+        this.initial = initial;
+        this.min = min;
+        this.max = max;
+        this.bytesTarget = bytesTarget;
+        this.depth = initial;
+    }
+
+    /// The current depth.
+    int depth() {
+        return depth;
+    }
+
+    /// Accounts for one retrieved page of `footprintBytes`, given the drain's
+    /// running count of starved parks.
+    void recordPage(long footprintBytes, int drainStarvations) {
+        averageFootprint = averageFootprint == 0
+                ? footprintBytes
+                : (averageFootprint * 7 + footprintBytes) / 8;
+        if (!growIfStarved(drainStarvations)
+                && ++pagesSinceStarved >= DECAY_PAGES && depth > Math.min(initial, ceiling())) {
+            depth--;
+            pagesSinceStarved = 0;
+        }
+        depth = Math.min(depth, ceiling());
+    }
+
+    /// Grows the depth by one page if the drain starved since the last call.
+    /// Returns whether it did.
+    boolean growIfStarved(int drainStarvations) {
+        if (drainStarvations == seenStarvations) {
+            return false;
+        }
+        seenStarvations = drainStarvations;
+        pagesSinceStarved = 0;
+        if (depth >= ceiling()) {
+            return false;
+        }
+        depth++;
+        return true;
+    }
+
+    /// The depth the average page footprint allows.
+    private int ceiling() {
+        if (averageFootprint <= 0) {
+            return max;
+        }
+        return (int) Math.max(min, Math.min(max, bytesTarget / averageFootprint));
+    }
+}
@@ -67,6 +67,17 @@ public class BatchExchange<B> {
         /// predicate, making [#matches] all-ones without per-record evaluation.
         /// Only set on the drain-side filter path; `false` is always safe.
         public boolean filterAlwaysMatches;
+
+        /// The chunk dictionary whose entry indices [#dictionaryIds] holds, or
+        /// `null` when [#values] holds the batch's values. Only set by a drain in
+        /// dictionary passthrough mode, which keeps every batch on one
+        /// dictionary.
+        public Dictionary dictionary;
+
+        /// Per-row entry index into [#dictionary], `-1` at null rows; meaningful
+        /// only when [#dictionary] is non-null, in which case [#values] is left
+        /// unpopulated. Capacity-sized and allocated on the first dictionary page.
+        public int[] dictionaryIds;
     }
 
     private final ArrayBlockingQueue<B> readyQueue;
@@ -281,6 +292,21 @@ public class BatchExchange<B> {
         };
     }
 
+    /// Estimated bytes of one batch holder of `capacity` rows for `column`: the
+    /// values buffer [#allocateArray] sizes plus the validity words. Binary
+    /// columns count their pre-sized bytes buffer, which grows only on overflow.
+    static long estimateBatchBytes(ColumnSchema column, int capacity) {
+        long valueBytes = switch (column.type()) {
+            case INT32, FLOAT -> 4L;
+            case INT64, DOUBLE -> 8L;
+            case BOOLEAN -> 1L;
+            case BYTE_ARRAY, INT96 -> BINARY_BYTES_PER_VALUE_HINT + (long) Integer.BYTES;
+            case FIXED_LEN_BYTE_ARRAY -> column.typeLength() + (long) Integer.BYTES;
+        };
+        long validityBytes = (long) ((capacity + 63) >>> 6) * Long.BYTES;
+        return valueBytes * capacity + validityBytes;
+    }
+
     /// Whether `column` is a `UTF8` / `JSON` `BYTE_ARRAY` column — the leaves
     /// whose row-reader values are materialised as `String` and so benefit from
     /// dictionary-entry interning ([BinaryBatchValues#internStrings]). Resolves
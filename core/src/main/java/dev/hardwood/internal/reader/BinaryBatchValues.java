@@ -91,6 +91,72 @@ public final class BinaryBatchValues {
     /// length would overflow `Integer.MAX_VALUE`.
     public void appendAt(int valueIdx, byte[] src, int srcOffset, int len) {
         int start = offsets[valueIdx];
+        ensureBytes(valueIdx, start, len);
+        if (len > 0) {
+            System.arraycopy(src, srcOffset, bytes, start, len);
+        }
+        offsets[valueIdx + 1] = start + len;
+    }
+
+    /// Appends page values `[srcPos, srcPos + length)` at batch positions
+    /// `[destPos, destPos + length)`. A contiguous page is copied with a
+    /// single `arraycopy` and its offsets rebased; a dictionary page appends
+    /// each value's entry. Null dictionary positions become zero-length spans,
+    /// except for `FIXED_LEN_BYTE_ARRAY` (`fixedLen`), whose pre-filled trivial
+    /// offsets are kept.
+    public void appendRange(Page.ByteArrayPage page, int srcPos, int destPos, int length, boolean fixedLen) {
+        if (page.isDictionaryEncoded()) {
+            for (int i = 0; i < length; i++) {
+                appendDictionaryValue(page, srcPos + i, destPos + i, fixedLen);
+            }
+            return;
+        }
+        int[] srcOffsets = page.offsets();
+        int srcStart = srcOffsets[srcPos];
+        int byteLength = srcOffsets[srcPos + length] - srcStart;
+        int start = offsets[destPos];
+        ensureBytes(destPos, start, byteLength);
+        System.arraycopy(page.bytes(), srcStart, bytes, start, byteLength);
+        int shift = start - srcStart;
+        for (int i = 1; i <= length; i++) {
+            offsets[destPos + i] = srcOffsets[srcPos + i] + shift;
+        }
+    }
+
+    /// Appends page value `srcIndex` at batch position `destIndex`; the
+    /// single-value form of [#appendRange], used by nested assembly.
+    public void appendValue(Page.ByteArrayPage page, int srcIndex, int destIndex, boolean fixedLen) {
+        if (page.isDictionaryEncoded()) {
+            appendDictionaryValue(page, srcIndex, destIndex, fixedLen);
+        }
+        else {
+            int[] srcOffsets = page.offsets();
+            int start = srcOffsets[srcIndex];
+            appendAt(destIndex, page.bytes(), start, srcOffsets[srcIndex + 1] - start);
+        }
+    }
+
+    /// Appends `length` null values at batch positions starting at `destPos`:
+    /// zero-length spans, or for `FIXED_LEN_BYTE_ARRAY` (`fixedLen`) the
+    /// pre-filled trivial offsets are kept.
+    public void appendNulls(int destPos, int length, boolean fixedLen) {
+        if (!fixedLen) {
+            Arrays.fill(offsets, destPos + 1, destPos + length + 1, offsets[destPos]);
+        }
+    }
+
+    private void appendDictionaryValue(Page.ByteArrayPage page, int srcIndex, int destIndex, boolean fixedLen) {
+        int entry = page.dictIndices()[srcIndex];
+        if (entry >= 0) {
+            byte[] value = page.dictionary().values()[entry];
+            appendAt(destIndex, value, 0, value.length);
+        }
+        else if (!fixedLen) {
+            offsets[destIndex + 1] = offsets[destIndex];
+        }
+    }
+
+    private void ensureBytes(int valueIdx, int start, int len) {
         long needed = (long) start + len;
         if (needed > Integer.MAX_VALUE) {
             throw new IllegalStateException(
@@ -100,10 +166,6 @@ public final class BinaryBatchValues {
         if (needed > bytes.length) {
             growBytes((int) needed);
         }
-        if (len > 0) {
-            System.arraycopy(src, srcOffset, bytes, start, len);
-        }
-        offsets[valueIdx + 1] = start + len;
     }
 
     private void growBytes(int minCapacity) {
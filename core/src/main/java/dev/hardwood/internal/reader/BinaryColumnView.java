@@ -0,0 +1,22 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+/// A row view over flat batch columns that exposes a binary column's batch
+/// values in place. Predicate evaluation reads the current row's bytes — or,
+/// for a dictionary-encoded value, its entry id — from there instead of
+/// materialising a copy through `getBinary`.
+public interface BinaryColumnView {
+
+    /// The batch values of the flat binary column `name`, or `null` if `name`
+    /// is not a flat binary column of this view.
+    BinaryBatchValues binaryValues(String name);
+
+    /// Index of the current row within the batch values.
+    int valueIndex();
+}
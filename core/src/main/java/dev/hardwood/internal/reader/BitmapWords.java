@@ -35,4 +35,78 @@ final class BitmapWords {
         Arrays.fill(words, firstWord + 1, lastWord, ~0L);
         words[lastWord] |= lastMask;
     }
+
+    /// Index of the first set bit in `[fromInclusive, toExclusive)`, or
+    /// `toExclusive` if there is none.
+    static int nextSetBit(long[] words, int fromInclusive, int toExclusive) {
+        return nextBit(words, fromInclusive, toExclusive, 0L);
+    }
+
+    /// Index of the first clear bit in `[fromInclusive, toExclusive)`, or
+    /// `toExclusive` if there is none.
+    static int nextClearBit(long[] words, int fromInclusive, int toExclusive) {
+        return nextBit(words, fromInclusive, toExclusive, ~0L);
+    }
+
+    /// Scans for the first bit that differs from `skip` (all-zeros to find a
+    /// set bit, all-ones to find a clear one).
+    private static int nextBit(long[] words, int fromInclusive, int toExclusive, long skip) {
+        if (fromInclusive >= toExclusive) {
+            return toExclusive;
+        }
+        int w = fromInclusive >>> 6;
+        long word = (words[w] ^ skip) & (~0L << fromInclusive);
+        int lastWord = (toExclusive - 1) >>> 6;
+        while (word == 0) {
+            if (++w > lastWord) {
+                return toExclusive;
+            }
+            word = words[w] ^ skip;
+        }
+        return Math.min((w << 6) + Long.numberOfTrailingZeros(word), toExclusive);
+    }
+
+    /// Number of set bits in `[fromInclusive, toExclusive)`.
+    static int countSetBits(long[] words, int fromInclusive, int toExclusive) {
+        if (fromInclusive >= toExclusive) {
+            return 0;
+        }
+        int firstWord = fromInclusive >>> 6;
+        int lastWord = (toExclusive - 1) >>> 6;
+        long firstMask = ~0L << fromInclusive;
+        long lastMask = ~0L >>> -toExclusive;
+        if (firstWord == lastWord) {
+            return Long.bitCount(words[firstWord] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(words[firstWord] & firstMask);
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            count += Long.bitCount(words[w]);
+        }
+        return count + Long.bitCount(words[lastWord] & lastMask);
+    }
+
+    /// ORs bits `[srcPos, srcPos + length)` of `src` into `dst` starting at
+    /// `dstPos`, a word at a time.
+    static void orRange(long[] src, int srcPos, long[] dst, int dstPos, int length) {
+        for (int done = 0; done < length; done += 64) {
+            int n = Math.min(64, length - done);
+            int from = srcPos + done;
+            int w = from >>> 6;
+            int shift = from & 63;
+            long bits = src[w] >>> shift;
+            if (shift != 0 && shift + n > 64) {
+                bits |= src[w + 1] << (64 - shift);
+            }
+            if (n < 64) {
+                bits &= (1L << n) - 1;
+            }
+            int to = dstPos + done;
+            int dw = to >>> 6;
+            int dshift = to & 63;
+            dst[dw] |= bits << dshift;
+            if (dshift != 0 && dshift + n > 64) {
+                dst[dw + 1] |= bits >>> (64 - dshift);
+            }
+        }
+    }
 }
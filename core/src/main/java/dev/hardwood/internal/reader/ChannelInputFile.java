@@ -0,0 +1,206 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import dev.hardwood.InputFile;
+import dev.hardwood.internal.ExceptionContext;
+
+/// [InputFile] for a local file that serves each [#readRange] with positional
+/// [FileChannel#read(ByteBuffer, long)] calls into a direct buffer allocated
+/// for that range.
+///
+/// Unlike [MappedInputFile], no part of the file is mapped into the process:
+/// memory use is bounded by the buffers handed out, and reads never fault in
+/// pages of a shared mapping. Positional reads do not move the channel
+/// position, so concurrent [#readRange] calls need no locking.
+///
+/// With direct I/O the channel is opened with `O_DIRECT`, which requires the
+/// file offset, the read length and the buffer address to be multiples of
+/// the file store's block size. Each read is widened to the enclosing
+/// block-aligned region, read into a block-aligned buffer, and returned as a
+/// slice of it. The `O_DIRECT` open option is the JDK-specific
+/// `com.sun.nio.file.ExtendedOpenOption.DIRECT`, looked up reflectively; on a
+/// JDK without it, [#open()] fails with [UnsupportedOperationException].
+///
+/// A [FileChannel] is interruptible: interrupting a thread blocked in a read
+/// closes the channel for every reader of the file. The interrupted read fails
+/// with [ClosedByInterruptException] as usual, but the channel is then reopened,
+/// and reads of other threads that failed because of the close are retried on
+/// the new channel.
+public final class ChannelInputFile implements InputFile {
+
+    /// `ExtendedOpenOption.DIRECT`, or `null` if this JDK does not provide it.
+    private static final OpenOption DIRECT = lookUpDirectOption();
+
+    private final Path path;
+    private final String name;
+    private final boolean directIo;
+
+    private volatile FileChannel channel;
+    private long size;
+    private int blockSize;
+
+    public ChannelInputFile(Path path, boolean directIo) {
+        this.path = path;
+        this.name = path.getFileName().toString();
+        this.directIo = directIo;
+    }
+
+    @Override
+    public void open() throws IOException {
+        if (channel != null) {
+            return;
+        }
+        if (directIo && DIRECT == null) {
+            throw new UnsupportedOperationException(ExceptionContext.filePrefix(name)
+                    + "Direct I/O is not supported by this JDK");
+        }
+        blockSize = directIo ? Math.toIntExact(Files.getFileStore(path).getBlockSize()) : 1;
+        FileChannel opened = openChannel();
+        size = opened.size();
+        channel = opened;
+    }
+
+    private FileChannel openChannel() throws IOException {
+        return directIo
+                ? FileChannel.open(path, StandardOpenOption.READ, DIRECT)
+                : FileChannel.open(path, StandardOpenOption.READ);
+    }
+
+    @Override
+    public ByteBuffer readRange(long offset, int length) throws IOException {
+        if (channel == null) {
+            throw new IllegalStateException("File not opened: " + name);
+        }
+        // Written to avoid overflow when offset + length wraps.
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException(ExceptionContext.filePrefix(name)
+                    + "readRange(" + offset + ", " + length
+                    + ") out of bounds (" + size + " bytes)");
+        }
+        if (!directIo) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+            readFully(buffer, offset, length);
+            return buffer.flip();
+        }
+
+        long alignedStart = offset - offset % blockSize;
+        long alignedEnd = Math.ceilDiv(offset + length, (long) blockSize) * blockSize;
+        int alignedLength = Math.toIntExact(alignedEnd - alignedStart);
+        ByteBuffer aligned = ByteBuffer.allocateDirect(alignedLength + blockSize).alignedSlice(blockSize);
+        aligned.limit(alignedLength);
+        // The aligned region may extend past EOF; only the requested bytes must be present.
+        readFully(aligned, alignedStart, Math.toIntExact(offset + length - alignedStart));
+        return aligned.slice(Math.toIntExact(offset - alignedStart), length);
+    }
+
+    /// Reads from `position` into `buffer` until at least `required` bytes
+    /// have been read or the buffer is full.
+    ///
+    /// Under `O_DIRECT` a read after a short read must again start on a block
+    /// boundary, in the file and in the buffer, so it resumes from the last
+    /// complete block. A read that gets no further than the previous one has
+    /// hit the end of the file.
+    private void readFully(ByteBuffer buffer, long position, int required) throws IOException {
+        int reached = 0;
+        while (buffer.position() < required) {
+            int start = buffer.position() - buffer.position() % blockSize;
+            buffer.position(start);
+            if (read(buffer, position + start) < 0 || buffer.position() <= reached) {
+                throw new EOFException(ExceptionContext.filePrefix(name)
+                        + "Unexpected end of file at offset " + (position + reached));
+            }
+            reached = buffer.position();
+        }
+    }
+
+    /// One positional read, surviving a close of the channel by an interrupt.
+    private int read(ByteBuffer buffer, long pos) throws IOException {
+        while (true) {
+            FileChannel current = channel;
+            if (current == null) {
+                throw new ClosedChannelException();
+            }
+            try {
+                return current.read(buffer, pos);
+            }
+            catch (ClosedByInterruptException e) {
+                // This thread was interrupted: its read fails, the file stays usable.
+                reopen(current);
+                throw e;
+            }
+            catch (ClosedChannelException e) {
+                // Closed under this thread by another thread's interrupt: retry on
+                // the new channel. After close() there is none, and the read fails.
+                if (!reopen(current)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /// Replaces `closed` with a freshly opened channel unless that happened
+    /// already or the file was closed. Returns whether a channel is available.
+    private synchronized boolean reopen(FileChannel closed) throws IOException {
+        if (channel == null) {
+            return false;
+        }
+        if (channel == closed) {
+            channel = openChannel();
+        }
+        return true;
+    }
+
+    @Override
+    public long length() {
+        if (channel == null) {
+            throw new IllegalStateException("File not opened: " + name);
+        }
+        return size;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        FileChannel current = channel;
+        if (current != null) {
+            channel = null;
+            current.close();
+        }
+    }
+
+    private static OpenOption lookUpDirectOption() {
+        try {
+            Class<?> type = Class.forName("com.sun.nio.file.ExtendedOpenOption");
+            for (Object option : type.getEnumConstants()) {
+                if (((Enum<?>) option).name().equals("DIRECT")) {
+                    return (OpenOption) option;
+                }
+            }
+        }
+        catch (ClassNotFoundException e) {
+            // Not a JDK-derived runtime.
+        }
+        return null;
+    }
+}
@@ -10,6 +10,10 @@ package dev.hardwood.internal.reader;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import dev.hardwood.InputFile;
@@ -25,6 +29,9 @@ import dev.hardwood.internal.FetchReason;
 ///
 /// For local files backed by memory-mapped I/O, `readRange()` returns a
 /// zero-copy slice — the fetch is instant and pre-fetch is effectively a no-op.
+///
+/// A standalone handle built with a [FetchCharge] charges its bytes against
+/// the memory budget before the read; pre-fetches that do not fit are skipped.
 public class ChunkHandle {
 
     private static final System.Logger LOG = System.getLogger(ChunkHandle.class.getName());
@@ -36,9 +43,10 @@ public class ChunkHandle {
     /// Non-null when this handle is a sub-range of a coalesced
     /// cross-column region (#374). When set, `ensureFetched()` slices
     /// the region's buffer instead of issuing its own `readRange`, and
-    /// the per-handle `nextChunk` chain is unused (pre-fetch is
-    /// driven at the region level).
+    /// the per-handle `nextChunk` chain only pre-fetches a next chunk
+    /// outside the region.
     private final SharedRegion region;
+    private final FetchCharge charge;
     private volatile ChunkHandle nextChunk;
     private volatile ByteBuffer data;
 
@@ -51,11 +59,18 @@ public class ChunkHandle {
     ///        `readRange` so fetch logs can attribute bytes to a specific
     ///        row-group / column / page-group
     public ChunkHandle(InputFile inputFile, long fileOffset, int length, String purpose) {
+        this(inputFile, fileOffset, length, purpose, null);
+    }
+
+    /// Creates a chunk handle whose read is charged to `charge`, or uncharged
+    /// when it is `null`.
+    ChunkHandle(InputFile inputFile, long fileOffset, int length, String purpose, FetchCharge charge) {
         this.inputFile = inputFile;
         this.fileOffset = fileOffset;
         this.length = length;
         this.purpose = purpose;
         this.region = null;
+        this.charge = charge;
     }
 
     /// Creates a chunk handle that's a sub-range of a coalesced cross-column
@@ -64,11 +79,12 @@ public class ChunkHandle {
     /// `ensureFetched()` then slices the shared buffer rather than issuing
     /// its own `readRange`.
     public ChunkHandle(SharedRegion region, long fileOffset, int length, String purpose) {
-        this.inputFile = null;
+        this.inputFile = region.inputFile();
         this.fileOffset = fileOffset;
         this.length = length;
         this.purpose = purpose;
         this.region = region;
+        this.charge = null;
     }
 
     /// Returns the absolute file offset of this chunk.
@@ -81,6 +97,21 @@ public class ChunkHandle {
         return length;
     }
 
+    /// Returns the shared region this chunk slices, or `null` for a standalone chunk.
+    SharedRegion region() {
+        return region;
+    }
+
+    /// Returns the [FetchReason] tag of this chunk.
+    String purpose() {
+        return purpose;
+    }
+
+    /// Returns the charge of this chunk's read, or of its shared region's.
+    FetchCharge charge() {
+        return region != null ? region.charge() : charge;
+    }
+
     /// Sets the next chunk handle for pre-fetching.
     public void setNextChunk(ChunkHandle next) {
         this.nextChunk = next;
@@ -102,21 +133,15 @@ public class ChunkHandle {
         if (buf != null) {
             return buf;
         }
-        fetchData();
-        // Region-backed handles delegate pre-fetch to SharedRegion.nextRegion,
-        // not to the per-handle nextChunk chain — the chain may still be set
-        // by the per-column page-group construction, but it would re-fetch
-        // bytes the shared region already covers.
-        if (region != null) {
-            return data;
-        }
+        fetchData(false);
         // Pre-fetch next chunk asynchronously (one-ahead only — fetchData
-        // does not trigger further pre-fetches)
+        // does not trigger further pre-fetches). A next chunk in the same
+        // shared region arrived with this one.
         ChunkHandle next = nextChunk;
-        if (next != null) {
+        if (next != null && (region == null || next.region != region)) {
             // Carry the caller's FetchReason across the thread handoff;
             // otherwise the next-chunk readRange would log as `unattributed`.
-            CompletableFuture.runAsync(FetchReason.bind(next::fetchData))
+            CompletableFuture.runAsync(FetchReason.bind(next::prefetch))
                     .exceptionally(t -> {
                         // The demand-path fetch will re-attempt and surface a
                         // fresh exception if the error is sustained, so we log
@@ -133,13 +158,26 @@ public class ChunkHandle {
         return data;
     }
 
+    /// Fetches this chunk ahead of demand, if its charge admits it. A
+    /// region-backed chunk pre-fetches its region, which in turn pre-fetches
+    /// the next region.
+    private void prefetch() {
+        if (region != null) {
+            region.prefetch();
+        }
+        else {
+            fetchData(true);
+        }
+    }
+
     /// Fetches this chunk's data if not already cached. Does NOT trigger
-    /// pre-fetch of the next chunk.
+    /// pre-fetch of the next chunk. A read ahead of demand (`speculative`)
+    /// is skipped when its charge does not admit it.
     ///
     /// When the handle is region-backed (`region != null`), this slices
     /// the shared region's buffer — the underlying `readRange` happens
     /// at the region level, once, no matter how many columns share it.
-    private void fetchData() {
+    private void fetchData(boolean speculative) {
         if (data != null) {
             return;
         }
@@ -151,12 +189,17 @@ public class ChunkHandle {
                 data = region.slice(fileOffset, length);
                 return;
             }
+            if (charge != null && !charge.admit(length, speculative)) {
+                return;
+            }
             // If the caller set an outer scope (e.g. "prefetch rg=2"), prepend it
             // so the log line shows both the calling context and the chunk identity.
             String outer = FetchReason.current();
             String composed = "unattributed".equals(outer) ? purpose : outer + " | " + purpose;
+            boolean read = false;
             try (FetchReason.Scope ignored = FetchReason.set(composed)) {
                 data = inputFile.readRange(fileOffset, length);
+                read = true;
             }
             catch (IOException e) {
                 throw new UncheckedIOException(
@@ -164,6 +207,94 @@ public class ChunkHandle {
                         + "Failed to fetch chunk at offset " + fileOffset
                         + " (length " + length + ")", e);
             }
+            finally {
+                if (!read && charge != null) {
+                    charge.refund(length);
+                }
+            }
+        }
+    }
+
+    /// Fetches the not-yet-fetched handles among `handles` with a single
+    /// [InputFile#readRanges] call, letting the backend merge or parallelise
+    /// the reads. Region-backed handles contribute their [SharedRegion] once,
+    /// however many handles share it.
+    ///
+    /// Used to submit the first read of every projected column of a row group
+    /// together, ahead of demand: a read whose [FetchCharge] does not admit it
+    /// is left out and fetched on demand instead. A handle whose demand-path
+    /// fetch races with this call keeps whichever buffer lands first; the other
+    /// read is discarded and its charge refunded.
+    ///
+    /// @param inputFile the file all handles (and their regions) read from
+    /// @param handles the handles to fetch
+    /// @param reason [FetchReason] tag attached to the vectored read
+    public static void fetchAll(InputFile inputFile, List<ChunkHandle> handles, String reason) {
+        List<InputFile.Range> ranges = new ArrayList<>();
+        List<Object> targets = new ArrayList<>();
+        Map<SharedRegion, Boolean> seenRegions = new IdentityHashMap<>();
+        for (ChunkHandle handle : handles) {
+            if (handle.data != null) {
+                continue;
+            }
+            SharedRegion region = handle.region;
+            if (region != null) {
+                if (!region.isFetched() && seenRegions.put(region, Boolean.TRUE) == null
+                        && admit(region.charge(), region.length())) {
+                    ranges.add(new InputFile.Range(region.fileOffset(), region.length()));
+                    targets.add(region);
+                }
+                continue;
+            }
+            if (admit(handle.charge, handle.length)) {
+                ranges.add(new InputFile.Range(handle.fileOffset, handle.length));
+                targets.add(handle);
+            }
+        }
+        if (ranges.isEmpty()) {
+            return;
+        }
+
+        List<ByteBuffer> fetched = null;
+        try (FetchReason.Scope ignored = FetchReason.set(reason)) {
+            fetched = inputFile.readRanges(ranges);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(
+                    ExceptionContext.filePrefix(inputFile.name())
+                    + "Failed to fetch " + ranges.size() + " chunks", e);
+        }
+        finally {
+            for (int i = 0; i < targets.size(); i++) {
+                boolean installed;
+                FetchCharge targetCharge;
+                if (targets.get(i) instanceof SharedRegion region) {
+                    installed = fetched != null && region.install(fetched.get(i));
+                    targetCharge = region.charge();
+                }
+                else {
+                    ChunkHandle target = (ChunkHandle) targets.get(i);
+                    installed = fetched != null && target.install(fetched.get(i));
+                    targetCharge = target.charge;
+                }
+                if (!installed && targetCharge != null) {
+                    targetCharge.refund(ranges.get(i).length());
+                }
+            }
+        }
+    }
+
+    private static boolean admit(FetchCharge charge, int bytes) {
+        return charge == null || charge.admit(bytes, true);
+    }
+
+    private boolean install(ByteBuffer fetched) {
+        synchronized (this) {
+            if (data == null) {
+                data = fetched;
+                return true;
+            }
+            return false;
         }
     }
 
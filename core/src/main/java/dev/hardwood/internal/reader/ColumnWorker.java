@@ -9,16 +9,21 @@ package dev.hardwood.internal.reader;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.LockSupport;
 
 import dev.hardwood.internal.ExceptionContext;
 import dev.hardwood.internal.compression.DecompressorFactory;
+import dev.hardwood.jfr.MemoryBudgetWaitEvent;
+import dev.hardwood.metadata.ColumnMetaData;
 import dev.hardwood.metadata.PhysicalType;
 import dev.hardwood.schema.ColumnSchema;
 
@@ -28,7 +33,9 @@ import dev.hardwood.schema.ColumnSchema;
 ///
 /// - **Retriever VThread:** Pulls [PageInfo] objects from a [PageSource],
 ///   submits decode tasks to the provided executor. Throttles itself
-///   when the gap between submitted and drained pages reaches `MAX_INFLIGHT_PAGES`.
+///   when the gap between submitted and drained pages reaches the column's
+///   [AdaptiveDepth], which starts at `INITIAL_INFLIGHT_PAGES` and adapts to
+///   the column's page sizes and decode cost within `MAX_INFLIGHT_PAGES`.
 ///
 /// - **Drain VThread:** Reads decoded pages from a circular reorder buffer in
 ///   sequence order, assembles them into batches via subclass-specific logic,
@@ -39,6 +46,11 @@ import dev.hardwood.schema.ColumnSchema;
 /// `ConcurrentHashMap` (no integer boxing, no Node allocations).
 /// Decode tasks store their result via `set()` and unpark the drain thread.
 ///
+/// With a [MemoryBudget] (see [#useMemoryBudget]) the retriever also waits for
+/// budget before submitting each decode, admitting the page's estimated decoded
+/// size; the drain releases it once the page is assembled. The fetched bytes are
+/// charged with their chunk (see [FetchCharge]).
+///
 /// @param <B> the batch type (e.g. [BatchExchange.Batch] for flat, [NestedBatch] for nested)
 public abstract class ColumnWorker<B> implements AutoCloseable {
 
@@ -46,8 +58,19 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
 
     /// Decoded page paired with its [PageRowMask]. Stored in the reorder
     /// buffer so the drain receives both the decoded values and the per-page
-    /// row selection in a single read.
-    record DecodedPage(Page page, PageRowMask mask) {}
+    /// row selection in a single read. A page the retriever skipped without
+    /// decoding, because a [RowSelectionFeed] selects none of its rows, has no
+    /// `page` and stands for `skippedRows` logical rows.
+    record DecodedPage(Page page, PageRowMask mask, int skippedRows) {
+
+        DecodedPage(Page page, PageRowMask mask) {
+            this(page, mask, 0);
+        }
+
+        static DecodedPage skipped(int rows) {
+            return new DecodedPage(null, null, rows);
+        }
+    }
 
     /// Sentinel value stored in the reorder buffer to signal end-of-stream.
     private static final DecodedPage EMPTY_SENTINEL =
@@ -57,6 +80,15 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
     private final DecompressorFactory decompressorFactory;
     private final Executor decodeExecutor;
 
+    /// Selection of the rows to materialise, published per batch by the
+    /// consumer once the predicate columns are evaluated; `null` when every
+    /// row is assembled.
+    final RowSelectionFeed selectionFeed;
+
+    /// Recycles the primitive arrays of decoded pages: decode tasks take them
+    /// through the [PageDecoder], the drain returns each page once assembled.
+    private final PageArrayPool arrayPool = new PageArrayPool(INITIAL_INFLIGHT_PAGES + 1);
+
     /// Whether the fixed-size-list read fast path may engage. Defaults to `true`;
     /// nested workers override it from the reader's context option. It is a no-op
     /// for flat columns (the fast path requires `maxRepetitionLevel == 1`).
@@ -78,7 +110,8 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
     // reorderBuffer[slot] sees the fileName via the happens-before chain.
     //
     // Slot reuse safety: the retriever may only reuse a slot once consumePosition
-    // has advanced past it (throttle: nextSeq - consumePosition < MAX_INFLIGHT_PAGES).
+    // has advanced past it (throttle: nextSeq - consumePosition < depth, and the
+    // adaptive depth never exceeds MAX_INFLIGHT_PAGES).
     // drainReadyPages reads fileNameBuffer[slot] before incrementing consumePosition,
     // so the previous occupant's fileName is always read before being overwritten.
     // Any future change to the throttle or to the read-then-increment ordering must
@@ -90,15 +123,36 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
     // row group was proven by statistics to match the filter in full.
     private final boolean[] filterAlwaysMatchesBuffer;
 
+    // Per-slot bytes admitted against the memory budget, written by the retriever
+    // under the same happens-before chain as fileNameBuffer[slot] and released by
+    // the drain once the slot's page is assembled.
+    private final long[] budgetChargeBuffer;
+
+    // === Memory budget (set before start(); null when the reader has none) ===
+    private MemoryBudget memoryBudget;
+    private long reservedBatchBytes;
+    private final AtomicLong heldPageBytes = new AtomicLong();
+
     // === Drain position (only modified by drain thread, read by retriever for throttle) ===
     private volatile int consumePosition;
 
+    // === Depth adaptation: the drain counts parks for a decode while the
+    // retriever is parked at the depth and no submitted page has finished
+    // decoding; the retriever grows the depth on them ===
+    private volatile boolean retrieverThrottled;
+    private volatile int drainStarvations;
+    // Pages in [consumePosition, nextSeq) whose result is in the reorder buffer.
+    // Incremented before the result is set, decremented once the drain takes it,
+    // so it never under-counts what the drain could see.
+    private final AtomicInteger undrainedPages = new AtomicInteger();
+
     // === Pipeline control ===
     /// Set when the worker should stop, for any of three reasons: the consumer
     /// called [#close()], the drain reached natural EOF or the configured
     /// `maxRows` (via [#finishDrain()]), or an error was raised
     /// (via [#signalError(Throwable)]). Both VThreads exit promptly when set.
     volatile boolean done;
+    private volatile boolean closed;
     private final AtomicReference<Throwable> error = new AtomicReference<>();
 
     // === Thread references (for unpark) ===
@@ -143,6 +197,15 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
     protected ColumnWorker(PageSource pageSource, BatchExchange<B> exchange, ColumnSchema column,
                            int batchCapacity, DecompressorFactory decompressorFactory,
                            Executor decodeExecutor, long maxRows) {
+        this(pageSource, exchange, column, batchCapacity, decompressorFactory, decodeExecutor, maxRows, null);
+    }
+
+    /// Creates a column worker that materialises only the rows `selectionFeed`
+    /// selects: pages without a selected row are skipped undecoded, and
+    /// [#skipRows(int)] accounts for them in the drain.
+    protected ColumnWorker(PageSource pageSource, BatchExchange<B> exchange, ColumnSchema column,
+                           int batchCapacity, DecompressorFactory decompressorFactory,
+                           Executor decodeExecutor, long maxRows, RowSelectionFeed selectionFeed) {
         this.pageSource = pageSource;
         this.exchange = exchange;
         this.column = column;
@@ -152,9 +215,22 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
         this.decompressorFactory = decompressorFactory;
         this.decodeExecutor = decodeExecutor;
         this.maxRows = maxRows;
+        this.selectionFeed = selectionFeed;
         this.reorderBuffer = new AtomicReferenceArray<>(MAX_INFLIGHT_PAGES);
         this.fileNameBuffer = new String[MAX_INFLIGHT_PAGES];
         this.filterAlwaysMatchesBuffer = new boolean[MAX_INFLIGHT_PAGES];
+        this.budgetChargeBuffer = new long[MAX_INFLIGHT_PAGES];
+    }
+
+    /// Bounds this worker by `budget`: the batch holders of its exchange are
+    /// reserved against it until [#close()], without admission, and each page
+    /// waits for its footprint to be admitted before its decode is submitted.
+    /// Must be called before [#start()].
+    public void useMemoryBudget(MemoryBudget budget) {
+        this.memoryBudget = budget;
+        this.reservedBatchBytes = (BatchExchange.READY_QUEUE_CAPACITY + 1L)
+                * BatchExchange.estimateBatchBytes(column, batchCapacity);
+        budget.reserve(reservedBatchBytes);
     }
 
     /// Initializes subclass-specific drain state (called at the start of `runDrain`).
@@ -169,6 +245,32 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
     /// Publishes the current batch to the [BatchExchange] and takes a new free batch.
     abstract void publishCurrentBatch();
 
+    /// Accounts for `rows` logical rows of a page the retriever skipped
+    /// because the [RowSelectionFeed] selects none of them. Only workers with
+    /// a selection feed receive skipped pages.
+    void skipRows(int rows) {
+        throw new IllegalStateException("Column '" + column.name() + "' has no row selection to skip rows by");
+    }
+
+    /// Whether the drain consumes dense pages with a validity bitmap (see
+    /// [Page#validity]) for flat optional columns instead of definition levels.
+    boolean decodesValidityBitmaps() {
+        return false;
+    }
+
+    /// Whether decode tasks may decode just the rows a page's mask keeps (see
+    /// [PageDecoder#decodePage(java.nio.ByteBuffer, Dictionary, PageRowMask)]),
+    /// handing the drain a page of those rows under [PageRowMask#ALL].
+    boolean decodesMaskedRows() {
+        return false;
+    }
+
+    /// Whether the drain consumes the entry indices of dictionary-encoded pages
+    /// ([Page.DictionaryIdPage]) instead of resolved values.
+    boolean passesDictionaryIds() {
+        return false;
+    }
+
     /// Whether the drain should flush the current batch when crossing a row-group
     /// boundary that changes the filter-always-matches flag. Only workers that
     /// evaluate a per-batch filter benefit; for the rest the extra flushes would
@@ -198,8 +300,13 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
     /// reading from a freed buffer.
     @Override
     public void close() {
+        boolean alreadyClosed = closed;
+        closed = true;
         done = true;
         exchange.finish();  // signals BatchExchange's timeout loops to exit
+        if (selectionFeed != null) {
+            selectionFeed.close();
+        }
         LockSupport.unpark(retrieverThread);
         LockSupport.unpark(drainThread);
 
@@ -224,6 +331,12 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
                 // decode tasks call signalError on failure; nothing to re-raise here
             }
         }
+
+        // Pages admitted but never drained, and the batch holders, go back to the
+        // budget; nothing touches heldPageBytes once the pipeline has quiesced.
+        if (memoryBudget != null && !alreadyClosed) {
+            memoryBudget.release(heldPageBytes.getAndSet(0) + reservedBatchBytes);
+        }
     }
 
     /// Whether the pipeline has stopped producing batches (for any reason —
@@ -238,12 +351,21 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
     private long throttleNanos;
     private int totalPagesSubmitted;
     private int throttleParks;
+    private int pagesSkipped;
+    private long budgetWaitNanos;
+
+    private final AdaptiveDepth depth = new AdaptiveDepth(
+            INITIAL_INFLIGHT_PAGES, MIN_INFLIGHT_PAGES, MAX_INFLIGHT_PAGES, INFLIGHT_BYTES_TARGET);
+
+    /// Logical rows (those the page masks keep) of the pages pulled so far;
+    /// only maintained with a [#selectionFeed].
+    private long selectionRowsRetrieved;
 
     private void runRetriever() {
         try {
             LOG.log(System.Logger.Level.DEBUG,
-                    "[{0}] ColumnWorker started, maxOutstanding={1}, batchCapacity={2}",
-                    column.name(), MAX_INFLIGHT_PAGES, batchCapacity);
+                    "[{0}] ColumnWorker started, initialDepth={1}, batchCapacity={2}",
+                    column.name(), INITIAL_INFLIGHT_PAGES, batchCapacity);
 
             PageDecoder pageDecoder = null;
             int nextSeq = 0;
@@ -265,14 +387,26 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
                             pageInfo.columnMetaData(),
                             pageInfo.columnSchema(),
                             decompressorFactory,
-                            fixedListFastPathEnabled);
+                            fixedListFastPathEnabled,
+                            arrayPool,
+                            decodesValidityBitmaps(),
+                            passesDictionaryIds());
                 }
 
-                // Throttle: park while too many pages are in flight
+                long footprint = pageFootprint(pageInfo);
+                depth.recordPage(footprint, drainStarvations);
+
+                // Throttle: park while too many pages are in flight, unless the
+                // drain starved meanwhile and the depth grows instead
                 t0 = System.nanoTime();
-                while (!done && nextSeq - consumePosition >= MAX_INFLIGHT_PAGES) {
+                while (!done && nextSeq - consumePosition >= depth.depth()) {
+                    if (depth.growIfStarved(drainStarvations)) {
+                        continue;
+                    }
+                    retrieverThrottled = true;
                     throttleParks++;
                     LockSupport.park();
+                    retrieverThrottled = false;
                 }
                 throttleNanos += System.nanoTime() - t0;
                 if (done) {
@@ -285,6 +419,27 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
                 int slot = seq % MAX_INFLIGHT_PAGES;
                 fileNameBuffer[slot] = pageSource.getCurrentFileName();
                 filterAlwaysMatchesBuffer[slot] = pageSource.isCurrentFilterAlwaysMatches();
+                if (selectionFeed != null) {
+                    int rows = logicalRowCount(pageInfo);
+                    long start = selectionRowsRetrieved;
+                    selectionRowsRetrieved += rows;
+                    if (!selectionFeed.maySelect(start, start + rows)) {
+                        // Nothing of this page survives the filter: hand the drain
+                        // its row count in place of a decoded page.
+                        pagesSkipped++;
+                        budgetChargeBuffer[slot] = 0;
+                        undrainedPages.incrementAndGet();
+                        reorderBuffer.set(slot, DecodedPage.skipped(rows));
+                        LockSupport.unpark(drainThread);
+                        continue;
+                    }
+                }
+                if (memoryBudget != null) {
+                    if (!admit(footprint)) {
+                        break;
+                    }
+                    budgetChargeBuffer[slot] = footprint;
+                }
                 PageInfo pi = pageInfo;
                 PageDecoder rdr = pageDecoder;
                 CompletableFuture<Void> f = CompletableFuture.runAsync(
@@ -309,25 +464,92 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
 
             LOG.log(System.Logger.Level.DEBUG,
                     "[{0}] Retriever finished: {1} pages submitted. "
-                    + "source={2,number,0.0}ms, throttle={3,number,0.0}ms ({4} parks)",
+                    + "source={2,number,0.0}ms, throttle={3,number,0.0}ms ({4} parks), {5} skipped by selection, "
+                    + "budgetWait={6,number,0.0}ms, final depth={7}",
                     column.name(), totalPagesSubmitted,
-                    sourceNanos / 1_000_000.0, throttleNanos / 1_000_000.0, throttleParks);
+                    sourceNanos / 1_000_000.0, throttleNanos / 1_000_000.0, throttleParks, pagesSkipped,
+                    budgetWaitNanos / 1_000_000.0, depth.depth());
         }
         catch (Throwable t) {
             signalError(enrichWithFileName(t, pageSource.getCurrentFileName()));
         }
     }
 
+    /// Waits until the memory budget admits `bytes` for this worker's next page.
+    /// Returns `false` if the worker stopped first.
+    private boolean admit(long bytes) throws InterruptedException {
+        if (!memoryBudget.tryAcquire(bytes, heldPageBytes.get())) {
+            MemoryBudgetWaitEvent event = new MemoryBudgetWaitEvent();
+            event.begin();
+            long t0 = System.nanoTime();
+            boolean admitted = memoryBudget.acquire(bytes, heldPageBytes::get, () -> done);
+            budgetWaitNanos += System.nanoTime() - t0;
+            if (!admitted) {
+                return false;
+            }
+            event.column = column.name();
+            event.requestedBytes = bytes;
+            event.budgetBytes = memoryBudget.budgetBytes();
+            event.commit();
+        }
+        heldPageBytes.addAndGet(bytes);
+        return true;
+    }
+
+    /// Estimated bytes a page adds from retrieval until the drain assembles it:
+    /// its decoded size, the fetched bytes scaled by the chunk's compression
+    /// ratio. The fetched bytes themselves are charged with the chunk they were
+    /// sliced from (see [FetchCharge]). A null placeholder decodes to at most
+    /// one 8-byte slot per value.
+    static long pageFootprint(PageInfo pageInfo) {
+        if (pageInfo.isNullPlaceholder()) {
+            return (long) pageInfo.placeholderNumValues() * Long.BYTES;
+        }
+        ByteBuffer pageData = pageInfo.pageData();
+        long fetched = pageData.remaining();
+        ColumnMetaData metaData = pageInfo.columnMetaData();
+        long decoded = metaData.totalCompressedSize() > 0
+                ? fetched * metaData.totalUncompressedSize() / metaData.totalCompressedSize()
+                : fetched;
+        return Math.max(decoded, fetched);
+    }
+
+    /// Rows of the page its mask keeps.
+    private static int logicalRowCount(PageInfo pageInfo) throws IOException {
+        PageRowMask mask = pageInfo.mask();
+        if (!mask.isAll()) {
+            return mask.totalRecords();
+        }
+        return pageInfo.isNullPlaceholder()
+                ? pageInfo.placeholderNumValues()
+                : PageDecoder.pageRowCount(pageInfo.pageData());
+    }
+
     /// Decode task: decodes one page, stores result in reorder buffer, unparks drain.
     private void decode(int slot, PageInfo pageInfo, PageDecoder pageDecoder) {
         if (done || error.get() != null) {
             return;
         }
         try {
-            Page page = pageInfo.isNullPlaceholder()
-                    ? pageDecoder.nullPage(pageInfo.placeholderNumValues())
-                    : pageDecoder.decodePage(pageInfo.pageData(), pageInfo.dictionary());
-            reorderBuffer.set(slot, new DecodedPage(page, pageInfo.mask()));
+            PageRowMask mask = pageInfo.mask();
+            Page page;
+            if (pageInfo.isNullPlaceholder()) {
+                page = pageDecoder.nullPage(pageInfo.placeholderNumValues());
+            }
+            else if (decodesMaskedRows() && !mask.isAll()) {
+                page = pageDecoder.decodePage(pageInfo.pageData(), pageInfo.dictionary(), mask);
+                // A page decoded for just the kept rows has exactly that many;
+                // a full decode has more, unless the mask keeps every row, in
+                // which case the two are the same page.
+                if (page.size() == mask.totalRecords()) {
+                    mask = PageRowMask.ALL;
+                }
+            }
+            else {
+                page = pageDecoder.decodePage(pageInfo.pageData(), pageInfo.dictionary());
+            }
+            undrainedPages.incrementAndGet();
+            reorderBuffer.set(slot, new DecodedPage(page, mask));
         }
         catch (Throwable t) {
             signalError(enrichWithFileName(t, fileNameBuffer[slot]));
@@ -353,7 +575,15 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
                 assemblyNanos += System.nanoTime() - t0;
 
                 if (!done && !drained) {
-                    // No pages were ready — park until a decode task completes
+                    // The next page in sequence is not ready — park until a decode
+                    // task completes. With the retriever parked at its depth and no
+                    // later page finished either, every submitted page is still
+                    // decoding and the pipeline is too shallow. A page finished out
+                    // of order means one slow page, which more depth would not help.
+                    if (retrieverThrottled && undrainedPages.get() == 0) {
+                        drainStarvations++;
+                        unparkRetriever();
+                    }
                     long parkStart = System.nanoTime();
                     decodeWaitParks++;
                     LockSupport.park();
@@ -392,6 +622,7 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
                 finishDrain();
                 return true;
             }
+            undrainedPages.decrementAndGet();
 
             // Detect file boundary: flush the current batch when the file changes
             // so that each batch is attributed to a single file.
@@ -417,7 +648,19 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
                 currentBatchFilterAlwaysMatches = pageAlwaysMatches;
             }
 
-            assemblePage(decoded.page(), decoded.mask());
+            if (decoded.page() == null) {
+                skipRows(decoded.skippedRows());
+            }
+            else {
+                assemblePage(decoded.page(), decoded.mask());
+                // Assembly copies out of the page, so its arrays can back a later page.
+                arrayPool.release(decoded.page());
+            }
+            if (memoryBudget != null) {
+                long charge = budgetChargeBuffer[slot];
+                heldPageBytes.addAndGet(-charge);
+                memoryBudget.release(charge);
+            }
             consumePosition++;
             totalPagesDrained++;
             unparkRetriever();
@@ -444,6 +687,9 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
         error.compareAndSet(null, t);
         done = true;
         exchange.signalError(t);
+        if (selectionFeed != null) {
+            selectionFeed.close();
+        }
         LockSupport.unpark(retrieverThread);
         LockSupport.unpark(drainThread);
     }
@@ -479,10 +725,24 @@ public abstract class ColumnWorker<B> implements AutoCloseable {
         }
     }
 
-    /// Maximum number of decoded-but-undrained pages before the retriever throttles.
-    /// Kept low to limit decoded page retention and GC pressure. With large pages
-    /// (~4-10 MB decoded), high values cause old-gen promotion and expensive G1
-    /// evacuation pauses. Overridable via the `hardwood.internal.maxOutstanding` system property.
+    /// Highest number of decoded-but-undrained pages a column of tiny, cheap pages
+    /// may reach before the retriever throttles; sizes the reorder buffer.
+    /// Overridable via the `hardwood.internal.maxOutstanding` system property,
+    /// which stays a hard cap on every column's [AdaptiveDepth].
     public static final int MAX_INFLIGHT_PAGES =
-            Integer.getInteger("hardwood.internal.maxOutstanding", 8);
+            Integer.getInteger("hardwood.internal.maxOutstanding", 64);
+
+    /// Depth before any page is seen, and the depth an idle [AdaptiveDepth]
+    /// decays back to. The worker's [PageArrayPool] retains arrays for this
+    /// many pages.
+    static final int INITIAL_INFLIGHT_PAGES = Math.min(8, MAX_INFLIGHT_PAGES);
+
+    /// Lowest depth the page-footprint cap imposes on columns of very large pages.
+    static final int MIN_INFLIGHT_PAGES = Math.min(2, INITIAL_INFLIGHT_PAGES);
+
+    /// Page footprint (estimated decoded bytes, see [#pageFootprint]) a column
+    /// aims to keep in flight. Kept low to limit decoded page retention and GC
+    /// pressure: with large pages (~4-10 MB decoded), deep pipelines cause
+    /// old-gen promotion and expensive G1 evacuation pauses.
+    static final long INFLIGHT_BYTES_TARGET = 32L * 1024 * 1024;
 }
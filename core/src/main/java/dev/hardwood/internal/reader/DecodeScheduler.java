@@ -0,0 +1,192 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import dev.hardwood.DecodeQueueStats;
+import dev.hardwood.reader.DecodePriority;
+
+/// Fair dispatcher of decode tasks onto a context's shared thread pool.
+///
+/// Each reader submits through its own [Lane], a FIFO queue tagged with a
+/// [DecodePriority]. Submitting queues the task and hands the pool an anonymous
+/// dispatch job; whichever dispatch job runs next picks the task to run, so the
+/// pool's own FIFO order no longer decides which reader is served.
+///
+/// Classes are picked by stride scheduling: every dispatch advances the picked
+/// class's `pass` by `STRIDE / weight`, and the busy class with the lowest pass
+/// goes next, so busy classes share the pool in proportion to their weights and
+/// no class starves. A class that falls idle rejoins at the current virtual time
+/// instead of replaying the turns it skipped. Within a class the lanes with work
+/// take turns, one task each.
+///
+/// There is exactly one dispatch job per queued task, so a job always finds a
+/// task to run.
+public final class DecodeScheduler {
+
+    private static final long STRIDE = 1L << 20;
+
+    private final Executor pool;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityClass[] classes;
+
+    // === Guarded by lock ===
+    private long virtualTime;
+
+    /// A reader's queue of decode tasks. Submit through [#execute(Runnable)].
+    public final class Lane implements Executor {
+
+        private final PriorityClass priorityClass;
+
+        // Guarded by the scheduler's lock
+        private final ArrayDeque<QueuedTask> tasks = new ArrayDeque<>();
+
+        private Lane(PriorityClass priorityClass) {
+            this.priorityClass = priorityClass;
+        }
+
+        /// The priority class of this lane.
+        public DecodePriority priority() {
+            return priorityClass.priority;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            QueuedTask queued = new QueuedTask(task, System.nanoTime());
+            lock.lock();
+            try {
+                tasks.add(queued);
+                if (tasks.size() == 1) {
+                    priorityClass.activate(this);
+                }
+            }
+            finally {
+                lock.unlock();
+            }
+            try {
+                pool.execute(DecodeScheduler.this::dispatchNext);
+            }
+            catch (RejectedExecutionException e) {
+                // The pool is shut down: withdraw the task so no job is owed for it.
+                lock.lock();
+                try {
+                    tasks.remove(queued);
+                    if (tasks.isEmpty()) {
+                        priorityClass.busyLanes.remove(this);
+                    }
+                }
+                finally {
+                    lock.unlock();
+                }
+                throw e;
+            }
+        }
+    }
+
+    private record QueuedTask(Runnable task, long enqueuedNanos) {}
+
+    /// Lanes of one priority with queued work, and the class's stride state and
+    /// wait statistics. All fields are guarded by the scheduler's lock.
+    private final class PriorityClass {
+
+        private final DecodePriority priority;
+        private final long stride;
+        private final ArrayDeque<Lane> busyLanes = new ArrayDeque<>();
+        private long pass;
+
+        private long tasks;
+        private long totalWaitNanos;
+        private long maxWaitNanos;
+
+        private PriorityClass(DecodePriority priority) {
+            this.priority = priority;
+            this.stride = STRIDE / weight(priority);
+        }
+
+        void activate(Lane lane) {
+            if (busyLanes.isEmpty()) {
+                pass = Math.max(pass, virtualTime);
+            }
+            busyLanes.add(lane);
+        }
+    }
+
+    /// Creates a scheduler dispatching onto `pool`.
+    public DecodeScheduler(Executor pool) {
+        this.pool = pool;
+        DecodePriority[] priorities = DecodePriority.values();
+        this.classes = new PriorityClass[priorities.length];
+        for (DecodePriority priority : priorities) {
+            classes[priority.ordinal()] = new PriorityClass(priority);
+        }
+    }
+
+    /// Creates a lane for one reader's decodes.
+    public Lane newLane(DecodePriority priority) {
+        return new Lane(classes[priority.ordinal()]);
+    }
+
+    /// Returns the queue-wait statistics of `priority`.
+    public DecodeQueueStats stats(DecodePriority priority) {
+        lock.lock();
+        try {
+            PriorityClass c = classes[priority.ordinal()];
+            return new DecodeQueueStats(priority, c.tasks, c.totalWaitNanos, c.maxWaitNanos);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /// Relative share of the pool a busy class receives.
+    static int weight(DecodePriority priority) {
+        return switch (priority) {
+            case HIGH -> 16;
+            case NORMAL -> 4;
+            case LOW -> 1;
+        };
+    }
+
+    private void dispatchNext() {
+        QueuedTask next;
+        lock.lock();
+        try {
+            // Ties go to the higher priority, which comes first in declaration order.
+            PriorityClass picked = null;
+            for (PriorityClass c : classes) {
+                if (!c.busyLanes.isEmpty() && (picked == null || c.pass < picked.pass)) {
+                    picked = c;
+                }
+            }
+            if (picked == null) {
+                return;
+            }
+            virtualTime = picked.pass;
+            picked.pass += picked.stride;
+
+            Lane lane = picked.busyLanes.poll();
+            next = lane.tasks.poll();
+            if (!lane.tasks.isEmpty()) {
+                picked.busyLanes.add(lane);
+            }
+
+            long waitNanos = System.nanoTime() - next.enqueuedNanos();
+            picked.tasks++;
+            picked.totalWaitNanos += waitNanos;
+            picked.maxWaitNanos = Math.max(picked.maxWaitNanos, waitNanos);
+        }
+        finally {
+            lock.unlock();
+        }
+        next.task().run();
+    }
+}
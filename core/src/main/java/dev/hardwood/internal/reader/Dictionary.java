@@ -9,10 +9,14 @@ package dev.hardwood.internal.reader;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
+import dev.hardwood.internal.bloomfilter.XxHash64;
 import dev.hardwood.internal.encoding.PlainDecoder;
 import dev.hardwood.internal.encoding.RleBitPackingHybridDecoder;
+import dev.hardwood.internal.predicate.BinaryComparator;
 import dev.hardwood.metadata.PhysicalType;
+import dev.hardwood.reader.FilterPredicate;
 
 /// Typed dictionary for dictionary-encoded Parquet columns.
 /// Each variant holds a primitive array of dictionary values.
@@ -22,9 +26,28 @@ public sealed interface Dictionary {
 
     /// Decode dictionary values into a Page using the given index decoder.
     /// This avoids megamorphic dispatch in the caller by moving type-specific
-    /// logic into the Dictionary implementation.
+    /// logic into the Dictionary implementation. Output arrays are taken from
+    /// `arrayPool`.
     Page decodePage(RleBitPackingHybridDecoder indexDecoder, int numValues,
-                    int[] definitionLevels, int[] repetitionLevels, int maxDefLevel);
+                    int[] definitionLevels, int[] repetitionLevels, int maxDefLevel,
+                    PageArrayPool arrayPool);
+
+    /// Decode the dictionary entry indices of a page without resolving them,
+    /// `-1` at null positions. Used when the drain passes dictionary ids
+    /// through to the consumer instead of values.
+    default Page decodeIdPage(RleBitPackingHybridDecoder indexDecoder, int numValues,
+                              int[] definitionLevels, int[] repetitionLevels, int maxDefLevel,
+                              PageArrayPool arrayPool) {
+        int[] ids = arrayPool.ints(numValues, false);
+        indexDecoder.readDictionaryIndices(ids, size(), definitionLevels, maxDefLevel);
+        return new Page.DictionaryIdPage(this, ids, definitionLevels, repetitionLevels, maxDefLevel, numValues);
+    }
+
+    /// Build a page of the entries that `ids[0..numValues)` refer to, every
+    /// position present. Used when a page's indices are gathered a row range
+    /// at a time before they are resolved; the ids must be valid entry indices
+    /// and `ids` may be reused as the page's value array.
+    Page resolvePage(int[] ids, int numValues, int maxDefLevel, PageArrayPool arrayPool);
 
     /// Parse dictionary values from decompressed data.
     ///
@@ -75,11 +98,20 @@ public sealed interface Dictionary {
 
         @Override
         public Page decodePage(RleBitPackingHybridDecoder indexDecoder, int numValues,
-                               int[] definitionLevels, int[] repetitionLevels, int maxDefLevel) {
-            int[] output = new int[numValues];
+                               int[] definitionLevels, int[] repetitionLevels, int maxDefLevel,
+                               PageArrayPool arrayPool) {
+            int[] output = arrayPool.ints(numValues, definitionLevels != null);
             indexDecoder.readDictionaryInts(output, values, definitionLevels, maxDefLevel);
             return new Page.IntPage(output, definitionLevels, repetitionLevels, maxDefLevel, numValues);
         }
+
+        @Override
+        public Page resolvePage(int[] ids, int numValues, int maxDefLevel, PageArrayPool arrayPool) {
+            for (int i = 0; i < numValues; i++) {
+                ids[i] = values[ids[i]];
+            }
+            return new Page.IntPage(ids, null, null, maxDefLevel, numValues);
+        }
     }
 
     record LongDictionary(long[] values) implements Dictionary {
@@ -90,11 +122,21 @@ public sealed interface Dictionary {
 
         @Override
         public Page decodePage(RleBitPackingHybridDecoder indexDecoder, int numValues,
-                               int[] definitionLevels, int[] repetitionLevels, int maxDefLevel) {
-            long[] output = new long[numValues];
+                               int[] definitionLevels, int[] repetitionLevels, int maxDefLevel,
+                               PageArrayPool arrayPool) {
+            long[] output = arrayPool.longs(numValues, definitionLevels != null);
             indexDecoder.readDictionaryLongs(output, values, definitionLevels, maxDefLevel);
             return new Page.LongPage(output, definitionLevels, repetitionLevels, maxDefLevel, numValues);
         }
+
+        @Override
+        public Page resolvePage(int[] ids, int numValues, int maxDefLevel, PageArrayPool arrayPool) {
+            long[] output = arrayPool.longs(numValues, false);
+            for (int i = 0; i < numValues; i++) {
+                output[i] = values[ids[i]];
+            }
+            return new Page.LongPage(output, null, null, maxDefLevel, numValues);
+        }
     }
 
     record FloatDictionary(float[] values) implements Dictionary {
@@ -105,11 +147,21 @@ public sealed interface Dictionary {
 
         @Override
         public Page decodePage(RleBitPackingHybridDecoder indexDecoder, int numValues,
-                               int[] definitionLevels, int[] repetitionLevels, int maxDefLevel) {
-            float[] output = new float[numValues];
+                               int[] definitionLevels, int[] repetitionLevels, int maxDefLevel,
+                               PageArrayPool arrayPool) {
+            float[] output = arrayPool.floats(numValues, definitionLevels != null);
             indexDecoder.readDictionaryFloats(output, values, definitionLevels, maxDefLevel);
             return new Page.FloatPage(output, definitionLevels, repetitionLevels, maxDefLevel, numValues);
         }
+
+        @Override
+        public Page resolvePage(int[] ids, int numValues, int maxDefLevel, PageArrayPool arrayPool) {
+            float[] output = arrayPool.floats(numValues, false);
+            for (int i = 0; i < numValues; i++) {
+                output[i] = values[ids[i]];
+            }
+            return new Page.FloatPage(output, null, null, maxDefLevel, numValues);
+        }
     }
 
     record DoubleDictionary(double[] values) implements Dictionary {
@@ -120,15 +172,31 @@ public sealed interface Dictionary {
 
         @Override
         public Page decodePage(RleBitPackingHybridDecoder indexDecoder, int numValues,
-                               int[] definitionLevels, int[] repetitionLevels, int maxDefLevel) {
-            double[] output = new double[numValues];
+                               int[] definitionLevels, int[] repetitionLevels, int maxDefLevel,
+                               PageArrayPool arrayPool) {
+            double[] output = arrayPool.doubles(numValues, definitionLevels != null);
             indexDecoder.readDictionaryDoubles(output, values, definitionLevels, maxDefLevel);
             return new Page.DoublePage(output, definitionLevels, repetitionLevels, maxDefLevel, numValues);
         }
+
+        @Override
+        public Page resolvePage(int[] ids, int numValues, int maxDefLevel, PageArrayPool arrayPool) {
+            double[] output = arrayPool.doubles(numValues, false);
+            for (int i = 0; i < numValues; i++) {
+                output[i] = values[ids[i]];
+            }
+            return new Page.DoublePage(output, null, null, maxDefLevel, numValues);
+        }
     }
 
     /// A class (not a record) so it can hold the lazily-materialised per-chunk
     /// interned `String` cache ([#interned]) alongside the entry bytes.
+    ///
+    /// Binary predicates are evaluated against the entries once per chunk
+    /// ([#matchingEntries]), producing a bitset of matching entry ids that
+    /// dictionary-encoded values are then probed against. The per-entry keys
+    /// that speed this up — a 64-bit hash, the first 8 bytes and the length —
+    /// are likewise computed once per chunk, on the first evaluation.
     final class ByteArrayDictionary implements Dictionary {
         private final byte[][] values;
 
@@ -136,6 +204,14 @@ public sealed interface Dictionary {
         /// allocated; populated only for UTF8 / JSON columns via [#internedString(int)].
         private String[] interned;
 
+        /// Per-entry predicate keys, computed on first use by [#entryKeys].
+        private EntryKeys keys;
+
+        /// Per-entry `XxHash64` of the bytes, the first 8 bytes as a big-endian
+        /// `long` (zero-padded, see [#prefixOf]) and the byte length. The final
+        /// fields publish the arrays safely to other threads.
+        private record EntryKeys(long[] hashes, long[] prefixes, int[] lengths) {}
+
         ByteArrayDictionary(byte[][] values) {
             this.values = values;
         }
@@ -152,9 +228,10 @@ public sealed interface Dictionary {
         /// Returns dictionary entry `index` as a `String`, decoding it once per chunk
         /// and caching it. Repeated values across the chunk share this one instance.
         /// `index` must be a valid entry index: the row reader reaches this only via
-        /// [BinaryBatchValues#stringAt] for a non-null dictionary value, so a wiring
-        /// bug surfaces immediately as an out-of-bounds access here.
-        String internedString(int index) {
+        /// [BinaryBatchValues#stringAt] for a non-null dictionary value, and the
+        /// column reader's dictionary handle bounds-checks first, so a wiring bug
+        /// surfaces immediately as an out-of-bounds access here.
+        public String internedString(int index) {
             String[] cache = interned;
             if (cache == null) {
                 cache = new String[values.length];
@@ -170,14 +247,126 @@ public sealed interface Dictionary {
 
         @Override
         public Page decodePage(RleBitPackingHybridDecoder indexDecoder, int numValues,
-                               int[] definitionLevels, int[] repetitionLevels, int maxDefLevel) {
-            byte[][] output = new byte[numValues][];
-            int[] dictIndices = new int[numValues];
-            indexDecoder.readDictionaryByteArrays(output, dictIndices, values, definitionLevels, maxDefLevel);
-            // Carry the dictionary and per-value entry indices so the row reader
-            // can intern repeated values to one String per chunk.
-            return new Page.ByteArrayPage(output, definitionLevels, repetitionLevels, maxDefLevel,
-                    numValues, this, dictIndices);
+                               int[] definitionLevels, int[] repetitionLevels, int maxDefLevel,
+                               PageArrayPool arrayPool) {
+            int[] dictIndices = arrayPool.ints(numValues, false);
+            indexDecoder.readDictionaryIndices(dictIndices, values.length, definitionLevels, maxDefLevel);
+            // The page references entries by index rather than copying them; the
+            // indices also let the row reader intern values to one String per chunk.
+            return new Page.ByteArrayPage(this, dictIndices, definitionLevels, repetitionLevels, maxDefLevel,
+                    numValues);
+        }
+
+        @Override
+        public Page resolvePage(int[] ids, int numValues, int maxDefLevel, PageArrayPool arrayPool) {
+            return new Page.ByteArrayPage(this, ids, null, null, maxDefLevel, numValues);
+        }
+
+        /// Returns the entries that satisfy `entry <op> value` as a bitset over
+        /// entry ids: bit `i` is set when entry `i` matches. `signed` selects
+        /// two's complement comparison (`FIXED_LEN_BYTE_ARRAY` decimals) over
+        /// unsigned lexicographic order.
+        ///
+        /// Equality tests compare hashes and lengths before bytes; unsigned
+        /// ranges are decided by the 8-byte prefixes unless two prefixes tie.
+        public long[] matchingEntries(FilterPredicate.Operator op, byte[] value, boolean signed) {
+            EntryKeys entryKeys = entryKeys();
+            long[] matches = new long[(values.length + 63) >>> 6];
+            if (op == FilterPredicate.Operator.EQ || op == FilterPredicate.Operator.NOT_EQ) {
+                long hash = XxHash64.hash(value);
+                boolean wantEqual = op == FilterPredicate.Operator.EQ;
+                for (int i = 0; i < values.length; i++) {
+                    boolean equal = entryKeys.hashes()[i] == hash && entryKeys.lengths()[i] == value.length
+                            && Arrays.equals(values[i], value);
+                    if (equal == wantEqual) {
+                        matches[i >>> 6] |= 1L << i;
+                    }
+                }
+                return matches;
+            }
+            long prefix = prefixOf(value);
+            for (int i = 0; i < values.length; i++) {
+                int cmp;
+                if (signed) {
+                    cmp = BinaryComparator.compareSigned(values[i], value);
+                }
+                else {
+                    cmp = Long.compareUnsigned(entryKeys.prefixes()[i], prefix);
+                    if (cmp == 0) {
+                        cmp = BinaryComparator.compareUnsigned(values[i], value);
+                    }
+                }
+                boolean match = switch (op) {
+                    case LT -> cmp < 0;
+                    case LT_EQ -> cmp <= 0;
+                    case GT -> cmp > 0;
+                    case GT_EQ -> cmp >= 0;
+                    case EQ, NOT_EQ -> throw new IllegalStateException("unreachable");
+                };
+                if (match) {
+                    matches[i >>> 6] |= 1L << i;
+                }
+            }
+            return matches;
+        }
+
+        /// Returns the entries equal to one of `candidates` as a bitset over
+        /// entry ids. Each entry's hash is looked up among the candidates'
+        /// hashes; only a hit compares bytes.
+        public long[] matchingEntries(byte[][] candidates) {
+            long[] hashes = entryKeys().hashes();
+            long[] candidateHashes = new long[candidates.length];
+            for (int c = 0; c < candidates.length; c++) {
+                candidateHashes[c] = XxHash64.hash(candidates[c]);
+            }
+            long[] sortedHashes = candidateHashes.clone();
+            Arrays.sort(sortedHashes);
+            long[] matches = new long[(values.length + 63) >>> 6];
+            for (int i = 0; i < values.length; i++) {
+                if (Arrays.binarySearch(sortedHashes, hashes[i]) < 0) {
+                    continue;
+                }
+                for (int c = 0; c < candidates.length; c++) {
+                    if (candidateHashes[c] == hashes[i] && Arrays.equals(values[i], candidates[c])) {
+                        matches[i >>> 6] |= 1L << i;
+                        break;
+                    }
+                }
+            }
+            return matches;
+        }
+
+        /// Computes the per-entry hash, prefix and length once per chunk. Like
+        /// [#interned], a race between two threads only repeats the work.
+        private EntryKeys entryKeys() {
+            EntryKeys current = keys;
+            if (current != null) {
+                return current;
+            }
+            long[] hashes = new long[values.length];
+            long[] prefixes = new long[values.length];
+            int[] lengths = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                hashes[i] = XxHash64.hash(values[i]);
+                prefixes[i] = prefixOf(values[i]);
+                lengths[i] = values[i].length;
+            }
+            current = new EntryKeys(hashes, prefixes, lengths);
+            keys = current;
+            return current;
+        }
+
+        /// The first 8 bytes of `value` as a big-endian `long`, zero-padded
+        /// when shorter. Unsigned order of two prefixes agrees with the
+        /// unsigned lexicographic order of the values whenever the prefixes
+        /// differ; equal prefixes leave the order undecided.
+        static long prefixOf(byte[] value) {
+            long prefix = 0;
+            int n = Math.min(8, value.length);
+            for (int i = 0; i < n; i++) {
+                prefix |= (value[i] & 0xFFL) << (56 - 8 * i);
+            }
+            return prefix;
         }
     }
 }
@@ -0,0 +1,80 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+/// The fetched chunk and region bytes of one row group, charged against the
+/// context's [MemoryBudget] from before their read until [RowGroupIterator]
+/// evicts the row group's fetch plans.
+///
+/// A read ahead of demand — the vectored first-chunk read, a one-ahead chunk or
+/// region pre-fetch — is admitted only if it fits the budget and is skipped
+/// otherwise; the demand path then reads it when a retriever gets there. A read
+/// a retriever is blocked on is charged without admission: the worker cannot
+/// progress without it, and workers progressing is what returns memory. Its
+/// charge still throttles page admission and reads ahead of demand in every
+/// reader of the context.
+///
+/// Once [#releaseAll()] has run, nothing is charged any more: reads ahead of
+/// demand are refused and demand reads proceed uncharged, so a pre-fetch that
+/// completes after eviction cannot leak its charge.
+final class FetchCharge {
+
+    private final MemoryBudget budget;
+    private long chargedBytes;
+    private boolean released;
+
+    FetchCharge(MemoryBudget budget) {
+        this.budget = budget;
+    }
+
+    /// Charges a read of `bytes` before it is issued.
+    ///
+    /// @param speculative whether the read is made ahead of demand
+    /// @return `false` if the read is ahead of demand and does not fit the
+    ///         budget, in which case nothing is charged and it must be skipped
+    synchronized boolean admit(long bytes, boolean speculative) {
+        if (released) {
+            return !speculative;
+        }
+        if (speculative) {
+            if (!budget.tryAcquire(bytes)) {
+                return false;
+            }
+        }
+        else {
+            budget.reserve(bytes);
+        }
+        chargedBytes += bytes;
+        return true;
+    }
+
+    /// Returns the charge of an admitted read whose bytes are not kept: the read
+    /// failed, or another read of the same range landed first.
+    synchronized void refund(long bytes) {
+        if (released) {
+            return;
+        }
+        budget.release(bytes);
+        chargedBytes -= bytes;
+    }
+
+    /// Returns every charged byte to the budget. Idempotent.
+    synchronized void releaseAll() {
+        if (released) {
+            return;
+        }
+        released = true;
+        budget.release(chargedBytes);
+        chargedBytes = 0;
+    }
+
+    /// Returns the bytes currently charged.
+    synchronized long chargedBytes() {
+        return chargedBytes;
+    }
+}
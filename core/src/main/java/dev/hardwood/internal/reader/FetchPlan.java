@@ -43,7 +43,11 @@ public interface FetchPlan {
     /// may trigger lazy I/O via the underlying [ChunkHandle].
     Iterator<PageInfo> pages();
 
-    /// Triggers async pre-fetch of this plan's first chunk.
-    /// No-op for sequential plans or empty plans.
-    default void prefetch() {}
+    /// Returns the [ChunkHandle] backing this plan's first read, or `null` for
+    /// empty plans. [RowGroupIterator] collects these across all projected
+    /// columns of a row group and fetches them with one vectored
+    /// [dev.hardwood.InputFile#readRanges] call via [ChunkHandle#fetchAll].
+    default ChunkHandle firstChunk() {
+        return null;
+    }
 }
@@ -24,12 +24,22 @@ public class FlatColumnWorker extends ColumnWorker<BatchExchange.Batch> {
     private long[] currentValidity;
     private final ColumnBatchMatcher columnFilter;
     private final boolean flushOnFilterBoundaries;
+    /// Whether dictionary-encoded pages are published as entry indices plus
+    /// their dictionary ([BatchExchange.Batch#dictionaryIds]) instead of values.
+    private final boolean dictionaryPassthrough;
     /// Tracks whether any absent (null) leaf has been seen in the current
     /// batch; cleared by [#publishCurrentBatch]. When still false at publish
     /// time, [BatchExchange.Batch#validity] is set to `null` to signal
     /// "all leaves present in this batch."
     private boolean currentBatchHasAbsents;
 
+    // Late materialisation: the logical row the drain has assembled up to, the
+    // selection covering it, and the index into that selection's `kept` of the
+    // first selected row not yet assembled.
+    private long selectionPosition;
+    private RowSelectionFeed.Selection selection;
+    private int selectionCursor;
+
     /// Creates a new flat column worker.
     ///
     /// @param pageSource yields [PageInfo] objects for this column
@@ -62,10 +72,43 @@ public class FlatColumnWorker extends ColumnWorker<BatchExchange.Batch> {
                             DecompressorFactory decompressorFactory,
                             Executor decodeExecutor, long maxRows,
                             ColumnBatchMatcher columnFilter, boolean flushOnFilterBoundaries) {
+        this(pageSource, exchange, column, batchCapacity, decompressorFactory,
+              decodeExecutor, maxRows, columnFilter, flushOnFilterBoundaries, false);
+    }
+
+    /// @param dictionaryPassthrough whether dictionary-encoded pages are published
+    ///                    as entry indices plus their dictionary rather than resolved
+    ///                    values. A batch then never mixes two dictionaries, or
+    ///                    dictionary and plain pages: the drain flushes where they
+    ///                    change, so batches are not row-aligned with other workers.
+    public FlatColumnWorker(PageSource pageSource, BatchExchange<BatchExchange.Batch> exchange,
+                            ColumnSchema column, int batchCapacity,
+                            DecompressorFactory decompressorFactory,
+                            Executor decodeExecutor, long maxRows,
+                            ColumnBatchMatcher columnFilter, boolean flushOnFilterBoundaries,
+                            boolean dictionaryPassthrough) {
+        this(pageSource, exchange, column, batchCapacity, decompressorFactory,
+              decodeExecutor, maxRows, columnFilter, flushOnFilterBoundaries, dictionaryPassthrough, null);
+    }
+
+    /// @param selectionFeed when non-null, the worker materialises only the rows
+    ///                    it selects (late materialisation): pages without a selected
+    ///                    row are not decoded, dictionary-encoded pages are resolved
+    ///                    only at the selected rows, and each batch holds the selected
+    ///                    rows of one published selection — none is published for a
+    ///                    selection without rows. Excludes `maxRows` and the
+    ///                    filter-boundary flushes, whose cuts the selection fixes.
+    public FlatColumnWorker(PageSource pageSource, BatchExchange<BatchExchange.Batch> exchange,
+                            ColumnSchema column, int batchCapacity,
+                            DecompressorFactory decompressorFactory,
+                            Executor decodeExecutor, long maxRows,
+                            ColumnBatchMatcher columnFilter, boolean flushOnFilterBoundaries,
+                            boolean dictionaryPassthrough, RowSelectionFeed selectionFeed) {
         super(pageSource, exchange, column, batchCapacity, decompressorFactory,
-              decodeExecutor, maxRows);
+              decodeExecutor, maxRows, selectionFeed);
         this.columnFilter = columnFilter;
         this.flushOnFilterBoundaries = flushOnFilterBoundaries;
+        this.dictionaryPassthrough = dictionaryPassthrough;
     }
 
     @Override
@@ -79,6 +122,23 @@ public class FlatColumnWorker extends ColumnWorker<BatchExchange.Batch> {
         return flushOnFilterBoundaries;
     }
 
+    @Override
+    boolean decodesValidityBitmaps() {
+        return true;
+    }
+
+    @Override
+    boolean decodesMaskedRows() {
+        return true;
+    }
+
+    @Override
+    boolean passesDictionaryIds() {
+        // With a selection feed, dictionary pages stay as entry ids and only the
+        // selected rows are resolved, in copyPageData.
+        return dictionaryPassthrough || selectionFeed != null;
+    }
+
     /// Writes the mask a matcher would produce when every record matches: all-ones
     /// for `[0, recordCount)` bits, tail bits of the last active word zeroed, words
     /// beyond the active range untouched.
@@ -93,8 +153,14 @@ public class FlatColumnWorker extends ColumnWorker<BatchExchange.Batch> {
 
     @Override
     void assemblePage(Page page, PageRowMask mask) {
+        if (dictionaryPassthrough) {
+            switchDictionary(page instanceof Page.DictionaryIdPage p ? p.dictionary() : null);
+            if (done) {
+                return;
+            }
+        }
         if (mask.isAll()) {
-            copyPageRange(page, 0, page.size());
+            copyMaskedRange(page, 0, page.size());
             return;
         }
         int intervalCount = mask.intervalCount();
@@ -102,7 +168,124 @@ public class FlatColumnWorker extends ColumnWorker<BatchExchange.Batch> {
             if (done) {
                 return;
             }
-            copyPageRange(page, mask.start(i), mask.end(i));
+            copyMaskedRange(page, mask.start(i), mask.end(i));
+        }
+    }
+
+    /// Copies the page range `[rangeStart, rangeEnd)` that the page mask keeps:
+    /// in full, or with a selection feed only its selected rows.
+    private void copyMaskedRange(Page page, int rangeStart, int rangeEnd) {
+        if (selectionFeed == null) {
+            copyPageRange(page, rangeStart, rangeEnd);
+        }
+        else {
+            copySelectedRange(page, rangeStart, rangeEnd);
+        }
+    }
+
+    /// Copies the selected rows among page positions `[rangeStart, rangeEnd)`,
+    /// which hold the next logical rows, publishing the current batch wherever
+    /// a selection ends.
+    private void copySelectedRange(Page page, int rangeStart, int rangeEnd) {
+        int pagePosition = rangeStart;
+        while (pagePosition < rangeEnd && awaitSelection()) {
+            int length = (int) Math.min(rangeEnd - pagePosition, selection.end() - selectionPosition);
+            if (selection.selectsAll()) {
+                copyPageRange(page, pagePosition, pagePosition + length);
+            }
+            else {
+                // Gather runs of consecutive selected rows.
+                int[] kept = selection.kept();
+                int offset = (int) (selectionPosition - selection.start()) - pagePosition;
+                int limit = pagePosition + length;
+                while (selectionCursor < selection.keptCount() && kept[selectionCursor] - offset < limit) {
+                    int runStart = kept[selectionCursor] - offset;
+                    int runEnd = runStart + 1;
+                    selectionCursor++;
+                    while (selectionCursor < selection.keptCount() && kept[selectionCursor] - offset == runEnd
+                            && runEnd < limit) {
+                        runEnd++;
+                        selectionCursor++;
+                    }
+                    copyPageRange(page, runStart, runEnd);
+                    if (done) {
+                        return;
+                    }
+                }
+            }
+            if (done) {
+                return;
+            }
+            pagePosition += length;
+            advanceSelection(length);
+        }
+    }
+
+    @Override
+    void skipRows(int rows) {
+        while (rows > 0 && awaitSelection()) {
+            int length = (int) Math.min(rows, selection.end() - selectionPosition);
+            if (!selection.selectsAll()) {
+                selectionCursor = selection.firstKeptAtOrAfter(selectionPosition + length);
+            }
+            rows -= length;
+            advanceSelection(length);
+        }
+    }
+
+    /// Makes [#selection] the selection covering [#selectionPosition], waiting
+    /// for the consumer to publish it. Returns `false` once the worker stops.
+    private boolean awaitSelection() {
+        if (selection != null && selectionPosition < selection.end()) {
+            return !done;
+        }
+        try {
+            selection = selectionFeed.await(selectionPosition);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            selection = null;
+        }
+        if (selection == null) {
+            done = true;
+            return false;
+        }
+        selectionCursor = selection.selectsAll() ? 0 : selection.firstKeptAtOrAfter(selectionPosition);
+        return !done;
+    }
+
+    /// Moves past `rows` logical rows of the current selection, publishing the
+    /// rows gathered for it once it is complete.
+    private void advanceSelection(int rows) {
+        selectionPosition += rows;
+        if (selectionPosition == selection.end()) {
+            if (rowsInCurrentBatch > 0) {
+                publishCurrentBatch();
+            }
+            selectionFeed.release(selectionPosition);
+        }
+    }
+
+    /// Points the current batch at `dictionary`, the dictionary of the next page
+    /// (`null` for a plain page), first publishing the rows already assembled
+    /// against a different one.
+    private void switchDictionary(Dictionary dictionary) {
+        if (dictionary == currentBatch.dictionary) {
+            return;
+        }
+        if (rowsInCurrentBatch > 0) {
+            publishCurrentBatch();
+            if (done) {
+                return;
+            }
+        }
+        useDictionary(dictionary);
+    }
+
+    private void useDictionary(Dictionary dictionary) {
+        currentBatch.dictionary = dictionary;
+        if (dictionary != null && currentBatch.dictionaryIds == null) {
+            currentBatch.dictionaryIds = new int[batchCapacity];
         }
     }
 
@@ -155,6 +338,7 @@ public class FlatColumnWorker extends ColumnWorker<BatchExchange.Batch> {
         if (done) {
             return;
         }
+        Dictionary dictionary = currentBatch.dictionary;
         currentBatch.recordCount = rowsInCurrentBatch;
         currentBatch.validity = (currentValidity != null && currentBatchHasAbsents)
                 ? Arrays.copyOf(currentValidity, (rowsInCurrentBatch + 63) >>> 6)
@@ -206,11 +390,16 @@ public class FlatColumnWorker extends ColumnWorker<BatchExchange.Batch> {
         if (currentBatch.values instanceof BinaryBatchValues bbv) {
             bbv.dictionary = null;
         }
+        // The rest of the page being assembled continues on the same dictionary.
+        useDictionary(dictionary);
     }
 
-    private static final byte[] EMPTY_BYTES = new byte[0];
-
     private void copyPageData(Page page, int srcPos, int destPos, int length) {
+        long[] pageValidity = page.validity();
+        if (pageValidity != null) {
+            copyDensePageData(page, pageValidity, srcPos, destPos, length);
+            return;
+        }
         Object values = currentBatch.values;
         switch (page) {
             case Page.IntPage p -> {
@@ -235,27 +424,166 @@ public class FlatColumnWorker extends ColumnWorker<BatchExchange.Batch> {
             }
             case Page.ByteArrayPage p -> {
                 BinaryBatchValues bbv = (BinaryBatchValues) values;
-                byte[][] pageValues = p.values();
-                boolean fixedLen = physicalType == PhysicalType.FIXED_LEN_BYTE_ARRAY;
-                for (int i = 0; i < length; i++) {
-                    byte[] val = pageValues[srcPos + i];
-                    int dest = destPos + i;
-                    if (val != null) {
-                        bbv.appendAt(dest, val, 0, val.length);
-                    }
-                    else if (!fixedLen) {
-                        bbv.appendAt(dest, EMPTY_BYTES, 0, 0);
-                    }
-                    // FIXED_LEN null: pre-filled trivial offsets are kept;
-                    // bytes content at this slot is undefined scratch.
-                }
+                bbv.appendRange(p, srcPos, destPos, length, physicalType == PhysicalType.FIXED_LEN_BYTE_ARRAY);
                 // Record per-value dictionary indices so stringAt can intern; a
                 // no-op for non-string columns, and plain/null values fall back
                 // to the packed-byte path (see BinaryBatchValues#recordDictIndices).
                 bbv.recordDictIndices(p.dictIndices(), p.dictionary(), srcPos, destPos, length);
                 markNulls(p.definitionLevels(), srcPos, destPos, length);
             }
+            case Page.DictionaryIdPage p -> {
+                if (dictionaryPassthrough) {
+                    System.arraycopy(p.ids(), srcPos, currentBatch.dictionaryIds, destPos, length);
+                }
+                else {
+                    resolveIds(p, srcPos, destPos, length);
+                }
+                markNulls(p.definitionLevels(), srcPos, destPos, length);
+            }
+        }
+    }
+
+    /// Writes the dictionary entries that `page.ids()[srcPos, srcPos + length)`
+    /// reference at batch positions `[destPos, destPos + length)`. A `-1` id
+    /// (a null) leaves a zero value, or an empty span for byte arrays.
+    private void resolveIds(Page.DictionaryIdPage page, int srcPos, int destPos, int length) {
+        int[] ids = page.ids();
+        Object values = currentBatch.values;
+        switch (page.dictionary()) {
+            case Dictionary.IntDictionary d -> {
+                int[] entries = d.values();
+                int[] out = (int[]) values;
+                for (int i = 0; i < length; i++) {
+                    int id = ids[srcPos + i];
+                    out[destPos + i] = id >= 0 ? entries[id] : 0;
+                }
+            }
+            case Dictionary.LongDictionary d -> {
+                long[] entries = d.values();
+                long[] out = (long[]) values;
+                for (int i = 0; i < length; i++) {
+                    int id = ids[srcPos + i];
+                    out[destPos + i] = id >= 0 ? entries[id] : 0L;
+                }
+            }
+            case Dictionary.FloatDictionary d -> {
+                float[] entries = d.values();
+                float[] out = (float[]) values;
+                for (int i = 0; i < length; i++) {
+                    int id = ids[srcPos + i];
+                    out[destPos + i] = id >= 0 ? entries[id] : 0f;
+                }
+            }
+            case Dictionary.DoubleDictionary d -> {
+                double[] entries = d.values();
+                double[] out = (double[]) values;
+                for (int i = 0; i < length; i++) {
+                    int id = ids[srcPos + i];
+                    out[destPos + i] = id >= 0 ? entries[id] : 0d;
+                }
+            }
+            case Dictionary.ByteArrayDictionary d -> {
+                byte[][] entries = d.values();
+                BinaryBatchValues bbv = (BinaryBatchValues) values;
+                boolean fixedLen = physicalType == PhysicalType.FIXED_LEN_BYTE_ARRAY;
+                for (int i = 0; i < length; i++) {
+                    int id = ids[srcPos + i];
+                    if (id >= 0) {
+                        bbv.appendAt(destPos + i, entries[id], 0, entries[id].length);
+                    }
+                    else {
+                        bbv.appendNulls(destPos + i, 1, fixedLen);
+                    }
+                }
+                bbv.recordDictIndices(ids, d, srcPos, destPos, length);
+            }
+        }
+    }
+
+    /// Copies positions `[srcPos, srcPos + length)` of a dense page (values of
+    /// present positions only, see [Page#validity]). Runs of present values are
+    /// bulk-copied from their dense index; runs of nulls are zeroed (or, for
+    /// byte arrays, get zero-length spans). The page's validity bits are then
+    /// merged into the batch bitmap word-wise.
+    private void copyDensePageData(Page page, long[] pageValidity, int srcPos, int destPos, int length) {
+        int end = srcPos + length;
+        int valueIndex = BitmapWords.countSetBits(pageValidity, 0, srcPos);
+        int pos = srcPos;
+        while (pos < end) {
+            int presentEnd = BitmapWords.nextClearBit(pageValidity, pos, end);
+            if (presentEnd > pos) {
+                copyPresentRun(page, valueIndex, destPos + (pos - srcPos), presentEnd - pos);
+                valueIndex += presentEnd - pos;
+                pos = presentEnd;
+            }
+            if (pos < end) {
+                int nullEnd = BitmapWords.nextSetBit(pageValidity, pos, end);
+                clearNullRun(destPos + (pos - srcPos), nullEnd - pos);
+                pos = nullEnd;
+            }
+        }
+        markValidity(pageValidity, srcPos, destPos, length);
+    }
+
+    private void copyPresentRun(Page page, int valueIndex, int destPos, int length) {
+        Object values = currentBatch.values;
+        switch (page) {
+            case Page.IntPage p -> System.arraycopy(p.values(), valueIndex, (int[]) values, destPos, length);
+            case Page.LongPage p -> System.arraycopy(p.values(), valueIndex, (long[]) values, destPos, length);
+            case Page.FloatPage p -> System.arraycopy(p.values(), valueIndex, (float[]) values, destPos, length);
+            case Page.DoublePage p -> System.arraycopy(p.values(), valueIndex, (double[]) values, destPos, length);
+            case Page.BooleanPage p -> System.arraycopy(p.values(), valueIndex, (boolean[]) values, destPos, length);
+            case Page.ByteArrayPage p -> {
+                BinaryBatchValues bbv = (BinaryBatchValues) values;
+                bbv.appendRange(p, valueIndex, destPos, length, physicalType == PhysicalType.FIXED_LEN_BYTE_ARRAY);
+                bbv.recordDictIndices(p.dictIndices(), p.dictionary(), valueIndex, destPos, length);
+            }
+            case Page.DictionaryIdPage p -> {
+                if (dictionaryPassthrough) {
+                    System.arraycopy(p.ids(), valueIndex, currentBatch.dictionaryIds, destPos, length);
+                }
+                else {
+                    resolveIds(p, valueIndex, destPos, length);
+                }
+            }
+        }
+    }
+
+    private void clearNullRun(int destPos, int length) {
+        if (currentBatch.dictionary != null) {
+            Arrays.fill(currentBatch.dictionaryIds, destPos, destPos + length, -1);
+            return;
+        }
+        switch (currentBatch.values) {
+            case int[] a -> Arrays.fill(a, destPos, destPos + length, 0);
+            case long[] a -> Arrays.fill(a, destPos, destPos + length, 0L);
+            case float[] a -> Arrays.fill(a, destPos, destPos + length, 0f);
+            case double[] a -> Arrays.fill(a, destPos, destPos + length, 0d);
+            case boolean[] a -> Arrays.fill(a, destPos, destPos + length, false);
+            case BinaryBatchValues bbv -> {
+                bbv.appendNulls(destPos, length, physicalType == PhysicalType.FIXED_LEN_BYTE_ARRAY);
+                bbv.recordDictIndices(null, null, 0, destPos, length);
+            }
+            default -> throw new IllegalStateException(
+                    "Unexpected batch values type: " + currentBatch.values.getClass());
+        }
+    }
+
+    /// [#markNulls] for a dense page: ORs the page's validity bits for the copied
+    /// range into the batch bitmap, keeping the same lazy switch-on as for
+    /// definition levels.
+    private void markValidity(long[] pageValidity, int srcPos, int destPos, int length) {
+        if (currentValidity == null) {
+            return;
+        }
+        if (!currentBatchHasAbsents) {
+            if (BitmapWords.nextClearBit(pageValidity, srcPos, srcPos + length) == srcPos + length) {
+                return;
+            }
+            currentBatchHasAbsents = true;
+            BitmapWords.setRange(currentValidity, 0, destPos);
         }
+        BitmapWords.orRange(pageValidity, srcPos, currentValidity, destPos, length);
     }
 
     /// Records a validity bit for each value just copied. Set bit means the
@@ -45,7 +45,7 @@ import dev.hardwood.schema.FileSchema;
 /// giving the JIT a single concrete class with monomorphic call sites. Supports all
 /// primitive types, logical type conversions (date, time, timestamp, decimal, UUID,
 /// string), and both name-based and index-based access.
-public final class FlatRowReader implements RowReader {
+public final class FlatRowReader implements RowReader, BinaryColumnView {
 
     /// Sentinel for "every leaf in the batch is present" — replaces the
     /// nullable validity reference on the hot path so the per-row check
@@ -279,8 +279,9 @@ public final class FlatRowReader implements RowReader {
             ColumnBatchMatcher columnFilter = allocateMatches ? columnBatchMatchers[i] : null;
             FlatColumnWorker worker = new FlatColumnWorker(
                     pageSource, buffer, columnSchema, batchSize,
-                    context.decompressorFactory(), context.executor(), workerMaxRows,
+                    context.decompressorFactory(), context.decodeExecutor(), workerMaxRows,
                     columnFilter, drainSide);
+            worker.useMemoryBudget(context.memoryBudget());
 
             buffers[i] = buffer;
             workers[i] = worker;
@@ -560,6 +561,17 @@ public final class FlatRowReader implements RowReader {
         return getBinary(resolveIndex(name));
     }
 
+    @Override
+    public BinaryBatchValues binaryValues(String name) {
+        int index = nameToIndex.get(name);
+        return index >= 0 && flatValueArrays[index] instanceof BinaryBatchValues values ? values : null;
+    }
+
+    @Override
+    public int valueIndex() {
+        return rowIndex;
+    }
+
     // ==================== Logical Type Accessors ====================
 
     @Override
@@ -7,35 +7,53 @@
  */
 package dev.hardwood.internal.reader;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import dev.hardwood.DecodeQueueStats;
 import dev.hardwood.HardwoodContext;
+import dev.hardwood.MemoryBudgetUsage;
 import dev.hardwood.internal.compression.DecompressorFactory;
 import dev.hardwood.internal.compression.libdeflate.LibdeflateLoader;
 import dev.hardwood.internal.compression.libdeflate.LibdeflatePool;
+import dev.hardwood.reader.DecodePriority;
 
 /// Internal implementation of [HardwoodContext].
 ///
 /// Holds the thread pool for parallel page decoding, the libdeflate
-/// decompressor pool for native GZIP decompression, and the decompressor factory.
+/// decompressor pool for native GZIP decompression, the decompressor factory,
+/// the [MemoryBudget] shared by the column pipelines of its readers, and the
+/// [DecodeScheduler] that shares the thread pool fairly between them.
+///
+/// A reader runs against a view from [#withDecodePriority], which shares all of
+/// these but submits its decodes through a lane of its own.
 public class HardwoodContextImpl implements HardwoodContext {
 
     private static final String USE_LIBDEFLATE_PROPERTY = "hardwood.uselibdeflate";
+    private static final String MEMORY_BUDGET_PROPERTY = "hardwood.memoryBudgetBytes";
 
     private static final System.Logger LOG = System.getLogger(HardwoodContextImpl.class.getName());
 
     private final ExecutorService executor;
     private final LibdeflatePool libdeflatePool;
     private final DecompressorFactory decompressorFactory;
+    private final MemoryBudget memoryBudget;
+    private final DecodeScheduler decodeScheduler;
+    private final DecodeScheduler.Lane decodeLane;
 
-    private HardwoodContextImpl(ExecutorService executor, LibdeflatePool libdeflatePool) {
+    private HardwoodContextImpl(ExecutorService executor, LibdeflatePool libdeflatePool,
+                                DecompressorFactory decompressorFactory, MemoryBudget memoryBudget,
+                                DecodeScheduler decodeScheduler, DecodePriority decodePriority) {
         this.executor = executor;
         this.libdeflatePool = libdeflatePool;
-        this.decompressorFactory = new DecompressorFactory(libdeflatePool);
+        this.decompressorFactory = decompressorFactory;
+        this.memoryBudget = memoryBudget;
+        this.decodeScheduler = decodeScheduler;
+        this.decodeLane = decodeScheduler.newLane(decodePriority);
     }
 
     /// Create a new context with a thread pool sized to available processors.
@@ -43,8 +61,16 @@ public class HardwoodContextImpl implements HardwoodContext {
         return create(Runtime.getRuntime().availableProcessors());
     }
 
-    /// Create a new context with a thread pool of the specified size.
+    /// Create a new context with a thread pool of the specified size. The memory
+    /// budget is unbounded unless the `hardwood.memoryBudgetBytes` system property sets one.
     public static HardwoodContextImpl create(int threads) {
+        return create(threads, Long.getLong(MEMORY_BUDGET_PROPERTY, MemoryBudget.UNBOUNDED));
+    }
+
+    /// Create a new context with a thread pool of the specified size and a
+    /// memory budget of `memoryBudgetBytes`.
+    public static HardwoodContextImpl create(int threads, long memoryBudgetBytes) {
+        MemoryBudget memoryBudget = new MemoryBudget(memoryBudgetBytes);
         AtomicInteger threadCounter = new AtomicInteger(0);
         ThreadFactory threadFactory = r -> {
             Thread t = new Thread(r, "hardwood-" + threadCounter.getAndIncrement());
@@ -53,7 +79,8 @@ public class HardwoodContextImpl implements HardwoodContext {
         };
         ExecutorService executor = Executors.newFixedThreadPool(threads, threadFactory);
         LibdeflatePool libdeflatePool = createLibdeflatePoolIfAvailable();
-        return new HardwoodContextImpl(executor, libdeflatePool);
+        return new HardwoodContextImpl(executor, libdeflatePool, new DecompressorFactory(libdeflatePool),
+                memoryBudget, new DecodeScheduler(executor), DecodePriority.NORMAL);
     }
 
     private static LibdeflatePool createLibdeflatePoolIfAvailable() {
@@ -84,6 +111,35 @@ public class HardwoodContextImpl implements HardwoodContext {
         return decompressorFactory;
     }
 
+    /// Returns a view of this context for one reader: it shares every resource,
+    /// and closing it closes them, but its [#decodeExecutor()] is a new lane of
+    /// `priority` in the shared [DecodeScheduler].
+    public HardwoodContextImpl withDecodePriority(DecodePriority priority) {
+        return new HardwoodContextImpl(executor, libdeflatePool, decompressorFactory, memoryBudget,
+                decodeScheduler, priority);
+    }
+
+    /// Get the executor the column pipelines submit page decodes to: this
+    /// context's lane in the [DecodeScheduler], running on [#executor()].
+    public Executor decodeExecutor() {
+        return decodeLane;
+    }
+
+    @Override
+    public DecodeQueueStats decodeQueueStats(DecodePriority priority) {
+        return decodeScheduler.stats(priority);
+    }
+
+    /// Get the memory budget shared by the column pipelines of this context's readers.
+    public MemoryBudget memoryBudget() {
+        return memoryBudget;
+    }
+
+    @Override
+    public MemoryBudgetUsage memoryUsage() {
+        return memoryBudget.usage();
+    }
+
     @Override
     public void close() {
         executor.shutdownNow();
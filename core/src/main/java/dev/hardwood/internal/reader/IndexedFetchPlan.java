@@ -10,12 +10,11 @@ package dev.hardwood.internal.reader;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.concurrent.CompletableFuture;
 
-import dev.hardwood.internal.FetchReason;
 import dev.hardwood.jfr.RowGroupScannedEvent;
 import dev.hardwood.metadata.ColumnChunk;
 import dev.hardwood.metadata.ColumnMetaData;
@@ -27,7 +26,7 @@ import dev.hardwood.schema.ColumnSchema;
 /// Pages are pre-computed at plan time from the OffsetIndex (with filter and
 /// maxRows already applied). Byte data and dictionary parsing are deferred
 /// until the iterator is first advanced — no I/O happens at plan time.
-final class IndexedFetchPlan implements FetchPlan, RowGroupIterator.CoalescableFirstChunk {
+final class IndexedFetchPlan implements FetchPlan, RowGroupIoPlanner.CoalescableReads {
 
     private final List<RowGroupIterator.NeededPage> neededPages;
     private final List<RowGroupIterator.PageGroup> pageGroups;
@@ -63,13 +62,8 @@ final class IndexedFetchPlan implements FetchPlan, RowGroupIterator.CoalescableF
     }
 
     @Override
-    public void prefetch() {
-        if (!chunkHandles.isEmpty()) {
-            // FetchReason.bind carries the caller's reason (e.g.
-            // "prefetch rg=2") to the worker thread; otherwise the
-            // underlying readRange would log as `unattributed`.
-            CompletableFuture.runAsync(FetchReason.bind(chunkHandles.get(0)::ensureFetched));
-        }
+    public ChunkHandle firstChunk() {
+        return chunkHandles.isEmpty() ? null : chunkHandles.get(0);
     }
 
     @Override
@@ -77,47 +71,29 @@ final class IndexedFetchPlan implements FetchPlan, RowGroupIterator.CoalescableF
         return new PageIterator();
     }
 
+    /// One handle per page group; every group may be served from a shared
+    /// region, since the iterator never reads outside them.
     @Override
-    public long firstChunkOffset() {
-        return chunkHandles.isEmpty() ? 0 : chunkHandles.get(0).fileOffset();
+    public List<ChunkHandle> plannedChunks() {
+        return chunkHandles;
     }
 
     @Override
-    public int firstChunkLength() {
-        return chunkHandles.isEmpty() ? 0 : chunkHandles.get(0).length();
+    public boolean readsPastPlannedChunks() {
+        return false;
     }
 
-    /// Coalesce-safe iff the column has a single page group. Multiple
-    /// groups mean a filter dropped pages, leaving intra-column gaps —
-    /// bridging to neighbour columns would pull dropped bytes into the
-    /// shared region and double-fetch the later page groups.
+    /// Swaps in the region-backed handle and relinks the per-column pre-fetch
+    /// chain through it.
     @Override
-    public boolean isCoalesceSafe() {
-        return chunkHandles.size() == 1;
-    }
-
-    /// Replaces the *first* chunk handle with a region-backed view.
-    /// Subsequent page-group handles (when filter / maxRows / large
-    /// chunks produced multiple groups) keep their per-column reads —
-    /// cross-column coalescing only spans the first read of each column.
-    @Override
-    public void attachSharedRegion(SharedRegion region, int rowGroupIndex) {
-        if (chunkHandles.isEmpty()) {
-            return;
-        }
-        ChunkHandle original = chunkHandles.get(0);
-        ChunkHandle replacement = new ChunkHandle(region,
-                original.fileOffset(), original.length(),
-                "rg=" + rowGroupIndex + " col='" + columnSchema.name()
-                        + "' pageGroup=1 (region-backed)");
-        if (chunkHandles.size() > 1) {
-            replacement.setNextChunk(chunkHandles.get(1));
+    public void replacePlannedChunk(int index, ChunkHandle replacement) {
+        List<ChunkHandle> rebuilt = new ArrayList<>(chunkHandles);
+        rebuilt.set(index, replacement);
+        if (index > 0) {
+            rebuilt.get(index - 1).setNextChunk(replacement);
         }
-        // Rebuild the immutable list with the replacement at index 0.
-        List<ChunkHandle> rebuilt = new java.util.ArrayList<>(chunkHandles.size());
-        rebuilt.add(replacement);
-        for (int i = 1; i < chunkHandles.size(); i++) {
-            rebuilt.add(chunkHandles.get(i));
+        if (index < rebuilt.size() - 1) {
+            replacement.setNextChunk(rebuilt.get(index + 1));
         }
         this.chunkHandles = rebuilt;
     }
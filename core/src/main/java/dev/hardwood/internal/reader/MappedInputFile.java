@@ -13,6 +13,10 @@ import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 import dev.hardwood.InputFile;
 import dev.hardwood.internal.ExceptionContext;
@@ -41,8 +45,18 @@ import dev.hardwood.jfr.FileMappingEvent;
 /// so against a larger-than-2 GB file they intend to keep reading. The up-to-2 GB
 /// path is unaffected: its channel is closed before any read, so reads are pure
 /// mapped-memory slices with no channel operation to interrupt.
+///
+/// **Vectored reads.** [#readRanges] slices the whole-file mapping directly. In
+/// the larger-than-2 GB path it maps each cluster of nearby ranges once and
+/// slices the requested ranges out of that mapping, instead of issuing one
+/// `FileChannel.map` per range.
 public class MappedInputFile implements InputFile {
 
+    /// Maximum gap (in bytes) between two requested ranges that [#readRanges]
+    /// bridges with a single mapping in the larger-than-2 GB path. Mapping the
+    /// gap only reserves address space; untouched pages are never faulted in.
+    private static final long MAX_MAPPING_GAP_BYTES = 8L * 1024 * 1024;
+
     private final Path path;
     private final String name;
 
@@ -113,6 +127,61 @@ public class MappedInputFile implements InputFile {
         return map(channel, offset, length);
     }
 
+    @Override
+    public List<ByteBuffer> readRanges(List<Range> ranges) throws IOException {
+        if (channel == null) {
+            // Whole-file mode (or not opened, which readRange reports): slices are free.
+            return InputFile.super.readRanges(ranges);
+        }
+        for (Range range : ranges) {
+            if (range.offset() > size - range.length()) {
+                throw new IndexOutOfBoundsException(ExceptionContext.filePrefix(name)
+                        + "readRange(" + range.offset() + ", " + range.length()
+                        + ") out of bounds (" + size + " bytes)");
+            }
+        }
+
+        // Visit the ranges in file order and map each cluster of nearby ranges once.
+        Integer[] order = new Integer[ranges.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> ranges.get(i).offset()));
+
+        ByteBuffer[] result = new ByteBuffer[ranges.size()];
+        List<Integer> cluster = new ArrayList<>();
+        long clusterStart = 0;
+        long clusterEnd = 0;
+        for (int i : order) {
+            Range range = ranges.get(i);
+            boolean fits = !cluster.isEmpty()
+                    && range.offset() - clusterEnd <= MAX_MAPPING_GAP_BYTES
+                    && Math.max(clusterEnd, range.end()) - clusterStart <= Integer.MAX_VALUE;
+            if (!fits) {
+                mapCluster(ranges, cluster, clusterStart, clusterEnd, result);
+                cluster.clear();
+                clusterStart = range.offset();
+                clusterEnd = range.end();
+            }
+            cluster.add(i);
+            clusterEnd = Math.max(clusterEnd, range.end());
+        }
+        mapCluster(ranges, cluster, clusterStart, clusterEnd, result);
+        return Arrays.asList(result);
+    }
+
+    private void mapCluster(List<Range> ranges, List<Integer> cluster, long start, long end,
+                            ByteBuffer[] result) throws IOException {
+        if (cluster.isEmpty()) {
+            return;
+        }
+        MappedByteBuffer region = map(channel, start, end - start);
+        for (int i : cluster) {
+            Range range = ranges.get(i);
+            result[i] = region.slice(Math.toIntExact(range.offset() - start), range.length());
+        }
+    }
+
     @Override
     public long length() {
         if (wholeFile != null) {
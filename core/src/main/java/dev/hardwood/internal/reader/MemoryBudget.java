@@ -0,0 +1,157 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+import dev.hardwood.MemoryBudgetUsage;
+
+/// Byte budget shared by every reader of one [HardwoodContextImpl], bounding the
+/// fetched chunk bytes, decoded pages and ready batches of its column pipelines.
+///
+/// Retrievers [#acquire] a page's estimated footprint before submitting its decode
+/// and the drain [#release]s it once the page is assembled. Chunk and region reads
+/// are charged through a [FetchCharge] until their row group is evicted: reads made
+/// ahead of demand must fit ([#tryAcquire(long)]), the read a retriever is blocked
+/// on is [#reserve]d. The batch holders of a worker's [BatchExchange] are reserved
+/// up front for the worker's lifetime.
+///
+/// Admission is soft by one page per worker: a caller that holds nothing is always
+/// admitted. Workers of one reader advance in lockstep, so a column that could not
+/// get its next page in while the others hold the whole budget would stall the
+/// consumer and with it every release. Reservations are not admitted at all, so
+/// batch holders and demand reads alone may take usage past the budget; admission
+/// then holds every worker to that one page and stops reads ahead of demand.
+public final class MemoryBudget {
+
+    /// Budget that never throttles; usage is still tracked.
+    public static final long UNBOUNDED = Long.MAX_VALUE;
+
+    private final long budgetBytes;
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final AtomicLong peakBytes = new AtomicLong();
+    private final AtomicLong throttledAdmissions = new AtomicLong();
+
+    // === Waiting acquirers: parked on `released`, signalled by release() ===
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    /// Creates a budget of `budgetBytes`; [#UNBOUNDED] disables admission control.
+    public MemoryBudget(long budgetBytes) {
+        if (budgetBytes <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive, got " + budgetBytes);
+        }
+        this.budgetBytes = budgetBytes;
+    }
+
+    /// Returns the budget in bytes.
+    public long budgetBytes() {
+        return budgetBytes;
+    }
+
+    /// Returns the bytes currently admitted.
+    public long usedBytes() {
+        return usedBytes.get();
+    }
+
+    /// Returns a snapshot of the budget's usage metrics.
+    public MemoryBudgetUsage usage() {
+        return new MemoryBudgetUsage(budgetBytes, usedBytes.get(), peakBytes.get(), throttledAdmissions.get());
+    }
+
+    /// Admits `bytes`, waiting while they would exceed the budget. A caller
+    /// that currently `holds` nothing is admitted regardless. Each wait counts
+    /// as a throttled admission in [#usage()].
+    ///
+    /// @param bytes the bytes to admit
+    /// @param holds the bytes the caller already holds against this budget; polled
+    ///        while waiting, as the caller's own releases may bring it to zero
+    /// @param cancelled polled while waiting; once it returns `true` the wait is abandoned
+    /// @return `true` if the bytes were admitted, `false` if cancelled first
+    public boolean acquire(long bytes, LongSupplier holds, BooleanSupplier cancelled) throws InterruptedException {
+        if (tryAcquire(bytes, holds.getAsLong())) {
+            return true;
+        }
+        throttledAdmissions.incrementAndGet();
+        waiters.incrementAndGet();
+        lock.lock();
+        try {
+            // Timed waits, like the BatchExchange queues, so cancellation is observed
+            // even when no release arrives to signal.
+            while (!tryAcquire(bytes, holds.getAsLong())) {
+                if (cancelled.getAsBoolean()) {
+                    return false;
+                }
+                released.await(10, TimeUnit.MILLISECONDS);
+            }
+            return true;
+        }
+        finally {
+            lock.unlock();
+            waiters.decrementAndGet();
+        }
+    }
+
+    /// Admits `bytes` only if they fit the budget, without waiting. Used for reads
+    /// ahead of demand, which are skipped rather than overdrawn.
+    public boolean tryAcquire(long bytes) {
+        return tryAcquire(bytes, Long.MAX_VALUE);
+    }
+
+    /// Charges `bytes` without waiting, for memory that is held whether or not
+    /// the budget allows it.
+    public void reserve(long bytes) {
+        recordPeak(usedBytes.addAndGet(bytes));
+    }
+
+    /// Returns `bytes` previously acquired or reserved.
+    public void release(long bytes) {
+        if (bytes == 0) {
+            return;
+        }
+        usedBytes.addAndGet(-bytes);
+        if (waiters.get() > 0) {
+            lock.lock();
+            try {
+                released.signalAll();
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /// Admits `bytes` if they fit the budget, or if the caller `holds` nothing,
+    /// without waiting.
+    public boolean tryAcquire(long bytes, long holds) {
+        while (true) {
+            long used = usedBytes.get();
+            if (holds > 0 && used + bytes > budgetBytes) {
+                return false;
+            }
+            if (usedBytes.compareAndSet(used, used + bytes)) {
+                recordPeak(used + bytes);
+                return true;
+            }
+        }
+    }
+
+    private void recordPeak(long used) {
+        long peak;
+        while (used > (peak = peakBytes.get()) && !peakBytes.compareAndSet(peak, used)) {
+            // retry against the newer peak
+        }
+    }
+}
@@ -56,6 +56,12 @@ public final class NestedBatch {
     public long[] elementValidity;
     public int[][] multiLevelOffsets;
 
+    /// Per-record matches mask, populated on the drain thread by the column's
+    /// [dev.hardwood.internal.predicate.ColumnBatchMatcher] when drain-side
+    /// filtering is enabled for this (non-repeated) column. `null` means "no
+    /// fragment for this column". Sized to `(batchCapacity + 63) >>> 6`.
+    public long[] matches;
+
     /// Real-items view, computed by the drain on the [dev.hardwood.reader.ColumnReader]
     /// (real-items) path so the serial consumer reads it without a level scan.
     /// `null` on the all-items path and on batches derived by consumer-side record
@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.concurrent.Executor;
 
 import dev.hardwood.internal.compression.DecompressorFactory;
+import dev.hardwood.internal.predicate.ColumnBatchMatcher;
 import dev.hardwood.metadata.PhysicalType;
 import dev.hardwood.schema.ColumnSchema;
 
@@ -41,6 +42,13 @@ public class NestedColumnWorker extends ColumnWorker<NestedBatch> {
 
     private final IndexMode indexMode;
 
+    /// Drain-side filter fragment for this column, or `null`.
+    private final ColumnBatchMatcher columnFilter;
+    /// Flat view of the batch being published, handed to [#columnFilter]: a
+    /// non-repeated column's values and element validity are already
+    /// record-indexed, so they are the flat batch's values and validity.
+    private final BatchExchange.Batch filterView;
+
     // --- Nested assembly state (drain thread only) ---
     private Object nestedValues;
     private int[] nestedDefLevels;
@@ -109,11 +117,35 @@ public class NestedColumnWorker extends ColumnWorker<NestedBatch> {
                               NestedLevelComputer.Layers layers,
                               IndexMode indexMode,
                               boolean fixedListFastPathEnabled) {
+        this(pageSource, exchange, column, batchCapacity, decompressorFactory,
+             decodeExecutor, maxRows, layers, indexMode, fixedListFastPathEnabled, null);
+    }
+
+    /// @param columnFilter optional drain-side per-column filter, evaluated on every
+    ///        batch after its index is computed and written into [NestedBatch#matches].
+    ///        Only valid for a non-repeated column on the `ALL_ITEMS` path, where the
+    ///        batch holds one value slot per record and the element validity is the
+    ///        record's leaf presence.
+    public NestedColumnWorker(PageSource pageSource, BatchExchange<NestedBatch> exchange,
+                              ColumnSchema column, int batchCapacity,
+                              DecompressorFactory decompressorFactory,
+                              Executor decodeExecutor, long maxRows,
+                              NestedLevelComputer.Layers layers,
+                              IndexMode indexMode,
+                              boolean fixedListFastPathEnabled,
+                              ColumnBatchMatcher columnFilter) {
         super(pageSource, exchange, column, batchCapacity, decompressorFactory,
               decodeExecutor, maxRows);
+        if (columnFilter != null
+                && (column.maxRepetitionLevel() != 0 || indexMode != IndexMode.ALL_ITEMS)) {
+            throw new IllegalArgumentException("Drain-side filter on column '" + column.name()
+                    + "' requires a non-repeated column on the all-items path");
+        }
         this.layers = layers;
         this.indexMode = indexMode;
         this.fixedListFastPathEnabled = fixedListFastPathEnabled;
+        this.columnFilter = columnFilter;
+        this.filterView = columnFilter != null ? new BatchExchange.Batch() : null;
     }
 
     @Override
@@ -480,6 +512,12 @@ public class NestedColumnWorker extends ColumnWorker<NestedBatch> {
         // Compute index structures before publishing so the consumer thread
         // doesn't need to do expensive index computation.
         computeIndex(currentBatch);
+        if (columnFilter != null) {
+            filterView.values = currentBatch.values;
+            filterView.validity = currentBatch.elementValidity;
+            filterView.recordCount = rowsInCurrentBatch;
+            columnFilter.test(filterView, currentBatch.matches);
+        }
 
         long t0 = System.nanoTime();
         try {
@@ -634,8 +672,6 @@ public class NestedColumnWorker extends ColumnWorker<NestedBatch> {
 
     // ==================== Nested Helpers ====================
 
-    private static final byte[] EMPTY_BYTES = new byte[0];
-
     /// Copies a single value from a page into the batch values array.
     /// For byte-array physical types, the value is appended into the
     /// shared bytes buffer of [BinaryBatchValues] and its offsets are
@@ -650,21 +686,16 @@ public class NestedColumnWorker extends ColumnWorker<NestedBatch> {
             case Page.DoublePage p -> ((double[]) destValues)[destIndex] = p.values()[srcIndex];
             case Page.BooleanPage p -> ((boolean[]) destValues)[destIndex] = p.values()[srcIndex];
             case Page.ByteArrayPage p -> {
-                byte[] val = p.values()[srcIndex];
                 BinaryBatchValues bbv = (BinaryBatchValues) destValues;
-                if (val != null) {
-                    bbv.appendAt(destIndex, val, 0, val.length);
-                }
-                else if (physicalType != PhysicalType.FIXED_LEN_BYTE_ARRAY) {
-                    // Variable-length null: zero-length span at this index.
-                    bbv.appendAt(destIndex, EMPTY_BYTES, 0, 0);
-                }
-                // FIXED_LEN null: trivial offsets stay; bytes content is undefined.
+                bbv.appendValue(p, srcIndex, destIndex, physicalType == PhysicalType.FIXED_LEN_BYTE_ARRAY);
                 // Record the per-value dictionary index so stringAt can intern; a
                 // no-op for non-string columns, and plain/null values fall back
                 // to the packed-byte path (see BinaryBatchValues#recordDictIndex).
                 bbv.recordDictIndex(p.dictIndices(), p.dictionary(), srcIndex, destIndex);
             }
+            // Nested workers never request dictionary passthrough.
+            case Page.DictionaryIdPage p -> throw new IllegalStateException(
+                    "dictionary id page unexpected in nested assembly");
         }
     }
 
@@ -741,6 +772,8 @@ public class NestedColumnWorker extends ColumnWorker<NestedBatch> {
             // never reaches fixed-width assembly.
             case Page.ByteArrayPage p -> throw new IllegalStateException(
                     "byte-array element unexpected on the fixed-size-list fast path");
+            case Page.DictionaryIdPage p -> throw new IllegalStateException(
+                    "dictionary id page unexpected in nested assembly");
         }
     }
 
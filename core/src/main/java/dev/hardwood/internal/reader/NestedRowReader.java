@@ -17,6 +17,11 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 
+import dev.hardwood.internal.predicate.BatchFilterCompiler;
+import dev.hardwood.internal.predicate.ColumnBatchMatcher;
+import dev.hardwood.internal.predicate.CompiledBatchFilter;
+import dev.hardwood.internal.predicate.MergePlan;
+import dev.hardwood.internal.predicate.MergePlanEvaluator;
 import dev.hardwood.internal.predicate.RecordFilterCompiler;
 import dev.hardwood.internal.predicate.ResolvedPredicate;
 import dev.hardwood.internal.predicate.RowMatcher;
@@ -57,9 +62,35 @@ public final class NestedRowReader implements RowReader {
     private boolean exhausted;
     private boolean closed;
 
+    // Drain-side filter path (see FlatRowReader): the workers of the filtered
+    // non-repeated columns publish per-record matches, merged here per batch.
+    // `null` / inactive when the reader is unfiltered or uses FilteredRowReader.
+    private final MergePlan mergePlan;
+    private final MergePlanEvaluator mergeEvaluator;
+    private final long[][] perColumnMatches;
+    /// Combined matches of the current batch: the single filtered column's own
+    /// array, or an owned buffer the evaluator fills.
+    private long[] combinedWords;
+    private int pendingRowIndex = -1;
+    /// Cap on matching rows yielded on the drain-side path (SQL LIMIT);
+    /// [ColumnWorker#UNLIMITED] means no cap.
+    private final long maxMatchedRows;
+    private long matchedRowsYielded;
 
     NestedRowReader(BatchExchange<NestedBatch>[] exchanges, NestedColumnWorker[] columnWorkers,
                     FileSchema fileSchema, ProjectedSchema projectedSchema) {
+        this(exchanges, columnWorkers, fileSchema, projectedSchema, null, 0, ColumnWorker.UNLIMITED);
+    }
+
+    NestedRowReader(BatchExchange<NestedBatch>[] exchanges, NestedColumnWorker[] columnWorkers,
+                    FileSchema fileSchema, ProjectedSchema projectedSchema,
+                    MergePlan mergePlan, int wordsLen, long maxMatchedRows) {
+        this.mergePlan = mergePlan;
+        boolean needsOwnedBuffer = mergePlan != null && !(mergePlan instanceof MergePlan.Column);
+        this.mergeEvaluator = needsOwnedBuffer ? new MergePlanEvaluator(wordsLen) : null;
+        this.combinedWords = needsOwnedBuffer ? new long[wordsLen] : null;
+        this.perColumnMatches = needsOwnedBuffer ? new long[exchanges.length][] : null;
+        this.maxMatchedRows = maxMatchedRows;
         this.exchanges = exchanges;
         this.columnWorkers = columnWorkers;
         this.columnCount = exchanges.length;
@@ -89,7 +120,10 @@ public final class NestedRowReader implements RowReader {
     ///
     /// Wires up `RowGroupIterator → PageSource → NestedColumnWorker → BatchExchange →
     /// NestedRowReader`, starts all column workers, and initializes the reader.
-    /// When a filter is present, wraps in [FilteredRowReader] for record-level filtering.
+    /// When a filter is present and [BatchFilterCompiler] accepts it — every leaf
+    /// on a non-repeated column, top-level or inside structs — the workers of the
+    /// filtered columns evaluate it drain-side and the reader skips non-matching
+    /// records itself; any other filter wraps the reader in [FilteredRowReader].
     ///
     /// @param rowGroupIterator pre-configured iterator
     /// @param schema the file schema
@@ -122,8 +156,14 @@ public final class NestedRowReader implements RowReader {
                 BatchSizing.valuesPerRow(projectedSchema, rowGroups));
         int projectedColumnCount = projectedSchema.getProjectedColumnCount();
         // With a row-level filter, `maxRows` caps *matching* rows (SQL LIMIT), so the
-        // workers scan unbounded, and the FilteredRowReader wrapper enforces the cap.
+        // workers scan unbounded, and the reader (drain-side) or the FilteredRowReader
+        // wrapper enforces the cap.
         long workerMaxRows = filter != null ? ColumnWorker.UNLIMITED : maxRows;
+        CompiledBatchFilter compiledFilter = filter != null
+                ? BatchFilterCompiler.tryCompile(filter, schema, projectedSchema::toProjectedIndex, true)
+                : null;
+        ColumnBatchMatcher[] columnBatchMatchers = compiledFilter != null ? compiledFilter.columnMatchers() : null;
+        int wordsLen = (batchSize + 63) >>> 6;
         NestedColumnWorker[] workers = new NestedColumnWorker[projectedColumnCount];
         @SuppressWarnings("unchecked")
         BatchExchange<NestedBatch>[] buffers = new BatchExchange[projectedColumnCount];
@@ -134,24 +174,38 @@ public final class NestedRowReader implements RowReader {
 
             PageSource pageSource = new PageSource(rowGroupIterator, i);
 
+            ColumnBatchMatcher columnFilter = columnBatchMatchers != null && i < columnBatchMatchers.length
+                    ? columnBatchMatchers[i]
+                    : null;
             BatchExchange<NestedBatch> buffer = BatchExchange.recycling(
                     columnSchema.name(), () -> {
                         NestedBatch b = new NestedBatch();
                         b.values = BatchExchange.allocateArray(columnSchema, batchSize);
+                        if (columnFilter != null) {
+                            b.matches = new long[wordsLen];
+                        }
                         return b;
                     });
             NestedLevelComputer.Layers layers = NestedLevelComputer.computeLayers(
                     schema.getRootNode(), columnSchema.columnIndex());
             NestedColumnWorker worker = new NestedColumnWorker(
                     pageSource, buffer, columnSchema, batchSize,
-                    context.decompressorFactory(), context.executor(), workerMaxRows,
-                    layers, NestedColumnWorker.IndexMode.ALL_ITEMS, fixedListFastPathEnabled);
+                    context.decompressorFactory(), context.decodeExecutor(), workerMaxRows,
+                    layers, NestedColumnWorker.IndexMode.ALL_ITEMS, fixedListFastPathEnabled,
+                    columnFilter);
+            worker.useMemoryBudget(context.memoryBudget());
 
             buffers[i] = buffer;
             workers[i] = worker;
             worker.start();
         }
 
+        if (compiledFilter != null) {
+            NestedRowReader reader = new NestedRowReader(buffers, workers, schema, projectedSchema,
+                    compiledFilter.mergePlan(), wordsLen, maxRows);
+            reader.initialize();
+            return reader;
+        }
         NestedRowReader reader = new NestedRowReader(buffers, workers, schema, projectedSchema);
         reader.initialize();
         if (filter != null) {
@@ -214,6 +268,25 @@ public final class NestedRowReader implements RowReader {
         if (exhausted) {
             return false;
         }
+        if (mergePlan != null) {
+            if (maxMatchedRows != ColumnWorker.UNLIMITED && matchedRowsYielded >= maxMatchedRows) {
+                exhausted = true;
+                return false;
+            }
+            if (pendingRowIndex >= 0) {
+                return true;
+            }
+            while (true) {
+                int next = BitmapWords.nextSetBit(combinedWords, rowIndex + 1, batchSize);
+                if (next < batchSize) {
+                    pendingRowIndex = next;
+                    return true;
+                }
+                if (!loadNextBatch()) {
+                    return false;
+                }
+            }
+        }
         if (rowIndex + 1 < batchSize) {
             return true;
         }
@@ -222,6 +295,16 @@ public final class NestedRowReader implements RowReader {
 
     @Override
     public void next() {
+        if (mergePlan != null) {
+            if (pendingRowIndex < 0) {
+                throw new NoSuchElementException("No matching row available. Call hasNext() first.");
+            }
+            rowIndex = pendingRowIndex;
+            pendingRowIndex = -1;
+            matchedRowsYielded++;
+            dataView.setRowIndex(rowIndex);
+            return;
+        }
         // Fail early on an unguarded next() past the batch rather than letting
         // rowIndex point into the capacity tail and expose phantom/stale rows.
         // After any hasNext() == true this check never trips (a freshly loaded
@@ -276,9 +359,25 @@ public final class NestedRowReader implements RowReader {
         // Index structures are pre-computed by the drain — just assemble the view
         dataView.setBatchData(batches, columnSchemas, batches[0].fileName);
         rowIndex = -1;
+        if (mergePlan != null) {
+            intersectMatches(batches);
+        }
         return true;
     }
 
+    /// Merges the filtered columns' per-record matches of the current batch into
+    /// [#combinedWords]; a single-column plan aliases that column's array.
+    private void intersectMatches(NestedBatch[] batches) {
+        if (mergePlan instanceof MergePlan.Column c) {
+            combinedWords = batches[c.projectedIndex()].matches;
+            return;
+        }
+        for (int i = 0; i < columnCount; i++) {
+            perColumnMatches[i] = batches[i].matches;
+        }
+        mergeEvaluator.eval(mergePlan, combinedWords, (batchSize + 63) >>> 6, perColumnMatches);
+    }
+
     // ==================== Accessors (delegate to NestedBatchDataView) ====================
 
     @Override public boolean isNull(int i) { return dataView.isNull(i); }
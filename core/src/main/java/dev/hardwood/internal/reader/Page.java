@@ -7,6 +7,8 @@
  */
 package dev.hardwood.internal.reader;
 
+import java.util.Arrays;
+
 /// Sealed interface for typed column page data with primitive arrays.
 ///
 /// This eliminates boxing overhead by storing values directly in typed arrays.
@@ -20,6 +22,9 @@ package dev.hardwood.internal.reader;
 /// - [FloatPage] - FLOAT
 /// - [DoublePage] - DOUBLE
 /// - [ByteArrayPage] - BYTE_ARRAY, FIXED_LEN_BYTE_ARRAY, INT96
+///
+/// plus [DictionaryIdPage], the undecoded entry indices of a dictionary-encoded
+/// page of any physical type, produced only in dictionary passthrough mode.
 public sealed interface Page {
 
     int size();
@@ -43,16 +48,38 @@ public sealed interface Page {
     /// nested columns), so callers test presence without inspecting per-value
     /// levels. A repetition-level array is still present for nested columns.
     default boolean allPresent() {
-        return definitionLevels() == null;
+        return definitionLevels() == null && validity() == null;
     }
 
     default boolean isNull(int index) {
+        long[] validity = validity();
+        if (validity != null) {
+            return (validity[index >>> 6] & (1L << index)) == 0;
+        }
         if (allPresent()) {
             return false;
         }
         return definitionLevels()[index] < maxDefinitionLevel();
     }
 
+    /// Presence bits of a flat optional page (`maxDefinitionLevel == 1`,
+    /// no repetition) whose definition levels were decoded straight into a
+    /// bitmap: bit `i` is set when value `i` is present. `null` otherwise.
+    ///
+    /// A page with validity is **dense**: [#definitionLevels] is `null` and the
+    /// value arrays hold only the present values, in order, so value `i`
+    /// lives at [#valueIndex] `(i)`. Produced only for [FlatColumnWorker],
+    /// whose drain scatters dense values into the batch; see [Page#withValidity].
+    long[] validity();
+
+    /// Index into this page's value arrays of the value at position `index`:
+    /// `index` itself, or the number of present values before it on a dense
+    /// page.
+    default int valueIndex(int index) {
+        long[] validity = validity();
+        return validity == null ? index : BitmapWords.countSetBits(validity, 0, index);
+    }
+
     /// Returns a copy of `page` marked as a fixed-width fixed-size-list page with
     /// the given element count. The values are shared; the level arrays (already
     /// `null` on a fixed-width decode) are carried through. This lets the fast path
@@ -69,83 +96,179 @@ public sealed interface Page {
                     p.maxDefinitionLevel(), p.size(), fixedListK);
             case DoublePage p -> new DoublePage(p.values(), p.definitionLevels(), p.repetitionLevels(),
                     p.maxDefinitionLevel(), p.size(), fixedListK);
-            case ByteArrayPage p -> new ByteArrayPage(p.values(), p.definitionLevels(), p.repetitionLevels(),
-                    p.maxDefinitionLevel(), p.size(), p.dictionary(), p.dictIndices(), fixedListK);
+            case ByteArrayPage p -> new ByteArrayPage(p.bytes(), p.offsets(), p.definitionLevels(),
+                    p.repetitionLevels(), p.maxDefinitionLevel(), p.size(), p.dictionary(), p.dictIndices(),
+                    fixedListK, null);
+            case DictionaryIdPage p -> throw new IllegalStateException(
+                    "Dictionary passthrough is not supported for fixed-size-list pages");
+        };
+    }
+
+    /// Returns `dense` — a page of only the present values, decoded without
+    /// levels — as a page of `size` positions whose presence is `validity`.
+    /// The value arrays are shared.
+    static Page withValidity(Page dense, long[] validity, int size) {
+        return switch (dense) {
+            case BooleanPage p -> new BooleanPage(p.values(), null, null, 1, size, 0, validity);
+            case IntPage p -> new IntPage(p.values(), null, null, 1, size, 0, validity);
+            case LongPage p -> new LongPage(p.values(), null, null, 1, size, 0, validity);
+            case FloatPage p -> new FloatPage(p.values(), null, null, 1, size, 0, validity);
+            case DoublePage p -> new DoublePage(p.values(), null, null, 1, size, 0, validity);
+            case ByteArrayPage p -> new ByteArrayPage(p.bytes(), p.offsets(), null, null, 1, size,
+                    p.dictionary(), p.dictIndices(), 0, validity);
+            case DictionaryIdPage p -> new DictionaryIdPage(p.dictionary(), p.ids(), null, null, 1, size, validity);
         };
     }
 
     record BooleanPage(boolean[] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel,
-            int size, int fixedListK) implements Page {
+            int size, int fixedListK, long[] validity) implements Page {
         BooleanPage(boolean[] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel, int size) {
-            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, 0);
+            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, 0, null);
+        }
+
+        BooleanPage(boolean[] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel, int size,
+                int fixedListK) {
+            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, fixedListK, null);
         }
 
         public boolean get(int index) {
-            return values[index];
+            return values[valueIndex(index)];
         }
     }
 
     record IntPage(int[] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel,
-            int size, int fixedListK) implements Page {
+            int size, int fixedListK, long[] validity) implements Page {
         IntPage(int[] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel, int size) {
-            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, 0);
+            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, 0, null);
+        }
+
+        IntPage(int[] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel, int size,
+                int fixedListK) {
+            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, fixedListK, null);
         }
 
         public int get(int index) {
-            return values[index];
+            return values[valueIndex(index)];
         }
     }
 
     record LongPage(long[] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel,
-            int size, int fixedListK) implements Page {
+            int size, int fixedListK, long[] validity) implements Page {
         LongPage(long[] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel, int size) {
-            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, 0);
+            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, 0, null);
+        }
+
+        LongPage(long[] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel, int size,
+                int fixedListK) {
+            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, fixedListK, null);
         }
 
         public long get(int index) {
-            return values[index];
+            return values[valueIndex(index)];
         }
     }
 
     record FloatPage(float[] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel,
-            int size, int fixedListK) implements Page {
+            int size, int fixedListK, long[] validity) implements Page {
         FloatPage(float[] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel, int size) {
-            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, 0);
+            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, 0, null);
+        }
+
+        FloatPage(float[] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel, int size,
+                int fixedListK) {
+            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, fixedListK, null);
         }
 
         public float get(int index) {
-            return values[index];
+            return values[valueIndex(index)];
         }
     }
 
     record DoublePage(double[] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel,
-            int size, int fixedListK) implements Page {
+            int size, int fixedListK, long[] validity) implements Page {
         DoublePage(double[] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel, int size) {
-            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, 0);
+            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, 0, null);
+        }
+
+        DoublePage(double[] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel, int size,
+                int fixedListK) {
+            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, fixedListK, null);
         }
 
         public double get(int index) {
-            return values[index];
+            return values[valueIndex(index)];
         }
     }
 
-    record ByteArrayPage(byte[][] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel,
-            int size, Dictionary.ByteArrayDictionary dictionary, int[] dictIndices, int fixedListK)
-            implements Page {
-        /// Page from a non-dictionary (`PLAIN`) decode: no shared dictionary, so
-        /// values cannot be interned per entry (`dictionary` / `dictIndices` null).
-        ByteArrayPage(byte[][] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel,
-                int size) {
-            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, null, null, 0);
+    /// Byte-array values in one of two shapes, neither of which allocates an
+    /// object per value:
+    ///
+    /// - **Contiguous** (`PLAIN`, `DELTA_LENGTH_BYTE_ARRAY`, `DELTA_BYTE_ARRAY`,
+    ///   `BYTE_STREAM_SPLIT`): value `i` spans `[offsets[i], offsets[i + 1])` of
+    ///   `bytes`; `offsets` is sentinel-suffixed (length `size + 1`), the same
+    ///   layout as [BinaryBatchValues]. Null positions are zero-length, except
+    ///   for `FIXED_LEN_BYTE_ARRAY`, where every position spans the type width
+    ///   (`offsets[i] == i * width`) and a null's bytes are unspecified.
+    ///   `dictionary` and `dictIndices` are `null`.
+    /// - **Dictionary** (`RLE_DICTIONARY` / `PLAIN_DICTIONARY`): value `i` is
+    ///   entry `dictIndices[i]` of `dictionary`, `-1` at null positions. The
+    ///   entries are never copied into the page; `bytes` and `offsets` are
+    ///   `null`.
+    record ByteArrayPage(byte[] bytes, int[] offsets, int[] definitionLevels, int[] repetitionLevels,
+            int maxDefinitionLevel, int size, Dictionary.ByteArrayDictionary dictionary, int[] dictIndices,
+            int fixedListK, long[] validity) implements Page {
+
+        /// Contiguous page from a non-dictionary decode.
+        ByteArrayPage(byte[] bytes, int[] offsets, int[] definitionLevels, int[] repetitionLevels,
+                int maxDefinitionLevel, int size) {
+            this(bytes, offsets, definitionLevels, repetitionLevels, maxDefinitionLevel, size, null, null, 0, null);
+        }
+
+        /// Dictionary page: values are entries of `dictionary`.
+        ByteArrayPage(Dictionary.ByteArrayDictionary dictionary, int[] dictIndices, int[] definitionLevels,
+                int[] repetitionLevels, int maxDefinitionLevel, int size) {
+            this(null, null, definitionLevels, repetitionLevels, maxDefinitionLevel, size, dictionary, dictIndices,
+                    0, null);
         }
 
-        ByteArrayPage(byte[][] values, int[] definitionLevels, int[] repetitionLevels, int maxDefinitionLevel,
-                int size, Dictionary.ByteArrayDictionary dictionary, int[] dictIndices) {
-            this(values, definitionLevels, repetitionLevels, maxDefinitionLevel, size, dictionary, dictIndices, 0);
+        /// Whether the values are dictionary entries rather than contiguous bytes.
+        public boolean isDictionaryEncoded() {
+            return dictionary != null;
         }
 
+        /// Materialises value `index` as a fresh `byte[]`, or `null` for a null
+        /// position. Allocates per call; the drain copies through
+        /// [BinaryBatchValues] instead.
         public byte[] get(int index) {
-            return values[index];
+            if (isNull(index)) {
+                return null;
+            }
+            int i = valueIndex(index);
+            if (dictionary != null) {
+                return dictionary.values()[dictIndices[i]].clone();
+            }
+            return Arrays.copyOfRange(bytes, offsets[i], offsets[i + 1]);
+        }
+    }
+
+    /// Dictionary entry indices of a dictionary-encoded page, left unresolved:
+    /// value `i` is entry `ids[i]` of `dictionary`, `-1` at null positions.
+    /// Decoded instead of a typed page when the drain passes dictionary ids
+    /// through to the consumer (see [ColumnWorker#passesDictionaryIds]).
+    record DictionaryIdPage(Dictionary dictionary, int[] ids, int[] definitionLevels, int[] repetitionLevels,
+            int maxDefinitionLevel, int size, long[] validity) implements Page {
+        DictionaryIdPage(Dictionary dictionary, int[] ids, int[] definitionLevels, int[] repetitionLevels,
+                int maxDefinitionLevel, int size) {
+            this(dictionary, ids, definitionLevels, repetitionLevels, maxDefinitionLevel, size, null);
+        }
+
+        @Override
+        public int fixedListK() {
+            return 0;
+        }
+
+        public int get(int index) {
+            return ids[valueIndex(index)];
         }
     }
 }
@@ -0,0 +1,186 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+import java.util.Arrays;
+
+/// Per-column free lists of the primitive arrays backing decoded [Page]s.
+///
+/// Every decoded page used to allocate fresh value and level arrays, which the
+/// drain discarded as soon as it had copied them into the batch — at high
+/// page rates that churn dominated the young-generation allocation rate. A
+/// [ColumnWorker] owns one pool: the decode tasks take arrays from it via
+/// [PageDecoder], and the drain hands each page back through [#release]
+/// once it has been assembled.
+///
+/// The value decoders size their work by the output array's length, so an
+/// array is reused only for a page with exactly the same value count. That is
+/// the common case: writers cap data pages at a fixed row count, so all but
+/// the last page of a chunk usually match. Each free list holds at most
+/// `capacity` arrays and drops the oldest when full, which bounds the retained
+/// memory to roughly the in-flight page window. Pooled arrays carry values
+/// from their previous page; callers that rely on zeroed slots (values behind
+/// null definition levels) pass `clear`.
+///
+/// [#NONE] never retains anything and always allocates; it is used where no
+/// drain returns pages (one-off decoders, tests and benchmarks).
+///
+/// Thread-safe: decode tasks acquire on executor threads while the drain
+/// releases on its own thread.
+final class PageArrayPool {
+
+    /// A pool that never reuses arrays.
+    static final PageArrayPool NONE = new PageArrayPool(0);
+
+    private final FreeList<int[]> ints;
+    private final FreeList<long[]> longs;
+    private final FreeList<float[]> floats;
+    private final FreeList<double[]> doubles;
+    private final FreeList<boolean[]> booleans;
+
+    /// @param capacity maximum number of arrays retained per element type;
+    ///        `int` arrays (values and levels) get three times as many slots
+    PageArrayPool(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+        }
+        this.ints = new FreeList<>(capacity * 3);
+        this.longs = new FreeList<>(capacity);
+        this.floats = new FreeList<>(capacity);
+        this.doubles = new FreeList<>(capacity);
+        this.booleans = new FreeList<>(capacity);
+    }
+
+    int[] ints(int length, boolean clear) {
+        int[] array = ints.take(length);
+        if (array == null) {
+            return new int[length];
+        }
+        if (clear) {
+            Arrays.fill(array, 0, length, 0);
+        }
+        return array;
+    }
+
+    long[] longs(int length, boolean clear) {
+        long[] array = longs.take(length);
+        if (array == null) {
+            return new long[length];
+        }
+        if (clear) {
+            Arrays.fill(array, 0, length, 0L);
+        }
+        return array;
+    }
+
+    float[] floats(int length, boolean clear) {
+        float[] array = floats.take(length);
+        if (array == null) {
+            return new float[length];
+        }
+        if (clear) {
+            Arrays.fill(array, 0, length, 0f);
+        }
+        return array;
+    }
+
+    double[] doubles(int length, boolean clear) {
+        double[] array = doubles.take(length);
+        if (array == null) {
+            return new double[length];
+        }
+        if (clear) {
+            Arrays.fill(array, 0, length, 0d);
+        }
+        return array;
+    }
+
+    boolean[] booleans(int length, boolean clear) {
+        boolean[] array = booleans.take(length);
+        if (array == null) {
+            return new boolean[length];
+        }
+        if (clear) {
+            Arrays.fill(array, 0, length, false);
+        }
+        return array;
+    }
+
+    /// Returns the primitive arrays of `page` to the pool. The caller must not
+    /// touch `page` afterwards. Byte-array values are not pooled; only the
+    /// page's level arrays and dictionary indices are returned for them.
+    void release(Page page) {
+        switch (page) {
+            case Page.IntPage p -> ints.put(p.values(), p.values().length);
+            case Page.LongPage p -> longs.put(p.values(), p.values().length);
+            case Page.FloatPage p -> floats.put(p.values(), p.values().length);
+            case Page.DoublePage p -> doubles.put(p.values(), p.values().length);
+            case Page.BooleanPage p -> booleans.put(p.values(), p.values().length);
+            case Page.ByteArrayPage p -> {
+                if (p.dictIndices() != null) {
+                    ints.put(p.dictIndices(), p.dictIndices().length);
+                }
+            }
+            case Page.DictionaryIdPage p -> ints.put(p.ids(), p.ids().length);
+        }
+        if (page.definitionLevels() != null) {
+            ints.put(page.definitionLevels(), page.definitionLevels().length);
+        }
+        if (page.repetitionLevels() != null) {
+            ints.put(page.repetitionLevels(), page.repetitionLevels().length);
+        }
+    }
+
+    /// A bounded list of arrays with their lengths. Lookup scans from the most
+    /// recently released array, the warmest in cache; the capacity is small
+    /// enough that the linear scan and shifts are negligible next to decoding.
+    private static final class FreeList<A> {
+
+        private final Object[] slots;
+        private final int[] lengths;
+        private int count;
+
+        FreeList(int capacity) {
+            this.slots = new Object[capacity];
+            this.lengths = new int[capacity];
+        }
+
+        /// Removes and returns an array of exactly `length` elements, or `null`.
+        @SuppressWarnings("unchecked")
+        synchronized A take(int length) {
+            for (int i = count - 1; i >= 0; i--) {
+                if (lengths[i] == length) {
+                    A array = (A) slots[i];
+                    remove(i);
+                    return array;
+                }
+            }
+            return null;
+        }
+
+        /// Adds `array`, evicting the oldest entry when full.
+        synchronized void put(A array, int length) {
+            if (slots.length == 0) {
+                return;
+            }
+            if (count == slots.length) {
+                remove(0);
+            }
+            slots[count] = array;
+            lengths[count] = length;
+            count++;
+        }
+
+        private void remove(int index) {
+            int tail = count - index - 1;
+            System.arraycopy(slots, index + 1, slots, index, tail);
+            System.arraycopy(lengths, index + 1, lengths, index, tail);
+            slots[--count] = null;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import dev.hardwood.internal.encoding.DeltaByteArrayDecoder;
 import dev.hardwood.internal.encoding.DeltaLengthByteArrayDecoder;
 import dev.hardwood.internal.encoding.PlainDecoder;
 import dev.hardwood.internal.encoding.RleBitPackingHybridDecoder;
+import dev.hardwood.internal.encoding.ValueDecoder;
 import dev.hardwood.internal.metadata.DataPageHeader;
 import dev.hardwood.internal.metadata.DataPageHeaderV2;
 import dev.hardwood.internal.metadata.PageHeader;
@@ -26,6 +27,7 @@ import dev.hardwood.internal.thrift.PageHeaderReader;
 import dev.hardwood.internal.thrift.ThriftCompactReader;
 import dev.hardwood.jfr.PageDecodedEvent;
 import dev.hardwood.metadata.ColumnMetaData;
+import dev.hardwood.metadata.CompressionCodec;
 import dev.hardwood.metadata.Encoding;
 import dev.hardwood.metadata.PhysicalType;
 import dev.hardwood.metadata.RepetitionType;
@@ -46,6 +48,19 @@ public class PageDecoder {
     /// enabled).
     private final boolean fixedListFastPathEnabled;
 
+    /// Source of the value and level arrays of decoded pages.
+    private final PageArrayPool arrayPool;
+
+    /// Whether definition levels of a flat optional column (`maxDef == 1`, no
+    /// repetition) are decoded straight into a validity bitmap, producing
+    /// dense pages (see [Page#validity]). Only the flat drain consumes those.
+    private final boolean validityBitmaps;
+
+    /// Whether dictionary-encoded pages are decoded to their entry indices
+    /// ([Page.DictionaryIdPage]) rather than resolved values. Only a flat drain
+    /// in dictionary passthrough mode consumes those.
+    private final boolean dictionaryIds;
+
     /// Constructor for page decoding, with the fixed-size-list fast path enabled.
     public PageDecoder(ColumnMetaData columnMetaData, ColumnSchema column, DecompressorFactory decompressorFactory) {
         this(columnMetaData, column, decompressorFactory, true);
@@ -59,10 +74,32 @@ public class PageDecoder {
     /// @param fixedListFastPathEnabled whether the fixed-size-list fast path may engage
     public PageDecoder(ColumnMetaData columnMetaData, ColumnSchema column, DecompressorFactory decompressorFactory,
                        boolean fixedListFastPathEnabled) {
+        this(columnMetaData, column, decompressorFactory, fixedListFastPathEnabled, PageArrayPool.NONE, false, false);
+    }
+
+    /// Constructor for page decoding that takes page arrays from `arrayPool`.
+    /// The owner of the pool returns each decoded page to it once consumed.
+    ///
+    /// @param columnMetaData metadata for the column
+    /// @param column column schema
+    /// @param decompressorFactory factory for creating decompressors
+    /// @param fixedListFastPathEnabled whether the fixed-size-list fast path may engage
+    /// @param arrayPool pool supplying the primitive arrays of decoded pages
+    /// @param validityBitmaps whether flat optional pages carry a validity bitmap
+    ///        and dense values instead of definition levels
+    /// @param dictionaryIds whether dictionary-encoded pages yield their entry
+    ///        indices instead of resolved values
+    PageDecoder(ColumnMetaData columnMetaData, ColumnSchema column, DecompressorFactory decompressorFactory,
+                boolean fixedListFastPathEnabled, PageArrayPool arrayPool, boolean validityBitmaps,
+                boolean dictionaryIds) {
         this.columnMetaData = columnMetaData;
         this.column = column;
         this.decompressorFactory = decompressorFactory;
         this.fixedListFastPathEnabled = fixedListFastPathEnabled;
+        this.arrayPool = arrayPool;
+        this.validityBitmaps = validityBitmaps
+                && column.maxRepetitionLevel() == 0 && column.maxDefinitionLevel() == 1;
+        this.dictionaryIds = dictionaryIds;
     }
 
     /// Checks if this PageDecoder is compatible with the given column metadata.
@@ -105,8 +142,30 @@ public class PageDecoder {
             case INT32 -> new Page.IntPage(new int[numValues], definitionLevels, repetitionLevels, maxDefLevel, numValues);
             case FLOAT -> new Page.FloatPage(new float[numValues], definitionLevels, repetitionLevels, maxDefLevel, numValues);
             case BOOLEAN -> new Page.BooleanPage(new boolean[numValues], definitionLevels, repetitionLevels, maxDefLevel, numValues);
-            case BYTE_ARRAY, FIXED_LEN_BYTE_ARRAY, INT96 ->
-                    new Page.ByteArrayPage(new byte[numValues][], definitionLevels, repetitionLevels, maxDefLevel, numValues);
+            case BYTE_ARRAY, INT96 -> new Page.ByteArrayPage(new byte[0], new int[numValues + 1],
+                    definitionLevels, repetitionLevels, maxDefLevel, numValues);
+            case FIXED_LEN_BYTE_ARRAY -> {
+                // Fixed-width positions span the type width even when null.
+                int width = column.typeLength();
+                int[] offsets = new int[numValues + 1];
+                for (int i = 0; i <= numValues; i++) {
+                    offsets[i] = i * width;
+                }
+                yield new Page.ByteArrayPage(new byte[Math.multiplyExact(numValues, width)], offsets,
+                        definitionLevels, repetitionLevels, maxDefLevel, numValues);
+            }
+        };
+    }
+
+    /// Number of rows of a flat column's data page, read from its header alone.
+    ///
+    /// @param pageBuffer buffer containing just this page (header + data)
+    static int pageRowCount(ByteBuffer pageBuffer) throws IOException {
+        PageHeader pageHeader = PageHeaderReader.read(new ThriftCompactReader(pageBuffer, 0));
+        return switch (pageHeader.type()) {
+            case DATA_PAGE -> pageHeader.dataPageHeader().numValues();
+            case DATA_PAGE_V2 -> pageHeader.dataPageHeaderV2().numRows();
+            default -> throw new IOException("Unexpected page type for single-page decode: " + pageHeader.type());
         };
     }
 
@@ -118,6 +177,21 @@ public class PageDecoder {
     /// @param dictionary dictionary for this page, or null if not dictionary-encoded
     /// @return decoded page
     public Page decodePage(ByteBuffer pageBuffer, Dictionary dictionary) throws IOException {
+        return decodePage(pageBuffer, dictionary, PageRowMask.ALL);
+    }
+
+    /// Decode the rows of a single data page that `mask` keeps.
+    ///
+    /// For a flat column whose values can be skipped in place — fixed-width
+    /// `PLAIN` and dictionary indices — only the kept rows are decoded and the
+    /// returned page holds just those `mask.totalRecords()` rows. Any other
+    /// page is decoded in full, and the caller applies `mask` to it.
+    ///
+    /// @param pageBuffer buffer containing just this page (header + data)
+    /// @param dictionary dictionary for this page, or null if not dictionary-encoded
+    /// @param mask the page-relative rows the caller keeps
+    /// @return decoded page
+    public Page decodePage(ByteBuffer pageBuffer, Dictionary dictionary, PageRowMask mask) throws IOException {
         PageDecodedEvent event = new PageDecodedEvent();
         event.begin();
 
@@ -136,12 +210,20 @@ public class PageDecoder {
 
         Page result = switch (pageHeader.type()) {
             case DATA_PAGE -> {
+                if (columnMetaData.codec() == CompressionCodec.UNCOMPRESSED && pageData.hasArray()) {
+                    // Decode straight out of the heap page buffer, without a copy
+                    int start = pageData.arrayOffset() + pageData.position();
+                    yield parseDataPage(pageHeader.dataPageHeader(), pageData.array(), start,
+                            start + compressedSize, dictionary, mask);
+                }
                 Decompressor decompressor = decompressorFactory.getDecompressor(columnMetaData.codec());
                 byte[] uncompressedData = decompressor.decompress(pageData, pageHeader.uncompressedPageSize());
-                yield parseDataPage(pageHeader.dataPageHeader(), uncompressedData, dictionary);
+                yield parseDataPage(pageHeader.dataPageHeader(), uncompressedData, 0, uncompressedData.length,
+                        dictionary, mask);
             }
             case DATA_PAGE_V2 -> {
-                yield parseDataPageV2(pageHeader.dataPageHeaderV2(), pageData, pageHeader.uncompressedPageSize(), dictionary);
+                yield parseDataPageV2(pageHeader.dataPageHeaderV2(), pageData, pageHeader.uncompressedPageSize(),
+                        dictionary, mask);
             }
             default -> throw new IOException("Unexpected page type for single-page decode: " + pageHeader.type());
         };
@@ -156,7 +238,7 @@ public class PageDecoder {
 
     /// Decode levels using RLE/Bit-Packing Hybrid encoding.
     private int[] decodeRepetitionLevels(byte[] levelData, int offset, int length, int numValues, int maxLevel) {
-        int[] levels = new int[numValues];
+        int[] levels = arrayPool.ints(numValues, false);
         RleBitPackingHybridDecoder decoder = new RleBitPackingHybridDecoder(levelData, offset, length, getBitWidth(maxLevel));
         decoder.readInts(levels, 0, numValues);
         return levels;
@@ -181,11 +263,179 @@ public class PageDecoder {
         if (decoder.isSingleRleRunOf(maxDef, numValues)) {
             return null;
         }
-        int[] levels = new int[numValues];
+        int[] levels = arrayPool.ints(numValues, false);
         decoder.readInts(levels, 0, numValues);
         return levels;
     }
 
+    /// Decode the 1-bit definition levels of a flat optional column into a
+    /// validity bitmap, without a per-value level array. Returns `null` when
+    /// every value is present (the same single-RLE-run fast path as
+    /// [#decodeDefinitionLevels]), so the page takes the regular all-present
+    /// path.
+    private PageValidity decodeValidity(byte[] levelData, int offset, int length, int numValues) {
+        RleBitPackingHybridDecoder decoder = new RleBitPackingHybridDecoder(levelData, offset, length, 1);
+        if (decoder.isSingleRleRunOf(1, numValues)) {
+            return null;
+        }
+        long[] words = new long[(numValues + 63) >>> 6];
+        int present = decoder.readValidity(words, numValues);
+        return new PageValidity(words, present);
+    }
+
+    /// The validity bitmap of a page and its number of set bits, which the
+    /// level decode counts as it goes.
+    private record PageValidity(long[] words, int present) {
+
+        static long[] wordsOf(PageValidity validity) {
+            return validity == null ? null : validity.words();
+        }
+    }
+
+    /// Decode only the present values of a page — value decoders read densely
+    /// when given no definition levels — and attach `validity` for their
+    /// positions.
+    private Page decodeDensePage(Encoding encoding, byte[] data, int offset, int end, int numValues,
+                                 PageValidity validity, Dictionary dictionary) throws IOException {
+        Page dense = decodeTypedValues(encoding, data, offset, end, validity.present(), null, null, dictionary);
+        return Page.withValidity(dense, validity.words(), numValues);
+    }
+
+    /// Whether a page of `encoding` can be decoded for just the rows of `mask`
+    /// by [#decodeMaskedPage]: the column must be flat with its values stored
+    /// densely (required, or optional with validity bitmaps), and the encoding
+    /// one whose values can be skipped without decoding them.
+    private boolean decodesMaskedRows(PageRowMask mask, Encoding encoding, Dictionary dictionary) {
+        if (mask.isAll() || column.maxRepetitionLevel() > 0) {
+            return false;
+        }
+        int maxDef = column.maxDefinitionLevel();
+        if (maxDef > 1 || (maxDef == 1 && !validityBitmaps)) {
+            return false;
+        }
+        return switch (encoding) {
+            case PLAIN -> switch (column.type()) {
+                case INT32, INT64, FLOAT, DOUBLE -> true;
+                default -> false;
+            };
+            case RLE_DICTIONARY, PLAIN_DICTIONARY -> dictionary != null;
+            default -> false;
+        };
+    }
+
+    /// Decode just the rows `mask` keeps of a flat page, skipping the encoded
+    /// values between its intervals instead of decoding them. `validity` is
+    /// the page's validity bitmap, or `null` when every row is present; the
+    /// returned page carries the bitmap of the kept rows.
+    private Page decodeMaskedPage(Encoding encoding, byte[] data, int offset, int end, long[] validity,
+                                  Dictionary dictionary, PageRowMask mask) throws IOException {
+        int rows = mask.totalRecords();
+        long[] keptValidity = null;
+        int present = rows;
+        if (validity != null) {
+            keptValidity = new long[(rows + 63) >>> 6];
+            int at = 0;
+            for (int i = 0; i < mask.intervalCount(); i++) {
+                int length = mask.end(i) - mask.start(i);
+                BitmapWords.orRange(validity, mask.start(i), keptValidity, at, length);
+                at += length;
+            }
+            present = BitmapWords.countSetBits(keptValidity, 0, rows);
+        }
+        int[] runs = valueRuns(validity, mask);
+        int maxDefLevel = column.maxDefinitionLevel();
+
+        Page page;
+        if (encoding == Encoding.PLAIN) {
+            PlainDecoder decoder = new PlainDecoder(data, offset, end - offset, column.type(), column.typeLength());
+            page = switch (column.type()) {
+                case INT32 -> {
+                    int[] values = arrayPool.ints(present, false);
+                    for (int r = 0, at = 0; r < runs.length; at += runs[r + 1], r += 2) {
+                        decoder.skip(runs[r]);
+                        decoder.readInts(values, at, runs[r + 1]);
+                    }
+                    yield new Page.IntPage(values, null, null, maxDefLevel, present);
+                }
+                case INT64 -> {
+                    long[] values = arrayPool.longs(present, false);
+                    for (int r = 0, at = 0; r < runs.length; at += runs[r + 1], r += 2) {
+                        decoder.skip(runs[r]);
+                        decoder.readLongs(values, at, runs[r + 1]);
+                    }
+                    yield new Page.LongPage(values, null, null, maxDefLevel, present);
+                }
+                case FLOAT -> {
+                    float[] values = arrayPool.floats(present, false);
+                    for (int r = 0, at = 0; r < runs.length; at += runs[r + 1], r += 2) {
+                        decoder.skip(runs[r]);
+                        decoder.readFloats(values, at, runs[r + 1]);
+                    }
+                    yield new Page.FloatPage(values, null, null, maxDefLevel, present);
+                }
+                case DOUBLE -> {
+                    double[] values = arrayPool.doubles(present, false);
+                    for (int r = 0, at = 0; r < runs.length; at += runs[r + 1], r += 2) {
+                        decoder.skip(runs[r]);
+                        decoder.readDoubles(values, at, runs[r + 1]);
+                    }
+                    yield new Page.DoublePage(values, null, null, maxDefLevel, present);
+                }
+                default -> throw new IllegalStateException("No masked PLAIN decode for type: " + column.type());
+            };
+        }
+        else {
+            int bitWidth = readIndexBitWidth(data, offset++, end);
+            RleBitPackingHybridDecoder indexDecoder = new RleBitPackingHybridDecoder(data, offset, end - offset, bitWidth);
+            int[] ids = arrayPool.ints(present, bitWidth == 0);
+            for (int r = 0, at = 0; r < runs.length; at += runs[r + 1], r += 2) {
+                indexDecoder.skip(runs[r]);
+                indexDecoder.readInts(ids, at, runs[r + 1]);
+            }
+            int dictionarySize = dictionary.size();
+            for (int i = 0; i < present; i++) {
+                if (ids[i] < 0 || ids[i] >= dictionarySize) {
+                    throw new IllegalStateException("Dictionary index " + ids[i] + " out of range for a dictionary of "
+                            + dictionarySize + " entries");
+                }
+            }
+            page = dictionaryIds
+                    ? new Page.DictionaryIdPage(dictionary, ids, null, null, maxDefLevel, present)
+                    : dictionary.resolvePage(ids, present, maxDefLevel, arrayPool);
+        }
+        return keptValidity == null ? page : Page.withValidity(page, keptValidity, rows);
+    }
+
+    /// The values to skip and to read for each interval of `mask`, as
+    /// `[skip0, read0, skip1, read1, ...]`: the present rows between the
+    /// previous interval and this one, then the present rows within it.
+    private static int[] valueRuns(long[] validity, PageRowMask mask) {
+        int[] runs = new int[2 * mask.intervalCount()];
+        int previousEnd = 0;
+        for (int i = 0; i < mask.intervalCount(); i++) {
+            int start = mask.start(i);
+            int end = mask.end(i);
+            runs[2 * i] = validity == null ? start - previousEnd : BitmapWords.countSetBits(validity, previousEnd, start);
+            runs[2 * i + 1] = validity == null ? end - start : BitmapWords.countSetBits(validity, start, end);
+            previousEnd = end;
+        }
+        return runs;
+    }
+
+    /// Reads the bit width that prefixes the dictionary indices of a page
+    /// whose values occupy `data[offset, end)`.
+    private int readIndexBitWidth(byte[] data, int offset, int end) throws IOException {
+        if (offset >= end) {
+            throw new IOException("Missing dictionary index bit width for column '" + column.name() + "'");
+        }
+        int bitWidth = data[offset] & 0xFF;
+        if (bitWidth > 32) {
+            throw new IOException("Invalid dictionary index bit width: " + bitWidth
+                    + " for column '" + column.name() + "'. Must be between 0 and 32");
+        }
+        return bitWidth;
+    }
+
     /// Count non-null values based on definition levels.
     private int countNonNullValues(int numValues, int[] definitionLevels) {
         if (definitionLevels == null) {
@@ -201,6 +451,20 @@ public class PageDecoder {
         return count;
     }
 
+    /// Reads the little-endian length prefix at `offset` of a region ending at
+    /// `end`, checking that the prefixed bytes fit the region.
+    private int readLevelLength(byte[] data, int offset, int end) throws IOException {
+        if (offset + 4 > end) {
+            throw new IOException("Unexpected end of page data for column '" + column.name() + "'");
+        }
+        int length = ByteBuffer.wrap(data, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+        if (length < 0 || length > end - offset - 4) {
+            throw new IOException("Invalid length prefix " + length + " for column '" + column.name()
+                    + "': only " + (end - offset - 4) + " bytes of page data remain");
+        }
+        return length;
+    }
+
     private int getBitWidth(int maxValue) {
         if (maxValue == 0) {
             return 0;
@@ -238,14 +502,16 @@ public class PageDecoder {
         };
     }
 
-    private Page parseDataPage(DataPageHeader header, byte[] data, Dictionary dictionary) throws IOException {
+    /// Parses a `DataPage` (V1) body that occupies `data[start, end)`.
+    private Page parseDataPage(DataPageHeader header, byte[] data, int start, int end, Dictionary dictionary,
+            PageRowMask mask) throws IOException {
         int numValues = header.numValues();
-        int offset = 0;
+        int offset = start;
 
         int repLevelLength = 0;
         int repLevelOffset = 0;
         if (column.maxRepetitionLevel() > 0) {
-            repLevelLength = ByteBuffer.wrap(data, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+            repLevelLength = readLevelLength(data, offset, end);
             offset += 4;
             repLevelOffset = offset;
             offset += repLevelLength;
@@ -254,7 +520,7 @@ public class PageDecoder {
         int defLevelLength = 0;
         int defLevelOffset = 0;
         if (column.maxDefinitionLevel() > 0) {
-            defLevelLength = ByteBuffer.wrap(data, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+            defLevelLength = readLevelLength(data, offset, end);
             offset += 4;
             defLevelOffset = offset;
             offset += defLevelLength;
@@ -277,11 +543,27 @@ public class PageDecoder {
                     column.maxRepetitionLevel(), column.maxDefinitionLevel());
             if (shape instanceof FixedSizeListShape.FixedWidth(int k)) {
                 Page page = decodeTypedValues(
-                        header.encoding(), data, valuesOffset, numValues, null, null, dictionary);
+                        header.encoding(), data, valuesOffset, end, numValues, null, null, dictionary);
                 return Page.withFixedListK(page, k);
             }
         }
 
+        if (decodesMaskedRows(mask, header.encoding(), dictionary)) {
+            PageValidity validity = column.maxDefinitionLevel() > 0
+                    ? decodeValidity(data, defLevelOffset, defLevelLength, numValues)
+                    : null;
+            return decodeMaskedPage(header.encoding(), data, valuesOffset, end, PageValidity.wordsOf(validity),
+                    dictionary, mask);
+        }
+
+        if (validityBitmaps) {
+            PageValidity validity = decodeValidity(data, defLevelOffset, defLevelLength, numValues);
+            if (validity != null) {
+                return decodeDensePage(header.encoding(), data, valuesOffset, end, numValues, validity,
+                        dictionary);
+            }
+        }
+
         int[] repetitionLevels = column.maxRepetitionLevel() > 0
                 ? decodeRepetitionLevels(data, repLevelOffset, repLevelLength, numValues, column.maxRepetitionLevel())
                 : null;
@@ -290,28 +572,26 @@ public class PageDecoder {
                 : null;
 
         return decodeTypedValues(
-                header.encoding(), data, valuesOffset, numValues,
+                header.encoding(), data, valuesOffset, end, numValues,
                 definitionLevels, repetitionLevels, dictionary);
     }
 
     private Page parseDataPageV2(DataPageHeaderV2 header, ByteBuffer pageData, int uncompressedPageSize,
-            Dictionary dictionary) throws IOException {
+            Dictionary dictionary, PageRowMask mask) throws IOException {
         int repLevelLen = header.repetitionLevelsByteLength();
         int defLevelLen = header.definitionLevelsByteLength();
         int valuesOffset = repLevelLen + defLevelLen;
         int compressedValuesLen = pageData.remaining() - valuesOffset;
         int numValues = header.numValues();
 
-        byte[] repLevelData = null;
+        HeapRegion repLevelData = null;
         if (column.maxRepetitionLevel() > 0 && repLevelLen > 0) {
-            repLevelData = new byte[repLevelLen];
-            pageData.slice(0, repLevelLen).get(repLevelData);
+            repLevelData = HeapRegion.of(pageData, 0, repLevelLen);
         }
 
-        byte[] defLevelData = null;
+        HeapRegion defLevelData = null;
         if (column.maxDefinitionLevel() > 0 && defLevelLen > 0) {
-            defLevelData = new byte[defLevelLen];
-            pageData.slice(repLevelLen, defLevelLen).get(defLevelData);
+            defLevelData = HeapRegion.of(pageData, repLevelLen, defLevelLen);
         }
 
         // Fixed-size-list fast path: when the level streams prove every row is a
@@ -323,50 +603,93 @@ public class PageDecoder {
                 && repLevelData != null && defLevelData != null
                 && hasFixedListLevelShape()) {
             FixedSizeListShape shape = FixedSizeListDetector.detect(
-                    repLevelData, 0, repLevelLen, defLevelData, 0, defLevelLen,
+                    repLevelData.data(), repLevelData.offset(), repLevelLen,
+                    defLevelData.data(), defLevelData.offset(), defLevelLen,
                     numValues, header.numRows(),
                     column.maxRepetitionLevel(), column.maxDefinitionLevel());
             if (shape instanceof FixedSizeListShape.FixedWidth(int k)) {
-                byte[] valuesData = readValueRegion(header, pageData, uncompressedPageSize,
+                HeapRegion valuesData = readValueRegion(header, pageData, uncompressedPageSize,
                         repLevelLen, defLevelLen, valuesOffset, compressedValuesLen);
-                Page page = decodeTypedValues(
-                        header.encoding(), valuesData, 0, numValues, null, null, dictionary);
+                Page page = decodeTypedValues(header.encoding(), valuesData.data(), valuesData.offset(),
+                        valuesData.end(), numValues, null, null, dictionary);
                 return Page.withFixedListK(page, k);
             }
         }
 
+        if (decodesMaskedRows(mask, header.encoding(), dictionary)) {
+            PageValidity validity = defLevelData != null
+                    ? decodeValidity(defLevelData.data(), defLevelData.offset(), defLevelLen, numValues)
+                    : null;
+            HeapRegion valuesData = readValueRegion(header, pageData, uncompressedPageSize,
+                    repLevelLen, defLevelLen, valuesOffset, compressedValuesLen);
+            return decodeMaskedPage(header.encoding(), valuesData.data(), valuesData.offset(), valuesData.end(),
+                    PageValidity.wordsOf(validity), dictionary, mask);
+        }
+
+        if (validityBitmaps && defLevelData != null) {
+            PageValidity validity = decodeValidity(defLevelData.data(), defLevelData.offset(), defLevelLen,
+                    numValues);
+            if (validity != null) {
+                HeapRegion valuesData = readValueRegion(header, pageData, uncompressedPageSize,
+                        repLevelLen, defLevelLen, valuesOffset, compressedValuesLen);
+                return decodeDensePage(header.encoding(), valuesData.data(), valuesData.offset(),
+                        valuesData.end(), numValues, validity, dictionary);
+            }
+        }
+
         int[] repetitionLevels = repLevelData != null
-                ? decodeRepetitionLevels(repLevelData, 0, repLevelLen, numValues, column.maxRepetitionLevel())
+                ? decodeRepetitionLevels(repLevelData.data(), repLevelData.offset(), repLevelLen, numValues,
+                        column.maxRepetitionLevel())
                 : null;
         int[] definitionLevels = defLevelData != null
-                ? decodeDefinitionLevels(defLevelData, 0, defLevelLen, numValues)
+                ? decodeDefinitionLevels(defLevelData.data(), defLevelData.offset(), defLevelLen, numValues)
                 : null;
 
-        byte[] valuesData = readValueRegion(header, pageData, uncompressedPageSize,
+        HeapRegion valuesData = readValueRegion(header, pageData, uncompressedPageSize,
                 repLevelLen, defLevelLen, valuesOffset, compressedValuesLen);
         return decodeTypedValues(
-                header.encoding(), valuesData, 0, numValues,
+                header.encoding(), valuesData.data(), valuesData.offset(), valuesData.end(), numValues,
                 definitionLevels, repetitionLevels, dictionary);
     }
 
     /// Extracts the value region of a `DataPageV2` body, decompressing it when
     /// the page marks its values compressed. The level regions precede the
     /// values and are never compressed.
-    private byte[] readValueRegion(DataPageHeaderV2 header, ByteBuffer pageData, int uncompressedPageSize,
+    private HeapRegion readValueRegion(DataPageHeaderV2 header, ByteBuffer pageData, int uncompressedPageSize,
             int repLevelLen, int defLevelLen, int valuesOffset, int compressedValuesLen) throws IOException {
         if (header.isCompressed() && compressedValuesLen > 0) {
             ByteBuffer compressedValues = pageData.slice(valuesOffset, compressedValuesLen);
             Decompressor decompressor = decompressorFactory.getDecompressor(columnMetaData.codec());
             int uncompressedValuesSize = uncompressedPageSize - repLevelLen - defLevelLen;
-            return decompressor.decompress(compressedValues, uncompressedValuesSize);
+            byte[] values = decompressor.decompress(compressedValues, uncompressedValuesSize);
+            return new HeapRegion(values, 0, values.length);
+        }
+        return HeapRegion.of(pageData, valuesOffset, compressedValuesLen);
+    }
+
+    /// A byte range `data[offset, end)` of a page body on the heap.
+    ///
+    /// The value and level decoders read `byte[]`, so a region is viewed in
+    /// place when the page buffer is heap-backed and copied out otherwise
+    /// (mapped and channel-read buffers are direct). A view shares the backing
+    /// array of the whole buffer, so decoders are bounded by `end`, not by the
+    /// array's length.
+    private record HeapRegion(byte[] data, int offset, int end) {
+
+        static HeapRegion of(ByteBuffer buffer, int index, int length) {
+            if (buffer.hasArray()) {
+                int offset = buffer.arrayOffset() + buffer.position() + index;
+                return new HeapRegion(buffer.array(), offset, offset + length);
+            }
+            byte[] data = new byte[length];
+            buffer.get(buffer.position() + index, data);
+            return new HeapRegion(data, 0, length);
         }
-        byte[] valuesData = new byte[compressedValuesLen];
-        pageData.slice(valuesOffset, compressedValuesLen).get(valuesData);
-        return valuesData;
     }
 
-    /// Decode values into Page using primitive arrays where possible.
-    private Page decodeTypedValues(Encoding encoding, byte[] data, int offset,
+    /// Decode the values in `data[offset, end)` into a Page, using primitive
+    /// arrays where possible.
+    private Page decodeTypedValues(Encoding encoding, byte[] data, int offset, int end,
                                    int numValues,
                                    int[] definitionLevels, int[] repetitionLevels,
                                    Dictionary dictionary) throws IOException {
@@ -376,50 +699,48 @@ public class PageDecoder {
         // Try to decode into primitive arrays for supported type/encoding combinations
         switch (encoding) {
             case PLAIN -> {
-                PlainDecoder decoder = new PlainDecoder(data, offset, type, column.typeLength());
+                PlainDecoder decoder = new PlainDecoder(data, offset, end - offset, type, column.typeLength());
                 return switch (type) {
                     case INT64 -> {
-                        long[] values = new long[numValues];
+                        long[] values = arrayPool.longs(numValues, definitionLevels != null);
                         decoder.readLongs(values, definitionLevels, maxDefLevel);
                         yield new Page.LongPage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
                     }
                     case DOUBLE -> {
-                        double[] values = new double[numValues];
+                        double[] values = arrayPool.doubles(numValues, definitionLevels != null);
                         decoder.readDoubles(values, definitionLevels, maxDefLevel);
                         yield new Page.DoublePage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
                     }
                     case INT32 -> {
-                        int[] values = new int[numValues];
+                        int[] values = arrayPool.ints(numValues, definitionLevels != null);
                         decoder.readInts(values, definitionLevels, maxDefLevel);
                         yield new Page.IntPage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
                     }
                     case FLOAT -> {
-                        float[] values = new float[numValues];
+                        float[] values = arrayPool.floats(numValues, definitionLevels != null);
                         decoder.readFloats(values, definitionLevels, maxDefLevel);
                         yield new Page.FloatPage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
                     }
                     case BOOLEAN -> {
-                        boolean[] values = new boolean[numValues];
+                        boolean[] values = arrayPool.booleans(numValues, definitionLevels != null);
                         decoder.readBooleans(values, definitionLevels, maxDefLevel);
                         yield new Page.BooleanPage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
                     }
                     case BYTE_ARRAY, FIXED_LEN_BYTE_ARRAY, INT96 -> {
-                        byte[][] values = new byte[numValues][];
-                        decoder.readByteArrays(values, definitionLevels, maxDefLevel);
-                        yield new Page.ByteArrayPage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
+                        yield readBinaryPage(decoder, numValues, definitionLevels, repetitionLevels);
                     }
                 };
             }
             case DELTA_BINARY_PACKED -> {
-                DeltaBinaryPackedDecoder decoder = new DeltaBinaryPackedDecoder(data, offset);
+                DeltaBinaryPackedDecoder decoder = new DeltaBinaryPackedDecoder(data, offset, end - offset);
                 return switch (type) {
                     case INT64 -> {
-                        long[] values = new long[numValues];
+                        long[] values = arrayPool.longs(numValues, definitionLevels != null);
                         decoder.readLongs(values, definitionLevels, maxDefLevel);
                         yield new Page.LongPage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
                     }
                     case INT32 -> {
-                        int[] values = new int[numValues];
+                        int[] values = arrayPool.ints(numValues, definitionLevels != null);
                         decoder.readInts(values, definitionLevels, maxDefLevel);
                         yield new Page.IntPage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
                     }
@@ -430,32 +751,30 @@ public class PageDecoder {
             case BYTE_STREAM_SPLIT -> {
                 int numNonNullValues = countNonNullValues(numValues, definitionLevels);
                 ByteStreamSplitDecoder decoder = new ByteStreamSplitDecoder(
-                        data, offset, numNonNullValues, type, column.typeLength());
+                        data, offset, end - offset, numNonNullValues, type, column.typeLength());
                 return switch (type) {
                     case INT64 -> {
-                        long[] values = new long[numValues];
+                        long[] values = arrayPool.longs(numValues, definitionLevels != null);
                         decoder.readLongs(values, definitionLevels, maxDefLevel);
                         yield new Page.LongPage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
                     }
                     case DOUBLE -> {
-                        double[] values = new double[numValues];
+                        double[] values = arrayPool.doubles(numValues, definitionLevels != null);
                         decoder.readDoubles(values, definitionLevels, maxDefLevel);
                         yield new Page.DoublePage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
                     }
                     case INT32 -> {
-                        int[] values = new int[numValues];
+                        int[] values = arrayPool.ints(numValues, definitionLevels != null);
                         decoder.readInts(values, definitionLevels, maxDefLevel);
                         yield new Page.IntPage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
                     }
                     case FLOAT -> {
-                        float[] values = new float[numValues];
+                        float[] values = arrayPool.floats(numValues, definitionLevels != null);
                         decoder.readFloats(values, definitionLevels, maxDefLevel);
                         yield new Page.FloatPage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
                     }
                     case FIXED_LEN_BYTE_ARRAY -> {
-                        byte[][] values = new byte[numValues][];
-                        decoder.readByteArrays(values, definitionLevels, maxDefLevel);
-                        yield new Page.ByteArrayPage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
+                        yield readBinaryPage(decoder, numValues, definitionLevels, repetitionLevels);
                     }
                     default -> throw new UnsupportedOperationException(
                             "BYTE_STREAM_SPLIT not supported for type: " + type);
@@ -465,14 +784,15 @@ public class PageDecoder {
                 if (dictionary == null) {
                     throw new IOException("Dictionary page not found for " + encoding + " encoding");
                 }
-                int bitWidth = data[offset++] & 0xFF;
-                if (bitWidth > 32) {
-                    throw new IOException("Invalid dictionary index bit width: " + bitWidth
-                            + " for column '" + column.name() + "'. Must be between 0 and 32");
-                }
-                RleBitPackingHybridDecoder indexDecoder = new RleBitPackingHybridDecoder(data, offset, data.length - offset, bitWidth);
+                int bitWidth = readIndexBitWidth(data, offset++, end);
+                RleBitPackingHybridDecoder indexDecoder = new RleBitPackingHybridDecoder(data, offset, end - offset, bitWidth);
 
-                return dictionary.decodePage(indexDecoder, numValues, definitionLevels, repetitionLevels, maxDefLevel);
+                if (dictionaryIds) {
+                    return dictionary.decodeIdPage(indexDecoder, numValues, definitionLevels, repetitionLevels,
+                            maxDefLevel, arrayPool);
+                }
+                return dictionary.decodePage(indexDecoder, numValues, definitionLevels, repetitionLevels, maxDefLevel,
+                        arrayPool);
             }
             case RLE -> {
                 // RLE encoding for boolean values uses bit-width of 1
@@ -482,31 +802,36 @@ public class PageDecoder {
                 }
 
                 // Read 4-byte length prefix (little-endian)
-                int rleLength = ByteBuffer.wrap(data, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+                int rleLength = readLevelLength(data, offset, end);
                 offset += 4;
 
                 RleBitPackingHybridDecoder decoder = new RleBitPackingHybridDecoder(data, offset, rleLength, 1);
-                boolean[] values = new boolean[numValues];
+                boolean[] values = arrayPool.booleans(numValues, definitionLevels != null);
                 decoder.readBooleans(values, definitionLevels, maxDefLevel);
                 return new Page.BooleanPage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
             }
             case DELTA_LENGTH_BYTE_ARRAY -> {
                 int numNonNullValues = countNonNullValues(numValues, definitionLevels);
-                DeltaLengthByteArrayDecoder decoder = new DeltaLengthByteArrayDecoder(data, offset);
+                DeltaLengthByteArrayDecoder decoder = new DeltaLengthByteArrayDecoder(data, offset, end - offset);
                 decoder.initialize(numNonNullValues);
-                byte[][] values = new byte[numValues][];
-                decoder.readByteArrays(values, definitionLevels, maxDefLevel);
-                return new Page.ByteArrayPage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
+                return readBinaryPage(decoder, numValues, definitionLevels, repetitionLevels);
             }
             case DELTA_BYTE_ARRAY -> {
                 int numNonNullValues = countNonNullValues(numValues, definitionLevels);
-                DeltaByteArrayDecoder decoder = new DeltaByteArrayDecoder(data, offset);
+                DeltaByteArrayDecoder decoder = new DeltaByteArrayDecoder(data, offset, end - offset);
                 decoder.initialize(numNonNullValues);
-                byte[][] values = new byte[numValues][];
-                decoder.readByteArrays(values, definitionLevels, maxDefLevel);
-                return new Page.ByteArrayPage(values, definitionLevels, repetitionLevels, maxDefLevel, numValues);
+                return readBinaryPage(decoder, numValues, definitionLevels, repetitionLevels);
             }
             default -> throw new UnsupportedOperationException("Encoding not yet supported: " + encoding);
         }
     }
+
+    /// Decodes byte-array values into a contiguous [Page.ByteArrayPage].
+    private Page readBinaryPage(ValueDecoder decoder, int numValues, int[] definitionLevels,
+                                int[] repetitionLevels) throws IOException {
+        int maxDefLevel = column.maxDefinitionLevel();
+        int[] offsets = new int[numValues + 1];
+        byte[] bytes = decoder.readBinaries(offsets, definitionLevels, maxDefLevel);
+        return new Page.ByteArrayPage(bytes, offsets, definitionLevels, repetitionLevels, maxDefLevel, numValues);
+    }
 }
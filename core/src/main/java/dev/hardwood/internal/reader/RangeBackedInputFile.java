@@ -15,6 +15,8 @@ import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 
 import dev.hardwood.InputFile;
 
@@ -28,28 +30,43 @@ import dev.hardwood.InputFile;
 /// range fully covered by populated bytes return zero-copy slices of
 /// the mapping — no further calls to the wrapped file.
 ///
-/// **Footprint.** The mapping reserves `length()` bytes of virtual
-/// address space at [#open]. The temp file is sparse-truncated to the
-/// same size; only touched pages occupy real memory or disk on
-/// filesystems that support sparse files (ext4, xfs, apfs, ntfs).
-/// Real footprint scales with bytes fetched, not file size.
+/// **Footprint.** The temp file is sparse-truncated to `length()` bytes;
+/// only touched pages occupy real memory or disk on filesystems that
+/// support sparse files (ext4, xfs, apfs, ntfs). Real footprint scales
+/// with bytes fetched, not file size.
 ///
-/// **Limit.** [MappedByteBuffer#slice(int, int)] is `int`-typed, so
-/// the mapping cannot exceed [Integer#MAX_VALUE] bytes. Files larger
-/// than 2 GB cannot be range-backed; [#open] throws on those.
+/// **Large files.** A [MappedByteBuffer] is `int`-indexed, so the temp
+/// file is mapped as a series of windows rather than as one buffer.
+/// Window `i` starts at `i * WINDOW_STRIDE` (1 GB) and extends up to
+/// [Integer#MAX_VALUE] bytes, so consecutive windows overlap by about
+/// 1 GB and every range of up to 1 GB lies entirely within the window of
+/// its start offset. Windows are mapped lazily on first touch; a file of
+/// up to 2 GB is covered by window 0 alone, as before. The rare longer
+/// range is served from a mapping of just that range. All mappings share
+/// the temp file's pages, so bytes filled through one are visible through
+/// every other.
 ///
-/// **Lifecycle.** [#close] unmaps the buffer (best-effort, GC drives
+/// **Vectored reads.** [#readRanges] collects the gaps of every
+/// requested range and fetches them from the wrapped file with a single
+/// [InputFile#readRanges] call, so a backend that parallelises vectored
+/// reads fills all gaps concurrently.
+///
+/// **Lifecycle.** [#close] unmaps the windows (best-effort, GC drives
 /// the actual unmap) and deletes the temp file. The wrapped file is
 /// closed via the standard delegation.
 public final class RangeBackedInputFile implements InputFile {
 
+    /// Distance between the start offsets of consecutive mapping windows.
+    static final long WINDOW_STRIDE = 1L << 30;
+
     private final InputFile delegate;
     private final Path tempDir;
 
     private long fileLength = -1;
     private Path tempFile;
     private FileChannel channel;
-    private MappedByteBuffer mapping;
+    /// Lazily mapped windows; see the class comment. Non-null once opened.
+    private MappedByteBuffer[] windows;
     private RangeSet populated;
 
     /// Creates a decorator that caches ranges fetched from `delegate`
@@ -65,25 +82,22 @@ public final class RangeBackedInputFile implements InputFile {
 
     @Override
     public synchronized void open() throws IOException {
-        if (mapping != null) {
+        if (windows != null) {
             return;
         }
         delegate.open();
         long length = delegate.length();
-        if (length > Integer.MAX_VALUE) {
-            throw new IOException("File too large for range backing: "
-                    + delegate.name() + " is " + length
-                    + " bytes; the mmap-backed cache supports up to "
-                    + Integer.MAX_VALUE + " bytes. Open with "
-                    + "RangeBacking.NONE for files > 2 GB.");
-        }
         this.fileLength = length;
         this.tempFile = Files.createTempFile(tempDir, "hardwood-range-", ".cache");
         try {
             this.channel = FileChannel.open(tempFile,
                     StandardOpenOption.READ, StandardOpenOption.WRITE);
             channel.truncate(length);
-            this.mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            this.windows = new MappedByteBuffer[Math.toIntExact(
+                    Math.max(1, Math.ceilDiv(length, WINDOW_STRIDE)))];
+            // Map the first window eagerly so the temp file is grown to
+            // its full size (or to the first 2 GB) up front, as before.
+            window(0);
             this.populated = new RangeSet();
         }
         catch (IOException | RuntimeException e) {
@@ -96,14 +110,7 @@ public final class RangeBackedInputFile implements InputFile {
 
     @Override
     public synchronized ByteBuffer readRange(long offset, int length) throws IOException {
-        if (mapping == null) {
-            throw new IllegalStateException("File not opened: " + name());
-        }
-        if (offset < 0 || length < 0 || offset + length > fileLength) {
-            throw new IllegalArgumentException(
-                    "Range [" + offset + ", " + (offset + length)
-                    + ") falls outside file [0, " + fileLength + ") (" + name() + ")");
-        }
+        checkRange(offset, length);
         long end = offset + length;
         if (!populated.contains(offset, end)) {
             // Fetch every gap in `[offset, end)` from the delegate and
@@ -115,14 +122,87 @@ public final class RangeBackedInputFile implements InputFile {
                 long gapStart = gap[0];
                 long gapEnd = gap[1];
                 int gapLen = Math.toIntExact(gapEnd - gapStart);
-                ByteBuffer fetched = delegate.readRange(gapStart, gapLen);
-                MappedByteBuffer slot = mapping;
-                slot.position(Math.toIntExact(gapStart));
-                slot.put(fetched);
-                populated.add(gapStart, gapEnd);
+                fill(gapStart, delegate.readRange(gapStart, gapLen));
+            }
+        }
+        return slice(offset, length);
+    }
+
+    @Override
+    public synchronized List<ByteBuffer> readRanges(List<Range> ranges) throws IOException {
+        for (Range range : ranges) {
+            checkRange(range.offset(), range.length());
+        }
+        // Collect the gaps of all requested ranges, de-duplicated across
+        // overlapping requests, and fetch them in one vectored call.
+        RangeSet scheduled = new RangeSet();
+        List<Range> gaps = new ArrayList<>();
+        for (Range range : ranges) {
+            for (long[] gap : populated.missing(range.offset(), range.end())) {
+                for (long[] unscheduled : scheduled.missing(gap[0], gap[1])) {
+                    gaps.add(new Range(unscheduled[0], Math.toIntExact(unscheduled[1] - unscheduled[0])));
+                    scheduled.add(unscheduled[0], unscheduled[1]);
+                }
+            }
+        }
+        if (!gaps.isEmpty()) {
+            List<ByteBuffer> fetched = delegate.readRanges(gaps);
+            for (int i = 0; i < gaps.size(); i++) {
+                fill(gaps.get(i).offset(), fetched.get(i));
             }
         }
-        return mapping.slice(Math.toIntExact(offset), length);
+        List<ByteBuffer> result = new ArrayList<>(ranges.size());
+        for (Range range : ranges) {
+            result.add(slice(range.offset(), range.length()));
+        }
+        return result;
+    }
+
+    private void checkRange(long offset, int length) {
+        if (windows == null) {
+            throw new IllegalStateException("File not opened: " + name());
+        }
+        if (offset < 0 || length < 0 || offset + length > fileLength) {
+            throw new IllegalArgumentException(
+                    "Range [" + offset + ", " + (offset + length)
+                    + ") falls outside file [0, " + fileLength + ") (" + name() + ")");
+        }
+    }
+
+    /// Writes bytes fetched from the delegate into the mapping at their
+    /// absolute offset and marks them populated. Caller holds the monitor.
+    private void fill(long start, ByteBuffer fetched) throws IOException {
+        int fetchedLength = fetched.remaining();
+        slice(start, fetchedLength).put(fetched);
+        populated.add(start, start + fetchedLength);
+    }
+
+    /// Returns a buffer over `[offset, offset + length)` of the temp file:
+    /// a slice of the window the range starts in, or a dedicated mapping
+    /// when the range runs past the end of that window. Caller holds the
+    /// monitor.
+    private ByteBuffer slice(long offset, int length) throws IOException {
+        // A zero-length read at EOF belongs to the last window.
+        int index = Math.min(Math.toIntExact(offset / WINDOW_STRIDE), windows.length - 1);
+        long windowStart = index * WINDOW_STRIDE;
+        MappedByteBuffer window = window(index);
+        if (offset + length <= windowStart + window.capacity()) {
+            return window.slice(Math.toIntExact(offset - windowStart), length);
+        }
+        return channel.map(FileChannel.MapMode.READ_WRITE, offset, length);
+    }
+
+    /// Returns window `index`, mapping it on first use. Caller holds the
+    /// monitor.
+    private MappedByteBuffer window(int index) throws IOException {
+        MappedByteBuffer window = windows[index];
+        if (window == null) {
+            long start = index * WINDOW_STRIDE;
+            long size = Math.min(fileLength - start, Integer.MAX_VALUE);
+            window = channel.map(FileChannel.MapMode.READ_WRITE, start, size);
+            windows[index] = window;
+        }
+        return window;
     }
 
     /// Returns true if the entire range is already in the cache. Test /
@@ -155,9 +235,9 @@ public final class RangeBackedInputFile implements InputFile {
     @Override
     public synchronized void close() throws IOException {
         IOException firstFailure = null;
-        // Drop the mapping reference; the actual unmap happens when the
+        // Drop the window references; the actual unmap happens when the
         // GC runs the cleaner. We don't have a portable way to force it.
-        mapping = null;
+        windows = null;
         if (channel != null) {
             try {
                 channel.close();
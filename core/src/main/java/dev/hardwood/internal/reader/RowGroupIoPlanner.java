@@ -0,0 +1,144 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import dev.hardwood.InputFile;
+
+/// Plans the reads of one row group across all projected columns. See #374.
+///
+/// The column chunks of a row group are stored back to back, so a projection of
+/// many columns can be served by a handful of ranged GETs rather than one or more
+/// per column. The planner collects every [ChunkHandle] the column plans built
+/// ahead of iteration — all page groups of an [IndexedFetchPlan], the first chunk
+/// of a [SequentialFetchPlan] — sorts them by offset and walks them greedily: a
+/// read joins the current region while the gap before it stays within
+/// `maxGapBytes` and the region's span within `maxRegionBytes`.
+///
+/// Every read that lands in a region of two or more reads is replaced by a view
+/// on the region's [SharedRegion], so bytes a region covers are fetched exactly
+/// once. The only over-fetch is the gap bytes — writer padding, or pages a filter
+/// dropped — and the gap policy bounds it. A plan whose iterator reads past its
+/// planned chunks through handles it creates lazily (a `head(N)`-truncated
+/// sequential plan) ends the region at its last planned chunk; bridging on would
+/// pull in bytes the iterator fetches again. A region takes over the
+/// [FetchCharge] of the reads it replaces.
+final class RowGroupIoPlanner {
+
+    private final int maxGapBytes;
+    private final int maxRegionBytes;
+
+    /// @param maxGapBytes largest gap between two reads that one region bridges
+    /// @param maxRegionBytes largest span of a region
+    RowGroupIoPlanner(int maxGapBytes, int maxRegionBytes) {
+        if (maxGapBytes < 0) {
+            throw new IllegalArgumentException("maxGapBytes must be non-negative, got " + maxGapBytes);
+        }
+        if (maxRegionBytes <= 0) {
+            throw new IllegalArgumentException("maxRegionBytes must be positive, got " + maxRegionBytes);
+        }
+        this.maxGapBytes = maxGapBytes;
+        this.maxRegionBytes = maxRegionBytes;
+    }
+
+    /// Plans whose pre-built reads may be served from a shared region.
+    interface CoalescableReads {
+
+        /// The chunk handles built ahead of iteration, in file order.
+        List<ChunkHandle> plannedChunks();
+
+        /// Returns true when the iterator reads past the end of the last
+        /// planned chunk through handles it creates lazily.
+        boolean readsPastPlannedChunks();
+
+        /// Replaces the planned chunk at `index` with a region-backed view of
+        /// the same byte range.
+        void replacePlannedChunk(int index, ChunkHandle replacement);
+    }
+
+    /// Rewrites the plans' reads onto shared regions, chained in file order for
+    /// one-ahead pre-fetch. No I/O happens here.
+    ///
+    /// @return the regions created, in file order; empty when no two reads merge
+    List<SharedRegion> plan(FetchPlan[] plans, InputFile inputFile, int rowGroupIndex) {
+        record Read(int planIndex, int chunkIndex, ChunkHandle handle, boolean endsRegion) {}
+        List<Read> reads = new ArrayList<>();
+        for (int i = 0; i < plans.length; i++) {
+            if (!(plans[i] instanceof CoalescableReads c)) {
+                continue;
+            }
+            List<ChunkHandle> chunks = c.plannedChunks();
+            int last = chunks.size() - 1;
+            for (int k = 0; k <= last; k++) {
+                reads.add(new Read(i, k, chunks.get(k), k == last && c.readsPastPlannedChunks()));
+            }
+        }
+        if (reads.size() < 2) {
+            return List.of();
+        }
+        reads.sort(Comparator.comparingLong(r -> r.handle().fileOffset()));
+
+        // Greedy walk: extend the current region while the gap and span stay in bounds.
+        List<List<Read>> groups = new ArrayList<>();
+        List<Read> current = new ArrayList<>();
+        long currentStart = 0;
+        long currentEnd = 0;
+        for (Read read : reads) {
+            long offset = read.handle().fileOffset();
+            long end = offset + read.handle().length();
+            boolean joins = !current.isEmpty()
+                    && !current.get(current.size() - 1).endsRegion()
+                    && offset - currentEnd <= maxGapBytes
+                    && end - currentStart <= maxRegionBytes;
+            if (!joins) {
+                if (!current.isEmpty()) {
+                    groups.add(current);
+                }
+                current = new ArrayList<>();
+                currentStart = offset;
+                currentEnd = end;
+            }
+            current.add(read);
+            currentEnd = Math.max(currentEnd, end);
+        }
+        groups.add(current);
+
+        // Single-read groups keep their standalone handles: a region would buy nothing.
+        List<SharedRegion> regions = new ArrayList<>();
+        for (List<Read> group : groups) {
+            if (group.size() < 2) {
+                continue;
+            }
+            Read first = group.get(0);
+            Read last = group.get(group.size() - 1);
+            long regionOffset = first.handle().fileOffset();
+            long regionEnd = regionOffset;
+            for (Read read : group) {
+                regionEnd = Math.max(regionEnd, read.handle().fileOffset() + read.handle().length());
+            }
+            int regionLength = Math.toIntExact(regionEnd - regionOffset);
+            SharedRegion region = new SharedRegion(inputFile, regionOffset, regionLength,
+                    "rg=" + rowGroupIndex + " region=" + first.planIndex() + ".." + last.planIndex(),
+                    first.handle().charge());
+            if (!regions.isEmpty()) {
+                regions.get(regions.size() - 1).setNextRegion(region);
+            }
+            regions.add(region);
+            for (Read read : group) {
+                ChunkHandle original = read.handle();
+                ((CoalescableReads) plans[read.planIndex()]).replacePlannedChunk(read.chunkIndex(),
+                        new ChunkHandle(region, original.fileOffset(), original.length(),
+                                original.purpose() + " (region-backed)"));
+            }
+        }
+        return regions;
+    }
+}
@@ -10,10 +10,12 @@ package dev.hardwood.internal.reader;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
@@ -22,11 +24,11 @@ import java.util.concurrent.atomic.AtomicIntegerArray;
 import dev.hardwood.InputFile;
 import dev.hardwood.internal.ExceptionContext;
 import dev.hardwood.internal.FetchReason;
-import dev.hardwood.internal.metadata.PageHeader;
 import dev.hardwood.internal.predicate.PageDropPredicates;
 import dev.hardwood.internal.predicate.PageFilterEvaluator;
 import dev.hardwood.internal.predicate.ResolvedPredicate;
 import dev.hardwood.internal.predicate.RowGroupBloomFilterSource;
+import dev.hardwood.internal.predicate.RowGroupDictionarySource;
 import dev.hardwood.internal.predicate.RowGroupFilterEvaluator;
 import dev.hardwood.internal.predicate.StatsDecision;
 import dev.hardwood.internal.schema.ProjectedSchema;
@@ -39,6 +41,7 @@ import dev.hardwood.metadata.FileMetaData;
 import dev.hardwood.metadata.LogicalType;
 import dev.hardwood.metadata.OffsetIndex;
 import dev.hardwood.metadata.PageLocation;
+import dev.hardwood.metadata.PageType;
 import dev.hardwood.metadata.PhysicalType;
 import dev.hardwood.metadata.RepetitionType;
 import dev.hardwood.metadata.RowGroup;
@@ -71,6 +74,28 @@ public class RowGroupIterator {
     private static final int MAX_COALESCED_BYTES =
             Integer.getInteger("hardwood.internal.maxCoalescedBytes", 128 * 1024 * 1024);
 
+    /// Maximum bytes (in first chunks and shared regions) one vectored
+    /// first-chunk read takes in: the current row group's, which every column
+    /// waits for before it starts, and the next row group's pre-fetch while
+    /// the current one is still being consumed. Bounds both that wait and the
+    /// extra memory held per reader; columns beyond it fetch on demand.
+    private static final long MAX_PREFETCH_BYTES =
+            Long.getLong("hardwood.internal.maxPrefetchBytes", 64L * 1024 * 1024);
+
+    /// Maximum gap (in bytes) between two reads of a row group, of the same or
+    /// of different columns, that one shared region bridges. Adjacent column
+    /// chunks are typically 0 bytes apart, but writers may emit padding /
+    /// checksum bytes; 64 KB tolerates that without paying for sizeable dead
+    /// bytes between non-adjacent chunks. High-latency stores may trade more
+    /// dead bytes for fewer requests by raising it.
+    private static final int MAX_CROSS_COLUMN_GAP_BYTES =
+            Integer.getInteger("hardwood.internal.maxCrossColumnGapBytes", 64 * 1024);
+
+    /// Merges the reads of all projected columns of a row group into shared
+    /// regions of at most [#MAX_COALESCED_BYTES] each.
+    private static final RowGroupIoPlanner IO_PLANNER =
+            new RowGroupIoPlanner(MAX_CROSS_COLUMN_GAP_BYTES, MAX_COALESCED_BYTES);
+
     private final List<InputFile> inputFiles;
     private final HardwoodContextImpl context;
     private final long maxRows;
@@ -105,7 +130,11 @@ public class RowGroupIterator {
     private final ConcurrentHashMap<Integer, SharedRowGroupMetadata> metadataCache = new ConcurrentHashMap<>();
 
     // Per-row-group fetch plans cache (keyed by work item index).
-    private final ConcurrentHashMap<Integer, FetchPlan[]> fetchPlanCache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, PlannedRowGroup> fetchPlanCache = new ConcurrentHashMap<>();
+
+    // Set by close() before it releases the charges of the cached plans; a plan
+    // cached after that sweep releases its own charge.
+    private volatile boolean closed;
 
     // Number of projected columns still referencing each work item. Initialized to
     // projectedColumnCount in initialize(); each PageSource calls releaseWorkItem
@@ -395,18 +424,36 @@ public class RowGroupIterator {
 
     /// Returns the [FetchPlan] for the given column in the given row group.
     /// Plans are computed once per row group (on first access) and cached.
+    /// The first reads of the projected columns are then submitted in one
+    /// vectored [InputFile#readRanges] call, up to [#MAX_PREFETCH_BYTES]
+    /// (see [#fetchFirstChunks]); columns past that fetch on demand, so no
+    /// column waits for more than that bound before it can start.
     ///
     /// @param workItem the work item identifying the row group
     /// @param projectedColumnIndex the projected column index
     /// @return a fetch plan for iterating pages with lazy byte fetching
     public FetchPlan getColumnPlan(WorkItem workItem, int projectedColumnIndex) {
-        FetchPlan[] plans = fetchPlanCache.computeIfAbsent(workItem.workItemIndex(),
+        // Only the metadata work runs inside computeIfAbsent; the vectored read is
+        // issued by the creating thread afterwards so it never holds the map's bin.
+        boolean[] created = new boolean[1];
+        PlannedRowGroup planned = fetchPlanCache.computeIfAbsent(workItem.workItemIndex(),
                 idx -> {
-                    FetchPlan[] computed = computeFetchPlans(workItem);
-                    prefetchNextRowGroup(workItem);
-                    return computed;
+                    created[0] = true;
+                    return planRowGroup(workItem);
                 });
-        return plans[projectedColumnIndex];
+        if (discardIfClosed(workItem, planned)) {
+            return planned.plans()[projectedColumnIndex];
+        }
+        if (created[0]) {
+            planned.fetchFirstChunks(workItem, "rg=" + workItem.rowGroupIndex(), MAX_PREFETCH_BYTES);
+            prefetchNextRowGroup(workItem);
+        }
+        else {
+            // Wait for the creator's vectored read rather than racing it with a
+            // per-column read of the same bytes.
+            planned.firstChunksFetched().join();
+        }
+        return planned.plans()[projectedColumnIndex];
     }
 
     /// Notifies the iterator that one projected column is done with the given
@@ -418,7 +465,9 @@ public class RowGroupIterator {
     /// In-flight `PageInfo` slices and decode tasks keep their byte data alive
     /// via the slice's parent reference, so eviction here only drops the strong
     /// cache reference; the underlying chunk memory is reclaimed by GC once
-    /// downstream consumers finish processing.
+    /// downstream consumers finish processing. The row group's [FetchCharge]
+    /// is returned to the memory budget here; the workers' page charges cover
+    /// what in-flight pages still hold.
     public void releaseWorkItem(WorkItem workItem) {
         if (workItemRefCounts == null) {
             return;
@@ -427,13 +476,18 @@ public class RowGroupIterator {
         int remaining = workItemRefCounts.decrementAndGet(idx);
         if (remaining == 0) {
             metadataCache.remove(idx);
-            fetchPlanCache.remove(idx);
+            PlannedRowGroup planned = fetchPlanCache.remove(idx);
+            if (planned != null) {
+                planned.charge().releaseAll();
+            }
         }
     }
 
     /// Triggers async pre-computation and pre-fetch for the next row group.
     /// The plan computation is pure metadata work (no I/O). The pre-fetch
-    /// kicks off the first chunk's `readRange()` asynchronously.
+    /// submits the first reads of the projected columns in one vectored
+    /// `readRanges()` call, up to [#MAX_PREFETCH_BYTES]; columns past that
+    /// fetch on demand.
     private void prefetchNextRowGroup(WorkItem currentWorkItem) {
         int nextIndex = currentWorkItem.workItemIndex() + 1;
         if (nextIndex >= workItems.size()) {
@@ -441,23 +495,104 @@ public class RowGroupIterator {
         }
         WorkItem nextWorkItem = workItems.get(nextIndex);
         CompletableFuture.runAsync(() -> {
-            try (FetchReason.Scope ignored = FetchReason.set(
-                    "prefetch rg=" + nextWorkItem.rowGroupIndex())) {
-                FetchPlan[] nextPlans = fetchPlanCache.computeIfAbsent(
-                        nextWorkItem.workItemIndex(),
-                        idx -> computeFetchPlans(nextWorkItem));
-                // Pre-fetch the first non-empty plan's chunk
-                for (FetchPlan plan : nextPlans) {
-                    if (!plan.isEmpty()) {
-                        plan.prefetch();
-                        break;
+            boolean[] created = new boolean[1];
+            PlannedRowGroup planned = fetchPlanCache.computeIfAbsent(
+                    nextWorkItem.workItemIndex(),
+                    idx -> {
+                        created[0] = true;
+                        return planRowGroup(nextWorkItem);
+                    });
+            if (discardIfClosed(nextWorkItem, planned)) {
+                return;
+            }
+            if (created[0]) {
+                planned.fetchFirstChunks(nextWorkItem,
+                        "prefetch rg=" + nextWorkItem.rowGroupIndex(), MAX_PREFETCH_BYTES);
+            }
+        });
+    }
+
+    /// Drops `planned` when the iterator has closed: close() may have swept the
+    /// cache before this entry landed. Returns its charge, evicts it and
+    /// completes its first-chunk future so no column waits on a read that will
+    /// never be issued.
+    private boolean discardIfClosed(WorkItem workItem, PlannedRowGroup planned) {
+        if (!closed) {
+            return false;
+        }
+        fetchPlanCache.remove(workItem.workItemIndex(), planned);
+        planned.charge().releaseAll();
+        planned.firstChunksFetched().complete(null);
+        return true;
+    }
+
+    /// Computes the fetch plans of a row group, charging their reads to a fresh
+    /// [FetchCharge] on the context's memory budget.
+    private PlannedRowGroup planRowGroup(WorkItem workItem) {
+        FetchCharge charge = new FetchCharge(context.memoryBudget());
+        return new PlannedRowGroup(computeFetchPlans(workItem, charge), charge);
+    }
+
+    /// The cached fetch plans of one row group, the charge of the bytes they
+    /// fetched, and the completion of the vectored read of their first chunks.
+    private record PlannedRowGroup(FetchPlan[] plans, FetchCharge charge,
+                                   CompletableFuture<Void> firstChunksFetched) {
+
+        PlannedRowGroup(FetchPlan[] plans, FetchCharge charge) {
+            this(plans, charge, new CompletableFuture<>());
+        }
+
+        /// Fetches the first [ChunkHandle] of every non-empty plan with a single
+        /// [InputFile#readRanges] call, so backends can merge, parallelise or
+        /// pipeline the per-column reads of a row group instead of serving them
+        /// one `readRange()` at a time as each column's retriever gets to them.
+        /// Region-backed handles from the [RowGroupIoPlanner] contribute their
+        /// shared region once. Handles are taken in column order while their
+        /// total stays within `maxBytes`; the first one is always taken. Each
+        /// read must also fit the memory budget (see [FetchCharge]).
+        ///
+        /// Best-effort: a failure is logged at DEBUG and left for the demand path,
+        /// which re-attempts the read per column and surfaces a fresh, attributed
+        /// exception if the error is sustained.
+        void fetchFirstChunks(WorkItem workItem, String reason, long maxBytes) {
+            try {
+                List<ChunkHandle> handles = new ArrayList<>(plans.length);
+                Set<SharedRegion> regions = Collections.newSetFromMap(new IdentityHashMap<>());
+                long bytes = 0;
+                for (FetchPlan plan : plans) {
+                    ChunkHandle first = plan.firstChunk();
+                    if (first == null) {
+                        continue;
                     }
+                    SharedRegion region = first.region();
+                    long added = region == null ? first.length()
+                            : regions.contains(region) ? 0 : region.length();
+                    if (!handles.isEmpty() && bytes + added > maxBytes) {
+                        continue;
+                    }
+                    if (region != null) {
+                        regions.add(region);
+                    }
+                    handles.add(first);
+                    bytes += added;
                 }
+                if (handles.isEmpty()) {
+                    return;
+                }
+                ChunkHandle.fetchAll(workItem.inputFile(), handles, reason + " firstChunks");
             }
-        });
+            catch (RuntimeException e) {
+                LOG.log(System.Logger.Level.DEBUG,
+                        "Vectored fetch of first chunks failed for row group {0} in {1}",
+                        workItem.rowGroupIndex(), workItem.inputFile().name(), e);
+            }
+            finally {
+                firstChunksFetched.complete(null);
+            }
+        }
     }
 
-    private FetchPlan[] computeFetchPlans(WorkItem workItem) {
+    private FetchPlan[] computeFetchPlans(WorkItem workItem, FetchCharge charge) {
         SharedRowGroupMetadata shared = getSharedMetadata(workItem);
         RowGroup rowGroup = workItem.rowGroup();
         RowRanges matchingRows = shared.matchingRows();
@@ -509,7 +644,7 @@ public class RowGroupIterator {
                 plans[projCol] = SequentialFetchPlan.build(
                         inputFile, columnSchema, columnChunk,
                         context, workItem.rowGroupIndex(), inputFile.name(),
-                        perRgMaxRows, leaves, matchingRows, rowGroup.numRows());
+                        perRgMaxRows, leaves, matchingRows, rowGroup.numRows(), charge);
                 continue;
             }
 
@@ -544,7 +679,7 @@ public class RowGroupIterator {
                     String purpose = "rg=" + workItem.rowGroupIndex()
                             + " col=" + originalIndex
                             + " pageGroup=" + (g + 1) + "/" + groupCount;
-                    handles.add(new ChunkHandle(inputFile, group.offset, group.length, purpose));
+                    handles.add(new ChunkHandle(inputFile, group.offset, group.length, purpose, charge));
                 }
                 for (int i = 0; i < handles.size() - 1; i++) {
                     handles.get(i).setNextChunk(handles.get(i + 1));
@@ -562,132 +697,11 @@ public class RowGroupIterator {
             }
         }
 
-        coalesceAcrossColumns(plans, inputFile, workItem);
+        IO_PLANNER.plan(plans, inputFile, workItem.rowGroupIndex());
 
         return plans;
     }
 
-    /// Maximum byte gap that cross-column coalescing will bridge between
-    /// adjacent column chunks. Adjacent chunks are typically 0 bytes apart,
-    /// but writers may emit padding / checksum bytes; 64 KB tolerates that
-    /// without paying for sizeable dead bytes between non-adjacent chunks.
-    private static final int MAX_CROSS_COL_GAP_BYTES = 64 * 1024;
-
-    /// Coalesces the *first* read of multiple columns within this row group
-    /// into a smaller number of larger ranged GETs. See #374.
-    ///
-    /// Conservative scope: only coalesces plans that report
-    /// [CoalescableFirstChunk#isCoalesceSafe] as true, i.e. those whose
-    /// first chunk represents the entire byte range the column will read.
-    /// Plans with page drops keep their per-column reads — coalescing
-    /// across an intra-column drop would over-fetch the dropped bytes
-    /// into the shared region *and* later re-fetch the column's
-    /// non-first page groups via the per-column chain (double-fetch).
-    /// IndexedFetchPlans with a single page group qualify;
-    /// SequentialFetchPlans qualify when their chunk size covers the
-    /// entire column chunk (`head(N)` truncation may shrink it below).
-    private void coalesceAcrossColumns(FetchPlan[] plans, InputFile inputFile, WorkItem workItem) {
-        // Collect (offset, length, plan-index) for each plan's first read.
-        record Entry(int planIndex, long offset, int length) {}
-        List<Entry> entries = new ArrayList<>(plans.length);
-        for (int i = 0; i < plans.length; i++) {
-            FetchPlan plan = plans[i];
-            if (plan instanceof CoalescableFirstChunk c && c.isCoalesceSafe()) {
-                entries.add(new Entry(i, c.firstChunkOffset(), c.firstChunkLength()));
-            }
-        }
-        if (entries.size() < 2) {
-            return;
-        }
-        entries.sort(Comparator.comparingLong(Entry::offset));
-
-        // Greedy walk: accumulate entries into a region while the gap and
-        // total span stay within bounds.
-        List<List<Entry>> regionEntries = new ArrayList<>();
-        List<Entry> current = new ArrayList<>();
-        long currentEnd = -1;
-        long currentStart = -1;
-        for (Entry e : entries) {
-            long gap = (currentEnd < 0) ? 0 : e.offset() - currentEnd;
-            long combinedSpan = (currentStart < 0) ? e.length() : e.offset() + e.length() - currentStart;
-            if (current.isEmpty()
-                    || (gap <= MAX_CROSS_COL_GAP_BYTES && combinedSpan <= MAX_COALESCED_BYTES)) {
-                if (current.isEmpty()) {
-                    currentStart = e.offset();
-                }
-                current.add(e);
-                currentEnd = e.offset() + e.length();
-            }
-            else {
-                regionEntries.add(current);
-                current = new ArrayList<>();
-                current.add(e);
-                currentStart = e.offset();
-                currentEnd = e.offset() + e.length();
-            }
-        }
-        if (!current.isEmpty()) {
-            regionEntries.add(current);
-        }
-
-        // Skip the rewrite if every "region" is just one column — coalescing
-        // would buy nothing.
-        boolean anyMerged = regionEntries.stream().anyMatch(g -> g.size() > 1);
-        if (!anyMerged) {
-            return;
-        }
-
-        // Build SharedRegions and rewrite each merged plan's first ChunkHandle
-        // to slice from the region. Single-entry "regions" are left alone.
-        SharedRegion[] regionsByPlan = new SharedRegion[plans.length];
-        SharedRegion previous = null;
-        for (List<Entry> group : regionEntries) {
-            if (group.size() == 1) {
-                continue;
-            }
-            long regionOffset = group.get(0).offset();
-            long regionEnd = group.get(group.size() - 1).offset()
-                    + group.get(group.size() - 1).length();
-            int regionLength = Math.toIntExact(regionEnd - regionOffset);
-            String purpose = "rg=" + workItem.rowGroupIndex()
-                    + " region=" + group.get(0).planIndex() + ".." + group.get(group.size() - 1).planIndex();
-            SharedRegion region = new SharedRegion(inputFile, regionOffset, regionLength, purpose);
-            if (previous != null) {
-                previous.setNextRegion(region);
-            }
-            previous = region;
-            for (Entry e : group) {
-                regionsByPlan[e.planIndex()] = region;
-            }
-        }
-
-        for (int i = 0; i < plans.length; i++) {
-            SharedRegion region = regionsByPlan[i];
-            if (region == null) {
-                continue;
-            }
-            ((CoalescableFirstChunk) plans[i]).attachSharedRegion(region, workItem.rowGroupIndex());
-        }
-    }
-
-    /// Plans that expose their first read's byte range and accept a
-    /// region-backed [ChunkHandle] for it.
-    interface CoalescableFirstChunk {
-        long firstChunkOffset();
-        int firstChunkLength();
-
-        /// Returns true when the plan's first chunk is the only chunk
-        /// (i.e. no later page groups will be fetched per-column).
-        /// When false, cross-column coalescing skips this plan: bridging
-        /// to a neighbour column would over-fetch the bytes between this
-        /// plan's first chunk and its later chunks (e.g. dropped pages)
-        /// into the shared region, *and* the per-column chain would later
-        /// re-fetch those same later chunks.
-        boolean isCoalesceSafe();
-
-        void attachSharedRegion(SharedRegion region, int rowGroupIndex);
-    }
-
     /// A contiguous byte range covering one or more pages within a column.
     record PageGroup(long offset, int length, int firstPageIndex, int pageCount) {}
 
@@ -821,7 +835,7 @@ public class RowGroupIterator {
                 continue;
             }
             if (PageFormatProbe.firstDataPageType(inputFile, columnChunk)
-                    == PageHeader.PageType.DATA_PAGE_V2) {
+                    == PageType.DATA_PAGE_V2) {
                 continue;
             }
             return false;
@@ -880,6 +894,10 @@ public class RowGroupIterator {
         }
         fileFutures.clear();
         metadataCache.clear();
+        closed = true;
+        for (PlannedRowGroup planned : fetchPlanCache.values()) {
+            planned.charge().releaseAll();
+        }
         fetchPlanCache.clear();
 
         for (InputFile file : inputFiles) {
@@ -904,7 +922,8 @@ public class RowGroupIterator {
         boolean allKeptAlwaysMatch = true;
         for (int fileIndex = 0; fileIndex < inputFiles.size() && rowBudget > 0; fileIndex++) {
             PreparedFile prepared = getPreparedFile(fileIndex);
-            List<FilteredRowGroup> rowGroups = filterRowGroups(prepared.rowGroups, prepared.inputFile);
+            List<FilteredRowGroup> rowGroups = filterRowGroups(prepared.rowGroups, prepared.inputFile,
+                    prepared.schema);
 
             for (int rgIndex = 0; rgIndex < rowGroups.size() && rowBudget > 0; rgIndex++) {
                 FilteredRowGroup decided = rowGroups.get(rgIndex);
@@ -1048,7 +1067,8 @@ public class RowGroupIterator {
     /// every row matches (so per-row filtering can be skipped for it).
     private record FilteredRowGroup(RowGroup rowGroup, boolean alwaysMatches) {}
 
-    private List<FilteredRowGroup> filterRowGroups(List<RowGroup> rowGroups, InputFile inputFile) {
+    private List<FilteredRowGroup> filterRowGroups(List<RowGroup> rowGroups, InputFile inputFile,
+            FileSchema fileSchema) {
         if (filterPredicate == null) {
             return rowGroups.stream()
                     .map(rg -> new FilteredRowGroup(rg, false))
@@ -1058,7 +1078,8 @@ public class RowGroupIterator {
         int fullyMatching = 0;
         for (RowGroup rg : rowGroups) {
             StatsDecision decision = RowGroupFilterEvaluator.decideRowGroup(filterPredicate, rg,
-                    new RowGroupBloomFilterSource(inputFile, rg));
+                    new RowGroupBloomFilterSource(inputFile, rg),
+                    new RowGroupDictionarySource(inputFile, rg, fileSchema, context));
             if (decision == StatsDecision.CANNOT_MATCH) {
                 continue;
             }
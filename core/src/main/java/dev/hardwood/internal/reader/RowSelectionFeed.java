@@ -0,0 +1,160 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// Hands the record selection of each filtered batch from the consumer side to
+/// a late-materialised [FlatColumnWorker], which then decodes and assembles
+/// only the selected rows of its column.
+///
+/// Rows are numbered in the worker's *logical* row stream: the rows its page
+/// masks keep, counted from the start of the read. Batches are published in
+/// order and cover consecutive row ranges; the retriever consults them to skip
+/// pages without a selected row, and the drain to gather the selected rows and
+/// cut its batches where the filtered batches end.
+///
+/// Waits are bounded by [#close()], which the worker calls when it stops.
+public final class RowSelectionFeed {
+
+    /// The selection of one batch: rows `[start, start + count)`, of which the
+    /// batch-relative ascending indices `kept[0..keptCount)` are selected.
+    /// `kept` is `null` when every row is selected.
+    public record Selection(long start, int count, int[] kept, int keptCount) {
+
+        public long end() {
+            return start + count;
+        }
+
+        public boolean selectsAll() {
+            return kept == null;
+        }
+
+        /// Index into `kept` of the first selected row at or after `row`.
+        int firstKeptAtOrAfter(long row) {
+            int key = (int) (row - start);
+            int index = Arrays.binarySearch(kept, 0, keptCount, key);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+    private final ArrayDeque<Selection> selections = new ArrayDeque<>();
+    private long decidedRows;
+    private boolean closed;
+
+    /// Publishes the selection of the next `count` rows. A negative
+    /// `keptCount` selects every row; otherwise `kept[0..keptCount)` holds the
+    /// selected batch-relative indices, which are copied.
+    public void publish(int count, int[] kept, int keptCount) {
+        Selection selection = keptCount < 0
+                ? new Selection(decidedRows, count, null, count)
+                : new Selection(decidedRows, count, Arrays.copyOf(kept, keptCount), keptCount);
+        lock.lock();
+        try {
+            selections.addLast(selection);
+            decidedRows += count;
+            published.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /// Stops the feed: no further selections are published and every waiter
+    /// returns.
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            published.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /// Returns the selection covering `row`, waiting until it is published, or
+    /// `null` if the feed is closed first.
+    Selection await(long row) throws InterruptedException {
+        lock.lock();
+        try {
+            while (decidedRows <= row) {
+                if (closed) {
+                    return null;
+                }
+                published.await();
+            }
+            for (Selection selection : selections) {
+                if (row < selection.end()) {
+                    return selection;
+                }
+            }
+            throw new IllegalStateException("Selection for row " + row + " was already released");
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /// Whether any row of `[from, to)` may be selected. Waits until the
+    /// selection of `from` is published; a range extending past the published
+    /// selections is assumed to have selected rows there, since deciding it
+    /// would wait on batches that need this range assembled first.
+    boolean maySelect(long from, long to) throws InterruptedException {
+        lock.lock();
+        try {
+            while (decidedRows <= from) {
+                if (closed) {
+                    return true;
+                }
+                published.await();
+            }
+            if (decidedRows < to) {
+                return true;
+            }
+            for (Selection selection : selections) {
+                if (selection.end() <= from) {
+                    continue;
+                }
+                if (selection.start() >= to) {
+                    break;
+                }
+                if (selection.selectsAll()) {
+                    return true;
+                }
+                int index = selection.firstKeptAtOrAfter(from);
+                if (index < selection.keptCount() && selection.start() + selection.kept()[index] < to) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /// Drops the selections that end at or before `row`, once the drain has
+    /// assembled past them.
+    void release(long row) {
+        lock.lock();
+        try {
+            while (!selections.isEmpty() && selections.peekFirst().end() <= row) {
+                selections.removeFirst();
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+}
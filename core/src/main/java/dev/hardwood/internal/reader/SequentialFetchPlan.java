@@ -26,6 +26,7 @@ import dev.hardwood.internal.thrift.ThriftCompactReader;
 import dev.hardwood.jfr.RowGroupScannedEvent;
 import dev.hardwood.metadata.ColumnChunk;
 import dev.hardwood.metadata.ColumnMetaData;
+import dev.hardwood.metadata.PageType;
 import dev.hardwood.metadata.Statistics;
 import dev.hardwood.schema.ColumnSchema;
 
@@ -50,7 +51,7 @@ import dev.hardwood.schema.ColumnSchema;
 ///   bytes-per-value (`totalCompressedSize / numValues`) multiplied by
 ///   `maxRows` and a safety factor, floored at one page size and
 ///   capped at the default ceiling.
-public final class SequentialFetchPlan implements FetchPlan, RowGroupIterator.CoalescableFirstChunk {
+public final class SequentialFetchPlan implements FetchPlan, RowGroupIoPlanner.CoalescableReads {
 
     /// Minimum chunk size when `maxRows` is active (1 MB).
     /// Sized to roughly one Parquet data page so header scanning does not
@@ -95,11 +96,14 @@ public final class SequentialFetchPlan implements FetchPlan, RowGroupIterator.Co
     /// [#matchingRows] to compute the final page's `pageLastRow` when masks
     /// are active. Unused when [#matchingRows] is [RowRanges#ALL].
     private final long rowGroupRowCount;
-    /// Optional pre-created first [ChunkHandle], typically a region-backed
-    /// view from cross-column coalescing (#374). When set, the iterator's
-    /// first `advanceChunk(0)` call uses this handle instead of creating
-    /// a fresh standalone one. Subsequent advances (with `chunkSize` <
-    /// columnChunkLength) still create per-column handles lazily.
+    /// Charge of every chunk this plan reads, or `null` when uncharged.
+    private final FetchCharge charge;
+    /// Pre-created first [ChunkHandle]: a standalone handle over the first
+    /// `chunkSize` bytes, or a region-backed view from the
+    /// [RowGroupIoPlanner] (#374). The iterator's first `advanceChunk(0)` call uses
+    /// this handle, so a vectored fetch through [#firstChunk()] serves it.
+    /// Subsequent advances (with `chunkSize` < columnChunkLength) still
+    /// create per-column handles lazily. Creating the handle does no I/O.
     private ChunkHandle firstChunkHandle;
 
     private SequentialFetchPlan(InputFile inputFile, long columnChunkOffset, int columnChunkLength,
@@ -107,7 +111,8 @@ public final class SequentialFetchPlan implements FetchPlan, RowGroupIterator.Co
                                  ColumnChunk columnChunk, HardwoodContextImpl context,
                                  long maxRows, int rowGroupIndex, String fileName,
                                  List<ResolvedPredicate> dropLeaves,
-                                 RowRanges matchingRows, long rowGroupRowCount) {
+                                 RowRanges matchingRows, long rowGroupRowCount,
+                                 FetchCharge charge) {
         if (matchingRows == null) {
             throw new IllegalArgumentException("matchingRows must not be null; use RowRanges.ALL");
         }
@@ -129,6 +134,9 @@ public final class SequentialFetchPlan implements FetchPlan, RowGroupIterator.Co
         this.dropLeaves = dropLeaves;
         this.matchingRows = matchingRows;
         this.rowGroupRowCount = rowGroupRowCount;
+        this.charge = charge;
+        this.firstChunkHandle = new ChunkHandle(inputFile, columnChunkOffset, chunkSize,
+                "rg=" + rowGroupIndex + " col='" + columnSchema.name() + "' seqChunk@0", charge);
     }
 
     @Override
@@ -141,40 +149,32 @@ public final class SequentialFetchPlan implements FetchPlan, RowGroupIterator.Co
         return new SequentialPageIterator();
     }
 
-    /// Returns the byte offset of this plan's first ChunkHandle (the
-    /// chunk it would create on the first `advanceChunk(0)`). Used by
-    /// cross-column coalescing in [RowGroupIterator] to decide which
-    /// plans' first reads to merge into a shared region.
     @Override
-    public long firstChunkOffset() {
-        return columnChunkOffset;
+    public ChunkHandle firstChunk() {
+        return firstChunkHandle;
     }
 
-    /// Returns the byte length of this plan's first ChunkHandle.
+    /// Only the first chunk is built ahead of iteration; later chunks are
+    /// created lazily by the iterator.
     @Override
-    public int firstChunkLength() {
-        return chunkSize;
+    public List<ChunkHandle> plannedChunks() {
+        return List.of(firstChunkHandle);
     }
 
-    /// Coalesce-safe iff the first chunk covers the whole column chunk.
-    /// Smaller chunk sizes are produced by `head(N)` truncation; in that
-    /// case bridging to a neighbour column would pull in bytes the
-    /// per-column iterator would otherwise have read separately,
-    /// producing a double-fetch.
+    /// True when the first chunk is smaller than the column chunk, i.e. after
+    /// `head(N)` truncation. A shared region must then end at the first chunk,
+    /// or it would pull in bytes the iterator's lazy chunks fetch again.
     @Override
-    public boolean isCoalesceSafe() {
-        return chunkSize == columnChunkLength;
+    public boolean readsPastPlannedChunks() {
+        return chunkSize < columnChunkLength;
     }
 
     /// Replaces the iterator's first ChunkHandle with a region-backed
     /// view, so the first read slices the shared buffer rather than
     /// issuing a per-column `readRange`.
     @Override
-    public void attachSharedRegion(SharedRegion region, int rowGroupIndex) {
-        String purpose = "rg=" + rowGroupIndex + " col='" + columnSchema.name()
-                + "' seqChunk@0 (region-backed)";
-        this.firstChunkHandle = new ChunkHandle(region,
-                columnChunkOffset, chunkSize, purpose);
+    public void replacePlannedChunk(int index, ChunkHandle replacement) {
+        this.firstChunkHandle = replacement;
     }
 
     /// Builds a [SequentialFetchPlan] with no predicate-driven page skipping
@@ -217,6 +217,18 @@ public final class SequentialFetchPlan implements FetchPlan, RowGroupIterator.Co
                                       int rowGroupIndex, String fileName, long maxRows,
                                       List<ResolvedPredicate> dropLeaves,
                                       RowRanges matchingRows, long rowGroupRowCount) {
+        return build(inputFile, columnSchema, columnChunk, context, rowGroupIndex, fileName,
+                maxRows, dropLeaves, matchingRows, rowGroupRowCount, null);
+    }
+
+    /// Builds a [SequentialFetchPlan] like the variant above whose chunk reads
+    /// are charged to `charge` (see [FetchCharge]), or uncharged when it is `null`.
+    static SequentialFetchPlan build(InputFile inputFile, ColumnSchema columnSchema,
+                                     ColumnChunk columnChunk, HardwoodContextImpl context,
+                                     int rowGroupIndex, String fileName, long maxRows,
+                                     List<ResolvedPredicate> dropLeaves,
+                                     RowRanges matchingRows, long rowGroupRowCount,
+                                     FetchCharge charge) {
         long columnChunkOffset = columnChunk.chunkStartOffset();
         int columnChunkLength = Math.toIntExact(columnChunk.metaData().totalCompressedSize());
         int chunkSize = Math.min(columnChunkLength,
@@ -225,7 +237,7 @@ public final class SequentialFetchPlan implements FetchPlan, RowGroupIterator.Co
         return new SequentialFetchPlan(inputFile, columnChunkOffset, columnChunkLength, chunkSize,
                 columnSchema, columnChunk, context, maxRows, rowGroupIndex, fileName,
                 dropLeaves == null ? List.of() : dropLeaves,
-                matchingRows == null ? RowRanges.ALL : matchingRows, rowGroupRowCount);
+                matchingRows == null ? RowRanges.ALL : matchingRows, rowGroupRowCount, charge);
     }
 
     /// Computes the per-fetch chunk size.
@@ -387,9 +399,9 @@ public final class SequentialFetchPlan implements FetchPlan, RowGroupIterator.Co
         private void advanceChunk(int relPos) {
             ChunkHandle prefetched = currentHandle != null ? currentHandle.nextChunk() : null;
 
-            if (currentHandle == null && relPos == 0 && firstChunkHandle != null) {
-                // First advance, externally-supplied handle (region-backed via
-                // cross-column coalescing in RowGroupIterator).
+            if (currentHandle == null && relPos == 0) {
+                // First advance: the pre-created handle (standalone, or
+                // region-backed via cross-column coalescing in RowGroupIterator).
                 currentHandle = firstChunkHandle;
                 handleStart = 0;
             }
@@ -402,7 +414,7 @@ public final class SequentialFetchPlan implements FetchPlan, RowGroupIterator.Co
                 int remaining = columnChunkLength - relPos;
                 int handleLength = Math.min(remaining, chunkSize);
                 currentHandle = new ChunkHandle(inputFile, columnChunkOffset + relPos, handleLength,
-                        chunkPurpose(relPos));
+                        chunkPurpose(relPos), charge);
                 handleStart = relPos;
             }
             handleEnd = handleStart + currentHandle.length();
@@ -414,7 +426,7 @@ public final class SequentialFetchPlan implements FetchPlan, RowGroupIterator.Co
                 int nextLength = Math.min(nextRemaining, chunkSize);
                 currentHandle.setNextChunk(
                         new ChunkHandle(inputFile, columnChunkOffset + nextStart, nextLength,
-                                chunkPurpose(nextStart)));
+                                chunkPurpose(nextStart), charge));
             }
         }
 
@@ -433,7 +445,7 @@ public final class SequentialFetchPlan implements FetchPlan, RowGroupIterator.Co
             PageHeader header = parsed.header();
             int headerSize = parsed.headerSize();
 
-            if (header.type() == PageHeader.PageType.DICTIONARY_PAGE) {
+            if (header.type() == PageType.DICTIONARY_PAGE) {
                 int compressedSize = header.compressedPageSize();
                 int numValues = header.dictionaryPageHeader().numValues();
                 if (numValues < 0) {
@@ -489,8 +501,8 @@ public final class SequentialFetchPlan implements FetchPlan, RowGroupIterator.Co
                 int headerSize = parsed.headerSize();
                 int totalPageSize = headerSize + header.compressedPageSize();
 
-                if (header.type() != PageHeader.PageType.DATA_PAGE
-                        && header.type() != PageHeader.PageType.DATA_PAGE_V2) {
+                if (header.type() != PageType.DATA_PAGE
+                        && header.type() != PageType.DATA_PAGE_V2) {
                     // DICTIONARY_PAGE or INDEX_PAGE — skip without emitting.
                     position += totalPageSize;
                     continue;
@@ -584,7 +596,7 @@ public final class SequentialFetchPlan implements FetchPlan, RowGroupIterator.Co
             if (columnSchema.maxRepetitionLevel() == 0) {
                 return numValues;
             }
-            if (header.type() != PageHeader.PageType.DATA_PAGE_V2) {
+            if (header.type() != PageType.DATA_PAGE_V2) {
                 throw new IllegalStateException("Per-page row masking on a nested column requires "
                         + "DATA_PAGE_V2 pages; column '" + columnSchema.name()
                         + "' has a v1 data page. The row-group-wide mask gate should have "
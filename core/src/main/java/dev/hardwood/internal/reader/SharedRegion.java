@@ -29,7 +29,9 @@ import dev.hardwood.internal.FetchReason;
 /// Lifecycle: the region is alive as long as any attached handle still
 /// references it. Eviction of the row group's `FetchPlan[]` drops all
 /// attached handles, the region's strong references go to GC, and the
-/// underlying `ByteBuffer` is reclaimed.
+/// underlying `ByteBuffer` is reclaimed. A region built with a
+/// [FetchCharge] charges its bytes against the memory budget before the
+/// read; the row group's eviction returns them.
 public final class SharedRegion {
 
     private static final System.Logger LOG = System.getLogger(SharedRegion.class.getName());
@@ -38,14 +40,29 @@ public final class SharedRegion {
     private final long fileOffset;
     private final int length;
     private final String purpose;
+    private final FetchCharge charge;
     private volatile SharedRegion nextRegion;
     private volatile ByteBuffer data;
 
     public SharedRegion(InputFile inputFile, long fileOffset, int length, String purpose) {
+        this(inputFile, fileOffset, length, purpose, null);
+    }
+
+    /// Creates a region whose read is charged to `charge`, or uncharged when it is `null`.
+    SharedRegion(InputFile inputFile, long fileOffset, int length, String purpose, FetchCharge charge) {
         this.inputFile = inputFile;
         this.fileOffset = fileOffset;
         this.length = length;
         this.purpose = purpose;
+        this.charge = charge;
+    }
+
+    InputFile inputFile() {
+        return inputFile;
+    }
+
+    FetchCharge charge() {
+        return charge;
     }
 
     public long fileOffset() {
@@ -91,10 +108,23 @@ public final class SharedRegion {
         if (buf != null) {
             return buf;
         }
-        fetchData();
+        fetchData(false);
+        prefetchNext();
+        return data;
+    }
+
+    /// Fetches the region ahead of demand, if its charge admits it, and then
+    /// kicks off the pre-fetch of the next region like [#ensureFetched()].
+    void prefetch() {
+        if (data == null && fetchData(true)) {
+            prefetchNext();
+        }
+    }
+
+    private void prefetchNext() {
         SharedRegion next = nextRegion;
         if (next != null && next.data == null) {
-            CompletableFuture.runAsync(FetchReason.bind(next::fetchData))
+            CompletableFuture.runAsync(FetchReason.bind(() -> next.fetchData(true)))
                     .exceptionally(t -> {
                         LOG.log(System.Logger.Level.DEBUG,
                                 "Prefetch failed for region at offset {0} (length {1}) in {2}",
@@ -102,21 +132,48 @@ public final class SharedRegion {
                         return null;
                     });
         }
-        return data;
     }
 
-    private void fetchData() {
+    /// Returns true once the region's bytes are available.
+    boolean isFetched() {
+        return data != null;
+    }
+
+    /// Installs bytes fetched on the region's behalf by a vectored read
+    /// ([ChunkHandle#fetchAll]). No-op if the region was fetched meanwhile.
+    ///
+    /// @return `true` if `fetched` became the region's data
+    boolean install(ByteBuffer fetched) {
+        synchronized (this) {
+            if (data == null) {
+                data = fetched;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /// Reads the region unless it is cached. A read ahead of demand
+    /// (`speculative`) is skipped when its charge does not admit it.
+    ///
+    /// @return `true` if the region's data is available
+    private boolean fetchData(boolean speculative) {
         if (data != null) {
-            return;
+            return true;
         }
         synchronized (this) {
             if (data != null) {
-                return;
+                return true;
+            }
+            if (charge != null && !charge.admit(length, speculative)) {
+                return false;
             }
             String outer = FetchReason.current();
             String composed = "unattributed".equals(outer) ? purpose : outer + " | " + purpose;
+            boolean read = false;
             try (FetchReason.Scope ignored = FetchReason.set(composed)) {
                 data = inputFile.readRange(fileOffset, length);
+                read = true;
             }
             catch (IOException e) {
                 throw new UncheckedIOException(
@@ -124,6 +181,12 @@ public final class SharedRegion {
                         + "Failed to fetch region at offset " + fileOffset
                         + " (length " + length + ")", e);
             }
+            finally {
+                if (!read && charge != null) {
+                    charge.refund(length);
+                }
+            }
+            return true;
         }
     }
 }
@@ -0,0 +1,94 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.thrift;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.hardwood.metadata.Encoding;
+import dev.hardwood.metadata.PageEncodingStats;
+import dev.hardwood.metadata.PageType;
+
+/// Reads a Thrift-encoded `list<PageEncodingStats>` into an unmodifiable list.
+class PageEncodingStatsReader {
+
+    /// Reads the list from the given reader, which must be positioned right after
+    /// the list field header has been consumed.
+    ///
+    /// @return the entries, or `null` if any entry names a page type this reader
+    ///         does not know: the list could then not tell which pages hold data
+    static List<PageEncodingStats> read(ThriftCompactReader reader) throws IOException {
+        ThriftCompactReader.CollectionHeader listHeader = reader.readListHeader();
+        List<PageEncodingStats> result = new ArrayList<>(listHeader.size());
+        boolean complete = true;
+        for (int i = 0; i < listHeader.size(); i++) {
+            PageEncodingStats entry = readEntry(reader);
+            if (entry == null) {
+                complete = false;
+            }
+            else {
+                result.add(entry);
+            }
+        }
+        return complete ? List.copyOf(result) : null;
+    }
+
+    /// Reads a single PageEncodingStats struct (field 1: page_type, field 2: encoding, field 3: count),
+    /// or returns `null` if its page type is missing or unknown.
+    private static PageEncodingStats readEntry(ThriftCompactReader reader) throws IOException {
+        short saved = reader.pushFieldIdContext();
+        try {
+            PageType pageType = null;
+            Encoding encoding = Encoding.UNKNOWN;
+            int count = 0;
+
+            while (true) {
+                ThriftCompactReader.FieldHeader header = reader.readFieldHeader();
+                if (header == null) {
+                    break;
+                }
+
+                switch (header.fieldId()) {
+                    case 1: // page_type (required i32 enum)
+                        if (header.type() == 0x05) {
+                            pageType = ThriftEnumLookup.pageType(reader.readI32());
+                        }
+                        else {
+                            reader.skipField(header.type());
+                        }
+                        break;
+                    case 2: // encoding (required i32 enum)
+                        if (header.type() == 0x05) {
+                            encoding = ThriftEnumLookup.encoding(reader.readI32());
+                        }
+                        else {
+                            reader.skipField(header.type());
+                        }
+                        break;
+                    case 3: // count (required i32)
+                        if (header.type() == 0x05) {
+                            count = reader.readI32();
+                        }
+                        else {
+                            reader.skipField(header.type());
+                        }
+                        break;
+                    default:
+                        reader.skipField(header.type());
+                        break;
+                }
+            }
+
+            return pageType != null ? new PageEncodingStats(pageType, encoding, count) : null;
+        }
+        finally {
+            reader.popFieldIdContext(saved);
+        }
+    }
+}
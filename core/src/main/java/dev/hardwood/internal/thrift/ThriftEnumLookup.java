@@ -10,6 +10,7 @@ package dev.hardwood.internal.thrift;
 import dev.hardwood.metadata.CompressionCodec;
 import dev.hardwood.metadata.ConvertedType;
 import dev.hardwood.metadata.Encoding;
+import dev.hardwood.metadata.PageType;
 import dev.hardwood.metadata.PhysicalType;
 import dev.hardwood.metadata.RepetitionType;
 
@@ -89,6 +90,14 @@ class ThriftEnumLookup {
             CompressionCodec.LZ4_RAW        // 7
     };
 
+    // Indexed by Thrift value (0-3)
+    private static final PageType[] PAGE_TYPES = {
+            PageType.DATA_PAGE,        // 0
+            PageType.INDEX_PAGE,       // 1
+            PageType.DICTIONARY_PAGE,  // 2
+            PageType.DATA_PAGE_V2      // 3
+    };
+
     static PhysicalType physicalType(int value) {
         if (value >= 0 && value < PHYSICAL_TYPES.length) {
             return PHYSICAL_TYPES[value];
@@ -121,6 +130,15 @@ class ThriftEnumLookup {
         return Encoding.UNKNOWN;
     }
 
+    /// Returns the page type of a Thrift value, or `null` for one this reader
+    /// does not know.
+    static PageType pageType(int value) {
+        if (value >= 0 && value < PAGE_TYPES.length) {
+            return PAGE_TYPES[value];
+        }
+        return null;
+    }
+
     static CompressionCodec compressionCodec(int value) {
         if (value >= 0 && value < COMPRESSION_CODECS.length) {
             return COMPRESSION_CODECS[value];
@@ -0,0 +1,43 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/// JFR event emitted when a column pipeline blocks before fetching and decoding
+/// a page because the context's memory budget is exhausted.
+///
+/// Frequent or long waits mean the budget, not decode, is limiting throughput:
+/// raise it, or project fewer columns per reader.
+@Name("dev.hardwood.MemoryBudgetWait")
+@Label("Memory Budget Wait")
+@Category({"Hardwood", "Pipeline"})
+@Description("Column pipeline blocked waiting for the context's memory budget")
+@StackTrace(false)
+public class MemoryBudgetWaitEvent extends Event {
+
+    @Label("Column")
+    @Description("Name of the column whose page was waiting")
+    public String column;
+
+    @Label("Requested Bytes")
+    @Description("Estimated in-memory footprint of the page")
+    @DataAmount
+    public long requestedBytes;
+
+    @Label("Budget Bytes")
+    @Description("Memory budget of the context")
+    @DataAmount
+    public long budgetBytes;
+}
@@ -26,6 +26,8 @@ import java.util.Map;
 /// @param geospatialStatistics column chunk geospatial statistics (bounding box, geospatial types), or `null` if absent
 /// @param bloomFilterOffset file offset of the bloom filter for this column chunk, or `null` if absent
 /// @param bloomFilterLength length of the bloom filter in bytes, or `null` if absent
+/// @param encodingStats number of pages per page type and encoding, or `null` if absent or if it lists a
+///        page type this reader does not know
 /// @see <a href="https://parquet.apache.org/docs/file-format/data-pages/columnchunks/">File Format – Column Chunks</a>
 /// @see <a href="https://github.com/apache/parquet-format/blob/master/src/main/thrift/parquet.thrift">parquet.thrift</a>
 public record ColumnMetaData(
@@ -42,5 +44,27 @@ public record ColumnMetaData(
         Statistics statistics,
         GeospatialStatistics geospatialStatistics,
         Long bloomFilterOffset,
-        Integer bloomFilterLength) {
+        Integer bloomFilterLength,
+        List<PageEncodingStats> encodingStats) {
+
+    /// Creates column metadata without page encoding statistics.
+    public ColumnMetaData(
+            PhysicalType type,
+            List<Encoding> encodings,
+            FieldPath pathInSchema,
+            CompressionCodec codec,
+            long numValues,
+            long totalUncompressedSize,
+            long totalCompressedSize,
+            Map<String, String> keyValueMetadata,
+            long dataPageOffset,
+            Long dictionaryPageOffset,
+            Statistics statistics,
+            GeospatialStatistics geospatialStatistics,
+            Long bloomFilterOffset,
+            Integer bloomFilterLength) {
+        this(type, encodings, pathInSchema, codec, numValues, totalUncompressedSize, totalCompressedSize,
+                keyValueMetadata, dataPageOffset, dictionaryPageOffset, statistics, geospatialStatistics,
+                bloomFilterOffset, bloomFilterLength, null);
+    }
 }
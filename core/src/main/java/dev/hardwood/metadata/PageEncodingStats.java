@@ -0,0 +1,23 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.metadata;
+
+/// Number of pages of one type written with one encoding in a column chunk.
+///
+/// Lets a reader tell whether every data page of a chunk is dictionary encoded
+/// without reading the pages themselves.
+///
+/// @param pageType the type of page counted
+/// @param encoding the encoding of those pages
+/// @param count the number of pages of that type and encoding
+/// @see <a href="https://github.com/apache/parquet-format/blob/master/src/main/thrift/parquet.thrift">parquet.thrift</a>
+public record PageEncodingStats(
+        PageType pageType,
+        Encoding encoding,
+        int count) {
+}
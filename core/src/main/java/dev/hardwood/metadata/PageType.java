@@ -0,0 +1,23 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.metadata;
+
+/// Types of pages in a column chunk.
+///
+/// @see <a href="https://parquet.apache.org/docs/file-format/data-pages/">File Format – Data Pages</a>
+/// @see <a href="https://github.com/apache/parquet-format/blob/master/src/main/thrift/parquet.thrift">parquet.thrift</a>
+public enum PageType {
+    /// Version 1 data page.
+    DATA_PAGE,
+    /// Index page.
+    INDEX_PAGE,
+    /// Dictionary page.
+    DICTIONARY_PAGE,
+    /// Version 2 data page.
+    DATA_PAGE_V2
+}
@@ -0,0 +1,131 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.reader;
+
+import dev.hardwood.Experimental;
+import dev.hardwood.internal.reader.Dictionary;
+import dev.hardwood.schema.ColumnSchema;
+
+/// The dictionary of one column chunk, as exposed by a [ColumnReader] in
+/// dictionary passthrough mode: entry `id` of this dictionary is the value of
+/// every row whose [ColumnReader#getDictionaryIds()] entry is `id`.
+///
+/// Each column chunk (one per row group) carries its own dictionary. The
+/// reader hands out the same `ColumnDictionary` instance for every batch of a
+/// chunk, so identity comparison — or [ColumnReader#isDictionaryChanged()] —
+/// tells a consumer when codes from different batches are comparable.
+///
+/// Accessors are typed like those of [ColumnReader]: the one matching the
+/// column's physical type returns the entries, the others throw
+/// `IllegalStateException`. Returned arrays are copies made once per
+/// dictionary and may be retained.
+///
+/// **This API is [Experimental]:** it may change in future releases without
+/// prior deprecation.
+@Experimental
+public final class ColumnDictionary {
+
+    private final ColumnSchema column;
+    private final Dictionary dictionary;
+    private Object entries;
+
+    ColumnDictionary(ColumnSchema column, Dictionary dictionary) {
+        this.column = column;
+        this.dictionary = dictionary;
+    }
+
+    /// Number of entries; valid ids are `[0, size())`.
+    public int size() {
+        return dictionary.size();
+    }
+
+    public int[] getInts() {
+        if (!(dictionary instanceof Dictionary.IntDictionary d)) {
+            throw typeMismatch("int");
+        }
+        if (entries == null) {
+            entries = d.values().clone();
+        }
+        return (int[]) entries;
+    }
+
+    public long[] getLongs() {
+        if (!(dictionary instanceof Dictionary.LongDictionary d)) {
+            throw typeMismatch("long");
+        }
+        if (entries == null) {
+            entries = d.values().clone();
+        }
+        return (long[]) entries;
+    }
+
+    public float[] getFloats() {
+        if (!(dictionary instanceof Dictionary.FloatDictionary d)) {
+            throw typeMismatch("float");
+        }
+        if (entries == null) {
+            entries = d.values().clone();
+        }
+        return (float[]) entries;
+    }
+
+    public double[] getDoubles() {
+        if (!(dictionary instanceof Dictionary.DoubleDictionary d)) {
+            throw typeMismatch("double");
+        }
+        if (entries == null) {
+            entries = d.values().clone();
+        }
+        return (double[]) entries;
+    }
+
+    /// Entry `id` of a byte-array dictionary as a fresh `byte[]`.
+    ///
+    /// @throws IndexOutOfBoundsException if `id` is outside `[0, size())`
+    public byte[] getBinary(int id) {
+        byte[][] values = byteArrayEntries();
+        return values[checkId(id)].clone();
+    }
+
+    /// Entry `id` of a byte-array dictionary decoded as UTF-8. Each entry is
+    /// decoded once; repeated calls return the same `String` instance.
+    ///
+    /// @throws IndexOutOfBoundsException if `id` is outside `[0, size())`
+    public String getString(int id) {
+        byteArrayEntries();
+        return ((Dictionary.ByteArrayDictionary) dictionary).internedString(checkId(id));
+    }
+
+    /// Whether this handle wraps `dictionary`.
+    boolean wraps(Dictionary dictionary) {
+        return this.dictionary == dictionary;
+    }
+
+    private byte[][] byteArrayEntries() {
+        if (!(dictionary instanceof Dictionary.ByteArrayDictionary d)) {
+            throw typeMismatch("byte[]");
+        }
+        return d.values();
+    }
+
+    private int checkId(int id) {
+        if (id < 0 || id >= dictionary.size()) {
+            throw new IndexOutOfBoundsException("Dictionary id " + id + " out of range [0, " + dictionary.size() + ")");
+        }
+        return id;
+    }
+
+    private IllegalStateException typeMismatch(String expected) {
+        return new IllegalStateException("Column '" + column.name() + "' is " + column.type() + ", not " + expected);
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnDictionary[column=" + column.name() + ", size=" + size() + "]";
+    }
+}
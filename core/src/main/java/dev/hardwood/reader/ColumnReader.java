@@ -18,6 +18,7 @@ import dev.hardwood.internal.predicate.ResolvedPredicate;
 import dev.hardwood.internal.reader.BatchExchange;
 import dev.hardwood.internal.reader.BatchSizing;
 import dev.hardwood.internal.reader.BinaryBatchValues;
+import dev.hardwood.internal.reader.Dictionary;
 import dev.hardwood.internal.reader.FlatColumnWorker;
 import dev.hardwood.internal.reader.HardwoodContextImpl;
 import dev.hardwood.internal.reader.LeafCompaction;
@@ -26,7 +27,9 @@ import dev.hardwood.internal.reader.NestedColumnWorker;
 import dev.hardwood.internal.reader.NestedLevelComputer;
 import dev.hardwood.internal.reader.PageSource;
 import dev.hardwood.internal.reader.RowGroupIterator;
+import dev.hardwood.internal.reader.RowSelectionFeed;
 import dev.hardwood.internal.schema.ProjectedSchema;
+import dev.hardwood.metadata.PhysicalType;
 import dev.hardwood.metadata.RowGroup;
 import dev.hardwood.schema.ColumnProjection;
 import dev.hardwood.schema.ColumnSchema;
@@ -105,6 +108,15 @@ public class ColumnReader implements AutoCloseable {
     // File name from the current batch — used for exception enrichment
     private String currentFileName;
 
+    // Dictionary passthrough: the handle for the dictionary of the latest
+    // dictionary-encoded batch (kept across plain batches so a return to the
+    // same dictionary is not reported as a change), whether the current batch
+    // switched dictionaries, and the per-batch views derived from its ids.
+    private ColumnDictionary dictionaryHandle;
+    private boolean dictionaryChanged;
+    private boolean dictionaryValuesResolved;
+    private int[] cachedDictionaryIds;
+
     // Exact-filtering coordination (#624). When a filter is configured, the
     // owning [FilterCoordinator] drives every reader in lockstep, computes a
     // per-batch record selection, and compacts each exposed reader's batch down
@@ -113,6 +125,11 @@ public class ColumnReader implements AutoCloseable {
     private FilterCoordinator coordinator;
     private long consumedGeneration;
 
+    // Late materialisation: the feed through which the coordinator hands each
+    // batch's selection to this reader's worker, which then assembles only the
+    // selected records. `null` when the worker assembles every record.
+    private RowSelectionFeed selectionFeed;
+
     @SuppressWarnings("unchecked")
     private ColumnReader(ColumnSchema column, boolean nested,
                          NestedLevelComputer.Layers layers,
@@ -225,6 +242,7 @@ public class ColumnReader implements AutoCloseable {
             currentNestedBatch = null;
             recordCount = batch.recordCount;
             currentFileName = batch.fileName;
+            adoptDictionary(batch.dictionary);
         }
 
         invalidatePerBatchCaches();
@@ -246,6 +264,19 @@ public class ColumnReader implements AutoCloseable {
         cachedStrings = null;
     }
 
+    /// Tracks the dictionary of a newly polled flat batch (`null` when it carries
+    /// values), creating a new [ColumnDictionary] handle when it differs from
+    /// the previous dictionary-encoded batch's.
+    private void adoptDictionary(Dictionary dictionary) {
+        dictionaryValuesResolved = false;
+        cachedDictionaryIds = null;
+        dictionaryChanged = dictionary != null
+                && (dictionaryHandle == null || !dictionaryHandle.wraps(dictionary));
+        if (dictionaryChanged) {
+            dictionaryHandle = new ColumnDictionary(column, dictionary);
+        }
+    }
+
     private BatchExchange.Batch pollFlatBatch() {
         try {
             return flatBuffer.poll();
@@ -477,6 +508,55 @@ public class ColumnReader implements AutoCloseable {
         return result;
     }
 
+    // ==================== Dictionary Passthrough ====================
+
+    /// Dictionary entry index of each record in the current batch, `-1` at null
+    /// records, indexing into [#getDictionary()]. Available only when the reader
+    /// was built with
+    /// [ParquetFileReader.ColumnReaderBuilder#dictionaryPassthrough(boolean)]
+    /// and the batch comes from dictionary-encoded pages; `null` otherwise —
+    /// for a column chunk written without a dictionary, or for pages a writer
+    /// fell back to plain encoding for, whose values are read through the
+    /// typed accessors as usual. Length == [#getRecordCount()].
+    ///
+    /// The typed value accessors keep working on a dictionary-encoded batch:
+    /// the first call resolves the ids against the dictionary.
+    public int[] getDictionaryIds() {
+        checkBatchAvailable();
+        if (nested || currentFlatBatch.dictionary == null) {
+            return null;
+        }
+        if (cachedDictionaryIds == null) {
+            int[] ids = currentFlatBatch.dictionaryIds;
+            cachedDictionaryIds = ids.length == recordCount ? ids : Arrays.copyOf(ids, recordCount);
+        }
+        return cachedDictionaryIds;
+    }
+
+    /// The dictionary that [#getDictionaryIds()] indexes into, or `null` when
+    /// the current batch carries no dictionary ids. A batch never spans two
+    /// dictionaries: in passthrough mode the reader ends a batch early where
+    /// the dictionary changes — at each row group, and where a writer fell
+    /// back to plain encoding — so batches may hold fewer records than the
+    /// batch size.
+    public ColumnDictionary getDictionary() {
+        checkBatchAvailable();
+        if (nested || currentFlatBatch.dictionary == null) {
+            return null;
+        }
+        return dictionaryHandle;
+    }
+
+    /// Whether the current batch's dictionary differs from that of the previous
+    /// dictionary-encoded batch — always `true` for the first one. Ids from
+    /// batches on different dictionaries are not comparable: a consumer keying
+    /// state by dictionary id rebuilds its id mapping when this is `true`.
+    /// `false` for a batch without dictionary ids.
+    public boolean isDictionaryChanged() {
+        checkBatchAvailable();
+        return !nested && dictionaryChanged;
+    }
+
     // ==================== Metadata ====================
 
     public ColumnSchema getColumnSchema() {
@@ -527,6 +607,38 @@ public class ColumnReader implements AutoCloseable {
         this.coordinator = coordinator;
     }
 
+    /// Whether this reader's worker materialises only the records the
+    /// coordinator selects, taking each selection through [#offerSelection]
+    /// instead of compacting a full batch in [#applySelection].
+    boolean isLateMaterialized() {
+        return selectionFeed != null;
+    }
+
+    /// Hands the selection of the predicate columns' current `count`-record
+    /// batch to this late-materialised reader's worker; `kept` and `matchCount`
+    /// are as for [#applySelection]. The worker publishes one batch of the
+    /// selected records for it, or none when `matchCount` is 0.
+    void offerSelection(int count, int[] kept, int matchCount) {
+        selectionFeed.publish(count, kept, matchCount);
+    }
+
+    /// Tells a late-materialised reader's worker that no further selections
+    /// follow, once the predicate columns are exhausted.
+    void finishSelections() {
+        selectionFeed.close();
+    }
+
+    /// Exposes an empty current batch, for a selection without records — for
+    /// which a late-materialised worker publishes no batch.
+    void selectNothing() {
+        BatchExchange.Batch batch = new BatchExchange.Batch();
+        batch.values = BatchExchange.allocateArray(column, 0);
+        currentFlatBatch = batch;
+        recordCount = 0;
+        adoptDictionary(null);
+        invalidatePerBatchCaches();
+    }
+
     /// Whether this reader decodes through the nested pipeline.
     boolean isNested() {
         return nested;
@@ -766,7 +878,7 @@ public class ColumnReader implements AutoCloseable {
 
     private Object rawLeafValues() {
         if (!nested) {
-            return currentFlatBatch.values;
+            return flatValues();
         }
         NestedBatch batch = currentNestedBatch;
         if (batch.realValues != null) {
@@ -778,6 +890,74 @@ public class ColumnReader implements AutoCloseable {
                 : LeafCompaction.compact(batch.values, map);
     }
 
+    /// The current flat batch's value store. A batch that carries dictionary ids
+    /// has its values resolved from the dictionary on first access.
+    private Object flatValues() {
+        BatchExchange.Batch batch = currentFlatBatch;
+        if (batch.dictionary != null && !dictionaryValuesResolved) {
+            resolveDictionaryIds(batch.dictionary, batch.dictionaryIds, recordCount, batch.values,
+                    column.type() == PhysicalType.FIXED_LEN_BYTE_ARRAY);
+            dictionaryValuesResolved = true;
+        }
+        return batch.values;
+    }
+
+    /// Writes the entries that the first `count` of `ids` reference into the
+    /// batch value store `values`; `-1` ids leave a zero value, or a
+    /// zero-length span for variable-length byte arrays. String columns also
+    /// adopt the ids as their dictionary indices, so [#getStrings()] reuses
+    /// one `String` per entry.
+    private static void resolveDictionaryIds(Dictionary dictionary, int[] ids, int count, Object values,
+                                             boolean fixedLen) {
+        switch (dictionary) {
+            case Dictionary.IntDictionary d -> {
+                int[] entries = d.values();
+                int[] out = (int[]) values;
+                for (int i = 0; i < count; i++) {
+                    out[i] = ids[i] >= 0 ? entries[ids[i]] : 0;
+                }
+            }
+            case Dictionary.LongDictionary d -> {
+                long[] entries = d.values();
+                long[] out = (long[]) values;
+                for (int i = 0; i < count; i++) {
+                    out[i] = ids[i] >= 0 ? entries[ids[i]] : 0L;
+                }
+            }
+            case Dictionary.FloatDictionary d -> {
+                float[] entries = d.values();
+                float[] out = (float[]) values;
+                for (int i = 0; i < count; i++) {
+                    out[i] = ids[i] >= 0 ? entries[ids[i]] : 0f;
+                }
+            }
+            case Dictionary.DoubleDictionary d -> {
+                double[] entries = d.values();
+                double[] out = (double[]) values;
+                for (int i = 0; i < count; i++) {
+                    out[i] = ids[i] >= 0 ? entries[ids[i]] : 0d;
+                }
+            }
+            case Dictionary.ByteArrayDictionary d -> {
+                byte[][] entries = d.values();
+                BinaryBatchValues bbv = (BinaryBatchValues) values;
+                for (int i = 0; i < count; i++) {
+                    if (ids[i] >= 0) {
+                        byte[] entry = entries[ids[i]];
+                        bbv.appendAt(i, entry, 0, entry.length);
+                    }
+                    else {
+                        bbv.appendNulls(i, 1, fixedLen);
+                    }
+                }
+                if (bbv.internStrings) {
+                    bbv.dictionary = d;
+                    bbv.dictIndices = ids;
+                }
+            }
+        }
+    }
+
     /// Trims a primitive leaf array to exactly [#getValueCount()] entries so the
     /// capacity tail — stale or zero-filled values past the batch's real leaf
     /// count — is never exposed through the typed accessors. Already-exact arrays
@@ -808,7 +988,7 @@ public class ColumnReader implements AutoCloseable {
 
     /// The current batch's varlength leaf values, after any nested compaction.
     private BinaryBatchValues realLeafBinary() {
-        Object leaf = nested ? realLeafValues() : currentFlatBatch.values;
+        Object leaf = nested ? realLeafValues() : flatValues();
         if (!(leaf instanceof BinaryBatchValues bbv)) {
             throw typeMismatch("byte[]");
         }
@@ -852,9 +1032,9 @@ public class ColumnReader implements AutoCloseable {
     static ColumnReader create(String columnName, FileSchema schema,
                                InputFile inputFile, List<RowGroup> rowGroups,
                                HardwoodContextImpl context, boolean fixedListFastPathEnabled,
-                               ResolvedPredicate filter, int batchSize) {
+                               ResolvedPredicate filter, int batchSize, boolean dictionaryPassthrough) {
         return create(schema.getColumn(columnName), schema, inputFile, rowGroups, context,
-                fixedListFastPathEnabled, filter, batchSize);
+                fixedListFastPathEnabled, filter, batchSize, dictionaryPassthrough);
     }
 
     /// Create a ColumnReader for a column by index with optional page-level
@@ -862,15 +1042,20 @@ public class ColumnReader implements AutoCloseable {
     static ColumnReader create(int columnIndex, FileSchema schema,
                                InputFile inputFile, List<RowGroup> rowGroups,
                                HardwoodContextImpl context, boolean fixedListFastPathEnabled,
-                               ResolvedPredicate filter, int batchSize) {
+                               ResolvedPredicate filter, int batchSize, boolean dictionaryPassthrough) {
         return create(schema.getColumn(columnIndex), schema, inputFile, rowGroups, context,
-                fixedListFastPathEnabled, filter, batchSize);
+                fixedListFastPathEnabled, filter, batchSize, dictionaryPassthrough);
     }
 
     private static ColumnReader create(ColumnSchema columnSchema, FileSchema schema,
                                        InputFile inputFile, List<RowGroup> rowGroups,
                                        HardwoodContextImpl context, boolean fixedListFastPathEnabled,
-                                       ResolvedPredicate filter, int batchSize) {
+                                       ResolvedPredicate filter, int batchSize, boolean dictionaryPassthrough) {
+        if (dictionaryPassthrough && (columnSchema.maxRepetitionLevel() > 0
+                || NestedLevelComputer.computeLayers(schema.getRootNode(), columnSchema.columnIndex()).count() > 0)) {
+            throw new UnsupportedOperationException("Dictionary passthrough is supported for flat columns only; column '"
+                    + columnSchema.name() + "' is nested");
+        }
         ProjectedSchema projectedSchema = ProjectedSchema.create(schema,
                 ColumnProjection.columns(columnSchema.fieldPath().toString()));
 
@@ -885,7 +1070,7 @@ public class ColumnReader implements AutoCloseable {
         rowGroupIterator.initialize(projectedSchema, filter);
 
         return createFromIterator(columnSchema, schema, rowGroupIterator, context, fixedListFastPathEnabled,
-                0, rowGroupIterator, resolvedBatchSize, NestedColumnWorker.IndexMode.REAL_VIEW);
+                0, rowGroupIterator, resolvedBatchSize, NestedColumnWorker.IndexMode.REAL_VIEW, dictionaryPassthrough);
     }
 
     /// Creates a ColumnReader from a pre-configured RowGroupIterator.
@@ -903,6 +1088,37 @@ public class ColumnReader implements AutoCloseable {
                                            RowGroupIterator ownedIterator,
                                            int batchSize,
                                            NestedColumnWorker.IndexMode indexMode) {
+        return createFromIterator(columnSchema, schema, rowGroupIterator, context, fixedListFastPathEnabled,
+                projectedColumnIndex, ownedIterator, batchSize, indexMode, false);
+    }
+
+    /// As above; `dictionaryPassthrough` publishes dictionary-encoded batches
+    /// of a flat column as entry ids (see [#getDictionaryIds()]).
+    static ColumnReader createFromIterator(ColumnSchema columnSchema, FileSchema schema,
+                                           RowGroupIterator rowGroupIterator,
+                                           HardwoodContextImpl context,
+                                           boolean fixedListFastPathEnabled,
+                                           int projectedColumnIndex,
+                                           RowGroupIterator ownedIterator,
+                                           int batchSize,
+                                           NestedColumnWorker.IndexMode indexMode,
+                                           boolean dictionaryPassthrough) {
+        return createFromIterator(columnSchema, schema, rowGroupIterator, context, fixedListFastPathEnabled,
+                projectedColumnIndex, ownedIterator, batchSize, indexMode, dictionaryPassthrough, false);
+    }
+
+    /// As above; `lateMaterialized` makes a flat column's worker assemble only
+    /// the records its [FilterCoordinator] selects (see [#offerSelection]).
+    static ColumnReader createFromIterator(ColumnSchema columnSchema, FileSchema schema,
+                                           RowGroupIterator rowGroupIterator,
+                                           HardwoodContextImpl context,
+                                           boolean fixedListFastPathEnabled,
+                                           int projectedColumnIndex,
+                                           RowGroupIterator ownedIterator,
+                                           int batchSize,
+                                           NestedColumnWorker.IndexMode indexMode,
+                                           boolean dictionaryPassthrough,
+                                           boolean lateMaterialized) {
         NestedLevelComputer.Layers layers = NestedLevelComputer.computeLayers(
                 schema.getRootNode(), columnSchema.columnIndex());
         boolean nested = layers.count() > 0 || columnSchema.maxRepetitionLevel() > 0;
@@ -918,8 +1134,9 @@ public class ColumnReader implements AutoCloseable {
                     });
             NestedColumnWorker nestedWorker = new NestedColumnWorker(
                     pageSource, nestedBuf, columnSchema, batchSize,
-                    context.decompressorFactory(), context.executor(), 0,
+                    context.decompressorFactory(), context.decodeExecutor(), 0,
                     layers, indexMode, fixedListFastPathEnabled);
+            nestedWorker.useMemoryBudget(context.memoryBudget());
             nestedWorker.start();
             return ColumnReader.forNested(columnSchema, layers, nestedBuf, nestedWorker, ownedIterator);
         }
@@ -930,11 +1147,16 @@ public class ColumnReader implements AutoCloseable {
                         b.values = BatchExchange.allocateArray(columnSchema, batchSize);
                         return b;
                     });
+            RowSelectionFeed selectionFeed = lateMaterialized ? new RowSelectionFeed() : null;
             FlatColumnWorker flatWorker = new FlatColumnWorker(
                     pageSource, flatBuf, columnSchema, batchSize,
-                    context.decompressorFactory(), context.executor(), 0, null);
+                    context.decompressorFactory(), context.decodeExecutor(), 0, null, false, dictionaryPassthrough,
+                    selectionFeed);
+            flatWorker.useMemoryBudget(context.memoryBudget());
             flatWorker.start();
-            return ColumnReader.forFlat(columnSchema, flatBuf, flatWorker, ownedIterator);
+            ColumnReader reader = ColumnReader.forFlat(columnSchema, flatBuf, flatWorker, ownedIterator);
+            reader.selectionFeed = selectionFeed;
+            return reader;
         }
     }
 }
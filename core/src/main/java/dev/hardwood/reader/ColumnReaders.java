@@ -7,8 +7,10 @@
  */
 package dev.hardwood.reader;
 
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import dev.hardwood.internal.predicate.ResolvedPredicate;
 import dev.hardwood.internal.reader.HardwoodContextImpl;
@@ -93,6 +95,10 @@ public class ColumnReaders implements AutoCloseable {
     /// exposed readers are those of `payloadProjection`, compacted to the
     /// matching records each batch. Predicate columns not in `payloadProjection`
     /// are decoded to evaluate the predicate but are not exposed.
+    ///
+    /// With `lateMaterialization`, the flat payload columns the predicate does
+    /// not reference are late-materialised: they decode and assemble only the
+    /// matching records, once the predicate columns have selected them.
     static ColumnReaders filtered(HardwoodContextImpl context,
                                   boolean fixedListFastPathEnabled,
                                   RowGroupIterator rowGroupIterator,
@@ -100,15 +106,19 @@ public class ColumnReaders implements AutoCloseable {
                                   ProjectedSchema augProjected,
                                   ProjectedSchema payloadProjected,
                                   ResolvedPredicate resolved,
-                                  int batchSize) {
+                                  int batchSize,
+                                  boolean lateMaterialization) {
+        Set<String> predicatePaths = new HashSet<>(SelectionEngine.predicateColumnPaths(resolved, schema));
         int augCount = augProjected.getProjectedColumnCount();
         ColumnReader[] allReaders = new ColumnReader[augCount];
         Map<String, ColumnReader> byPath = new LinkedHashMap<>(augCount);
         for (int i = 0; i < augCount; i++) {
             ColumnSchema columnSchema = schema.getColumn(augProjected.toOriginalIndex(i));
+            boolean late = lateMaterialization
+                    && !predicatePaths.contains(columnSchema.fieldPath().toString());
             ColumnReader reader = ColumnReader.createFromIterator(
                     columnSchema, schema, rowGroupIterator, context, fixedListFastPathEnabled, i, null, batchSize,
-                    NestedColumnWorker.IndexMode.REAL_VIEW_KEEP_LEVELS);
+                    NestedColumnWorker.IndexMode.REAL_VIEW_KEEP_LEVELS, false, late);
             allReaders[i] = reader;
             byPath.put(columnSchema.fieldPath().toString(), reader);
         }
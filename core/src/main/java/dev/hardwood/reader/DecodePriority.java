@@ -0,0 +1,26 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.reader;
+
+import dev.hardwood.Experimental;
+
+/// Priority class of a reader's page decodes on a shared [dev.hardwood.HardwoodContext].
+///
+/// The context's decode pool serves the classes in proportion to their weights
+/// (16 : 4 : 1 for `HIGH` : `NORMAL` : `LOW`) while more than one has work queued,
+/// and the readers within a class round-robin, so a large scan cannot starve a
+/// latency-sensitive read sharing its context — nor a `HIGH` read a `LOW` one.
+/// Select it through the `hardwood.decode-priority` [ReaderConfig] option.
+///
+/// **This API is [Experimental]:** the shape may change in future releases.
+@Experimental
+public enum DecodePriority {
+    HIGH,
+    NORMAL,
+    LOW
+}
@@ -12,6 +12,11 @@ package dev.hardwood.reader;
 /// lockstep, asks the [SelectionEngine] for the matching records of the aligned
 /// batch, and compacts each exposed payload reader down to those records.
 ///
+/// Payload readers that are [late-materialised][ColumnReader#isLateMaterialized()]
+/// run a second phase instead: once the selection is known it is handed to
+/// their workers, which decode only pages holding a matching record and
+/// assemble just the matching records, so there is nothing to compact.
+///
 /// A monotonically increasing `generation` lets sibling readers advanced
 /// individually (e.g. `a.nextBatch() & b.nextBatch()`) share a single advance:
 /// the first reader to reach the current generation triggers the work; the rest
@@ -24,6 +29,10 @@ final class FilterCoordinator {
     private final ColumnReader[] allReaders;
     /// The exposed subset, compacted to the matching records each batch.
     private final ColumnReader[] payloadReaders;
+    /// The readers advanced before the selection is computed: every reader
+    /// except the late-materialised ones, which follow it.
+    private final ColumnReader[] eagerReaders;
+    private final ColumnReader[] lateReaders;
     private final SelectionEngine engine;
 
     private long generation;
@@ -35,6 +44,24 @@ final class FilterCoordinator {
         this.allReaders = allReaders;
         this.payloadReaders = payloadReaders;
         this.engine = engine;
+        int lateCount = 0;
+        for (ColumnReader reader : allReaders) {
+            if (reader.isLateMaterialized()) {
+                lateCount++;
+            }
+        }
+        this.eagerReaders = new ColumnReader[allReaders.length - lateCount];
+        this.lateReaders = new ColumnReader[lateCount];
+        int e = 0;
+        int l = 0;
+        for (ColumnReader reader : allReaders) {
+            if (reader.isLateMaterialized()) {
+                lateReaders[l++] = reader;
+            }
+            else {
+                eagerReaders[e++] = reader;
+            }
+        }
     }
 
     long generation() {
@@ -53,32 +80,25 @@ final class FilterCoordinator {
     /// the payload readers. Returns `false` (without incrementing the
     /// generation) once the input is exhausted.
     boolean advance() {
-        if (!allReaders[0].rawNextBatch()) {
+        if (!eagerReaders[0].rawNextBatch()) {
             hasBatch = false;
             recordCount = 0;
             // Drain the remaining readers so the shared iterator finalizes cleanly.
-            for (int i = 1; i < allReaders.length; i++) {
-                allReaders[i].rawNextBatch();
+            for (int i = 1; i < eagerReaders.length; i++) {
+                eagerReaders[i].rawNextBatch();
+            }
+            for (ColumnReader reader : lateReaders) {
+                reader.finishSelections();
+                reader.rawNextBatch();
             }
             return false;
         }
-        int firstCount = allReaders[0].rawRecordCount();
-        for (int i = 1; i < allReaders.length; i++) {
-            if (!allReaders[i].rawNextBatch()) {
-                throw new IllegalStateException(
-                        "ColumnReader '" + allReaders[i].getColumnSchema().name()
-                                + "' exhausted before peer column '"
-                                + allReaders[0].getColumnSchema().name()
-                                + "' — readers from the same projection must advance in lockstep");
-            }
-            int count = allReaders[i].rawRecordCount();
-            if (count != firstCount) {
-                throw new IllegalStateException(
-                        "ColumnReader batch sizes diverged: column '"
-                                + allReaders[0].getColumnSchema().name() + "' has " + firstCount
-                                + " records, column '" + allReaders[i].getColumnSchema().name()
-                                + "' has " + count);
+        int firstCount = eagerReaders[0].rawRecordCount();
+        for (int i = 1; i < eagerReaders.length; i++) {
+            if (!eagerReaders[i].rawNextBatch()) {
+                throw exhaustedBeforePeer(eagerReaders[i]);
             }
+            checkRecordCount(eagerReaders[i], firstCount);
         }
 
         // Compute the selection from the raw (pre-compaction) batches, then
@@ -89,15 +109,52 @@ final class FilterCoordinator {
         int matchCount = engine.computeSelection(firstCount);
         int[] kept = engine.selection();
         for (ColumnReader reader : payloadReaders) {
-            reader.applySelection(kept, matchCount);
+            if (!reader.isLateMaterialized()) {
+                reader.applySelection(kept, matchCount);
+            }
         }
 
         recordCount = matchCount < 0 ? firstCount : matchCount;
+        // Second phase: the late-materialised readers assemble just the selected
+        // records. Offer every selection before waiting on any reader so their
+        // workers proceed in parallel.
+        for (ColumnReader reader : lateReaders) {
+            reader.offerSelection(firstCount, kept, matchCount);
+        }
+        for (ColumnReader reader : lateReaders) {
+            if (recordCount == 0) {
+                reader.selectNothing();
+                continue;
+            }
+            if (!reader.rawNextBatch()) {
+                throw exhaustedBeforePeer(reader);
+            }
+            checkRecordCount(reader, recordCount);
+        }
         hasBatch = true;
         generation++;
         return true;
     }
 
+    private IllegalStateException exhaustedBeforePeer(ColumnReader reader) {
+        return new IllegalStateException(
+                "ColumnReader '" + reader.getColumnSchema().name()
+                        + "' exhausted before peer column '"
+                        + eagerReaders[0].getColumnSchema().name()
+                        + "' — readers from the same projection must advance in lockstep");
+    }
+
+    private void checkRecordCount(ColumnReader reader, int expected) {
+        int count = reader.rawRecordCount();
+        if (count != expected) {
+            throw new IllegalStateException(
+                    "ColumnReader batch sizes diverged: column '"
+                            + eagerReaders[0].getColumnSchema().name() + "' has " + expected
+                            + " records, column '" + reader.getColumnSchema().name()
+                            + "' has " + count);
+        }
+    }
+
     void close() {
         if (closed) {
             return;
@@ -9,6 +9,8 @@ package dev.hardwood.reader;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -78,7 +80,8 @@ public class ParquetFileReader implements AutoCloseable {
     private final boolean fixedListFastPathEnabled;
     private final boolean ownsContext;
     private final boolean ownsInputFiles;
-    private final List<RowGroupIterator> rowGroupIterators = new ArrayList<>();
+    /// Synchronized so that readers over different [#splits(int)] can be built on different threads.
+    private final List<RowGroupIterator> rowGroupIterators = Collections.synchronizedList(new ArrayList<>());
 
     private ParquetFileReader(List<InputFile> inputFiles, FileMetaData firstFileMetaData,
                               FileSchema schema, HardwoodContextImpl context, boolean fixedListFastPathEnabled,
@@ -97,10 +100,14 @@ public class ParquetFileReader implements AutoCloseable {
     /// via [ReaderConfig] so it can be retired without breaking callers.
     private static final String FIXED_LIST_FAST_PATH_OPTION = "hardwood.fixed-list-fast-path";
 
+    /// Reader option key: the [DecodePriority] class of the reader's page decodes
+    /// on a shared context, `"high"`, `"normal"` (the default) or `"low"`.
+    private static final String DECODE_PRIORITY_OPTION = "hardwood.decode-priority";
+
     /// The [ReaderConfig] option keys the reader recognises. Unknown keys are
     /// ignored (so a flag can be retired without breaking callers) but logged at
     /// `WARNING`, so a typo in a live key surfaces instead of taking the default.
-    private static final Set<String> KNOWN_READER_OPTIONS = Set.of(FIXED_LIST_FAST_PATH_OPTION);
+    private static final Set<String> KNOWN_READER_OPTIONS = Set.of(FIXED_LIST_FAST_PATH_OPTION, DECODE_PRIORITY_OPTION);
 
     private static final System.Logger LOG = System.getLogger(ParquetFileReader.class.getName());
 
@@ -113,6 +120,23 @@ public class ParquetFileReader implements AutoCloseable {
                 readerConfig.options().getOrDefault(FIXED_LIST_FAST_PATH_OPTION, "false"));
     }
 
+    /// Resolves the [DecodePriority] from a [ReaderConfig], matching the value
+    /// case-insensitively. Unlike an unknown key, an unknown value of a live key
+    /// is rejected: it can only be a mistake.
+    private static DecodePriority resolveDecodePriority(ReaderConfig readerConfig) {
+        String value = readerConfig.options().get(DECODE_PRIORITY_OPTION);
+        if (value == null) {
+            return DecodePriority.NORMAL;
+        }
+        for (DecodePriority priority : DecodePriority.values()) {
+            if (priority.name().equalsIgnoreCase(value)) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Invalid value '" + value + "' for reader option '"
+                + DECODE_PRIORITY_OPTION + "'; expected one of high, normal, low");
+    }
+
     /// Logs a `WARNING` for each [ReaderConfig] option key the reader does not
     /// recognise. Unknown keys are still ignored — the string-keyed design lets a
     /// flag be retired without breaking old callers — but a typo in a live key
@@ -181,6 +205,8 @@ public class ParquetFileReader implements AutoCloseable {
         }
         warnUnknownReaderOptions(readerConfig);
         boolean fixedListFastPathEnabled = resolveFixedListFastPath(readerConfig);
+        // Each reader decodes through a lane of its own in the context's scheduler.
+        HardwoodContextImpl readerContext = context.withDecodePriority(resolveDecodePriority(readerConfig));
         List<InputFile> files = List.copyOf(inputFiles);
         InputFile first = files.get(0);
         first.open();
@@ -205,7 +231,8 @@ public class ParquetFileReader implements AutoCloseable {
             fileOpenedEvent.columnCount = schema.getColumnCount();
             fileOpenedEvent.commit();
 
-            return new ParquetFileReader(files, firstFileMetaData, schema, context, fixedListFastPathEnabled, ownsContext, true);
+            return new ParquetFileReader(files, firstFileMetaData, schema, readerContext, fixedListFastPathEnabled,
+                    ownsContext, true);
         }
         catch (Exception e) {
             try {
@@ -294,6 +321,79 @@ public class ParquetFileReader implements AutoCloseable {
         return new ColumnReadersBuilder(this, projection);
     }
 
+    // ============================================================
+    // Splits
+    // ============================================================
+
+    /// Partitions this file's row groups into at most `targetParallelism` disjoint
+    /// [RowGroupPredicate#byteRange(long, long)] splits of roughly equal compressed size,
+    /// for scanning one file on several threads. Single-file only.
+    ///
+    /// Every row group lands in exactly one split. Pass each split to a builder's
+    /// `filter(RowGroupPredicate)` to get an independent reader over its row groups; all
+    /// readers share this file reader's open file, metadata and decode pool, and may be
+    /// built and consumed on different threads:
+    ///
+    /// ```java
+    /// for (RowGroupPredicate split : fileReader.splits(8)) {
+    ///     executor.submit(() -> {
+    ///         try (ColumnReader col = fileReader.buildColumnReader("price").filter(split).build()) {
+    ///             while (col.nextBatch()) {
+    ///                 // Only batches from row groups owned by this split.
+    ///             }
+    ///         }
+    ///     });
+    /// }
+    /// ```
+    ///
+    /// Fewer splits than requested are returned when the file has fewer row groups; a file
+    /// without row groups yields a single split.
+    ///
+    /// @param targetParallelism the maximum number of splits, at least 1
+    /// @return the splits, in file order
+    public List<RowGroupPredicate> splits(int targetParallelism) {
+        if (targetParallelism < 1) {
+            throw new IllegalArgumentException("targetParallelism must be at least 1: " + targetParallelism);
+        }
+        if (isMultiFile()) {
+            throw new UnsupportedOperationException(
+                    "splits(int) is single-file only; open each file individually to split it");
+        }
+        List<RowGroup> rowGroups = firstFileMetaData.rowGroups();
+        int splitCount = Math.min(targetParallelism, rowGroups.size());
+        if (splitCount <= 1) {
+            return List.of(RowGroupPredicate.byteRange(0L, Long.MAX_VALUE));
+        }
+
+        // Order row groups by midpoint — the key byteRange selects on — so that cutting
+        // between consecutive midpoints hands each row group to exactly one split.
+        List<RowGroup> ordered = rowGroups.stream()
+                .sorted(Comparator.comparingLong(ParquetFileReader::rowGroupMidpoint))
+                .toList();
+        long total = 0;
+        for (RowGroup rg : ordered) {
+            total += rowGroupCompressedSize(rg);
+        }
+
+        List<RowGroupPredicate> splits = new ArrayList<>(splitCount);
+        long start = 0L;
+        long accumulated = 0;
+        for (int i = 0; i < ordered.size() - 1 && splits.size() < splitCount - 1; i++) {
+            accumulated += rowGroupCompressedSize(ordered.get(i));
+            long nextMidpoint = rowGroupMidpoint(ordered.get(i + 1));
+            int splitsLeft = splitCount - splits.size() - 1;
+            // Close the current split once it holds its share of the bytes, or when each
+            // remaining split needs one of the remaining row groups.
+            boolean reachedShare = (double) accumulated * splitCount >= (double) total * (splits.size() + 1);
+            if ((reachedShare || ordered.size() - i - 1 == splitsLeft) && nextMidpoint > start) {
+                splits.add(RowGroupPredicate.byteRange(start, nextMidpoint));
+                start = nextMidpoint;
+            }
+        }
+        splits.add(RowGroupPredicate.byteRange(start, Long.MAX_VALUE));
+        return List.copyOf(splits);
+    }
+
     // ============================================================
     // Internal builder bridges
     // ============================================================
@@ -465,13 +565,14 @@ public class ParquetFileReader implements AutoCloseable {
     }
 
     ColumnReader buildColumnReader(String columnName, FilterPredicate filter) {
-        return buildColumnReader(columnName, filter, null, AUTO_BATCH_SIZE);
+        return buildColumnReader(columnName, filter, null, AUTO_BATCH_SIZE, false);
     }
 
-    ColumnReader buildColumnReader(
-            String columnName, FilterPredicate filter, RowGroupPredicate rowGroupFilter, int batchSize) {
+    ColumnReader buildColumnReader(String columnName, FilterPredicate filter, RowGroupPredicate rowGroupFilter,
+            int batchSize, boolean dictionaryPassthrough) {
         ensureSingleFile("columnReader(String)");
         if (filter != null) {
+            ensureNoDictionaryPassthrough(dictionaryPassthrough);
             // Exact filtering routes through the shared filtered-projection
             // engine and exposes the single requested column.
             return buildColumnReaders(ColumnProjection.columns(columnName), filter, rowGroupFilter, batchSize)
@@ -479,24 +580,27 @@ public class ParquetFileReader implements AutoCloseable {
         }
         InputFile inputFile = inputFiles.get(0);
         List<RowGroup> rowGroups = filterRowGroups(rowGroupFilter);
-        return ColumnReader.create(columnName, schema, inputFile, rowGroups, context, fixedListFastPathEnabled, null, batchSize);
+        return ColumnReader.create(columnName, schema, inputFile, rowGroups, context, fixedListFastPathEnabled, null,
+                batchSize, dictionaryPassthrough);
     }
 
     ColumnReader buildColumnReader(int columnIndex, FilterPredicate filter) {
-        return buildColumnReader(columnIndex, filter, null, AUTO_BATCH_SIZE);
+        return buildColumnReader(columnIndex, filter, null, AUTO_BATCH_SIZE, false);
     }
 
-    ColumnReader buildColumnReader(
-            int columnIndex, FilterPredicate filter, RowGroupPredicate rowGroupFilter, int batchSize) {
+    ColumnReader buildColumnReader(int columnIndex, FilterPredicate filter, RowGroupPredicate rowGroupFilter,
+            int batchSize, boolean dictionaryPassthrough) {
         ensureSingleFile("columnReader(int)");
         if (filter != null) {
+            ensureNoDictionaryPassthrough(dictionaryPassthrough);
             String columnName = schema.getColumn(columnIndex).fieldPath().toString();
             return buildColumnReaders(ColumnProjection.columns(columnName), filter, rowGroupFilter, batchSize)
                     .getColumnReader(0);
         }
         InputFile inputFile = inputFiles.get(0);
         List<RowGroup> rowGroups = filterRowGroups(rowGroupFilter);
-        return ColumnReader.create(columnIndex, schema, inputFile, rowGroups, context, fixedListFastPathEnabled, null, batchSize);
+        return ColumnReader.create(columnIndex, schema, inputFile, rowGroups, context, fixedListFastPathEnabled, null,
+                batchSize, dictionaryPassthrough);
     }
 
     ColumnReaders buildColumnReaders(ColumnProjection projection, FilterPredicate filter) {
@@ -508,6 +612,15 @@ public class ParquetFileReader implements AutoCloseable {
             FilterPredicate filter,
             RowGroupPredicate rowGroupFilter,
             int batchSize) {
+        return buildColumnReaders(projection, filter, rowGroupFilter, batchSize, false);
+    }
+
+    ColumnReaders buildColumnReaders(
+            ColumnProjection projection,
+            FilterPredicate filter,
+            RowGroupPredicate rowGroupFilter,
+            int batchSize,
+            boolean lateMaterialization) {
         ResolvedPredicate resolved = filter != null
                 ? FilterPredicateResolver.resolve(filter, schema, firstFileMetaData.columnOrders()) : null;
         List<RowGroup> rowGroups = filterRowGroups(rowGroupFilter);
@@ -548,7 +661,7 @@ public class ParquetFileReader implements AutoCloseable {
         // per-batch arrays too, so they count toward the byte budget.
         return ColumnReaders.filtered(
                 context, fixedListFastPathEnabled, iterator, schema, augProjected, payloadProjected, resolved,
-                resolveBatchSize(batchSize, augProjected, rowGroups));
+                resolveBatchSize(batchSize, augProjected, rowGroups), lateMaterialization);
     }
 
     /// Resolves a requested batch size to a concrete record count. A positive
@@ -585,6 +698,15 @@ public class ParquetFileReader implements AutoCloseable {
         }
     }
 
+    /// Exact filtering compacts every reader of a projection by one shared
+    /// record selection over row-aligned batches, which passthrough batches —
+    /// cut short at each dictionary change — are not.
+    private static void ensureNoDictionaryPassthrough(boolean dictionaryPassthrough) {
+        if (dictionaryPassthrough) {
+            throw new UnsupportedOperationException("Dictionary passthrough cannot be combined with a filter predicate");
+        }
+    }
+
     private static List<RowGroup> tailRowGroups(List<RowGroup> rowGroups, long tailRows) {
         int startIndex = rowGroups.size();
         long accumulated = 0;
@@ -645,13 +767,16 @@ public class ParquetFileReader implements AutoCloseable {
     }
 
     private static long rowGroupMidpoint(RowGroup rg) {
-        List<dev.hardwood.metadata.ColumnChunk> columns = rg.columns();
-        long start = columns.get(0).chunkStartOffset();
+        long start = rg.columns().get(0).chunkStartOffset();
+        return start + rowGroupCompressedSize(rg) / 2;
+    }
+
+    private static long rowGroupCompressedSize(RowGroup rg) {
         long compressed = 0;
-        for (dev.hardwood.metadata.ColumnChunk chunk : columns) {
+        for (dev.hardwood.metadata.ColumnChunk chunk : rg.columns()) {
             compressed += chunk.metaData().totalCompressedSize();
         }
-        return start + compressed / 2;
+        return compressed;
     }
 
     // ============================================================
@@ -819,6 +944,7 @@ public class ParquetFileReader implements AutoCloseable {
         private FilterPredicate filter;
         private RowGroupPredicate rowGroupFilter;
         private int batchSize = AUTO_BATCH_SIZE;
+        private boolean dictionaryPassthrough;
 
         private ColumnReaderBuilder(ParquetFileReader fileReader, String columnName) {
             this.fileReader = fileReader;
@@ -867,11 +993,29 @@ public class ParquetFileReader implements AutoCloseable {
             return this;
         }
 
+        /// Expose dictionary-encoded data as dictionary ids instead of decoded
+        /// values: each batch from dictionary-encoded pages carries
+        /// [ColumnReader#getDictionaryIds()] and [ColumnReader#getDictionary()],
+        /// and [ColumnReader#isDictionaryChanged()] reports when a new column
+        /// chunk's dictionary takes over. Consumers that work on dictionary
+        /// codes, such as group-by or join operators, avoid decoding and
+        /// re-hashing every value. Batches end early where the dictionary
+        /// changes. Default: disabled.
+        ///
+        /// Supported for flat columns without a [#filter(FilterPredicate)];
+        /// [#build()] throws `UnsupportedOperationException` otherwise.
+        public ColumnReaderBuilder dictionaryPassthrough(boolean dictionaryPassthrough) {
+            this.dictionaryPassthrough = dictionaryPassthrough;
+            return this;
+        }
+
         public ColumnReader build() {
             if (byName) {
-                return fileReader.buildColumnReader(columnName, filter, rowGroupFilter, batchSize);
+                return fileReader.buildColumnReader(columnName, filter, rowGroupFilter, batchSize,
+                        dictionaryPassthrough);
             }
-            return fileReader.buildColumnReader(columnIndex, filter, rowGroupFilter, batchSize);
+            return fileReader.buildColumnReader(columnIndex, filter, rowGroupFilter, batchSize,
+                    dictionaryPassthrough);
         }
     }
 
@@ -897,6 +1041,7 @@ public class ParquetFileReader implements AutoCloseable {
         private FilterPredicate filter;
         private RowGroupPredicate rowGroupFilter;
         private int batchSize = AUTO_BATCH_SIZE;
+        private boolean lateMaterialization;
 
         private ColumnReadersBuilder(ParquetFileReader fileReader, ColumnProjection projection) {
             if (projection == null) {
@@ -939,17 +1084,37 @@ public class ParquetFileReader implements AutoCloseable {
             return this;
         }
 
+        /// Decode filtered columns in two phases. With a [#filter(FilterPredicate)],
+        /// the predicate columns are decoded first; each flat payload column is
+        /// then decoded only for the pages holding a matching row, and only the
+        /// matching rows are assembled — dictionary-encoded pages are resolved at
+        /// those rows alone — instead of decoding every row and compacting the
+        /// batch afterwards.
+        ///
+        /// Worthwhile for selective filters over wide projections. Payload
+        /// decoding then starts only once a batch's selection is known, so with
+        /// filters that keep most rows the default, which decodes all columns
+        /// concurrently, is usually faster. Nested payload columns and columns
+        /// the predicate references are always decoded in full. Has no effect
+        /// without a filter. Default: `false`.
+        public ColumnReadersBuilder lateMaterialization(boolean lateMaterialization) {
+            this.lateMaterialization = lateMaterialization;
+            return this;
+        }
+
         public ColumnReaders build() {
-            return fileReader.buildColumnReaders(projection, filter, rowGroupFilter, batchSize);
+            return fileReader.buildColumnReaders(projection, filter, rowGroupFilter, batchSize, lateMaterialization);
         }
     }
 
     @Override
     public void close() throws IOException {
-        for (RowGroupIterator iterator : rowGroupIterators) {
-            iterator.close();
+        synchronized (rowGroupIterators) {
+            for (RowGroupIterator iterator : rowGroupIterators) {
+                iterator.close();
+            }
+            rowGroupIterators.clear();
         }
-        rowGroupIterators.clear();
 
         if (ownsContext) {
             context.close();
@@ -30,6 +30,7 @@ import dev.hardwood.internal.predicate.RecordFilterCompiler;
 import dev.hardwood.internal.predicate.ResolvedPredicate;
 import dev.hardwood.internal.predicate.RowMatcher;
 import dev.hardwood.internal.reader.BinaryBatchValues;
+import dev.hardwood.internal.reader.BinaryColumnView;
 import dev.hardwood.internal.reader.NestedBatch;
 import dev.hardwood.internal.reader.NestedBatchDataView;
 import dev.hardwood.internal.schema.ProjectedSchema;
@@ -56,10 +57,10 @@ import dev.hardwood.schema.FileSchema;
 ///   fragments run directly on the flat batches and are merged via the
 ///   [MergePlan]. This reuses the row reader's drain-side machinery without
 ///   the worker threads.
-/// - **Record matcher** — otherwise (nested paths, binary/string, unsupported
-///   operators) the compiled [RowMatcher] is evaluated per record over a
-///   batch-backed [StructAccessor] view of the predicate columns, giving full
-///   parity with the row reader's filtered result.
+/// - **Record matcher** — otherwise (nested paths, float16 and geospatial
+///   leaves, unsupported operators) the compiled [RowMatcher] is evaluated per
+///   record over a batch-backed [StructAccessor] view of the predicate
+///   columns, giving full parity with the row reader's filtered result.
 final class SelectionEngine {
 
     private final int wordsLen;
@@ -276,7 +277,7 @@ final class SelectionEngine {
     /// [NestedBatchDataView] so `getStruct(...)` navigation works exactly as in
     /// the nested row reader. Only the accessor methods the compiled
     /// [RowMatcher] actually calls are implemented; the rest throw.
-    private static final class PredicateRowView implements StructAccessor {
+    private static final class PredicateRowView implements StructAccessor, BinaryColumnView {
 
         private final Map<String, FlatField> flatByName;
         private final NestedBatchDataView nestedView;
@@ -413,6 +414,15 @@ final class SelectionEngine {
             return ((BinaryBatchValues) flat(name).values).byteArrayAt(record);
         }
 
+        @Override public BinaryBatchValues binaryValues(String name) {
+            FlatField field = flatByName.get(name);
+            return field != null && field.values instanceof BinaryBatchValues values ? values : null;
+        }
+
+        @Override public int valueIndex() {
+            return record;
+        }
+
         @Override public PqStruct getStruct(String name) {
             if (nestedView == null) {
                 throw new UnsupportedOperationException(
@@ -9,9 +9,12 @@ package dev.hardwood.internal.encoding.simd;
 
 import java.util.BitSet;
 
+import jdk.incubator.vector.ByteVector;
 import jdk.incubator.vector.IntVector;
 import jdk.incubator.vector.LongVector;
 import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
 import jdk.incubator.vector.VectorSpecies;
 
 /// SIMD implementation of vectorizable operations using Java Vector API.
@@ -34,6 +37,25 @@ public final class VectorOperations implements SimdOperations {
     // Minimum batch size to use SIMD (amortize loop overhead)
     private static final int MIN_BATCH_SIZE = INT_VECTOR_LENGTH * 2;
 
+    // Wide bit unpacking works on one group of 8 values per 256-bit vector.
+    // On CPUs with narrower vectors those shapes are not intrinsified, so the
+    // scalar kernels are used instead.
+    private static final VectorSpecies<Byte> BYTE_256 = ByteVector.SPECIES_256;
+    private static final VectorSpecies<Integer> INT_256 = IntVector.SPECIES_256;
+    private static final boolean WIDE_UNPACK_VECTORIZED = INT_SPECIES.vectorBitSize() >= 256;
+    private static final WideUnpackKernel[] WIDE_UNPACK_KERNELS = createWideUnpackKernels();
+
+    // Byte stream split reassembles 16 ints (8 longs) per step from one
+    // 128-bit (64-bit) load per stream, zero-extended into as many preferred
+    // vectors as that takes. With 128-bit vectors the widening conversions
+    // are not intrinsified, so the scalar tile transpose is used instead.
+    private static final VectorSpecies<Byte> BYTE_128 = ByteVector.SPECIES_128;
+    private static final VectorSpecies<Byte> BYTE_64 = ByteVector.SPECIES_64;
+    private static final int INT_PARTS = 16 / INT_VECTOR_LENGTH;
+    private static final int LONG_PARTS = 8 / LONG_VECTOR_LENGTH;
+    private static final boolean BYTE_STREAM_SPLIT_VECTORIZED =
+            INT_SPECIES.vectorBitSize() >= 256 && INT_PARTS > 0 && LONG_PARTS > 0;
+
     @Override
     public int countNonNulls(int[] defLevels, int maxDef) {
         int len = defLevels.length;
@@ -221,6 +243,215 @@ public final class VectorOperations implements SimdOperations {
         return bytesConsumed;
     }
 
+    @Override
+    public int unpackBitWidthWide(byte[] data, int dataPos, int[] output, int outPos, int count, int bitWidth) {
+        if (bitWidth < 9 || bitWidth > 32) {
+            throw new IllegalArgumentException("Bit width must be between 9 and 32: " + bitWidth);
+        }
+        int groups = Math.min(count >>> 3, (data.length - dataPos) / bitWidth);
+        int vectorGroups = 0;
+        if (WIDE_UNPACK_VECTORIZED) {
+            // Every group loads a full vector, which may reach past the group's own bytes
+            int headroom = data.length - dataPos - BYTE_256.length();
+            vectorGroups = headroom < 0 ? 0 : Math.min(groups, headroom / bitWidth + 1);
+            unpackWideVectorized(data, dataPos, output, outPos, vectorGroups, WIDE_UNPACK_KERNELS[bitWidth]);
+        }
+        ScalarOperations.unpackWideGroups(data, dataPos + vectorGroups * bitWidth, output,
+                outPos + vectorGroups * 8, groups - vectorGroups, bitWidth);
+        return groups * bitWidth;
+    }
+
+    private static void unpackWideVectorized(byte[] data, int dataPos, int[] output, int outPos, int groups,
+                                             WideUnpackKernel kernel) {
+        int width = kernel.bitWidth();
+        for (int g = 0; g < groups; g++) {
+            ByteVector bytes = ByteVector.fromArray(BYTE_256, data, dataPos + g * width);
+            // Lane i holds the four bytes starting at value i's first byte
+            IntVector values = bytes.rearrange(kernel.lowBytes()).reinterpretAsInts()
+                    .lanewise(VectorOperators.LSHR, kernel.shifts());
+            if (kernel.spillBytes() != null) {
+                // Values reaching into a fifth byte take its bits from a second shuffle
+                IntVector spill = bytes.rearrange(kernel.spillBytes(), kernel.spillLanes()).reinterpretAsInts()
+                        .lanewise(VectorOperators.LSHL, kernel.spillShifts());
+                values = values.or(spill);
+            }
+            values.and(kernel.mask()).intoArray(output, outPos + g * 8);
+        }
+    }
+
+    /// Shuffles and shift counts that unpack one group of 8 values of a given
+    /// width from a 256-bit byte vector.
+    ///
+    /// @param lowBytes moves the four bytes starting at each value's first byte
+    ///        into the value's int lane
+    /// @param shifts per-lane right shift: the value's bit offset within its
+    ///        first byte
+    /// @param spillBytes moves each value's fifth byte into the low byte of its
+    ///        lane, or `null` when no value spans five bytes
+    /// @param spillLanes the byte lanes `spillBytes` fills; all others are zero
+    /// @param spillShifts per-lane left shift placing the fifth byte above the
+    ///        32 - shift bits taken from the first four
+    /// @param mask the value mask for the width
+    private record WideUnpackKernel(int bitWidth, VectorShuffle<Byte> lowBytes, IntVector shifts,
+                                    VectorShuffle<Byte> spillBytes, VectorMask<Byte> spillLanes,
+                                    IntVector spillShifts, IntVector mask) {
+    }
+
+    private static WideUnpackKernel[] createWideUnpackKernels() {
+        WideUnpackKernel[] kernels = new WideUnpackKernel[33];
+        if (!WIDE_UNPACK_VECTORIZED) {
+            return kernels;
+        }
+        for (int width = 9; width <= 32; width++) {
+            int[] lowIndexes = new int[32];
+            int[] spillIndexes = new int[32];
+            boolean[] spillLanes = new boolean[32];
+            int[] shifts = new int[8];
+            int[] spillShifts = new int[8];
+            boolean spills = false;
+            for (int i = 0; i < 8; i++) {
+                int firstByte = (i * width) >>> 3;
+                int shift = (i * width) & 7;
+                for (int k = 0; k < 4; k++) {
+                    lowIndexes[i * 4 + k] = firstByte + k;
+                }
+                shifts[i] = shift;
+                if (shift + width > 32) {
+                    spills = true;
+                    spillIndexes[i * 4] = firstByte + 4;
+                    spillLanes[i * 4] = true;
+                    spillShifts[i] = 32 - shift;
+                }
+            }
+            kernels[width] = new WideUnpackKernel(width,
+                    VectorShuffle.fromArray(BYTE_256, lowIndexes, 0),
+                    IntVector.fromArray(INT_256, shifts, 0),
+                    spills ? VectorShuffle.fromArray(BYTE_256, spillIndexes, 0) : null,
+                    spills ? VectorMask.fromArray(BYTE_256, spillLanes, 0) : null,
+                    spills ? IntVector.fromArray(INT_256, spillShifts, 0) : null,
+                    IntVector.broadcast(INT_256, width == 32 ? -1 : (1 << width) - 1));
+        }
+        return kernels;
+    }
+
+    @Override
+    public long prefixSumDeltas(int[] deltas, int count, long minDelta, long previous, long[] output, int outPos) {
+        // An in-register scan (widen, then log2(lanes) shifted adds plus a
+        // carry broadcast per vector) measured slower than this loop, whose
+        // only loop-carried dependency is a single add per value; the widening
+        // and minDelta adds are independent and overlap. So scalar it is.
+        long value = previous;
+        int i = 0;
+        for (; i + 4 <= count; i += 4) {
+            long d0 = minDelta + (deltas[i] & 0xFFFFFFFFL);
+            long d1 = minDelta + (deltas[i + 1] & 0xFFFFFFFFL);
+            long d2 = minDelta + (deltas[i + 2] & 0xFFFFFFFFL);
+            long d3 = minDelta + (deltas[i + 3] & 0xFFFFFFFFL);
+            output[outPos + i] = value + d0;
+            output[outPos + i + 1] = value + d0 + d1;
+            output[outPos + i + 2] = value + d0 + d1 + d2;
+            value += d0 + d1 + d2 + d3;
+            output[outPos + i + 3] = value;
+        }
+        for (; i < count; i++) {
+            value += minDelta + (deltas[i] & 0xFFFFFFFFL);
+            output[outPos + i] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public void gatherByteStreamsInts(byte[] data, int offset, int stride, int[] output, int outPos, int count) {
+        int vectorized = BYTE_STREAM_SPLIT_VECTORIZED ? count & ~15 : 0;
+        for (int i = 0; i < vectorized; i += 16) {
+            for (int part = 0; part < INT_PARTS; part++) {
+                gatherIntVector(data, offset + i, stride, part)
+                        .intoArray(output, outPos + i + part * INT_VECTOR_LENGTH);
+            }
+        }
+        ScalarOperations.transposeInts(data, offset + vectorized, stride, output, outPos + vectorized,
+                count - vectorized);
+    }
+
+    @Override
+    public void gatherByteStreamsFloats(byte[] data, int offset, int stride, float[] output, int outPos, int count) {
+        int vectorized = BYTE_STREAM_SPLIT_VECTORIZED ? count & ~15 : 0;
+        for (int i = 0; i < vectorized; i += 16) {
+            for (int part = 0; part < INT_PARTS; part++) {
+                gatherIntVector(data, offset + i, stride, part).reinterpretAsFloats()
+                        .intoArray(output, outPos + i + part * INT_VECTOR_LENGTH);
+            }
+        }
+        ScalarOperations.transposeFloats(data, offset + vectorized, stride, output, outPos + vectorized,
+                count - vectorized);
+    }
+
+    @Override
+    public void gatherByteStreamsLongs(byte[] data, int offset, int stride, long[] output, int outPos, int count) {
+        int vectorized = BYTE_STREAM_SPLIT_VECTORIZED ? count & ~7 : 0;
+        for (int i = 0; i < vectorized; i += 8) {
+            for (int part = 0; part < LONG_PARTS; part++) {
+                gatherLongVector(data, offset + i, stride, part)
+                        .intoArray(output, outPos + i + part * LONG_VECTOR_LENGTH);
+            }
+        }
+        ScalarOperations.transposeLongs(data, offset + vectorized, stride, output, outPos + vectorized,
+                count - vectorized);
+    }
+
+    @Override
+    public void gatherByteStreamsDoubles(byte[] data, int offset, int stride, double[] output, int outPos, int count) {
+        int vectorized = BYTE_STREAM_SPLIT_VECTORIZED ? count & ~7 : 0;
+        for (int i = 0; i < vectorized; i += 8) {
+            for (int part = 0; part < LONG_PARTS; part++) {
+                gatherLongVector(data, offset + i, stride, part).reinterpretAsDoubles()
+                        .intoArray(output, outPos + i + part * LONG_VECTOR_LENGTH);
+            }
+        }
+        ScalarOperations.transposeDoubles(data, offset + vectorized, stride, output, outPos + vectorized,
+                count - vectorized);
+    }
+
+    @Override
+    public void gatherByteStreams(byte[] data, int offset, int stride, int byteWidth, byte[] output, int outPos,
+                                  int count) {
+        // Arbitrary widths would need a scatter per stream; the scalar 8x8
+        // tile transpose already writes each value's bytes with long stores.
+        ScalarOperations.transposeBytes(data, offset, stride, byteWidth, output, outPos, count);
+    }
+
+    /// Reassembles `INT_VECTOR_LENGTH` ints of the 16 values at `pos`, taking
+    /// the `part`-th slice of each stream's 16 bytes.
+    private static IntVector gatherIntVector(byte[] data, int pos, int stride, int part) {
+        IntVector b0 = streamInts(data, pos, part);
+        IntVector b1 = streamInts(data, pos + stride, part);
+        IntVector b2 = streamInts(data, pos + 2 * stride, part);
+        IntVector b3 = streamInts(data, pos + 3 * stride, part);
+        return b0.or(b1.lanewise(VectorOperators.LSHL, 8))
+                .or(b2.lanewise(VectorOperators.LSHL, 16))
+                .or(b3.lanewise(VectorOperators.LSHL, 24));
+    }
+
+    private static IntVector streamInts(byte[] data, int pos, int part) {
+        return (IntVector) ByteVector.fromArray(BYTE_128, data, pos)
+                .convertShape(VectorOperators.ZERO_EXTEND_B2I, INT_SPECIES, part);
+    }
+
+    /// Reassembles `LONG_VECTOR_LENGTH` longs of the 8 values at `pos`, taking
+    /// the `part`-th slice of each stream's 8 bytes.
+    private static LongVector gatherLongVector(byte[] data, int pos, int stride, int part) {
+        LongVector value = streamLongs(data, pos, part);
+        for (int k = 1; k < 8; k++) {
+            value = value.or(streamLongs(data, pos + k * stride, part).lanewise(VectorOperators.LSHL, 8 * k));
+        }
+        return value;
+    }
+
+    private static LongVector streamLongs(byte[] data, int pos, int part) {
+        return (LongVector) ByteVector.fromArray(BYTE_64, data, pos)
+                .convertShape(VectorOperators.ZERO_EXTEND_B2L, LONG_SPECIES, part);
+    }
+
     @Override
     public void applyDictionaryLongs(long[] output, long[] dict, int[] indices, int count) {
         if (count < MIN_BATCH_SIZE) {
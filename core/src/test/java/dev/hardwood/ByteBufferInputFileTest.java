@@ -15,6 +15,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import dev.hardwood.reader.ColumnReader;
 import dev.hardwood.reader.ParquetFileReader;
 import dev.hardwood.reader.RowReader;
 
@@ -55,6 +56,24 @@ class ByteBufferInputFileTest {
         }
     }
 
+    @Test
+    void testReadSnappyFromHeapByteBuffer() throws Exception {
+        // Heap-backed pages are decompressed from their backing array
+        Path parquetFile = Paths.get("src/test/resources/plain_snappy.parquet");
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(parquetFile));
+
+        try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(buffer));
+                ColumnReader valueReader = reader.columnReader("value")) {
+            assertThat(valueReader.nextBatch()).isTrue();
+            assertThat(valueReader.getRecordCount()).isEqualTo(3);
+            long[] values = valueReader.getLongs();
+            assertThat(values[0]).isEqualTo(100L);
+            assertThat(values[1]).isEqualTo(200L);
+            assertThat(values[2]).isEqualTo(300L);
+            assertThat(valueReader.nextBatch()).isFalse();
+        }
+    }
+
     @Test
     void testInputFileOfByteBufferProperties() throws Exception {
         byte[] data = new byte[]{1, 2, 3, 4, 5};
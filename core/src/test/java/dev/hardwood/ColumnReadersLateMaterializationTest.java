@@ -0,0 +1,181 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import dev.hardwood.internal.writer.ByteBufferOutputFile;
+import dev.hardwood.metadata.PhysicalType;
+import dev.hardwood.metadata.RepetitionType;
+import dev.hardwood.reader.ColumnReader;
+import dev.hardwood.reader.ColumnReaders;
+import dev.hardwood.reader.FilterPredicate;
+import dev.hardwood.reader.ParquetFileReader;
+import dev.hardwood.schema.ColumnProjection;
+import dev.hardwood.schema.FileSchema;
+import dev.hardwood.writer.ParquetFileWriter;
+import dev.hardwood.writer.WriterConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Tests for late materialisation on the filtered column-reader path: payload
+/// columns decoded only for the rows the predicate columns select must match
+/// the default path, which decodes every row and compacts.
+///
+/// The file has small pages and row groups so pages straddle batches, and
+/// payload columns of both shapes: `grp` is optional and dictionary-encoded,
+/// `val` is required and falls back to plain pages once its dictionary
+/// overflows.
+class ColumnReadersLateMaterializationTest {
+
+    private static final int ROWS = 20_000;
+
+    private static int[] ids;
+    private static int[] groups;
+    private static boolean[] groupNulls;
+    private static int[] vals;
+    private static ByteBuffer file;
+
+    @BeforeAll
+    static void writeFile() throws Exception {
+        ids = new int[ROWS];
+        groups = new int[ROWS];
+        groupNulls = new boolean[ROWS];
+        vals = new int[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            ids[i] = i;
+            groups[i] = (i % 13) * 1000;
+            groupNulls[i] = i % 5 == 0;
+            vals[i] = i * 7 + 3;
+        }
+        FileSchema schema = FileSchema.builder("schema")
+                .addColumn("id", PhysicalType.INT32, RepetitionType.REQUIRED)
+                .addColumn("grp", PhysicalType.INT32, RepetitionType.OPTIONAL)
+                .addColumn("val", PhysicalType.INT32, RepetitionType.REQUIRED)
+                .build();
+        WriterConfig config = WriterConfig.builder()
+                .pageTargetBytes(2048)
+                .rowGroupTargetBytes(64 * 1024)
+                .dictionaryPageLimitBytes(4096)
+                .build();
+        ByteBufferOutputFile out = new ByteBufferOutputFile();
+        try (ParquetFileWriter writer = ParquetFileWriter.create(out, schema, config)) {
+            writer.writeBatch(batch -> batch
+                    .ints(0, ids)
+                    .ints(1, groups, groupNulls)
+                    .ints(2, vals));
+        }
+        file = ByteBuffer.wrap(out.toByteArray());
+    }
+
+    static Stream<Arguments> filters() {
+        return Stream.of(
+                // Clustered: whole pages, and later whole batches, without a match.
+                Arguments.of("clustered", FilterPredicate.lt("id", 1_500), (IntPredicate) i -> i < 1_500),
+                Arguments.of("two ranges", FilterPredicate.or(
+                        FilterPredicate.lt("id", 700), FilterPredicate.gtEq("id", 18_250)),
+                        (IntPredicate) i -> i < 700 || i >= 18_250),
+                // Scattered: a few matches in every page.
+                Arguments.of("scattered", FilterPredicate.in("id", scatteredIds()),
+                        (IntPredicate) i -> i % 97 == 11),
+                Arguments.of("everything", FilterPredicate.gtEq("id", 0), (IntPredicate) i -> true));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filters")
+    void lateMaterializationMatchesCompaction(String name, FilterPredicate filter, IntPredicate expected)
+            throws Exception {
+        Result late = read(filter, true);
+        Result eager = read(filter, false);
+
+        List<Integer> expectedRows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            if (expected.test(i)) {
+                expectedRows.add(i);
+            }
+        }
+        assertThat(eager.rows()).containsExactlyElementsOf(expectedRows);
+        assertThat(late.rows()).containsExactlyElementsOf(expectedRows);
+        assertThat(late.batchSizes()).containsExactlyElementsOf(eager.batchSizes());
+    }
+
+    @Test
+    void predicateColumnInProjectionIsStillExposed() throws Exception {
+        try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(file));
+             ColumnReaders columns = reader.buildColumnReaders(ColumnProjection.columns("val", "id"))
+                     .filter(FilterPredicate.and(FilterPredicate.gtEq("id", 5_000), FilterPredicate.lt("id", 5_010)))
+                     .lateMaterialization(true)
+                     .build()) {
+            List<Integer> seen = new ArrayList<>();
+            while (columns.nextBatch()) {
+                int[] val = columns.getColumnReader("val").getInts();
+                int[] id = columns.getColumnReader("id").getInts();
+                for (int i = 0; i < columns.getRecordCount(); i++) {
+                    assertThat(val[i]).isEqualTo(vals[id[i]]);
+                    seen.add(id[i]);
+                }
+            }
+            assertThat(seen).containsExactly(5_000, 5_001, 5_002, 5_003, 5_004, 5_005, 5_006, 5_007, 5_008, 5_009);
+        }
+    }
+
+    private record Result(List<Integer> rows, List<Integer> batchSizes) {}
+
+    /// Reads `grp` and `val` under `filter`, checking every row against the
+    /// written data, and returns the row ids (recovered from `val`) and batch
+    /// sizes.
+    private static Result read(FilterPredicate filter, boolean lateMaterialization) throws Exception {
+        List<Integer> rows = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(file));
+             ColumnReaders columns = reader.buildColumnReaders(ColumnProjection.columns("grp", "val"))
+                     .filter(filter)
+                     .batchSize(1_000)
+                     .lateMaterialization(lateMaterialization)
+                     .build()) {
+            assertThat(reader.getFileMetaData().rowGroups().size()).isGreaterThan(1);
+            ColumnReader grp = columns.getColumnReader("grp");
+            ColumnReader val = columns.getColumnReader("val");
+            while (columns.nextBatch()) {
+                int count = columns.getRecordCount();
+                batchSizes.add(count);
+                int[] grpValues = grp.getInts();
+                Validity grpValidity = grp.getLeafValidity();
+                int[] valValues = val.getInts();
+                for (int i = 0; i < count; i++) {
+                    int row = (valValues[i] - 3) / 7;
+                    assertThat(valValues[i]).isEqualTo(vals[row]);
+                    assertThat(grpValidity.isNull(i)).as("row %d", row).isEqualTo(groupNulls[row]);
+                    if (!groupNulls[row]) {
+                        assertThat(grpValues[i]).as("row %d", row).isEqualTo(groups[row]);
+                    }
+                    rows.add(row);
+                }
+            }
+        }
+        return new Result(rows, batchSizes);
+    }
+
+    private static int[] scatteredIds() {
+        int[] result = new int[(ROWS - 11 + 96) / 97];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = i * 97 + 11;
+        }
+        return result;
+    }
+}
@@ -12,6 +12,7 @@ import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -73,12 +74,28 @@ class MappedInputFileLargeFileTest {
                     .hasMessageContaining("large.bin");
             assertThatThrownBy(() -> inputFile.readRange(fileSize - 4, 16))
                     .isInstanceOf(IndexOutOfBoundsException.class);
+
+            // Vectored reads: results come back in request order, whether ranges share
+            // a mapping (straddle + beyond are 4 KB apart) or need their own (atZero).
+            List<ByteBuffer> vectored = inputFile.readRanges(List.of(
+                    new InputFile.Range(beyondOffset, beyond.length),
+                    new InputFile.Range(0, atZero.length),
+                    new InputFile.Range(straddleOffset, straddle.length)));
+            assertThat(bytes(vectored.get(0))).isEqualTo(beyond);
+            assertThat(bytes(vectored.get(1))).isEqualTo(atZero);
+            assertThat(bytes(vectored.get(2))).isEqualTo(straddle);
+            assertThatThrownBy(() -> inputFile.readRanges(List.of(
+                    new InputFile.Range(0, 16), new InputFile.Range(fileSize - 4, 16))))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
         }
     }
 
     private static byte[] read(InputFile inputFile, long offset, int length) throws IOException {
-        ByteBuffer buffer = inputFile.readRange(offset, length);
-        byte[] out = new byte[length];
+        return bytes(inputFile.readRange(offset, length));
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] out = new byte[buffer.remaining()];
         buffer.get(out);
         return out;
     }
@@ -654,6 +654,33 @@ class PredicatePushDownTest {
         }
     }
 
+    @Test
+    void testRecordLevelFilterOnLeafUnderNullStruct() throws Exception {
+        // id 1: point null; id 2: point.x null; id 3: point.x == 42. A null
+        // ancestor struct makes the leaf null, so neither comparisons nor
+        // isNotNull match id 1, while isNull matches both id 1 and id 2.
+        Path file = Paths.get("src/test/resources/optional_struct_optional_leaf_test.parquet");
+
+        assertThat(readIds(file, FilterPredicate.gtEq("point.x", 0))).containsExactly(3);
+        assertThat(readIds(file, FilterPredicate.notEq("point.x", 42))).isEmpty();
+        assertThat(readIds(file, FilterPredicate.isNotNull("point.x"))).containsExactly(3);
+        assertThat(readIds(file, FilterPredicate.isNull("point.x"))).containsExactly(1, 2);
+        assertThat(readIds(file, FilterPredicate.and(
+                FilterPredicate.isNull("point.x"), FilterPredicate.gt("id", 1)))).containsExactly(2);
+    }
+
+    private static List<Integer> readIds(Path file, FilterPredicate filter) throws Exception {
+        List<Integer> ids = new ArrayList<>();
+        try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(file));
+             RowReader rows = reader.buildRowReader().filter(filter).build()) {
+            while (rows.hasNext()) {
+                rows.next();
+                ids.add(rows.getInt("id"));
+            }
+        }
+        return ids;
+    }
+
     // ==================== Nested struct with logical type ====================
 
     private static final Path NESTED_TS_FILE = Paths.get("src/test/resources/filter_pushdown_nested_ts.parquet");
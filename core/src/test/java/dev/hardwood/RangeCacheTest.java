@@ -0,0 +1,109 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RangeCacheTest {
+
+    @Test
+    void servesCachedRangeAndShorterPrefixes() {
+        RangeCache cache = RangeCache.create(1024);
+        cache.put("file@v1", 100, bytes(0, 64));
+
+        ByteBuffer full = cache.get("file@v1", 100, 64);
+        ByteBuffer prefix = cache.get("file@v1", 100, 16);
+
+        assertThat(full).isEqualTo(bytes(0, 64));
+        assertThat(prefix).isEqualTo(bytes(0, 16));
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.missCount()).isZero();
+    }
+
+    @Test
+    void missesOnOtherVersionOffsetOrLongerLength() {
+        RangeCache cache = RangeCache.create(1024);
+        cache.put("file@v1", 100, bytes(0, 64));
+
+        assertThat(cache.get("file@v2", 100, 64)).isNull();
+        assertThat(cache.get("file@v1", 101, 8)).isNull();
+        assertThat(cache.get("file@v1", 100, 65)).isNull();
+        assertThat(cache.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    void storesACopyAndLeavesSourcePositionUntouched() {
+        RangeCache cache = RangeCache.create(1024);
+        ByteBuffer source = bytes(0, 32);
+        cache.put("f", 0, source);
+        source.put(0, (byte) 99);
+
+        assertThat(source.position()).isZero();
+        assertThat(cache.get("f", 0, 32).get(0)).isEqualTo((byte) 0);
+    }
+
+    @Test
+    void evictsUnreferencedEntriesFirstToStayWithinBudget() {
+        RangeCache cache = RangeCache.create(300);
+        cache.put("f", 0, bytes(0, 100));
+        cache.put("f", 100, bytes(0, 100));
+        cache.put("f", 200, bytes(0, 100));
+
+        // Reference the first entry so the clock hand gives it a second chance.
+        assertThat(cache.get("f", 0, 100)).isNotNull();
+        cache.put("f", 300, bytes(0, 100));
+
+        assertThat(cache.sizeBytes()).isEqualTo(300);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(cache.get("f", 0, 100)).isNotNull();
+        assertThat(cache.get("f", 100, 100)).isNull();
+        assertThat(cache.get("f", 300, 100)).isNotNull();
+    }
+
+    @Test
+    void ignoresRangesLargerThanTheCache() {
+        RangeCache cache = RangeCache.create(16);
+        cache.put("f", 0, bytes(0, 17));
+
+        assertThat(cache.entryCount()).isZero();
+        assertThat(cache.sizeBytes()).isZero();
+    }
+
+    @Test
+    void clearDropsAllEntries() {
+        RangeCache cache = RangeCache.create(1024);
+        cache.put("f", 0, bytes(0, 10));
+        cache.put("g", 0, bytes(0, 10));
+
+        cache.clear();
+
+        assertThat(cache.entryCount()).isZero();
+        assertThat(cache.sizeBytes()).isZero();
+        assertThat(cache.get("f", 0, 10)).isNull();
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThatThrownBy(() -> RangeCache.create(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxBytes");
+    }
+
+    private static ByteBuffer bytes(int first, int length) {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        for (int i = 0; i < length; i++) {
+            buffer.put((byte) (first + i));
+        }
+        return buffer.flip();
+    }
+}
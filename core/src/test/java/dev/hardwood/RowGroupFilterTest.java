@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -269,6 +270,90 @@ class RowGroupFilterTest {
         }
     }
 
+    // ==================== Splits ====================
+
+    @Test
+    void splitsPartitionRowGroupsIntoDisjointReaders() throws Exception {
+        try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(FIXTURE))) {
+            List<RowGroupPredicate> splits = reader.splits(2);
+            assertThat(splits).hasSize(2);
+
+            List<Long> ids = new ArrayList<>();
+            for (RowGroupPredicate split : splits) {
+                try (ColumnReader col = reader.buildColumnReader("id").filter(split).build()) {
+                    while (col.nextBatch()) {
+                        long[] values = col.getLongs();
+                        for (int i = 0; i < col.getRecordCount(); i++) {
+                            ids.add(values[i]);
+                        }
+                    }
+                }
+            }
+            assertThat(ids).hasSize(300).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    void splitsAreCappedAtRowGroupCount() throws Exception {
+        try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(FIXTURE))) {
+            List<RowGroupPredicate> splits = reader.splits(16);
+            assertThat(splits).hasSize(3);
+            for (RowGroupPredicate split : splits) {
+                try (ColumnReader col = reader.buildColumnReader("id").filter(split).build()) {
+                    assertThat(countRows(col)).isEqualTo(100);
+                }
+            }
+            assertThat(reader.splits(1)).containsExactly(RowGroupPredicate.byteRange(0, Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void splitsReadConcurrentlyFromOneFileReader() throws Exception {
+        try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(FIXTURE))) {
+            List<CompletableFuture<Long>> sums = new ArrayList<>();
+            for (RowGroupPredicate split : reader.splits(3)) {
+                sums.add(CompletableFuture.supplyAsync(() -> {
+                    try (RowReader rows = reader.buildRowReader()
+                            .filter(FilterPredicate.gt("id", 50L))
+                            .filter(split)
+                            .build()) {
+                        long sum = 0;
+                        while (rows.hasNext()) {
+                            rows.next();
+                            sum += rows.getLong("id");
+                        }
+                        return sum;
+                    }
+                }));
+            }
+            long total = 0;
+            for (CompletableFuture<Long> sum : sums) {
+                total += sum.get();
+            }
+            assertThat(total).isEqualTo(45150L - 1275L); // 51 + ... + 300
+        }
+    }
+
+    @Test
+    void splitsRejectNonPositiveParallelism() throws Exception {
+        try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(FIXTURE))) {
+            assertThatThrownBy(() -> reader.splits(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("targetParallelism");
+        }
+    }
+
+    @Test
+    void splitsRejectMultiFileReader() throws Exception {
+        try (ParquetFileReader reader = ParquetFileReader.openAll(List.of(
+                InputFile.of(Paths.get("src/test/resources/multi_file_part0.parquet")),
+                InputFile.of(Paths.get("src/test/resources/multi_file_part1.parquet"))))) {
+            assertThatThrownBy(() -> reader.splits(2))
+                    .isInstanceOf(UnsupportedOperationException.class)
+                    .hasMessageContaining("single-file");
+        }
+    }
+
     // ==================== Helpers ====================
 
     private static long countRows(ColumnReader col) {
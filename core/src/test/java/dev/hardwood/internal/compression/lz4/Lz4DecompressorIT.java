@@ -9,6 +9,7 @@ package dev.hardwood.internal.compression.lz4;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.Random;
 
 import org.junit.jupiter.api.Test;
@@ -33,7 +34,7 @@ class Lz4DecompressorIT {
         Decompressor decompressor = factory().getDecompressor(CompressionCodec.LZ4);
         byte[] result = decompressor.decompress(createDirectBuffer(compressed), original.length);
 
-        assertThat(result).isEqualTo(original);
+        assertThat(Arrays.copyOf(result, original.length)).isEqualTo(original);
     }
 
     @Test
@@ -51,7 +52,7 @@ class Lz4DecompressorIT {
         Decompressor decompressor = factory().getDecompressor(CompressionCodec.LZ4);
         byte[] result = decompressor.decompress(createDirectBuffer(hadoop.array()), original.length);
 
-        assertThat(result).isEqualTo(original);
+        assertThat(Arrays.copyOf(result, original.length)).isEqualTo(original);
     }
 
     @Test
@@ -78,7 +79,7 @@ class Lz4DecompressorIT {
         Decompressor decompressor = factory().getDecompressor(CompressionCodec.LZ4);
         byte[] result = decompressor.decompress(createDirectBuffer(hadoop.array()), expected.length);
 
-        assertThat(result).isEqualTo(expected);
+        assertThat(Arrays.copyOf(result, expected.length)).isEqualTo(expected);
     }
 
     @Test
@@ -90,7 +91,7 @@ class Lz4DecompressorIT {
         Decompressor decompressor = factory().getDecompressor(CompressionCodec.LZ4);
         byte[] result = decompressor.decompress(createDirectBuffer(compressed), original.length);
 
-        assertThat(result).isEqualTo(original);
+        assertThat(Arrays.copyOf(result, original.length)).isEqualTo(original);
     }
 
     @Test
@@ -101,7 +102,7 @@ class Lz4DecompressorIT {
         Decompressor decompressor = factory().getDecompressor(CompressionCodec.LZ4_RAW);
         byte[] result = decompressor.decompress(createDirectBuffer(compressed), original.length);
 
-        assertThat(result).isEqualTo(original);
+        assertThat(Arrays.copyOf(result, original.length)).isEqualTo(original);
     }
 
     @Test
@@ -113,7 +114,7 @@ class Lz4DecompressorIT {
         Decompressor decompressor = factory().getDecompressor(CompressionCodec.LZ4_RAW);
         byte[] result = decompressor.decompress(createDirectBuffer(compressed), original.length);
 
-        assertThat(result).isEqualTo(original);
+        assertThat(Arrays.copyOf(result, original.length)).isEqualTo(original);
     }
 
     @Test
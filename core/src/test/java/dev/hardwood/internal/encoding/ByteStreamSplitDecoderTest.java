@@ -0,0 +1,99 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.encoding;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hardwood.metadata.PhysicalType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// Tests for [ByteStreamSplitDecoder], which reassembles values in blocks and
+/// spreads them around nulls afterwards.
+class ByteStreamSplitDecoderTest {
+
+    @Test
+    void decodesDoublesAroundNulls() throws IOException {
+        double[] present = new double[21];
+        for (int i = 0; i < present.length; i++) {
+            present[i] = i * 1.5 - 7;
+        }
+        ByteBuffer plain = ByteBuffer.allocate(present.length * 8).order(ByteOrder.LITTLE_ENDIAN);
+        for (double value : present) {
+            plain.putDouble(value);
+        }
+        byte[] encoded = split(plain.array(), 8);
+
+        int[] defLevels = new int[30];
+        double[] expected = new double[30];
+        for (int i = 0, j = 0; i < defLevels.length; i++) {
+            if (i % 3 != 1) {
+                defLevels[i] = 1;
+                expected[i] = present[j++];
+            }
+        }
+
+        double[] decoded = new double[30];
+        new ByteStreamSplitDecoder(encoded, 0, present.length, PhysicalType.DOUBLE, null)
+                .readDoubles(decoded, defLevels, 1);
+
+        assertThat(decoded).containsExactly(expected);
+    }
+
+    @Test
+    void decodesFixedLenByteArraysAroundNulls() throws IOException {
+        byte[] plain = new byte[3 * 10];
+        for (int i = 0; i < plain.length; i++) {
+            plain[i] = (byte) (i + 1);
+        }
+        byte[] encoded = split(plain, 3);
+        int[] defLevels = { 0, 1, 1, 1, 0, 1, 1, 0, 1, 1, 1, 1, 0 };
+        int[] offsets = new int[defLevels.length + 1];
+
+        byte[] bytes = new ByteStreamSplitDecoder(encoded, 0, 10, PhysicalType.FIXED_LEN_BYTE_ARRAY, 3)
+                .readBinaries(offsets, defLevels, 1);
+
+        assertThat(offsets[13]).isEqualTo(39);
+        for (int i = 0, j = 0; i < defLevels.length; i++) {
+            assertThat(offsets[i]).isEqualTo(3 * i);
+            byte[] value = new byte[3];
+            if (defLevels[i] == 1) {
+                System.arraycopy(plain, 3 * j++, value, 0, 3);
+            }
+            assertThat(Arrays.copyOfRange(bytes, 3 * i, 3 * i + 3)).as("value %d", i).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void rejectsReadingPastTheLastValue() {
+        byte[] encoded = new byte[4 * 5];
+
+        assertThatThrownBy(() -> new ByteStreamSplitDecoder(encoded, 0, 5, PhysicalType.FLOAT, null)
+                .readFloats(new float[6], null, 0))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("No more values");
+    }
+
+    /// Scatters the bytes of consecutive `byteWidth`-byte values into streams.
+    private static byte[] split(byte[] plain, int byteWidth) {
+        int numValues = plain.length / byteWidth;
+        byte[] encoded = new byte[plain.length];
+        for (int i = 0; i < numValues; i++) {
+            for (int k = 0; k < byteWidth; k++) {
+                encoded[k * numValues + i] = plain[i * byteWidth + k];
+            }
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.encoding;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import dev.hardwood.metadata.PhysicalType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// Tests for the `skip` operations of the value and index decoders: skipping
+/// a stretch of values and reading on must yield the values a straight read
+/// has at those positions.
+class DecoderSkipTest {
+
+    @ParameterizedTest(name = "bit width {0}")
+    @ValueSource(ints = { 1, 3, 5, 8, 12, 20 })
+    void rleSkipsLandOnTheSameValues(int bitWidth) {
+        Random random = new Random(bitWidth);
+        int[] values = new int[4_000];
+        int i = 0;
+        while (i < values.length) {
+            // Mix constant stretches (RLE runs) with noise (bit-packed runs).
+            int run = Math.min(values.length - i, 1 + random.nextInt(150));
+            boolean constant = random.nextBoolean();
+            int value = random.nextInt(1 << Math.min(bitWidth, 16));
+            for (int k = 0; k < run; k++) {
+                values[i++] = constant ? value : random.nextInt(1 << Math.min(bitWidth, 16));
+            }
+        }
+        RleBitPackingHybridEncoder encoder = new RleBitPackingHybridEncoder(bitWidth);
+        encoder.writeInts(values, 0, values.length);
+        RleBitPackingHybridDecoder decoder = new RleBitPackingHybridDecoder(encoder.toByteArray(), bitWidth);
+
+        // Odd skip and read lengths leave the stream mid-group and off byte
+        // boundaries between calls.
+        int pos = 0;
+        int[] out = new int[64];
+        while (pos < values.length) {
+            int skip = Math.min(values.length - pos, random.nextInt(40));
+            decoder.skip(skip);
+            pos += skip;
+            int read = Math.min(values.length - pos, 1 + random.nextInt(out.length - 1));
+            decoder.readInts(out, 0, read);
+            for (int k = 0; k < read; k++) {
+                assertThat(out[k]).as("value %d", pos + k).isEqualTo(values[pos + k]);
+            }
+            pos += read;
+        }
+    }
+
+    @Test
+    void rleSkipPastTheEndFails() {
+        RleBitPackingHybridEncoder encoder = new RleBitPackingHybridEncoder(3);
+        encoder.writeInts(new int[] { 1, 2, 3, 4, 5, 6, 7, 0 }, 0, 8);
+        RleBitPackingHybridDecoder decoder = new RleBitPackingHybridDecoder(encoder.toByteArray(), 3);
+
+        assertThatThrownBy(() -> decoder.skip(9)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void plainSkipsFixedWidthValues() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(100 * 8).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < 100; i++) {
+            buffer.putLong(i * 11L);
+        }
+        PlainDecoder decoder = new PlainDecoder(buffer.array(), 0, PhysicalType.INT64, null);
+
+        long[] out = new long[10];
+        decoder.skip(37);
+        decoder.readLongs(out, 2, 5);
+        decoder.skip(50);
+        decoder.readLongs(out, 7, 3);
+        assertThat(out).containsExactly(0, 0, 407, 418, 429, 440, 451, 1012, 1023, 1034);
+        decoder.skip(5);
+        assertThatThrownBy(() -> decoder.skip(1)).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.encoding;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// Tests for [DeltaBinaryPackedDecoder], which reconstructs a whole miniblock
+/// at a time.
+class DeltaBinaryPackedDecoderTest {
+
+    @Test
+    void decodesEveryMiniblockBitWidth() throws IOException {
+        // One miniblock of 32 deltas per bit width 0..64, so each miniblock
+        // packs at its own width; the count leaves the last miniblock partial.
+        Random random = new Random(7);
+        long[] values = new long[1 + 65 * 32 - 5];
+        values[0] = random.nextLong();
+        for (int i = 1; i < values.length; i++) {
+            int width = (i - 1) / 32;
+            long delta = width == 0 ? 0 : width == 64 ? random.nextLong() : random.nextLong() >>> (64 - width);
+            values[i] = values[i - 1] + delta;
+        }
+        byte[] encoded = encode(values, 128, 4);
+
+        long[] decoded = new long[values.length];
+        new DeltaBinaryPackedDecoder(encoded, 0).readLongs(decoded, null, 0);
+
+        assertThat(decoded).isEqualTo(values);
+    }
+
+    @Test
+    void decodesIntsAroundNulls() throws IOException {
+        int[] present = { 5, 3, -1000, Integer.MAX_VALUE, Integer.MIN_VALUE, 7, 7, 7, 8 };
+        long[] values = new long[present.length];
+        for (int i = 0; i < present.length; i++) {
+            values[i] = present[i];
+        }
+        int[] defLevels = { 1, 0, 1, 1, 0, 1, 1, 1, 0, 1, 1, 1 };
+        byte[] encoded = encode(values, 128, 4);
+
+        int[] decoded = new int[defLevels.length];
+        new DeltaBinaryPackedDecoder(encoded, 0).readInts(decoded, defLevels, 1);
+
+        assertThat(decoded).containsExactly(5, 0, 3, -1000, 0, Integer.MAX_VALUE, Integer.MIN_VALUE, 7, 0, 7, 7, 8);
+    }
+
+    @Test
+    void stopsAtTheEndOfItsLastMiniblock() throws IOException {
+        long[] values = new long[300];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 3L;
+        }
+        byte[] encoded = encode(values, 64, 2);
+        byte[] withTrailer = new byte[encoded.length + 4];
+        System.arraycopy(encoded, 0, withTrailer, 0, encoded.length);
+
+        DeltaBinaryPackedDecoder decoder = new DeltaBinaryPackedDecoder(withTrailer, 0);
+        decoder.readLongs(new long[values.length], null, 0);
+
+        // Composite decoders continue reading right after the last miniblock
+        assertThat(decoder.getPos()).isEqualTo(encoded.length);
+    }
+
+    @Test
+    void rejectsReadingPastTheLastValue() throws IOException {
+        byte[] encoded = encode(new long[] { 1, 2, 3 }, 128, 4);
+
+        assertThatThrownBy(() -> new DeltaBinaryPackedDecoder(encoded, 0).readLongs(new long[4], null, 0))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("No more values");
+    }
+
+    /// Encodes `values` as DELTA_BINARY_PACKED, writing only the miniblocks
+    /// that hold values, as the spec allows.
+    private static byte[] encode(long[] values, int blockSize, int miniblockCount) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeUleb128(out, blockSize);
+        writeUleb128(out, miniblockCount);
+        writeUleb128(out, values.length);
+        writeUleb128(out, zigzag(values.length > 0 ? values[0] : 0));
+
+        int valuesPerMiniblock = blockSize / miniblockCount;
+        for (int start = 1; start < values.length; start += blockSize) {
+            int end = Math.min(values.length, start + blockSize);
+            long minDelta = Long.MAX_VALUE;
+            for (int i = start; i < end; i++) {
+                minDelta = Math.min(minDelta, values[i] - values[i - 1]);
+            }
+            writeUleb128(out, zigzag(minDelta));
+
+            int[] widths = new int[miniblockCount];
+            for (int m = 0; m < miniblockCount; m++) {
+                long bits = 0;
+                for (int i = start + m * valuesPerMiniblock; i < Math.min(end, start + (m + 1) * valuesPerMiniblock); i++) {
+                    bits |= values[i] - values[i - 1] - minDelta;
+                }
+                widths[m] = 64 - Long.numberOfLeadingZeros(bits);
+                out.write(widths[m]);
+            }
+            for (int m = 0; m < miniblockCount; m++) {
+                int from = start + m * valuesPerMiniblock;
+                if (from >= end) {
+                    break;
+                }
+                byte[] packed = new byte[valuesPerMiniblock * widths[m] / 8];
+                for (int k = 0; k < valuesPerMiniblock && from + k < end; k++) {
+                    long delta = values[from + k] - values[from + k - 1] - minDelta;
+                    for (int b = 0; b < widths[m]; b++) {
+                        if ((delta >>> b & 1) != 0) {
+                            int bit = k * widths[m] + b;
+                            packed[bit >>> 3] |= (byte) (1 << (bit & 7));
+                        }
+                    }
+                }
+                out.writeBytes(packed);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static void writeUleb128(ByteArrayOutputStream out, long value) {
+        long v = value;
+        while ((v & ~0x7FL) != 0) {
+            out.write((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.write((int) v);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.encoding;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// Tests for [DeltaByteArrayDecoder#readBinaries], which rebuilds each value
+/// from the previous value's prefix and its own suffix.
+class DeltaByteArrayDecoderTest {
+
+    /// "ab", "abcd", "abcdef": prefix lengths 0, 2, 4 and suffixes "ab", "cd", "ef".
+    private static final byte[] VALUES = {
+            // prefix lengths: block size 128, 4 miniblocks, 3 values, first 0, min delta 2, all widths 0
+            (byte) 0x80, 0x01, 0x04, 0x03, 0x00, 0x04, 0x00, 0x00, 0x00, 0x00,
+            // suffix lengths: block size 128, 4 miniblocks, 3 values, first 2, min delta 0, all widths 0
+            (byte) 0x80, 0x01, 0x04, 0x03, 0x04, 0x00, 0x00, 0x00, 0x00, 0x00,
+            'a', 'b', 'c', 'd', 'e', 'f' };
+
+    @Test
+    void decodesIntoExactlyTheValueBytes() throws IOException {
+        byte[] data = Arrays.copyOf(VALUES, VALUES.length + 256);
+        Arrays.fill(data, VALUES.length, data.length, (byte) 0x55);
+        DeltaByteArrayDecoder decoder = new DeltaByteArrayDecoder(data, 0);
+        decoder.initialize(3);
+        int[] offsets = new int[5];
+
+        byte[] bytes = decoder.readBinaries(offsets, new int[] { 1, 0, 1, 1 }, 1);
+
+        assertThat(offsets).containsExactly(0, 2, 2, 6, 12);
+        assertThat(bytes).isEqualTo("ababcdabcdef".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void prefixLongerThanThePreviousValueIsRejected() throws IOException {
+        // prefix lengths 0, 3: the second value claims 3 bytes of the 2-byte "ab"
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(new byte[] { (byte) 0x80, 0x01, 0x04, 0x02, 0x00, 0x06, 0x00, 0x00, 0x00, 0x00 });
+        out.writeBytes(new byte[] { (byte) 0x80, 0x01, 0x04, 0x02, 0x04, 0x00, 0x00, 0x00, 0x00, 0x00 });
+        out.writeBytes("abcd".getBytes(StandardCharsets.UTF_8));
+        DeltaByteArrayDecoder decoder = new DeltaByteArrayDecoder(out.toByteArray(), 0);
+        decoder.initialize(2);
+
+        assertThatThrownBy(() -> decoder.readBinaries(new int[3], null, 0))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Invalid DELTA_BYTE_ARRAY prefix length 3");
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.encoding;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hardwood.metadata.PhysicalType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// Tests for [PlainDecoder#readBinaries], the contiguous bytes + offsets
+/// layout of byte-array pages.
+class PlainDecoderBinariesTest {
+
+    @Test
+    void variableLengthValuesArePackedWithZeroLengthNulls() throws IOException {
+        byte[] data = lengthPrefixed("ab", "", "cde");
+        int[] defLevels = { 1, 0, 1, 1 };
+        int[] offsets = new int[5];
+
+        byte[] bytes = new PlainDecoder(data, 0, PhysicalType.BYTE_ARRAY, null)
+                .readBinaries(offsets, defLevels, 1);
+
+        assertThat(offsets).containsExactly(0, 2, 2, 2, 5);
+        assertThat(Arrays.copyOf(bytes, offsets[4])).isEqualTo("abcde".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void fixedLengthNullsReserveTheTypeWidth() throws IOException {
+        byte[] data = { 1, 2, 3, 4 };
+        int[] defLevels = { 0, 1, 1 };
+        int[] offsets = new int[4];
+
+        byte[] bytes = new PlainDecoder(data, 0, PhysicalType.FIXED_LEN_BYTE_ARRAY, 2)
+                .readBinaries(offsets, defLevels, 1);
+
+        assertThat(offsets).containsExactly(0, 2, 4, 6);
+        assertThat(Arrays.copyOfRange(bytes, 2, 6)).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void truncatedValueIsRejected() {
+        byte[] data = Arrays.copyOf(lengthPrefixed("abcdef"), 7);
+
+        assertThatThrownBy(() -> new PlainDecoder(data, 0, PhysicalType.BYTE_ARRAY, null)
+                .readBinaries(new int[2], null, 0))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Unexpected EOF");
+    }
+
+    private static byte[] lengthPrefixed(String... values) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (String value : values) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.write(bytes.length);
+            out.write(0);
+            out.write(0);
+            out.write(0);
+            out.writeBytes(bytes);
+        }
+        return out.toByteArray();
+    }
+}
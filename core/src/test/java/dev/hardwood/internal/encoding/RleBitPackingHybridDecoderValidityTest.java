@@ -0,0 +1,72 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.encoding;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// Tests for [RleBitPackingHybridDecoder#readValidity], which decodes 1-bit
+/// definition levels straight into validity words.
+class RleBitPackingHybridDecoderValidityTest {
+
+    @Test
+    void matchesLevelArrayForMixedRleAndBitPackedRuns() {
+        Random random = new Random(42);
+        int[] levels = new int[5_000];
+        int i = 0;
+        while (i < levels.length) {
+            // Alternate long constant stretches (RLE runs) with noise (bit-packed runs)
+            // at odd lengths, so runs start and end off word and byte boundaries.
+            int run = Math.min(levels.length - i, 1 + random.nextInt(200));
+            boolean constant = random.nextBoolean();
+            int value = random.nextInt(2);
+            for (int k = 0; k < run; k++) {
+                levels[i++] = constant ? value : random.nextInt(2);
+            }
+        }
+        assertValidity(levels);
+    }
+
+    @Test
+    void handlesCountNotMultipleOfWordSize() {
+        assertValidity(new int[] { 1, 0, 1, 1, 0, 0, 1 });
+    }
+
+    @Test
+    void rejectsWiderLevels() {
+        byte[] encoded = encode(new int[] { 2, 0, 1 }, 2);
+        RleBitPackingHybridDecoder decoder = new RleBitPackingHybridDecoder(encoded, 2);
+
+        assertThatThrownBy(() -> decoder.readValidity(new long[1], 3))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static void assertValidity(int[] levels) {
+        byte[] encoded = encode(levels, 1);
+        long[] words = new long[(levels.length + 63) >>> 6];
+        int present = new RleBitPackingHybridDecoder(encoded, 1).readValidity(words, levels.length);
+
+        int expectedPresent = 0;
+        for (int i = 0; i < levels.length; i++) {
+            boolean set = (words[i >>> 6] & (1L << i)) != 0;
+            assertThat(set).as("bit %d", i).isEqualTo(levels[i] == 1);
+            expectedPresent += levels[i];
+        }
+        assertThat(present).isEqualTo(expectedPresent);
+    }
+
+    private static byte[] encode(int[] values, int bitWidth) {
+        RleBitPackingHybridEncoder encoder = new RleBitPackingHybridEncoder(bitWidth);
+        encoder.writeInts(values, 0, values.length);
+        return encoder.toByteArray();
+    }
+}
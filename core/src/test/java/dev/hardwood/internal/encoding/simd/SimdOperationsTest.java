@@ -202,6 +202,116 @@ class SimdOperationsTest {
         assertThat(output[7]).isEqualTo(0);
     }
 
+    // ==================== unpackBitWidthWide Tests ====================
+
+    @ParameterizedTest
+    @ValueSource(ints = {9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32})
+    void unpackBitWidthWideMatchesReference(int bitWidth) {
+        int count = 200;
+        int dataPos = 2;
+        // No slack after the last group: the kernels must not read past it
+        byte[] data = new byte[dataPos + bitWidth * (count / 8)];
+        RANDOM.nextBytes(data);
+
+        int[] scalarOutput = new int[count + 10];
+        int[] simdOutput = new int[count + 10];
+        int outPos = 3;
+
+        int scalarBytes = SCALAR.unpackBitWidthWide(data, dataPos, scalarOutput, outPos, count, bitWidth);
+        int simdBytes = SIMD.unpackBitWidthWide(data, dataPos, simdOutput, outPos, count, bitWidth);
+
+        assertThat(scalarBytes).isEqualTo(bitWidth * (count / 8));
+        assertThat(simdBytes).isEqualTo(scalarBytes);
+        for (int i = 0; i < count; i++) {
+            assertThat(scalarOutput[outPos + i]).as("value %d", i).isEqualTo(readBits(data, dataPos, i, bitWidth));
+        }
+        assertThat(simdOutput).isEqualTo(scalarOutput);
+    }
+
+    @Test
+    void unpackBitWidthWideStopsAtPartialGroup() {
+        byte[] data = new byte[12 * 2 + 5];
+        RANDOM.nextBytes(data);
+        int[] output = new int[20];
+
+        // 20 values requested, but only two whole groups of 8 fit
+        assertThat(SIMD.unpackBitWidthWide(data, 0, output, 0, 20, 12)).isEqualTo(24);
+        assertThat(output[15]).isEqualTo(readBits(data, 0, 15, 12));
+        assertThat(output[16]).isZero();
+    }
+
+    private static int readBits(byte[] data, int dataPos, int index, int bitWidth) {
+        long value = 0;
+        for (int b = 0; b < bitWidth; b++) {
+            int bit = index * bitWidth + b;
+            if ((data[dataPos + (bit >>> 3)] >>> (bit & 7) & 1) != 0) {
+                value |= 1L << b;
+            }
+        }
+        return (int) value;
+    }
+
+    // ==================== Byte Stream Split Tests ====================
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 15, 16, 17, 33, 100, 1000})
+    void gatherByteStreamsMatchesReference(int count) {
+        int numValues = count + 5;
+        int first = 3;
+        int offset = 2;
+        // No slack after the last stream: the kernels must not read past it
+        byte[] data = new byte[offset + 8 * numValues];
+        RANDOM.nextBytes(data);
+
+        for (SimdOperations ops : new SimdOperations[]{ SCALAR, SIMD }) {
+            int[] ints = new int[count + 1];
+            float[] floats = new float[count + 1];
+            ops.gatherByteStreamsInts(data, offset + first, numValues, ints, 1, count);
+            ops.gatherByteStreamsFloats(data, offset + first, numValues, floats, 1, count);
+            long[] longs = new long[count + 1];
+            double[] doubles = new double[count + 1];
+            ops.gatherByteStreamsLongs(data, offset + first, numValues, longs, 1, count);
+            ops.gatherByteStreamsDoubles(data, offset + first, numValues, doubles, 1, count);
+
+            for (int i = 0; i < count; i++) {
+                long expected4 = gatherReference(data, offset + first + i, numValues, 4);
+                long expected8 = gatherReference(data, offset + first + i, numValues, 8);
+                assertThat(ints[1 + i]).as("int %d", i).isEqualTo((int) expected4);
+                assertThat(Float.floatToRawIntBits(floats[1 + i])).as("float %d", i).isEqualTo((int) expected4);
+                assertThat(longs[1 + i]).as("long %d", i).isEqualTo(expected8);
+                assertThat(Double.doubleToRawLongBits(doubles[1 + i])).as("double %d", i).isEqualTo(expected8);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 7, 8, 12, 16, 17})
+    void gatherByteStreamsFixedWidthMatchesReference(int byteWidth) {
+        int count = 37;
+        byte[] data = new byte[byteWidth * count];
+        RANDOM.nextBytes(data);
+        byte[] expected = new byte[2 + byteWidth * count];
+        for (int i = 0; i < count; i++) {
+            for (int k = 0; k < byteWidth; k++) {
+                expected[2 + i * byteWidth + k] = data[k * count + i];
+            }
+        }
+
+        for (SimdOperations ops : new SimdOperations[]{ SCALAR, SIMD }) {
+            byte[] output = new byte[2 + byteWidth * count];
+            ops.gatherByteStreams(data, 0, count, byteWidth, output, 2, count);
+            assertThat(output).isEqualTo(expected);
+        }
+    }
+
+    private static long gatherReference(byte[] data, int pos, int stride, int byteWidth) {
+        long value = 0;
+        for (int k = byteWidth - 1; k >= 0; k--) {
+            value = value << 8 | (data[pos + k * stride] & 0xFF);
+        }
+        return value;
+    }
+
     // ==================== Dictionary Application Tests ====================
 
     @ParameterizedTest
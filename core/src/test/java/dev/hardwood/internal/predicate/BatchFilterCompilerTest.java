@@ -120,6 +120,22 @@ class BatchFilterCompilerTest {
         assertInstanceOf(IsNullBatchMatcher.class, result[0]);
     }
 
+    @Test
+    void binaryLeavesOnOneColumn_foldIntoOneFragment() {
+        FileSchema schema = schema(leaf("id", PhysicalType.INT64), leaf("name", PhysicalType.BYTE_ARRAY));
+        ResolvedPredicate predicate = new ResolvedPredicate.And(List.of(
+                new ResolvedPredicate.LongPredicate(0, Operator.GT, 5L),
+                new ResolvedPredicate.BinaryPredicate(1, Operator.GT_EQ, new byte[]{'a'}, false),
+                new ResolvedPredicate.BinaryInPredicate(1, new byte[][]{{'h', 'i'}, {'b', 'y', 'e'}})));
+
+        ColumnBatchMatcher[] result = compileMatchers(
+                predicate, schema, IntUnaryOperator.identity());
+
+        assertNotNull(result);
+        assertInstanceOf(LongBatchMatcher.class, result[0]);
+        assertInstanceOf(AndBatchMatcher.class, result[1]);
+    }
+
     @Nested
     class IneligibleShapes {
 
@@ -141,25 +157,16 @@ class BatchFilterCompilerTest {
         }
 
         @Test
-        void andWithBinaryChild_returnsNull() {
-            // BinaryPredicate is unsupported. As a child of an otherwise-eligible
+        void andWithFloat16Child_returnsNull() {
+            // Float16Predicate is unsupported. As a child of an otherwise-eligible
             // And, it must poison the whole compile so the query falls back rather
             // than the supported leaves silently running on a partial conjunction.
             FileSchema schema = schema(
                     leaf("id", PhysicalType.INT64),
-                    leaf("name", PhysicalType.BYTE_ARRAY));
+                    leaf("half", PhysicalType.FIXED_LEN_BYTE_ARRAY));
             ResolvedPredicate predicate = new ResolvedPredicate.And(List.of(
                     new ResolvedPredicate.LongPredicate(0, Operator.GT, 5L),
-                    new ResolvedPredicate.BinaryPredicate(1, Operator.EQ,
-                            new byte[]{'h', 'i'}, false)));
-            assertNull(BatchFilterCompiler.tryCompile(predicate, schema, IntUnaryOperator.identity()));
-        }
-
-        @Test
-        void binaryLeaf_returnsNull() {
-            FileSchema schema = schema(leaf("name", PhysicalType.BYTE_ARRAY));
-            ResolvedPredicate predicate = new ResolvedPredicate.BinaryPredicate(0, Operator.EQ,
-                    new byte[]{'h', 'i'}, false);
+                    new ResolvedPredicate.Float16Predicate(1, Operator.LT, 1.5f)));
             assertNull(BatchFilterCompiler.tryCompile(predicate, schema, IntUnaryOperator.identity()));
         }
 
@@ -175,6 +182,20 @@ class BatchFilterCompilerTest {
             FileSchema schema = FileSchema.fromSchemaElements(List.of(root, nest, id));
             ResolvedPredicate predicate = new ResolvedPredicate.LongPredicate(0, Operator.GT, 5L);
             assertNull(BatchFilterCompiler.tryCompile(predicate, schema, IntUnaryOperator.identity()));
+            assertNotNull(BatchFilterCompiler.tryCompile(predicate, schema, IntUnaryOperator.identity(), true));
+        }
+
+        @Test
+        void leafUnderRepeatedGroup_returnsNullEvenWithStructLeaves() {
+            // root -> items (repeated group) -> id (INT64): one slot per element, not per record.
+            SchemaElement root = new SchemaElement("root", null, null, null, 1, null, null, null, null, null);
+            SchemaElement items = new SchemaElement("items", null, null, RepetitionType.REPEATED, 1,
+                    null, null, null, null, null);
+            SchemaElement id = new SchemaElement("id", PhysicalType.INT64, null, RepetitionType.OPTIONAL,
+                    null, null, null, null, null, null);
+            FileSchema schema = FileSchema.fromSchemaElements(List.of(root, items, id));
+            ResolvedPredicate predicate = new ResolvedPredicate.LongPredicate(0, Operator.GT, 5L);
+            assertNull(BatchFilterCompiler.tryCompile(predicate, schema, IntUnaryOperator.identity(), true));
         }
 
         @Test
@@ -237,7 +237,8 @@ class BloomFilterPushDownTest {
                 md.type(), md.encodings(), md.pathInSchema(), md.codec(),
                 md.numValues(), md.totalUncompressedSize(), md.totalCompressedSize(),
                 md.keyValueMetadata(), md.dataPageOffset(), md.dictionaryPageOffset(),
-                md.statistics(), md.geospatialStatistics(), md.bloomFilterOffset(), null);
+                md.statistics(), md.geospatialStatistics(), md.bloomFilterOffset(), null,
+                md.encodingStats());
         ColumnChunk patched = new ColumnChunk(withoutLength, original.offsetIndexOffset(),
                 original.offsetIndexLength(), original.columnIndexOffset(), original.columnIndexLength());
 
@@ -335,7 +336,8 @@ class BloomFilterPushDownTest {
                 md.type(), md.encodings(), md.pathInSchema(), md.codec(),
                 md.numValues(), md.totalUncompressedSize(), md.totalCompressedSize(),
                 md.keyValueMetadata(), md.dataPageOffset(), md.dictionaryPageOffset(),
-                md.statistics(), md.geospatialStatistics(), bloomOffset, null);
+                md.statistics(), md.geospatialStatistics(), bloomOffset, null,
+                md.encodingStats());
         ColumnChunk chunk = new ColumnChunk(withBloom, template.offsetIndexOffset(),
                 template.offsetIndexLength(), template.columnIndexOffset(), template.columnIndexLength());
         return new RowGroup(List.of(chunk), rowGroup.totalByteSize(), rowGroup.numRows());
@@ -7,10 +7,13 @@
  */
 package dev.hardwood.internal.predicate;
 
+import java.nio.charset.StandardCharsets;
 import java.util.BitSet;
 
 import org.junit.jupiter.api.Test;
 
+import dev.hardwood.internal.predicate.matcher.binaries.BinaryGtEqBatchMatcher;
+import dev.hardwood.internal.predicate.matcher.binaries.BinaryLtBatchMatcher;
 import dev.hardwood.internal.predicate.matcher.doubles.DoubleEqBatchMatcher;
 import dev.hardwood.internal.predicate.matcher.doubles.DoubleGtBatchMatcher;
 import dev.hardwood.internal.predicate.matcher.doubles.DoubleGtEqBatchMatcher;
@@ -24,6 +27,7 @@ import dev.hardwood.internal.predicate.matcher.longs.LongLtBatchMatcher;
 import dev.hardwood.internal.predicate.matcher.longs.LongLtEqBatchMatcher;
 import dev.hardwood.internal.predicate.matcher.longs.LongNotEqBatchMatcher;
 import dev.hardwood.internal.reader.BatchExchange;
+import dev.hardwood.internal.reader.BinaryBatchValues;
 
 import static java.util.Arrays.copyOf;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -205,4 +209,46 @@ class ColumnBatchMatcherTest {
         BatchExchange.Batch batch = doubleBatch(vals, null);
         assertArrayEquals(new long[]{bits(1)}, runMatcher(new DoubleLtBatchMatcher(5.0), batch));
     }
+
+    /// A string batch, packed like the drain packs it: null rows are
+    /// zero-length spans.
+    private static BatchExchange.Batch binaryBatch(String[] values, BitSet nulls) {
+        BinaryBatchValues bbv = new BinaryBatchValues(new byte[256], new int[values.length + 1]);
+        for (int i = 0; i < values.length; i++) {
+            byte[] value = nulls != null && nulls.get(i) ? new byte[0] : utf8(values[i]);
+            bbv.appendAt(i, value, 0, value.length);
+        }
+        BatchExchange.Batch batch = new BatchExchange.Batch();
+        batch.values = bbv;
+        batch.validity = toValidity(nulls, values.length);
+        batch.recordCount = values.length;
+        return batch;
+    }
+
+    private static byte[] utf8(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void binaryGtEq_comparesUnsignedAndExcludesNulls() {
+        String[] vals = {"apple", "banana", "b", "", "\u00e9t\u00e9", "banana"};
+        BatchExchange.Batch batch = binaryBatch(vals, nullsAt(5));
+        // "\u00e9" sorts after ASCII as unsigned UTF-8 bytes; the null "banana" is excluded.
+        assertArrayEquals(new long[]{bits(1, 4)},
+                runMatcher(new BinaryGtEqBatchMatcher(utf8("b\0"), false), batch));
+    }
+
+    @Test
+    void binaryLt_signedComparesFixedLenDecimals() {
+        // 2-byte two's complement: -256, -1, 0, 1, 256
+        byte[] bytes = {(byte) 0xFF, 0, (byte) 0xFF, (byte) 0xFF, 0, 0, 0, 1, 1, 0};
+        BinaryBatchValues bbv = new BinaryBatchValues(bytes, new int[]{0, 2, 4, 6, 8, 10});
+        BatchExchange.Batch batch = new BatchExchange.Batch();
+        batch.values = bbv;
+        batch.recordCount = 5;
+        assertArrayEquals(new long[]{bits(0, 1, 2)},
+                runMatcher(new BinaryLtBatchMatcher(new byte[]{0, 1}, true), batch));
+        assertArrayEquals(new long[]{bits(2)},
+                runMatcher(new BinaryLtBatchMatcher(new byte[]{0, 1}, false), batch));
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.predicate;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hardwood.InputFile;
+import dev.hardwood.internal.reader.HardwoodContextImpl;
+import dev.hardwood.metadata.ColumnMetaData;
+import dev.hardwood.metadata.CompressionCodec;
+import dev.hardwood.metadata.Encoding;
+import dev.hardwood.metadata.FieldPath;
+import dev.hardwood.metadata.PageEncodingStats;
+import dev.hardwood.metadata.PageType;
+import dev.hardwood.metadata.PhysicalType;
+import dev.hardwood.metadata.RowGroup;
+import dev.hardwood.reader.FilterPredicate;
+import dev.hardwood.reader.ParquetFileReader;
+import dev.hardwood.reader.RowReader;
+import dev.hardwood.schema.FileSchema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Dictionary row-group pruning against fully dictionary-encoded string columns.
+///
+/// `dictionary_uncompressed.parquet` holds one row group: `id` INT64 `1..5` (plain) and
+/// `category` STRING `A, B, A, C, B` (dictionary). `dict_cross_chunk.parquet` holds two row
+/// groups of `label`: `alpha / bravo / charlie` then `delta / echo / foxtrot`.
+///
+/// The discriminating cases use values inside the statistics min/max range that were never
+/// written, so only the dictionary can prove their absence.
+class DictionaryPushDownTest {
+
+    private static final Path DICTIONARY_FILE = Paths.get("src/test/resources/dictionary_uncompressed.parquet");
+    private static final Path CROSS_CHUNK_FILE = Paths.get("src/test/resources/dict_cross_chunk.parquet");
+
+    @Test
+    void equalityInsideRangeButAbsentIsDroppedOnlyByDictionary() throws Exception {
+        // "AA" sorts within ["A", "C"] but is not a dictionary entry.
+        assertThat(decide(DICTIONARY_FILE, 0, FilterPredicate.eq("category", "AA"), false))
+                .isEqualTo(StatsDecision.MIGHT_MATCH);
+        assertThat(decide(DICTIONARY_FILE, 0, FilterPredicate.eq("category", "AA"), true))
+                .isEqualTo(StatsDecision.CANNOT_MATCH);
+
+        assertThat(decide(DICTIONARY_FILE, 0, FilterPredicate.eq("category", "B"), true))
+                .isEqualTo(StatsDecision.MIGHT_MATCH);
+    }
+
+    @Test
+    void inListIsDroppedOnlyWhenNoMemberIsAnEntry() throws Exception {
+        assertThat(decide(DICTIONARY_FILE, 0, FilterPredicate.inStrings("category", "AA", "BB"), true))
+                .isEqualTo(StatsDecision.CANNOT_MATCH);
+        assertThat(decide(DICTIONARY_FILE, 0, FilterPredicate.inStrings("category", "AA", "C"), true))
+                .isEqualTo(StatsDecision.MIGHT_MATCH);
+    }
+
+    @Test
+    void dictionaryDecidesEachRowGroupIndependently() throws Exception {
+        // "bz" is inside RG0's ["alpha", "charlie"] but absent from its dictionary; RG1's
+        // statistics ["delta", "foxtrot"] already exclude it.
+        FilterPredicate filter = FilterPredicate.eq("label", "bz");
+        assertThat(decide(CROSS_CHUNK_FILE, 0, filter, false)).isEqualTo(StatsDecision.MIGHT_MATCH);
+        assertThat(decide(CROSS_CHUNK_FILE, 0, filter, true)).isEqualTo(StatsDecision.CANNOT_MATCH);
+
+        FilterPredicate echo = FilterPredicate.eq("label", "echo");
+        assertThat(decide(CROSS_CHUNK_FILE, 0, echo, true)).isEqualTo(StatsDecision.CANNOT_MATCH);
+        assertThat(decide(CROSS_CHUNK_FILE, 1, echo, true)).isEqualTo(StatsDecision.MIGHT_MATCH);
+    }
+
+    @Test
+    void orKeepsRowGroupWhenAnyBranchHasAnEntry() throws Exception {
+        FilterPredicate filter = FilterPredicate.or(
+                FilterPredicate.eq("category", "AA"), FilterPredicate.eq("category", "C"));
+        assertThat(decide(DICTIONARY_FILE, 0, filter, true)).isEqualTo(StatsDecision.MIGHT_MATCH);
+    }
+
+    @Test
+    void plainEncodedColumnHasNoDictionary() throws Exception {
+        InputFile inputFile = InputFile.of(DICTIONARY_FILE);
+        try (ParquetFileReader reader = ParquetFileReader.open(inputFile);
+             HardwoodContextImpl context = HardwoodContextImpl.create()) {
+            RowGroup rowGroup = reader.getFileMetaData().rowGroups().getFirst();
+            FileSchema schema = FileSchema.fromSchemaElements(reader.getFileMetaData().schema());
+            RowGroupDictionarySource source = new RowGroupDictionarySource(inputFile, rowGroup, schema, context);
+            assertThat(source.forColumn(0)).isNull();
+            assertThat(source.forColumn(1)).isNotNull();
+            assertThat(source.forColumn(2)).isNull();
+        }
+    }
+
+    @Test
+    void rowReaderSkipsRowGroupsProvenAbsentByDictionary() throws Exception {
+        try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(CROSS_CHUNK_FILE));
+             RowReader rows = reader.buildRowReader().filter(FilterPredicate.eq("label", "bravo")).build()) {
+            int count = 0;
+            while (rows.hasNext()) {
+                rows.next();
+                assertThat(rows.getString("label")).isEqualTo("bravo");
+                count++;
+            }
+            assertThat(count).isEqualTo(33);
+        }
+    }
+
+    // ==================== Eligibility from encodings ====================
+
+    @Test
+    void encodingStatsWithOnlyDictionaryDataPagesAreEligible() {
+        assertThat(RowGroupDictionarySource.isFullyDictionaryEncoded(metaData(
+                List.of(Encoding.PLAIN, Encoding.RLE, Encoding.RLE_DICTIONARY),
+                List.of(stats(PageType.DICTIONARY_PAGE, Encoding.PLAIN, 1),
+                        stats(PageType.DATA_PAGE, Encoding.RLE_DICTIONARY, 4)))))
+                .isTrue();
+    }
+
+    @Test
+    void encodingStatsWithPlainFallbackPageAreNotEligible() {
+        assertThat(RowGroupDictionarySource.isFullyDictionaryEncoded(metaData(
+                List.of(Encoding.PLAIN, Encoding.RLE, Encoding.RLE_DICTIONARY),
+                List.of(stats(PageType.DICTIONARY_PAGE, Encoding.PLAIN, 1),
+                        stats(PageType.DATA_PAGE_V2, Encoding.RLE_DICTIONARY, 3),
+                        stats(PageType.DATA_PAGE_V2, Encoding.PLAIN, 1)))))
+                .isFalse();
+    }
+
+    @Test
+    void legacyPlainDictionaryListIsEligibleWithoutEncodingStats() {
+        assertThat(RowGroupDictionarySource.isFullyDictionaryEncoded(metaData(
+                List.of(Encoding.PLAIN_DICTIONARY, Encoding.RLE, Encoding.BIT_PACKED), null)))
+                .isTrue();
+        assertThat(RowGroupDictionarySource.isFullyDictionaryEncoded(metaData(
+                List.of(Encoding.PLAIN_DICTIONARY, Encoding.PLAIN, Encoding.RLE), null)))
+                .isFalse();
+    }
+
+    @Test
+    void rleDictionaryListIsNotEligibleWithoutEncodingStats() {
+        // The dictionary page is PLAIN under RLE_DICTIONARY, so a fallback page cannot be ruled out.
+        assertThat(RowGroupDictionarySource.isFullyDictionaryEncoded(metaData(
+                List.of(Encoding.PLAIN, Encoding.RLE, Encoding.RLE_DICTIONARY), null)))
+                .isFalse();
+    }
+
+    private static StatsDecision decide(Path file, int rowGroupIndex, FilterPredicate filter,
+            boolean withDictionaries) throws Exception {
+        InputFile inputFile = InputFile.of(file);
+        try (ParquetFileReader reader = ParquetFileReader.open(inputFile);
+             HardwoodContextImpl context = HardwoodContextImpl.create()) {
+            RowGroup rowGroup = reader.getFileMetaData().rowGroups().get(rowGroupIndex);
+            FileSchema schema = FileSchema.fromSchemaElements(reader.getFileMetaData().schema());
+            ResolvedPredicate resolved = FilterPredicateResolver.resolve(filter, schema);
+            DictionarySource dictionaries = withDictionaries
+                    ? new RowGroupDictionarySource(inputFile, rowGroup, schema, context)
+                    : null;
+            return RowGroupFilterEvaluator.decideRowGroup(resolved, rowGroup, null, dictionaries);
+        }
+    }
+
+    private static PageEncodingStats stats(PageType pageType, Encoding encoding, int count) {
+        return new PageEncodingStats(pageType, encoding, count);
+    }
+
+    private static ColumnMetaData metaData(List<Encoding> encodings, List<PageEncodingStats> encodingStats) {
+        return new ColumnMetaData(PhysicalType.BYTE_ARRAY, encodings, FieldPath.of("col"),
+                CompressionCodec.UNCOMPRESSED, 100, 1000, 1000, Map.of(), 200, 4L, null, null, null, null,
+                encodingStats);
+    }
+}
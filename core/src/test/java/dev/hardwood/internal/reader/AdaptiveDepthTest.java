@@ -0,0 +1,74 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveDepthTest {
+
+    private static final long MB = 1024 * 1024;
+
+    @Test
+    void largePagesStayShallow() {
+        AdaptiveDepth depth = new AdaptiveDepth(8, 2, 64, 32 * MB);
+        depth.recordPage(10 * MB, 0);
+        assertThat(depth.depth()).isEqualTo(3);
+
+        // Starvation cannot push past the footprint cap.
+        assertThat(depth.growIfStarved(1)).isFalse();
+        assertThat(depth.depth()).isEqualTo(3);
+
+        depth.recordPage(200 * MB, 1);
+        assertThat(depth.depth()).isEqualTo(2);
+    }
+
+    @Test
+    void tinyPagesGrowOnlyWhenTheDrainStarves() {
+        AdaptiveDepth depth = new AdaptiveDepth(8, 2, 64, 32 * MB);
+        for (int i = 0; i < 10; i++) {
+            depth.recordPage(16 * 1024, 0);
+        }
+        assertThat(depth.depth()).isEqualTo(8);
+
+        int starvations = 0;
+        for (int i = 0; i < 100; i++) {
+            assertThat(depth.growIfStarved(++starvations)).isEqualTo(i < 56);
+        }
+        assertThat(depth.depth()).isEqualTo(64);
+    }
+
+    @Test
+    void grownDepthDecaysBackToInitial() {
+        AdaptiveDepth depth = new AdaptiveDepth(8, 2, 64, 32 * MB);
+        depth.recordPage(16 * 1024, 0);
+        depth.growIfStarved(1);
+        depth.growIfStarved(2);
+        assertThat(depth.depth()).isEqualTo(10);
+
+        for (int i = 0; i < AdaptiveDepth.DECAY_PAGES; i++) {
+            depth.recordPage(16 * 1024, 2);
+        }
+        assertThat(depth.depth()).isEqualTo(9);
+
+        for (int i = 0; i < 10 * AdaptiveDepth.DECAY_PAGES; i++) {
+            depth.recordPage(16 * 1024, 2);
+        }
+        assertThat(depth.depth()).isEqualTo(8);
+    }
+
+    @Test
+    void rejectsInconsistentBounds() {
+        assertThatThrownBy(() -> new AdaptiveDepth(8, 2, 4, 32 * MB))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveDepth(8, 0, 64, 32 * MB))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
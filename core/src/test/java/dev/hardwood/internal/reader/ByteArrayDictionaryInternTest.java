@@ -66,12 +66,12 @@ class ByteArrayDictionaryInternTest {
         // RLE index run: header (4 << 1) | 0 = 8 = "repeat 4 times", value 1 (bit width 1).
         byte[] indexStream = {8, 0x01};
         RleBitPackingHybridDecoder indexDecoder = new RleBitPackingHybridDecoder(indexStream, 1);
-        Page.ByteArrayPage page = (Page.ByteArrayPage) dict.decodePage(indexDecoder, 4, null, null, 0);
+        Page.ByteArrayPage page = (Page.ByteArrayPage) dict.decodePage(indexDecoder, 4, null, null, 0, PageArrayPool.NONE);
 
         assertThat(page.dictIndices()).containsExactly(1, 1, 1, 1);
         assertThat(page.dictionary()).isSameAs(dict);
-        for (byte[] value : page.values()) {
-            assertThat(value).isEqualTo(entry1);
+        for (int i = 0; i < page.size(); i++) {
+            assertThat(page.get(i)).isEqualTo(entry1);
         }
     }
 }
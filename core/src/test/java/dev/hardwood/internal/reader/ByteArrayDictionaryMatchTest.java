@@ -0,0 +1,227 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import dev.hardwood.InputFile;
+import dev.hardwood.internal.predicate.BinaryComparator;
+import dev.hardwood.internal.predicate.ColumnBatchMatcher;
+import dev.hardwood.internal.predicate.matcher.binaries.BinaryEqBatchMatcher;
+import dev.hardwood.internal.predicate.matcher.binaries.BinaryInBatchMatcher;
+import dev.hardwood.internal.predicate.matcher.binaries.BinaryNotEqBatchMatcher;
+import dev.hardwood.reader.FilterPredicate;
+import dev.hardwood.reader.FilterPredicate.Operator;
+import dev.hardwood.reader.ParquetFileReader;
+import dev.hardwood.reader.RowReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/// Tests for predicate evaluation against a [Dictionary.ByteArrayDictionary]:
+/// the bitset of matching entry ids must agree with comparing every entry
+/// directly, including entries the 8-byte prefix cannot tell apart, and the
+/// row and batch matchers that probe it must agree with comparing values.
+class ByteArrayDictionaryMatchTest {
+
+    private static final byte[][] ENTRIES = {
+            bytes(""),
+            bytes("a"),
+            bytes("ab"),
+            { 'a', 'b', 0 },
+            bytes("abcdefgh"),
+            bytes("abcdefghi"),
+            bytes("abcdefgz"),
+            bytes("abcdefghij"),
+            bytes("b"),
+            { (byte) 0xC3, (byte) 0xA9 },
+            bytes("zzzzzzzzzzzz"),
+    };
+
+    @ParameterizedTest
+    @EnumSource(Operator.class)
+    void comparisonMatchesEveryEntryCompared(Operator op) {
+        Dictionary.ByteArrayDictionary dictionary = new Dictionary.ByteArrayDictionary(ENTRIES);
+        for (byte[] probe : new byte[][] { bytes("ab"), bytes("abcdefghi"), bytes("abcdefgh\0"), bytes(""),
+                bytes("m"), { (byte) 0xFF } }) {
+            long[] matches = dictionary.matchingEntries(op, probe, false);
+            for (int i = 0; i < ENTRIES.length; i++) {
+                int cmp = BinaryComparator.compareUnsigned(ENTRIES[i], probe);
+                assertThat(isSet(matches, i)).as("entry %d %s probe", i, op).isEqualTo(holds(op, cmp));
+            }
+        }
+    }
+
+    @Test
+    void signedComparisonOrdersTwosComplement() {
+        // 2-byte big-endian two's complement: -256, -1, 0, 1, 256
+        byte[][] entries = { { (byte) 0xFF, 0 }, { (byte) 0xFF, (byte) 0xFF }, { 0, 0 }, { 0, 1 }, { 1, 0 } };
+        Dictionary.ByteArrayDictionary dictionary = new Dictionary.ByteArrayDictionary(entries);
+
+        long[] negative = dictionary.matchingEntries(Operator.LT, new byte[] { 0, 0 }, true);
+        assertThat(negative[0]).isEqualTo(0b00011L);
+        long[] atLeastOne = dictionary.matchingEntries(Operator.GT_EQ, new byte[] { 0, 1 }, true);
+        assertThat(atLeastOne[0]).isEqualTo(0b11000L);
+    }
+
+    @Test
+    void inMatchesEntriesEqualToACandidate() {
+        Dictionary.ByteArrayDictionary dictionary = new Dictionary.ByteArrayDictionary(ENTRIES);
+        long[] matches = dictionary.matchingEntries(new byte[][] { bytes("ab"), bytes("abcdefghij"), bytes("q"), bytes("") });
+        assertThat(matches[0]).isEqualTo((1L << 0) | (1L << 2) | (1L << 7));
+    }
+
+    /// `dict_cross_chunk.parquet`: two row groups of 100 rows whose `label`
+    /// is `pool[row % 3]` of `{alpha,bravo,charlie}` and then `{delta,echo,foxtrot}`.
+    /// Each chunk's dictionary is evaluated once and its rows probed.
+    @Test
+    void rowFiltersOnDictionaryEncodedStrings() throws Exception {
+        assertThat(countRows(FilterPredicate.eq("label", "bravo"))).isEqualTo(33);
+        assertThat(countRows(FilterPredicate.inStrings("label", "alpha", "echo", "zulu"))).isEqualTo(34 + 34);
+        assertThat(countRows(FilterPredicate.lt("label", "c"))).isEqualTo(34 + 33);
+        assertThat(countRows(FilterPredicate.not(FilterPredicate.eq("label", "delta")))).isEqualTo(200 - 33);
+    }
+
+    /// The drain-side matchers probe the entry bitset for dictionary rows and
+    /// compare the packed bytes of the rest; both must give the same answer.
+    @Test
+    void batchEqAndNotEqAgreeOnDictionaryAndPlainRows() {
+        String[] vals = {"red", "green", "blue", "red", "teal", "green", "red"};
+        String[] dictionary = {"red", "green", "blue"};
+        BatchExchange.Batch plain = binaryBatch(vals, nullsAt(6), null);
+        BatchExchange.Batch encoded = binaryBatch(vals, nullsAt(6), dictionary);
+
+        long[] eq = {bits(0, 3)};
+        assertArrayEquals(eq, runMatcher(new BinaryEqBatchMatcher(bytes("red")), plain));
+        assertArrayEquals(eq, runMatcher(new BinaryEqBatchMatcher(bytes("red")), encoded));
+        // "teal" is not in the dictionary and compares from the packed bytes.
+        long[] notEq = {bits(0, 1, 2, 3, 5)};
+        assertArrayEquals(notEq, runMatcher(new BinaryNotEqBatchMatcher(bytes("teal")), plain));
+        assertArrayEquals(notEq, runMatcher(new BinaryNotEqBatchMatcher(bytes("teal")), encoded));
+    }
+
+    @Test
+    void batchInAcrossWordBoundaryAndDictionaries() {
+        String[] pool = {"alpha", "bravo", "charlie", "delta"};
+        String[] vals = new String[70];
+        for (int i = 0; i < vals.length; i++) {
+            vals[i] = pool[i % pool.length];
+        }
+        BinaryInBatchMatcher matcher = new BinaryInBatchMatcher(new byte[][]{bytes("bravo"), bytes("delta")});
+        long[] expected = new long[2];
+        for (int i = 1; i < vals.length; i += 2) {
+            expected[i >>> 6] |= 1L << i;
+        }
+        assertArrayEquals(expected, runMatcher(matcher, binaryBatch(vals, null, null)));
+        // The same matcher sees two chunk dictionaries with different entry orders.
+        assertArrayEquals(expected, runMatcher(matcher, binaryBatch(vals, null, pool)));
+        assertArrayEquals(expected, runMatcher(matcher,
+                binaryBatch(vals, null, new String[]{"delta", "charlie", "bravo", "alpha"})));
+    }
+
+    private static int countRows(FilterPredicate filter) throws Exception {
+        int count = 0;
+        try (ParquetFileReader reader = ParquetFileReader.open(
+                InputFile.of(Paths.get("src/test/resources/dict_cross_chunk.parquet")));
+             RowReader rows = reader.buildRowReader().filter(filter).build()) {
+            while (rows.hasNext()) {
+                rows.next();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /// A string batch, packed like the drain packs it: null rows are
+    /// zero-length spans. With a `dictionary`, rows whose value is one of its
+    /// entries record that entry's index and the others record `-1`, as for a
+    /// batch mixing dictionary and plain pages.
+    private static BatchExchange.Batch binaryBatch(String[] values, BitSet nulls, String[] dictionary) {
+        BinaryBatchValues bbv = new BinaryBatchValues(new byte[256], new int[values.length + 1]);
+        bbv.internStrings = true;
+        if (dictionary != null) {
+            byte[][] entries = new byte[dictionary.length][];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = bytes(dictionary[i]);
+            }
+            bbv.dictionary = new Dictionary.ByteArrayDictionary(entries);
+            bbv.dictIndices = new int[values.length];
+        }
+        for (int i = 0; i < values.length; i++) {
+            boolean isNull = nulls != null && nulls.get(i);
+            byte[] value = isNull ? new byte[0] : bytes(values[i]);
+            bbv.appendAt(i, value, 0, value.length);
+            if (dictionary != null) {
+                bbv.dictIndices[i] = isNull ? -1 : Arrays.asList(dictionary).indexOf(values[i]);
+            }
+        }
+        BatchExchange.Batch batch = new BatchExchange.Batch();
+        batch.values = bbv;
+        batch.validity = toValidity(nulls, values.length);
+        batch.recordCount = values.length;
+        return batch;
+    }
+
+    private static long[] runMatcher(ColumnBatchMatcher matcher, BatchExchange.Batch batch) {
+        long[] out = new long[(batch.recordCount + 63) >>> 6];
+        matcher.test(batch, out);
+        return out;
+    }
+
+    private static BitSet nullsAt(int... rows) {
+        BitSet b = new BitSet();
+        for (int row : rows) {
+            b.set(row);
+        }
+        return b;
+    }
+
+    private static long[] toValidity(BitSet nulls, int n) {
+        if (nulls == null) {
+            return null;
+        }
+        BitSet validity = new BitSet(n);
+        validity.set(0, n);
+        validity.andNot(nulls);
+        return Arrays.copyOf(validity.toLongArray(), (n + 63) >>> 6);
+    }
+
+    private static long bits(int... rows) {
+        long w = 0L;
+        for (int row : rows) {
+            w |= 1L << row;
+        }
+        return w;
+    }
+
+    private static boolean holds(Operator op, int cmp) {
+        return switch (op) {
+            case EQ -> cmp == 0;
+            case NOT_EQ -> cmp != 0;
+            case LT -> cmp < 0;
+            case LT_EQ -> cmp <= 0;
+            case GT -> cmp > 0;
+            case GT_EQ -> cmp >= 0;
+        };
+    }
+
+    private static boolean isSet(long[] words, int i) {
+        return (words[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
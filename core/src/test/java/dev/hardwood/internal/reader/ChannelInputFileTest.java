@@ -0,0 +1,144 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hardwood.InputFile;
+import dev.hardwood.LocalFileOptions;
+import dev.hardwood.reader.ParquetFileReader;
+import dev.hardwood.reader.RowReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.abort;
+
+/// Tests for [ChannelInputFile], the backend of [InputFile#of(Path, LocalFileOptions)]
+/// with [LocalFileOptions.Access#POSITIONAL_READ].
+class ChannelInputFileTest {
+
+    private static final Path FILE = Path.of("src/test/resources/column_index_pushdown.parquet");
+
+    private static final LocalFileOptions POSITIONAL = LocalFileOptions.builder()
+            .access(LocalFileOptions.Access.POSITIONAL_READ)
+            .build();
+
+    @Test
+    void readsSameRowsAsMemoryMappedFile() throws Exception {
+        assertThat(sumIds(InputFile.of(FILE, POSITIONAL))).isEqualTo(sumIds(InputFile.of(FILE)));
+    }
+
+    @Test
+    void readRangeReturnsExactBytesInDirectBuffer() throws Exception {
+        byte[] expected = Files.readAllBytes(FILE);
+        try (InputFile file = InputFile.of(FILE, POSITIONAL)) {
+            file.open();
+            assertThat(file.length()).isEqualTo(expected.length);
+
+            ByteBuffer range = file.readRange(1000, 5000);
+            assertThat(range.isDirect()).isTrue();
+            assertThat(bytes(range)).isEqualTo(slice(expected, 1000, 5000));
+
+            List<ByteBuffer> ranges = file.readRanges(List.of(
+                    new InputFile.Range(expected.length - 8, 8),
+                    new InputFile.Range(0, 4)));
+            assertThat(bytes(ranges.get(0))).isEqualTo(slice(expected, expected.length - 8, 8));
+            assertThat(bytes(ranges.get(1))).isEqualTo(slice(expected, 0, 4));
+
+            assertThatThrownBy(() -> file.readRange(expected.length - 4, 8))
+                    .isInstanceOf(IndexOutOfBoundsException.class)
+                    .hasMessageContaining("column_index_pushdown.parquet");
+        }
+    }
+
+    @Test
+    void directIoReadsUnalignedRanges() throws Exception {
+        byte[] expected = Files.readAllBytes(FILE);
+        LocalFileOptions options = LocalFileOptions.builder()
+                .access(LocalFileOptions.Access.POSITIONAL_READ)
+                .directIo(true)
+                .build();
+        try (InputFile file = InputFile.of(FILE, options)) {
+            try {
+                file.open();
+            }
+            catch (IOException | UnsupportedOperationException e) {
+                abort("Direct I/O not supported here: " + e);
+            }
+            assertThat(bytes(file.readRange(3, 10_000))).isEqualTo(slice(expected, 3, 10_000));
+            // Tail read whose aligned region extends past EOF.
+            assertThat(bytes(file.readRange(expected.length - 7, 7)))
+                    .isEqualTo(slice(expected, expected.length - 7, 7));
+        }
+    }
+
+    @Test
+    void interruptedReadLeavesFileUsableForOtherReaders() throws Exception {
+        byte[] expected = Files.readAllBytes(FILE);
+        try (InputFile file = InputFile.of(FILE, POSITIONAL)) {
+            file.open();
+            CompletableFuture<Throwable> interrupted = CompletableFuture.supplyAsync(() -> {
+                Thread.currentThread().interrupt();
+                try {
+                    file.readRange(0, 100);
+                    return null;
+                }
+                catch (IOException e) {
+                    return e;
+                }
+                finally {
+                    Thread.interrupted();
+                }
+            });
+            assertThat(interrupted.get(5, TimeUnit.SECONDS)).isInstanceOf(ClosedByInterruptException.class);
+
+            // The interrupt closed the channel; the file reopens it for everyone else.
+            assertThat(bytes(file.readRange(1000, 5000))).isEqualTo(slice(expected, 1000, 5000));
+        }
+    }
+
+    @Test
+    void directIoRequiresPositionalReads() {
+        assertThatThrownBy(() -> LocalFileOptions.builder().directIo(true).build())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static long sumIds(InputFile file) throws Exception {
+        long sum = 0;
+        try (ParquetFileReader reader = ParquetFileReader.open(file);
+                RowReader rows = reader.rowReader()) {
+            while (rows.hasNext()) {
+                rows.next();
+                sum += rows.getLong("id");
+            }
+        }
+        return sum;
+    }
+
+    private static byte[] slice(byte[] data, int offset, int length) {
+        byte[] out = new byte[length];
+        System.arraycopy(data, offset, out, 0, length);
+        return out;
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        ByteBuffer dup = buffer.duplicate();
+        byte[] out = new byte[dup.remaining()];
+        dup.get(out);
+        return out;
+    }
+}
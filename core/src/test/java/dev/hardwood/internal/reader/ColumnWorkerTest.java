@@ -394,6 +394,69 @@ class ColumnWorkerTest {
         }
     }
 
+    /// One slow page must not deepen the pipeline: while it decodes, every later
+    /// page finishes and the drain keeps parking for the slow one with the
+    /// retriever throttled. Those parks are not starvation — more depth would
+    /// only queue more finished pages behind the same slow one.
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void slowPageDoesNotGrowTheDepth() throws Exception {
+        Path manyPages = Path.of("src/test/resources/misaligned_pages.parquet");
+        try (HardwoodContextImpl context = HardwoodContextImpl.create();
+             ParquetFileReader reader = ParquetFileReader.open(InputFile.of(manyPages))) {
+
+            FileSchema schema = reader.getFileSchema();
+            long expectedRows = reader.getFileMetaData().rowGroups().stream()
+                    .mapToLong(rg -> rg.numRows()).sum();
+            RowGroupIterator iterator = createIterator(manyPages, schema, context);
+            int wideIndex = schema.getColumn("wide").columnIndex();
+            ColumnSchema column = schema.getColumn(wideIndex);
+            int batchCapacity = 64;
+
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger decodesSubmitted = new AtomicInteger();
+            Executor slowFirstPage = command -> {
+                if (decodesSubmitted.incrementAndGet() > 1) {
+                    context.executor().execute(command);
+                    return;
+                }
+                Thread.ofVirtual().start(() -> {
+                    try {
+                        release.await();
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    command.run();
+                });
+            };
+
+            BatchExchange<BatchExchange.Batch> exchange = BatchExchange.recycling(
+                    column.name(), () -> {
+                        BatchExchange.Batch b = new BatchExchange.Batch();
+                        b.values = BatchExchange.allocateArray(column, batchCapacity);
+                        return b;
+                    });
+            FlatColumnWorker worker = new FlatColumnWorker(
+                    new PageSource(iterator, wideIndex), exchange, column, batchCapacity,
+                    context.decompressorFactory(), slowFirstPage, 0, null);
+            worker.start();
+
+            // Give the drain time to park behind the slow page after each later completion.
+            Thread.sleep(300);
+            assertThat(decodesSubmitted.get())
+                    .as("the retriever should stay at its initial depth")
+                    .isEqualTo(ColumnWorker.INITIAL_INFLIGHT_PAGES);
+
+            release.countDown();
+            long totalRows = consumeAllBatches(exchange);
+            worker.close();
+
+            assertThat(totalRows).isEqualTo(expectedRows);
+        }
+    }
+
     /// Regression test for #300. When the exchange is stopped during the
     /// publish/take handshake, `publishCurrentBatch` must set `done = true`
     /// before returning — otherwise the outer `assemblePage` loop continues
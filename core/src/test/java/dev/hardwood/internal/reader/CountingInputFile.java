@@ -9,6 +9,7 @@ package dev.hardwood.internal.reader;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -16,12 +17,15 @@ import dev.hardwood.InputFile;
 
 /// An [InputFile] wrapper that delegates to another `InputFile` and counts both the number of
 /// [#readRange] calls and the total bytes read. Useful in tests that need to assert on I/O patterns
-/// (e.g. verifying coalesced reads, or that a single read served a request).
+/// (e.g. verifying coalesced reads, or that a single read served a request). Each range of a
+/// [#readRanges] call counts as one read; the vectored calls themselves are counted separately.
 public class CountingInputFile implements InputFile {
 
     private final InputFile delegate;
     private final AtomicInteger readRangeCount = new AtomicInteger();
     private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicInteger readRangesCount = new AtomicInteger();
+    private final AtomicInteger maxRangesPerCall = new AtomicInteger();
 
     public CountingInputFile(InputFile delegate) {
         this.delegate = delegate;
@@ -40,6 +44,16 @@ public class CountingInputFile implements InputFile {
         return bytesRead.get();
     }
 
+    /// Number of [#readRanges] calls.
+    public int readRangesCount() {
+        return readRangesCount.get();
+    }
+
+    /// Largest number of ranges submitted in a single [#readRanges] call.
+    public int maxRangesPerCall() {
+        return maxRangesPerCall.get();
+    }
+
     @Override
     public void open() throws IOException {
         delegate.open();
@@ -52,6 +66,17 @@ public class CountingInputFile implements InputFile {
         return delegate.readRange(offset, length);
     }
 
+    @Override
+    public List<ByteBuffer> readRanges(List<Range> ranges) throws IOException {
+        readRangesCount.incrementAndGet();
+        maxRangesPerCall.accumulateAndGet(ranges.size(), Math::max);
+        readRangeCount.addAndGet(ranges.size());
+        for (Range range : ranges) {
+            bytesRead.addAndGet(range.length());
+        }
+        return delegate.readRanges(ranges);
+    }
+
     @Override
     public long length() throws IOException {
         return delegate.length();
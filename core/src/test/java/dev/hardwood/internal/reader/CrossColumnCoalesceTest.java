@@ -24,7 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 /// Adjacent column chunks within a row group are typically stored
 /// back-to-back on disk, so a single ranged GET can cover many columns
 /// at once. The pipeline coalesces such reads into [SharedRegion]s in
-/// `RowGroupIterator.coalesceAcrossColumns`. These tests assert the
+/// [RowGroupIoPlanner]. These tests assert the
 /// observable effect: the underlying `readRange` count drops compared to
 /// what a per-column-per-chunk fetch path would produce.
 class CrossColumnCoalesceTest {
@@ -84,13 +84,13 @@ class CrossColumnCoalesceTest {
 
     @Test
     void filteredColumnIsNotOverCoalesced() throws Exception {
-        // With a selective filter, the IndexedFetchPlan for `id` has
-        // page drops → multiple page groups → isCoalesceSafe() == false.
-        // That keeps `id` out of the shared region; the filtered read
-        // must transfer strictly fewer bytes than the unfiltered one.
-        // (If page-dropped columns were swept into the shared region,
-        // the dropped bytes would be re-fetched and bytes-read would
-        // meet or exceed the unfiltered total.)
+        // With a selective filter, the IndexedFetchPlan for `id` drops
+        // most of its pages. The planner bridges dropped bytes only up to
+        // the cross-column gap and never fetches a region's bytes twice,
+        // so the filtered read must transfer strictly fewer bytes than
+        // the unfiltered one. (If dropped stretches were swept into the
+        // shared region wholesale, or page groups re-fetched per column,
+        // bytes-read would meet or exceed the unfiltered total.)
         FilterPredicate selective = FilterPredicate.lt("id", 1000L);
 
         long filteredBytes = readBytesWith(INDEXED_FILE, selective);
@@ -101,6 +101,29 @@ class CrossColumnCoalesceTest {
                 .isLessThan(unfilteredBytes);
     }
 
+    @Test
+    void firstChunksOfAllColumnsAreSubmittedInOneVectoredRead() throws Exception {
+        // The selective filter drops a stretch of `id` wider than the
+        // cross-column gap, so `id`'s first page group stays a read of its own
+        // next to the region covering the other columns. Both go out in one
+        // readRanges call.
+        CountingInputFile counter = new CountingInputFile(InputFile.of(INDEXED_FILE));
+        counter.open();
+        try (ParquetFileReader reader = ParquetFileReader.open(counter);
+                RowReader rows = reader.buildRowReader()
+                        .projection(ColumnProjection.columns("id", "value", "category"))
+                        .filter(FilterPredicate.lt("id", 1000L))
+                        .build()) {
+            while (rows.hasNext()) {
+                rows.next();
+            }
+        }
+        assertThat(counter.readRangesCount()).isGreaterThanOrEqualTo(1);
+        assertThat(counter.maxRangesPerCall())
+                .as("per-column first reads should be batched into one vectored call")
+                .isGreaterThanOrEqualTo(2);
+    }
+
     private static long readBytesWith(Path file, FilterPredicate filter) throws Exception {
         CountingInputFile counter = new CountingInputFile(InputFile.of(file));
         counter.open();
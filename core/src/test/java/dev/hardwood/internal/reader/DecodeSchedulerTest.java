@@ -0,0 +1,153 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hardwood.DecodeQueueStats;
+import dev.hardwood.HardwoodContext;
+import dev.hardwood.InputFile;
+import dev.hardwood.reader.DecodePriority;
+import dev.hardwood.reader.ParquetFileReader;
+import dev.hardwood.reader.ReaderConfig;
+import dev.hardwood.reader.RowReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// Tests for [DecodeScheduler] and the `hardwood.decode-priority` reader option.
+///
+/// The scheduler tests hold a single-thread pool behind a gate while tasks queue up, then
+/// record the order in which the dispatch jobs run them.
+class DecodeSchedulerTest {
+
+    private static final Path FILE = Paths.get("src/test/resources/misaligned_pages.parquet");
+
+    @Test
+    void busyClassesShareThePoolByWeight() throws Exception {
+        List<String> order = runGated((scheduler, log) -> {
+            DecodeScheduler.Lane low = scheduler.newLane(DecodePriority.LOW);
+            DecodeScheduler.Lane high = scheduler.newLane(DecodePriority.HIGH);
+            for (int i = 0; i < 40; i++) {
+                low.execute(() -> log.add("low"));
+                high.execute(() -> log.add("high"));
+            }
+        });
+
+        // HIGH weighs 16, LOW 1: each LOW turn is followed by sixteen HIGH turns.
+        assertThat(order).hasSize(80);
+        assertThat(Collections.frequency(order.subList(0, 34), "low")).isEqualTo(2);
+        // LOW is slowed but not starved: it still runs while HIGH has work queued.
+        assertThat(order.indexOf("low")).isLessThan(order.lastIndexOf("high"));
+    }
+
+    @Test
+    void lanesOfOneClassTakeTurns() throws Exception {
+        List<String> order = runGated((scheduler, log) -> {
+            DecodeScheduler.Lane export = scheduler.newLane(DecodePriority.NORMAL);
+            DecodeScheduler.Lane lookup = scheduler.newLane(DecodePriority.NORMAL);
+            for (int i = 0; i < 4; i++) {
+                export.execute(() -> log.add("export"));
+            }
+            lookup.execute(() -> log.add("lookup"));
+        });
+
+        // The lookup queued behind four export tasks but runs second, not fifth.
+        assertThat(order).containsExactly("export", "lookup", "export", "export", "export");
+    }
+
+    @Test
+    void statsRecordQueueWaitPerClass() throws Exception {
+        DecodeScheduler[] holder = new DecodeScheduler[1];
+        runGated((scheduler, log) -> {
+            holder[0] = scheduler;
+            DecodeScheduler.Lane low = scheduler.newLane(DecodePriority.LOW);
+            low.execute(() -> log.add("low"));
+            low.execute(() -> log.add("low"));
+            Thread.sleep(20);
+        });
+
+        DecodeQueueStats low = holder[0].stats(DecodePriority.LOW);
+        assertThat(low.tasks()).isEqualTo(2);
+        assertThat(low.maxWaitNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(low.meanWaitNanos()).isPositive();
+        assertThat(holder[0].stats(DecodePriority.HIGH).tasks()).isZero();
+    }
+
+    // ==================== Reader option ====================
+
+    @Test
+    void readerDecodesInItsConfiguredClass() throws Exception {
+        ReaderConfig config = ReaderConfig.builder().option("hardwood.decode-priority", "Low").build();
+        try (HardwoodContext context = HardwoodContext.create(2)) {
+            int count = 0;
+            try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(FILE), context, config);
+                 RowReader rows = reader.rowReader()) {
+                while (rows.hasNext()) {
+                    rows.next();
+                    count++;
+                }
+            }
+            assertThat(count).isEqualTo(10_000);
+            assertThat(context.decodeQueueStats(DecodePriority.LOW).tasks()).isPositive();
+            assertThat(context.decodeQueueStats(DecodePriority.NORMAL).tasks()).isZero();
+        }
+    }
+
+    @Test
+    void invalidPriorityIsRejected() {
+        ReaderConfig config = ReaderConfig.builder().option("hardwood.decode-priority", "urgent").build();
+        try (HardwoodContext context = HardwoodContext.create(1)) {
+            assertThatThrownBy(() -> ParquetFileReader.open(InputFile.of(FILE), context, config))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("hardwood.decode-priority")
+                    .hasMessageContaining("urgent");
+        }
+    }
+
+    private interface Submitter {
+        void submit(DecodeScheduler scheduler, List<String> log) throws Exception;
+    }
+
+    /// Runs `submitter` while the scheduler's only pool thread is held, then
+    /// releases it and returns the order the tasks ran in.
+    private static List<String> runGated(Submitter submitter) throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch gate = new CountDownLatch(1);
+            pool.execute(() -> {
+                try {
+                    gate.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            DecodeScheduler scheduler = new DecodeScheduler(pool);
+            List<String> log = Collections.synchronizedList(new ArrayList<>());
+            submitter.submit(scheduler, log);
+            gate.countDown();
+            pool.shutdown();
+            assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+            return log;
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+}
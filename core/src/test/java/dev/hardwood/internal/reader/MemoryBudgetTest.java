@@ -0,0 +1,220 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hardwood.HardwoodContext;
+import dev.hardwood.InputFile;
+import dev.hardwood.MemoryBudgetUsage;
+import dev.hardwood.metadata.ColumnChunk;
+import dev.hardwood.metadata.RowGroup;
+import dev.hardwood.reader.ColumnReader;
+import dev.hardwood.reader.ParquetFileReader;
+import dev.hardwood.reader.RowReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// Tests for the context-level [MemoryBudget], the [FetchCharge] of fetched chunks,
+/// and the admission of pages in the column pipelines.
+///
+/// `misaligned_pages.parquet` holds 10,000 rows over ~200 pages of `wide` (each value
+/// prefixed `row=%08d-`) and 10 pages of `narrow`, so a small budget throttles the
+/// retrievers many times over one read.
+class MemoryBudgetTest {
+
+    private static final Path MANY_PAGES_FILE = Paths.get("src/test/resources/misaligned_pages.parquet");
+    private static final int TOTAL_ROWS = 10_000;
+
+    @Test
+    void rejectsNonPositiveBudget() {
+        assertThatThrownBy(() -> new MemoryBudget(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("positive");
+    }
+
+    @Test
+    void tryAcquireAdmitsWithinBudgetOrWhenHoldingNothing() {
+        MemoryBudget budget = new MemoryBudget(100);
+        assertThat(budget.tryAcquire(60, 0)).isTrue();
+        assertThat(budget.tryAcquire(60, 60)).isFalse();
+        // A caller holding nothing always gets one page in, even past the budget.
+        assertThat(budget.tryAcquire(60, 0)).isTrue();
+        assertThat(budget.usedBytes()).isEqualTo(120);
+
+        budget.release(120);
+        assertThat(budget.usage()).isEqualTo(new MemoryBudgetUsage(100, 0, 120, 0));
+    }
+
+    @Test
+    void acquireWaitsForRelease() throws Exception {
+        MemoryBudget budget = new MemoryBudget(100);
+        budget.reserve(80);
+
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return budget.acquire(50, () -> 10, () -> false);
+            }
+            catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+        assertThat(waiter).isNotDone();
+
+        budget.release(80);
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(budget.usedBytes()).isEqualTo(50);
+        assertThat(budget.usage().throttledAdmissions()).isEqualTo(1);
+    }
+
+    @Test
+    void acquireReturnsFalseWhenCancelled() throws Exception {
+        MemoryBudget budget = new MemoryBudget(100);
+        budget.reserve(100);
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return budget.acquire(50, () -> 10, cancelled::get);
+            }
+            catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        cancelled.set(true);
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isFalse();
+        assertThat(budget.usedBytes()).isEqualTo(100);
+    }
+
+    // ==================== Fetch charges ====================
+
+    @Test
+    void readsAheadOfDemandMustFitWhileDemandReadsAreAlwaysCharged() {
+        MemoryBudget budget = new MemoryBudget(100);
+        FetchCharge charge = new FetchCharge(budget);
+        assertThat(charge.admit(80, true)).isTrue();
+        assertThat(charge.admit(40, true)).isFalse();
+        assertThat(charge.admit(40, false)).isTrue();
+        assertThat(budget.usedBytes()).isEqualTo(120);
+
+        charge.refund(40);
+        assertThat(charge.chargedBytes()).isEqualTo(80);
+        charge.releaseAll();
+        assertThat(budget.usedBytes()).isZero();
+
+        // After eviction a late pre-fetch is refused and a demand read goes uncharged.
+        assertThat(charge.admit(10, true)).isFalse();
+        assertThat(charge.admit(10, false)).isTrue();
+        assertThat(budget.usedBytes()).isZero();
+    }
+
+    @Test
+    void vectoredReadSkipsChunksThatDoNotFitAndDemandReadsThem() {
+        MemoryBudget budget = new MemoryBudget(1500);
+        FetchCharge charge = new FetchCharge(budget);
+        CountingInputFile file = new CountingInputFile(ByteBuffer.allocate(4096));
+        ChunkHandle first = new ChunkHandle(file, 0, 1000, "first", charge);
+        ChunkHandle second = new ChunkHandle(file, 2000, 1000, "second", charge);
+
+        ChunkHandle.fetchAll(file, List.of(first, second), "test");
+        assertThat(file.bytesRead()).isEqualTo(1000);
+        assertThat(budget.usedBytes()).isEqualTo(1000);
+
+        assertThat(second.ensureFetched().remaining()).isEqualTo(1000);
+        assertThat(file.bytesRead()).isEqualTo(2000);
+        assertThat(budget.usedBytes()).isEqualTo(2000);
+
+        charge.releaseAll();
+        assertThat(budget.usedBytes()).isZero();
+    }
+
+    @Test
+    void fetchedChunksAreChargedUntilTheirRowGroupIsEvicted() throws Exception {
+        try (HardwoodContext context = HardwoodContext.create(2)) {
+            long firstRowGroupBytes = 0;
+            try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(MANY_PAGES_FILE), context);
+                 RowReader rows = reader.rowReader()) {
+                RowGroup rowGroup = reader.getFileMetaData().rowGroups().get(0);
+                for (ColumnChunk column : rowGroup.columns()) {
+                    firstRowGroupBytes += column.metaData().totalCompressedSize();
+                }
+                while (rows.hasNext()) {
+                    rows.next();
+                }
+            }
+            MemoryBudgetUsage usage = context.memoryUsage();
+            assertThat(usage.peakBytes()).isGreaterThanOrEqualTo(firstRowGroupBytes);
+            assertThat(usage.usedBytes()).isZero();
+        }
+    }
+
+    // ==================== Pipeline admission ====================
+
+    @Test
+    void rowReaderCompletesUnderSmallBudgetAndReturnsEveryByte() throws Exception {
+        try (HardwoodContext context = HardwoodContext.create(2, 16 * 1024)) {
+            int count = 0;
+            try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(MANY_PAGES_FILE), context);
+                 RowReader rows = reader.rowReader()) {
+                while (rows.hasNext()) {
+                    rows.next();
+                    String prefix = new String(rows.getBinary("wide"), 0, 13, StandardCharsets.UTF_8);
+                    assertThat(prefix).isEqualTo(String.format("row=%08d-", rows.getInt("narrow")));
+                    count++;
+                }
+                assertThat(context.memoryUsage().usedBytes()).isPositive();
+            }
+            assertThat(count).isEqualTo(TOTAL_ROWS);
+
+            MemoryBudgetUsage usage = context.memoryUsage();
+            assertThat(usage.budgetBytes()).isEqualTo(16 * 1024);
+            assertThat(usage.throttledAdmissions()).isPositive();
+            assertThat(usage.usedBytes()).isZero();
+        }
+    }
+
+    @Test
+    void columnReaderReleasesBudgetOnClose() throws Exception {
+        try (HardwoodContext context = HardwoodContext.create(2, 16 * 1024)) {
+            try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(MANY_PAGES_FILE), context);
+                 ColumnReader wide = reader.columnReader("wide")) {
+                // Stop after the first batch: the pages still in flight must be returned by close().
+                assertThat(wide.nextBatch()).isTrue();
+            }
+            assertThat(context.memoryUsage().usedBytes()).isZero();
+        }
+    }
+
+    @Test
+    void unboundedBudgetTracksUsageWithoutThrottling() throws Exception {
+        try (HardwoodContext context = HardwoodContext.create(2)) {
+            try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(MANY_PAGES_FILE), context);
+                 RowReader rows = reader.rowReader()) {
+                while (rows.hasNext()) {
+                    rows.next();
+                }
+            }
+            MemoryBudgetUsage usage = context.memoryUsage();
+            assertThat(usage.budgetBytes()).isEqualTo(MemoryBudget.UNBOUNDED);
+            assertThat(usage.peakBytes()).isPositive();
+            assertThat(usage.throttledAdmissions()).isZero();
+            assertThat(usage.usedBytes()).isZero();
+        }
+    }
+}
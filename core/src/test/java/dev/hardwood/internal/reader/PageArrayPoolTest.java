@@ -0,0 +1,70 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Released page arrays back later pages of the same value count, and only
+/// those.
+class PageArrayPoolTest {
+
+    @Test
+    void releasedArraysAreReusedForPagesOfTheSameSize() {
+        PageArrayPool pool = new PageArrayPool(2);
+        long[] values = pool.longs(4, false);
+        int[] defLevels = pool.ints(4, false);
+        pool.release(new Page.LongPage(values, defLevels, null, 1, 4));
+
+        assertThat(pool.longs(4, false)).isSameAs(values);
+        assertThat(pool.ints(4, false)).isSameAs(defLevels);
+        // The free list is now empty again.
+        assertThat(pool.longs(4, false)).isNotSameAs(values);
+    }
+
+    @Test
+    void arraysOfAnotherLengthAreNotReused() {
+        PageArrayPool pool = new PageArrayPool(2);
+        int[] values = pool.ints(4, false);
+        pool.release(new Page.IntPage(values, null, null, 0, 4));
+
+        int[] shorter = pool.ints(3, false);
+        assertThat(shorter).hasSize(3).isNotSameAs(values);
+        assertThat(pool.ints(4, false)).isSameAs(values);
+    }
+
+    @Test
+    void clearZeroesReusedArrays() {
+        PageArrayPool pool = new PageArrayPool(1);
+        double[] values = { 1.0, 2.0, 3.0 };
+        pool.release(new Page.DoublePage(values, null, null, 0, 3));
+
+        assertThat(pool.doubles(3, true)).isSameAs(values).containsOnly(0.0);
+    }
+
+    @Test
+    void fullPoolEvictsOldestArray() {
+        PageArrayPool pool = new PageArrayPool(1);
+        float[] first = new float[2];
+        float[] second = new float[2];
+        pool.release(new Page.FloatPage(first, null, null, 0, 2));
+        pool.release(new Page.FloatPage(second, null, null, 0, 2));
+
+        assertThat(pool.floats(2, false)).isSameAs(second);
+        assertThat(pool.floats(2, false)).isNotSameAs(first);
+    }
+
+    @Test
+    void noneNeverReuses() {
+        boolean[] values = new boolean[2];
+        PageArrayPool.NONE.release(new Page.BooleanPage(values, null, null, 0, 2));
+
+        assertThat(PageArrayPool.NONE.booleans(2, false)).isNotSameAs(values);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import dev.hardwood.InputFile;
+import dev.hardwood.internal.writer.ByteBufferOutputFile;
+import dev.hardwood.metadata.PhysicalType;
+import dev.hardwood.metadata.RepetitionType;
+import dev.hardwood.metadata.RowGroup;
+import dev.hardwood.reader.ParquetFileReader;
+import dev.hardwood.schema.ColumnSchema;
+import dev.hardwood.schema.FileSchema;
+import dev.hardwood.writer.ParquetFileWriter;
+import dev.hardwood.writer.WriterConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Tests for [PageDecoder#decodePage(ByteBuffer, Dictionary, PageRowMask)],
+/// which decodes just the rows a mask keeps of a flat page by skipping the
+/// values in between: the result must hold exactly those rows of a full
+/// decode, for required and optional columns, PLAIN and dictionary pages.
+class PageDecoderMaskedTest {
+
+    private static final int ROWS = 3_000;
+
+    @ParameterizedTest(name = "dictionary={0}")
+    @ValueSource(booleans = { true, false })
+    void maskedDecodeKeepsExactlyTheMaskedRows(boolean dictionary) throws Exception {
+        ByteBuffer file = writeFile(dictionary);
+        InputFile inputFile = InputFile.of(file);
+        inputFile.open();
+        HardwoodContextImpl context = HardwoodContextImpl.create();
+        int pagesChecked = 0;
+        try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(file))) {
+            FileSchema schema = reader.getFileSchema();
+            RowGroup rowGroup = reader.getFileMetaData().rowGroups().get(0);
+            for (int c = 0; c < schema.getColumnCount(); c++) {
+                ColumnSchema column = schema.getColumn(c);
+                SequentialFetchPlan plan = SequentialFetchPlan.build(
+                        inputFile, column, rowGroup.columns().get(c), context, 0, inputFile.name(), 0);
+                Iterator<PageInfo> pages = plan.pages();
+                while (pages.hasNext()) {
+                    PageInfo pageInfo = pages.next();
+                    PageDecoder decoder = new PageDecoder(pageInfo.columnMetaData(), column,
+                            context.decompressorFactory(), true, PageArrayPool.NONE, true, false);
+                    Page full = decoder.decodePage(pageInfo.pageData(), pageInfo.dictionary());
+                    for (PageRowMask mask : masksFor(full.size())) {
+                        Page masked = decoder.decodePage(pageInfo.pageData(), pageInfo.dictionary(), mask);
+                        assertMaskedRows(column.name(), full, masked, mask);
+                    }
+                    pagesChecked++;
+                }
+            }
+        }
+        finally {
+            inputFile.close();
+            context.close();
+        }
+        assertThat(pagesChecked).isGreaterThan(3);
+    }
+
+    private static void assertMaskedRows(String column, Page full, Page masked, PageRowMask mask) {
+        assertThat(masked.size()).as(column).isEqualTo(mask.totalRecords());
+        Page.IntPage fullInts = (Page.IntPage) full;
+        Page.IntPage maskedInts = (Page.IntPage) masked;
+        int m = 0;
+        for (int i = 0; i < mask.intervalCount(); i++) {
+            for (int row = mask.start(i); row < mask.end(i); row++, m++) {
+                assertThat(masked.isNull(m)).as("%s row %d", column, row).isEqualTo(full.isNull(row));
+                if (!full.isNull(row)) {
+                    assertThat(maskedInts.get(m)).as("%s row %d", column, row).isEqualTo(fullInts.get(row));
+                }
+            }
+        }
+    }
+
+    /// A leading run, a single row, a run crossing a 64-row word, the tail,
+    /// and a scattered mask of every fifth row.
+    private static PageRowMask[] masksFor(int size) {
+        if (size < 8) {
+            return new PageRowMask[] { PageRowMask.of(new int[] { 0, 1 }) };
+        }
+        int[] scattered = new int[2 * ((size + 4) / 5)];
+        for (int i = 0, row = 0; row < size; i += 2, row += 5) {
+            scattered[i] = row;
+            scattered[i + 1] = row + 1;
+        }
+        return new PageRowMask[] {
+                PageRowMask.of(new int[] { 0, 3 }),
+                PageRowMask.of(new int[] { 1, 2, 4, Math.min(size - 2, 130), size - 1, size }),
+                PageRowMask.of(new int[] { size / 2, size }),
+                PageRowMask.of(scattered)
+        };
+    }
+
+    private static ByteBuffer writeFile(boolean dictionary) throws Exception {
+        int[] grouped = new int[ROWS];
+        int[] optional = new int[ROWS];
+        boolean[] nulls = new boolean[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            grouped[i] = (i % 11) * 100;
+            optional[i] = i % 9;
+            nulls[i] = i % 4 == 0 || (i / 100) % 3 == 0;
+        }
+        FileSchema schema = FileSchema.builder("schema")
+                .addColumn("grouped", PhysicalType.INT32, RepetitionType.REQUIRED)
+                .addColumn("optional", PhysicalType.INT32, RepetitionType.OPTIONAL)
+                .build();
+        WriterConfig config = WriterConfig.builder()
+                .pageTargetBytes(1024)
+                .enableDictionary(dictionary)
+                .build();
+        ByteBufferOutputFile out = new ByteBufferOutputFile();
+        try (ParquetFileWriter writer = ParquetFileWriter.create(out, schema, config)) {
+            writer.writeBatch(batch -> batch
+                    .ints(0, grouped)
+                    .ints(1, optional, nulls));
+        }
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import dev.hardwood.InputFile;
+import dev.hardwood.internal.metadata.PageHeader;
+import dev.hardwood.internal.thrift.PageHeaderReader;
+import dev.hardwood.internal.thrift.PageHeaderWriter;
+import dev.hardwood.internal.thrift.ThriftCompactReader;
+import dev.hardwood.internal.thrift.ThriftCompactWriter;
+import dev.hardwood.internal.writer.ByteBufferOutputFile;
+import dev.hardwood.metadata.CompressionCodec;
+import dev.hardwood.metadata.Encoding;
+import dev.hardwood.metadata.PhysicalType;
+import dev.hardwood.metadata.RepetitionType;
+import dev.hardwood.metadata.RowGroup;
+import dev.hardwood.reader.ParquetFileReader;
+import dev.hardwood.schema.ColumnSchema;
+import dev.hardwood.schema.FileSchema;
+import dev.hardwood.writer.ParquetFileWriter;
+import dev.hardwood.writer.WriterConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// Tests that [PageDecoder] decodes an uncompressed page in place when it is a
+/// slice of a larger heap buffer: it reads at the slice's array offset and
+/// never past the page's end, whatever follows it in the backing array.
+class PageDecoderRegionTest {
+
+    private static final int ROWS = 2_000;
+
+    @ParameterizedTest(name = "dictionary={0}")
+    @ValueSource(booleans = { true, false })
+    void decodesPageSlicedFromTheMiddleOfALargerBuffer(boolean dictionary) throws Exception {
+        int pagesChecked = 0;
+        try (Pages pages = new Pages(dictionary)) {
+            for (int c = 0; c < pages.schema.getColumnCount(); c++) {
+                Iterator<PageInfo> it = pages.plan(c).pages();
+                while (it.hasNext()) {
+                    PageInfo pageInfo = it.next();
+                    PageDecoder decoder = pages.decoder(pageInfo, c);
+                    byte[] page = bytesOf(pageInfo.pageData());
+
+                    Page exact = decoder.decodePage(ByteBuffer.wrap(page), pageInfo.dictionary());
+                    Page sliced = decoder.decodePage(embed(page, page.length), pageInfo.dictionary());
+
+                    assertSameValues(pages.schema.getColumn(c).name(), exact, sliced);
+                    pagesChecked++;
+                }
+            }
+        }
+        assertThat(pagesChecked).isGreaterThan(3);
+    }
+
+    @Test
+    void valuesPastThePageEndAreNotRead() throws Exception {
+        try (Pages pages = new Pages(false)) {
+            PageInfo pageInfo = pages.plan(0).pages().next();
+            byte[] page = bytesOf(pageInfo.pageData());
+
+            // Re-declare the page four bytes (one INT32 value) shorter, leaving
+            // its last value in the backing array right after the page's end
+            ThriftCompactReader headerReader = new ThriftCompactReader(ByteBuffer.wrap(page), 0);
+            PageHeader header = PageHeaderReader.read(headerReader);
+            int headerSize = headerReader.getBytesRead();
+            int shortSize = header.compressedPageSize() - 4;
+            CRC32 crc = new CRC32();
+            crc.update(page, headerSize, shortSize);
+            ThriftCompactWriter shortHeader = new ThriftCompactWriter();
+            PageHeaderWriter.writeDataPageV1(shortHeader, header.dataPageHeader().numValues(),
+                    shortSize, shortSize, (int) crc.getValue(), Encoding.PLAIN);
+            byte[] headerBytes = shortHeader.toByteArray();
+            byte[] shortPage = new byte[headerBytes.length + header.compressedPageSize()];
+            System.arraycopy(headerBytes, 0, shortPage, 0, headerBytes.length);
+            System.arraycopy(page, headerSize, shortPage, headerBytes.length, header.compressedPageSize());
+
+            PageDecoder decoder = pages.decoder(pageInfo, 0);
+            ByteBuffer sliced = embed(shortPage, headerBytes.length + shortSize);
+
+            assertThatThrownBy(() -> decoder.decodePage(sliced, null))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("Unexpected EOF");
+        }
+    }
+
+    /// Copies the first `length` bytes of `page` into the middle of a larger
+    /// array — `page`'s remaining bytes and filler on either side — and
+    /// returns a buffer over just those `length` bytes.
+    private static ByteBuffer embed(byte[] page, int length) {
+        byte[] backing = new byte[page.length + 128];
+        Arrays.fill(backing, (byte) 0x55);
+        System.arraycopy(page, 0, backing, 64, page.length);
+        return ByteBuffer.wrap(backing, 64, length).slice();
+    }
+
+    private static byte[] bytesOf(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(buffer.position(), bytes);
+        return bytes;
+    }
+
+    private static void assertSameValues(String column, Page expected, Page actual) {
+        assertThat(actual.size()).as(column).isEqualTo(expected.size());
+        Page.IntPage expectedInts = (Page.IntPage) expected;
+        Page.IntPage actualInts = (Page.IntPage) actual;
+        for (int row = 0; row < expected.size(); row++) {
+            assertThat(actual.isNull(row)).as("%s row %d", column, row).isEqualTo(expected.isNull(row));
+            if (!expected.isNull(row)) {
+                assertThat(actualInts.get(row)).as("%s row %d", column, row).isEqualTo(expectedInts.get(row));
+            }
+        }
+    }
+
+    /// The pages of an uncompressed file with a required and an optional INT32 column.
+    private static final class Pages implements AutoCloseable {
+
+        private final InputFile inputFile;
+        private final HardwoodContextImpl context = HardwoodContextImpl.create();
+        private final FileSchema schema;
+        private final RowGroup rowGroup;
+
+        Pages(boolean dictionary) throws Exception {
+            ByteBuffer file = writeFile(dictionary);
+            try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(file))) {
+                schema = reader.getFileSchema();
+                rowGroup = reader.getFileMetaData().rowGroups().get(0);
+            }
+            inputFile = InputFile.of(file);
+            inputFile.open();
+        }
+
+        SequentialFetchPlan plan(int c) {
+            return SequentialFetchPlan.build(inputFile, schema.getColumn(c), rowGroup.columns().get(c), context, 0,
+                    inputFile.name(), 0);
+        }
+
+        PageDecoder decoder(PageInfo pageInfo, int c) {
+            ColumnSchema column = schema.getColumn(c);
+            return new PageDecoder(pageInfo.columnMetaData(), column, context.decompressorFactory());
+        }
+
+        @Override
+        public void close() throws IOException {
+            inputFile.close();
+            context.close();
+        }
+    }
+
+    private static ByteBuffer writeFile(boolean dictionary) throws Exception {
+        int[] required = new int[ROWS];
+        int[] optional = new int[ROWS];
+        boolean[] nulls = new boolean[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            required[i] = i * 7;
+            optional[i] = i % 13;
+            nulls[i] = i % 3 == 0;
+        }
+        FileSchema schema = FileSchema.builder("schema")
+                .addColumn("required", PhysicalType.INT32, RepetitionType.REQUIRED)
+                .addColumn("optional", PhysicalType.INT32, RepetitionType.OPTIONAL)
+                .build();
+        WriterConfig config = WriterConfig.builder()
+                .pageTargetBytes(1024)
+                .enableDictionary(dictionary)
+                .codec(CompressionCodec.UNCOMPRESSED)
+                .build();
+        ByteBufferOutputFile out = new ByteBufferOutputFile();
+        try (ParquetFileWriter writer = ParquetFileWriter.create(out, schema, config)) {
+            writer.writeBatch(batch -> batch
+                    .ints(0, required)
+                    .ints(1, optional, nulls));
+        }
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+}
@@ -211,7 +211,10 @@ public class PageScannerTest {
             assertThat(idxBool.values()).as(desc).isEqualTo(seqBool.values());
         }
         else if (expected instanceof Page.ByteArrayPage seqBytes && actual instanceof Page.ByteArrayPage idxBytes) {
-            assertThat(idxBytes.values()).as(desc).isEqualTo(seqBytes.values());
+            assertThat(idxBytes.size()).as(desc).isEqualTo(seqBytes.size());
+            for (int i = 0; i < seqBytes.size(); i++) {
+                assertThat(idxBytes.get(i)).as(desc + " value " + i).isEqualTo(seqBytes.get(i));
+            }
         }
         else {
             assertThat(actual.getClass()).as(desc + " type mismatch").isEqualTo(expected.getClass());
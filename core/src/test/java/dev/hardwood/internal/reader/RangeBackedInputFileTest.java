@@ -8,14 +8,19 @@
 package dev.hardwood.internal.reader;
 
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import dev.hardwood.InputFile;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -103,6 +108,38 @@ class RangeBackedInputFileTest {
         }
     }
 
+    @Test
+    void readRangesFetchesAllGapsInOneVectoredCall(@TempDir Path tempDir) throws IOException {
+        byte[] data = makeData(4096);
+        CountingInputFile inner = new CountingInputFile(ByteBuffer.wrap(data));
+        try (RangeBackedInputFile cached = new RangeBackedInputFile(inner, tempDir)) {
+            cached.open();
+            cached.readRange(100, 100);
+            int afterFirst = inner.readCount();
+
+            // [0, 300) has gaps [0, 100) and [200, 300); [250, 400) overlaps the
+            // second gap and must only contribute [300, 400).
+            List<ByteBuffer> result = cached.readRanges(List.of(
+                    new InputFile.Range(0, 300),
+                    new InputFile.Range(1000, 50),
+                    new InputFile.Range(250, 150)));
+
+            assertThat(inner.readRangesCount()).isEqualTo(1);
+            assertThat(inner.readCount() - afterFirst)
+                    .as("one fetch per de-duplicated gap")
+                    .isEqualTo(4);
+            assertThat(inner.bytesRead()).isEqualTo(100 + 100 + 100 + 50 + 100);
+            assertThat(toBytes(result.get(0))).isEqualTo(slice(data, 0, 300));
+            assertThat(toBytes(result.get(1))).isEqualTo(slice(data, 1000, 50));
+            assertThat(toBytes(result.get(2))).isEqualTo(slice(data, 250, 150));
+
+            cached.readRanges(List.of(new InputFile.Range(0, 400)));
+            assertThat(inner.readRangesCount())
+                    .as("fully cached ranges must not reach the delegate")
+                    .isEqualTo(1);
+        }
+    }
+
     @Test
     void offsetOrLengthOutsideFileThrows(@TempDir Path tempDir) throws IOException {
         CountingInputFile inner = new CountingInputFile(ByteBuffer.wrap(makeData(100)));
@@ -115,6 +152,43 @@ class RangeBackedInputFileTest {
         }
     }
 
+    @Test
+    void filesLargerThanTwoGigabytesAreRangeBacked(@TempDir Path tempDir) throws IOException {
+        // Sparse source file: only the pages holding the markers occupy blocks.
+        long twoGb = (long) Integer.MAX_VALUE + 1;
+        long straddleOffset = twoGb - 8;
+        long beyondOffset = 2 * twoGb + 4096;
+        byte[] straddle = "STRADDLE-2GB-MRK".getBytes(StandardCharsets.US_ASCII);
+        byte[] beyond = "WELL-BEYOND-4GB!".getBytes(StandardCharsets.US_ASCII);
+        Path source = tempDir.resolve("large.bin");
+        try (RandomAccessFile raf = new RandomAccessFile(source.toFile(), "rw")) {
+            raf.setLength(beyondOffset + beyond.length);
+            raf.seek(straddleOffset);
+            raf.write(straddle);
+            raf.seek(beyondOffset);
+            raf.write(beyond);
+        }
+
+        try (RangeBackedInputFile cached = new RangeBackedInputFile(InputFile.of(source), tempDir)) {
+            cached.open();
+            assertThat(cached.length()).isEqualTo(beyondOffset + beyond.length);
+
+            assertThat(toBytes(cached.readRange(straddleOffset, straddle.length))).isEqualTo(straddle);
+            assertThat(toBytes(cached.readRange(beyondOffset, beyond.length))).isEqualTo(beyond);
+            assertThat(cached.isPopulated(beyondOffset, beyond.length)).isTrue();
+
+            // A range crossing a window start is served from the window it starts in.
+            long windowEdge = 3 * RangeBackedInputFile.WINDOW_STRIDE;
+            assertThat(toBytes(cached.readRange(windowEdge - 4, 8))).containsOnly((byte) 0);
+
+            List<ByteBuffer> vectored = cached.readRanges(List.of(
+                    new InputFile.Range(beyondOffset, beyond.length),
+                    new InputFile.Range(straddleOffset, straddle.length)));
+            assertThat(toBytes(vectored.get(0))).isEqualTo(beyond);
+            assertThat(toBytes(vectored.get(1))).isEqualTo(straddle);
+        }
+    }
+
     @Test
     void closeDeletesTempFile(@TempDir Path tempDir) throws IOException {
         CountingInputFile inner = new CountingInputFile(ByteBuffer.wrap(makeData(4096)));
@@ -134,6 +208,12 @@ class RangeBackedInputFileTest {
         }
     }
 
+    private static byte[] slice(byte[] data, int offset, int length) {
+        byte[] out = new byte[length];
+        System.arraycopy(data, offset, out, 0, length);
+        return out;
+    }
+
     private static byte[] toBytes(ByteBuffer buf) {
         ByteBuffer dup = buf.duplicate();
         byte[] out = new byte[dup.remaining()];
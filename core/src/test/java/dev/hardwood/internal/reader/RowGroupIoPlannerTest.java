@@ -0,0 +1,181 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.reader;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// Tests for [RowGroupIoPlanner] over synthetic plans on an in-memory file whose
+/// byte at offset `i` is `(byte) i`, so every slice can be checked against its offset.
+class RowGroupIoPlannerTest {
+
+    private static final int FILE_SIZE = 4 * 1024 * 1024;
+
+    @Test
+    void adjacentColumnsCollapseIntoRegionsBoundedBySize() throws Exception {
+        CountingInputFile file = newFile();
+        FetchPlan[] plans = new FetchPlan[30];
+        for (int i = 0; i < plans.length; i++) {
+            plans[i] = new FakePlan(file, false, i * 100_000L, 100_000);
+        }
+
+        List<SharedRegion> regions = new RowGroupIoPlanner(0, 1024 * 1024).plan(plans, file, 0);
+
+        // 30 chunks of 100 KB fit ten to a 1 MB region.
+        assertThat(regions).hasSize(3);
+        assertThat(regions).allSatisfy(r -> assertThat(r.length()).isEqualTo(1_000_000));
+        readAll(plans);
+        assertThat(file.readCount()).isEqualTo(3);
+        assertThat(file.bytesRead()).isEqualTo(3_000_000);
+    }
+
+    @Test
+    void everyPageGroupIsServedFromTheSharedRegions() throws Exception {
+        CountingInputFile file = newFile();
+        // Two columns with a filtered-out stretch each; the dropped bytes fit the gap policy.
+        FetchPlan[] plans = {
+                new FakePlan(file, false, 0, 1000, 1500, 1000),
+                new FakePlan(file, false, 2600, 1000, 4000, 500),
+        };
+
+        List<SharedRegion> regions = new RowGroupIoPlanner(1024, 1024 * 1024).plan(plans, file, 0);
+
+        assertThat(regions).hasSize(1);
+        readAll(plans);
+        assertThat(file.readCount()).isEqualTo(1);
+        assertThat(file.bytesRead()).isEqualTo(4500);
+    }
+
+    @Test
+    void gapsBeyondThePolicyStartANewRegion() throws Exception {
+        CountingInputFile file = newFile();
+        FetchPlan[] plans = {
+                new FakePlan(file, false, 0, 1000),
+                new FakePlan(file, false, 1000, 1000),
+                new FakePlan(file, false, 100_000, 1000),
+        };
+
+        List<SharedRegion> regions = new RowGroupIoPlanner(64 * 1024, 1024 * 1024).plan(plans, file, 0);
+
+        // The lone third column keeps its own read rather than dragging in 98 KB of gap.
+        assertThat(regions).hasSize(1);
+        readAll(plans);
+        assertThat(file.readCount()).isEqualTo(2);
+        assertThat(file.bytesRead()).isEqualTo(3000);
+    }
+
+    @Test
+    void planReadingPastItsChunksEndsTheRegion() throws Exception {
+        CountingInputFile file = newFile();
+        // A truncated plan: the iterator will lazily read [1000, 2000) on its own.
+        FetchPlan[] plans = {
+                new FakePlan(file, false, 0, 500),
+                new FakePlan(file, true, 500, 500),
+                new FakePlan(file, false, 2000, 500),
+        };
+
+        List<SharedRegion> regions = new RowGroupIoPlanner(64 * 1024, 1024 * 1024).plan(plans, file, 0);
+
+        assertThat(regions).hasSize(1);
+        assertThat(regions.get(0).fileOffset()).isZero();
+        assertThat(regions.get(0).length()).isEqualTo(1000);
+    }
+
+    @Test
+    void singleReadsAreLeftAlone() {
+        CountingInputFile file = newFile();
+        FakePlan plan = new FakePlan(file, false, 0, 1000);
+        ChunkHandle original = plan.firstChunk();
+
+        assertThat(new RowGroupIoPlanner(0, 1024).plan(new FetchPlan[] { plan, FetchPlan.EMPTY }, file, 0))
+                .isEmpty();
+        assertThat(plan.firstChunk()).isSameAs(original);
+    }
+
+    @Test
+    void rejectsInvalidPolicy() {
+        assertThatThrownBy(() -> new RowGroupIoPlanner(-1, 1024))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxGapBytes");
+        assertThatThrownBy(() -> new RowGroupIoPlanner(0, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxRegionBytes");
+    }
+
+    private static CountingInputFile newFile() {
+        ByteBuffer buffer = ByteBuffer.allocate(FILE_SIZE);
+        for (int i = 0; i < FILE_SIZE; i++) {
+            buffer.put(i, (byte) i);
+        }
+        return new CountingInputFile(buffer);
+    }
+
+    /// Fetches every planned chunk and checks it holds the bytes of its own range.
+    private static void readAll(FetchPlan[] plans) {
+        for (FetchPlan plan : plans) {
+            for (ChunkHandle chunk : ((FakePlan) plan).plannedChunks()) {
+                ByteBuffer data = chunk.ensureFetched();
+                assertThat(data.remaining()).isEqualTo(chunk.length());
+                assertThat(data.get(0)).isEqualTo((byte) chunk.fileOffset());
+                assertThat(data.get(chunk.length() - 1)).isEqualTo((byte) (chunk.fileOffset() + chunk.length() - 1));
+            }
+        }
+    }
+
+    /// A plan over fixed `(offset, length)` chunks.
+    private static final class FakePlan implements FetchPlan, RowGroupIoPlanner.CoalescableReads {
+
+        private final List<ChunkHandle> chunks = new ArrayList<>();
+        private final boolean readsPast;
+
+        FakePlan(CountingInputFile file, boolean readsPast, long... offsetsAndLengths) {
+            this.readsPast = readsPast;
+            for (int i = 0; i < offsetsAndLengths.length; i += 2) {
+                chunks.add(new ChunkHandle(file, offsetsAndLengths[i], (int) offsetsAndLengths[i + 1], "chunk"));
+            }
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public Iterator<PageInfo> pages() {
+            return Collections.emptyIterator();
+        }
+
+        @Override
+        public ChunkHandle firstChunk() {
+            return chunks.get(0);
+        }
+
+        @Override
+        public List<ChunkHandle> plannedChunks() {
+            return chunks;
+        }
+
+        @Override
+        public boolean readsPastPlannedChunks() {
+            return readsPast;
+        }
+
+        @Override
+        public void replacePlannedChunk(int index, ChunkHandle replacement) {
+            chunks.set(index, replacement);
+        }
+    }
+}
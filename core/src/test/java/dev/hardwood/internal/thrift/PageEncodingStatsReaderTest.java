@@ -0,0 +1,52 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.internal.thrift;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hardwood.metadata.Encoding;
+import dev.hardwood.metadata.PageEncodingStats;
+import dev.hardwood.metadata.PageType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Unit tests for [PageEncodingStatsReader], decoding the `encoding_stats` list of a column chunk.
+class PageEncodingStatsReaderTest {
+
+    private static List<PageEncodingStats> decode(int[]... entries) throws Exception {
+        ThriftCompactWriter writer = new ThriftCompactWriter();
+        writer.writeListBegin(entries.length, ThriftCompactConstants.ElementType.STRUCT);
+        for (int[] entry : entries) {
+            short saved = writer.pushFieldIdContext();
+            for (int field = 0; field < 3; field++) {
+                writer.writeFieldBegin(field + 1, ThriftCompactConstants.FieldType.I32);
+                writer.writeI32(entry[field]);
+            }
+            writer.writeFieldStop();
+            writer.popFieldIdContext(saved);
+        }
+        return PageEncodingStatsReader.read(new ThriftCompactReader(ByteBuffer.wrap(writer.toByteArray())));
+    }
+
+    @Test
+    void decodesPageTypeEncodingAndCount() throws Exception {
+        // page types 2 (DICTIONARY_PAGE) and 3 (DATA_PAGE_V2); encodings 0 (PLAIN) and 8 (RLE_DICTIONARY)
+        assertThat(decode(new int[] { 2, 0, 1 }, new int[] { 3, 8, 5 })).containsExactly(
+                new PageEncodingStats(PageType.DICTIONARY_PAGE, Encoding.PLAIN, 1),
+                new PageEncodingStats(PageType.DATA_PAGE_V2, Encoding.RLE_DICTIONARY, 5));
+    }
+
+    @Test
+    void unknownPageTypeDropsTheWholeList() throws Exception {
+        // page type 7 is not a Thrift PageType Hardwood knows, so it might be a data page
+        assertThat(decode(new int[] { 0, 8, 4 }, new int[] { 7, 0, 1 })).isNull();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.reader;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hardwood.InputFile;
+import dev.hardwood.Validity;
+import dev.hardwood.internal.writer.ByteBufferOutputFile;
+import dev.hardwood.metadata.PhysicalType;
+import dev.hardwood.metadata.RepetitionType;
+import dev.hardwood.schema.FileSchema;
+import dev.hardwood.writer.ParquetFileWriter;
+import dev.hardwood.writer.WriterConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// Tests for the dictionary passthrough mode of [ColumnReader], which exposes
+/// dictionary-encoded batches as entry ids plus the chunk's [ColumnDictionary].
+class ColumnReaderDictionaryPassthroughTest {
+
+    /// `dict_cross_chunk.parquet`: two row groups of 100 rows with disjoint
+    /// dictionaries, `{alpha,bravo,charlie}` then `{delta,echo,foxtrot}`.
+    @Test
+    void stringIdsResolveAgainstTheDictionaryOfTheirChunk() throws Exception {
+        Path file = Paths.get("src/test/resources/dict_cross_chunk.parquet");
+        String[] poolA = { "alpha", "bravo", "charlie" };
+        String[] poolB = { "delta", "echo", "foxtrot" };
+
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Boolean> changes = new ArrayList<>();
+        Set<ColumnDictionary> dictionaries = Collections.newSetFromMap(new IdentityHashMap<>());
+        int row = 0;
+        try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(file));
+                ColumnReader label = reader.buildColumnReader("label")
+                        .batchSize(64)
+                        .dictionaryPassthrough(true)
+                        .build()) {
+            while (label.nextBatch()) {
+                int count = label.getRecordCount();
+                int[] ids = label.getDictionaryIds();
+                ColumnDictionary dictionary = label.getDictionary();
+                assertThat(ids).hasSize(count);
+                assertThat(dictionary.size()).isEqualTo(3);
+                batchSizes.add(count);
+                changes.add(label.isDictionaryChanged());
+                dictionaries.add(dictionary);
+
+                String[] strings = label.getStrings();
+                for (int i = 0; i < count; i++, row++) {
+                    String expected = (row < 100 ? poolA : poolB)[row % 3];
+                    assertThat(dictionary.getString(ids[i])).as("row %d", row).isEqualTo(expected);
+                    // The resolved values share the dictionary's String instances.
+                    assertThat(strings[i]).isSameAs(dictionary.getString(ids[i]));
+                }
+            }
+        }
+
+        assertThat(row).isEqualTo(200);
+        // A batch never spans the two dictionaries.
+        assertThat(batchSizes).containsExactly(64, 36, 64, 36);
+        assertThat(changes).containsExactly(true, false, true, false);
+        assertThat(dictionaries).hasSize(2);
+    }
+
+    @Test
+    void nullableIntIdsAcrossRowGroups() throws Exception {
+        int n = 5_000;
+        int[] values = new int[n];
+        boolean[] nulls = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = (i % 7) * 100;
+            nulls[i] = i % 3 == 0;
+        }
+        ByteBuffer file = write(values, nulls, WriterConfig.builder().rowGroupTargetBytes(4096).build());
+
+        int row = 0;
+        int dictionaryChanges = 0;
+        try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(file));
+                ColumnReader column = reader.buildColumnReader(0).dictionaryPassthrough(true).build()) {
+            assertThat(reader.getFileMetaData().rowGroups().size()).isGreaterThan(1);
+            while (column.nextBatch()) {
+                int count = column.getRecordCount();
+                int[] ids = column.getDictionaryIds();
+                int[] entries = column.getDictionary().getInts();
+                Validity validity = column.getLeafValidity();
+                int[] resolved = column.getInts();
+                if (column.isDictionaryChanged()) {
+                    dictionaryChanges++;
+                }
+                for (int i = 0; i < count; i++, row++) {
+                    assertThat(validity.isNull(i)).as("row %d", row).isEqualTo(nulls[row]);
+                    if (nulls[row]) {
+                        assertThat(ids[i]).as("row %d", row).isEqualTo(-1);
+                    }
+                    else {
+                        assertThat(entries[ids[i]]).as("row %d", row).isEqualTo(values[row]);
+                        assertThat(resolved[i]).as("row %d", row).isEqualTo(values[row]);
+                    }
+                }
+            }
+            assertThat(dictionaryChanges).isEqualTo(reader.getFileMetaData().rowGroups().size());
+        }
+        assertThat(row).isEqualTo(n);
+    }
+
+    @Test
+    void plainFallbackPagesAreReadAsValues() throws Exception {
+        // The dictionary overflows after a few entries, so the chunk continues
+        // with PLAIN pages after its dictionary-encoded prefix.
+        int n = 1_000;
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i * 31 + 5;
+        }
+        ByteBuffer file = write(values, null, WriterConfig.builder().dictionaryPageLimitBytes(8).build());
+
+        int row = 0;
+        int dictionaryRows = 0;
+        try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(file));
+                ColumnReader column = reader.buildColumnReader(0).dictionaryPassthrough(true).build()) {
+            while (column.nextBatch()) {
+                int count = column.getRecordCount();
+                int[] ids = column.getDictionaryIds();
+                if (ids != null) {
+                    int[] entries = column.getDictionary().getInts();
+                    for (int i = 0; i < count; i++) {
+                        assertThat(entries[ids[i]]).isEqualTo(values[row + i]);
+                    }
+                    dictionaryRows += count;
+                }
+                else {
+                    assertThat(column.getDictionary()).isNull();
+                    assertThat(column.isDictionaryChanged()).isFalse();
+                }
+                int[] batch = column.getInts();
+                for (int i = 0; i < count; i++, row++) {
+                    assertThat(batch[i]).isEqualTo(values[row]);
+                }
+            }
+        }
+        assertThat(row).isEqualTo(n);
+        assertThat(dictionaryRows).isGreaterThan(0).isLessThan(n);
+    }
+
+    @Test
+    void readerWithoutPassthroughExposesNoIds() throws Exception {
+        Path file = Paths.get("src/test/resources/dict_cross_chunk.parquet");
+        try (ParquetFileReader reader = ParquetFileReader.open(InputFile.of(file));
+                ColumnReader label = reader.columnReader("label")) {
+            assertThat(label.nextBatch()).isTrue();
+            assertThat(label.getDictionaryIds()).isNull();
+            assertThat(label.getDictionary()).isNull();
+            assertThat(label.isDictionaryChanged()).isFalse();
+        }
+    }
+
+    @Test
+    void rejectsFiltersAndNestedColumns() throws Exception {
+        try (ParquetFileReader reader = ParquetFileReader.open(
+                InputFile.of(Paths.get("src/test/resources/dict_cross_chunk.parquet")))) {
+            assertThatThrownBy(() -> reader.buildColumnReader("label")
+                    .filter(FilterPredicate.eq("label", "alpha"))
+                    .dictionaryPassthrough(true)
+                    .build())
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+        try (ParquetFileReader reader = ParquetFileReader.open(
+                InputFile.of(Paths.get("src/test/resources/nested_dict_batch_boundary.parquet")))) {
+            assertThatThrownBy(() -> reader.buildColumnReader(0).dictionaryPassthrough(true).build())
+                    .isInstanceOf(UnsupportedOperationException.class)
+                    .hasMessageContaining("flat columns only");
+        }
+    }
+
+    private static ByteBuffer write(int[] values, boolean[] nulls, WriterConfig config) throws Exception {
+        FileSchema schema = FileSchema.builder("schema")
+                .addColumn("v", PhysicalType.INT32, nulls != null ? RepetitionType.OPTIONAL : RepetitionType.REQUIRED)
+                .build();
+        ByteBufferOutputFile out = new ByteBufferOutputFile();
+        try (ParquetFileWriter writer = ParquetFileWriter.create(out, schema, config)) {
+            writer.writeBatch(batch -> {
+                if (nulls != null) {
+                    batch.ints(0, values, nulls);
+                }
+                else {
+                    batch.ints(0, values);
+                }
+            });
+        }
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+}
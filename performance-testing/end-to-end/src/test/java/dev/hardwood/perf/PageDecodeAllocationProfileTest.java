@@ -248,10 +248,14 @@ public class PageDecodeAllocationProfileTest {
             case Page.FloatPage p -> p.size() * 4;
             case Page.BooleanPage p -> p.size(); // 1 byte per boolean in array
             case Page.ByteArrayPage p -> {
+                if (!p.isDictionaryEncoded()) {
+                    yield p.offsets()[p.size()];
+                }
                 int total = 0;
-                for (byte[] v : p.values()) {
-                    if (v != null) {
-                        total += v.length;
+                for (int i = 0; i < p.size(); i++) {
+                    int entry = p.dictIndices()[i];
+                    if (entry >= 0) {
+                        total += p.dictionary().values()[entry].length;
                     }
                 }
                 yield total;
@@ -0,0 +1,121 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.parquet.bytes.HeapByteBufferAllocator;
+import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesWriterForInteger;
+import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesWriterForLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.hardwood.internal.encoding.DeltaBinaryPackedDecoder;
+import dev.hardwood.internal.encoding.simd.VectorSupport;
+
+/// Decodes one DELTA_BINARY_PACKED page worth of values, as written by
+/// parquet-java, into a primitive array — the value decode of a
+/// `DELTA_BINARY_PACKED` `INT64` or `INT32` page without I/O, decompression or
+/// level handling.
+///
+/// The `shape` parameter picks the delta distribution, which sets the
+/// miniblock bit widths:
+///
+/// - `sequential` — auto-increment IDs; every delta equals the block minimum
+///   (bit width 0).
+/// - `timestamps` — event times a few milliseconds apart with jitter (widths
+///   around 10).
+/// - `random` — unordered values spanning the full int range (widths around
+///   32, the wide-unpack kernels' upper end).
+///
+/// Run with:
+/// ```shell
+/// java --add-modules jdk.incubator.vector -jar benchmarks.jar DeltaBinaryPackedDecodeBenchmark
+/// ```
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgs = { "-Xms512m", "-Xmx512m", "--add-modules", "jdk.incubator.vector" })
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DeltaBinaryPackedDecodeBenchmark {
+
+    @Param({ "sequential", "timestamps", "random" })
+    private String shape;
+
+    @Param({ "20000" })
+    private int valueCount;
+
+    private byte[] encodedLongs;
+    private byte[] encodedInts;
+    private long[] longOutput;
+    private int[] intOutput;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        System.out.println("SIMD implementation: " + VectorSupport.implementationName());
+
+        Random random = new Random(42);
+        long[] values = new long[valueCount];
+        long value = 1_700_000_000_000L;
+        for (int i = 0; i < valueCount; i++) {
+            value += switch (shape) {
+                case "sequential" -> 1;
+                case "timestamps" -> 1 + random.nextInt(1000);
+                case "random" -> random.nextInt() - value;
+                default -> throw new IllegalArgumentException("Unknown shape: " + shape);
+            };
+            values[i] = value;
+        }
+
+        DeltaBinaryPackingValuesWriterForLong longWriter =
+                new DeltaBinaryPackingValuesWriterForLong(64 * 1024, 1024 * 1024, new HeapByteBufferAllocator());
+        DeltaBinaryPackingValuesWriterForInteger intWriter =
+                new DeltaBinaryPackingValuesWriterForInteger(64 * 1024, 1024 * 1024, new HeapByteBufferAllocator());
+        for (long v : values) {
+            longWriter.writeLong(v);
+            intWriter.writeInteger((int) v);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        longWriter.getBytes().writeAllTo(out);
+        encodedLongs = out.toByteArray();
+        out.reset();
+        intWriter.getBytes().writeAllTo(out);
+        encodedInts = out.toByteArray();
+        longWriter.close();
+        intWriter.close();
+
+        longOutput = new long[valueCount];
+        intOutput = new int[valueCount];
+    }
+
+    @Benchmark
+    public long[] decodeLongs() throws IOException {
+        new DeltaBinaryPackedDecoder(encodedLongs, 0).readLongs(longOutput, null, 0);
+        return longOutput;
+    }
+
+    @Benchmark
+    public int[] decodeInts() throws IOException {
+        new DeltaBinaryPackedDecoder(encodedInts, 0).readInts(intOutput, null, 0);
+        return intOutput;
+    }
+}
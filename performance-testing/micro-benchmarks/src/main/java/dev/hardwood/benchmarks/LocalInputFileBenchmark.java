@@ -0,0 +1,105 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import dev.hardwood.InputFile;
+import dev.hardwood.LocalFileOptions;
+
+/// Compares the local [InputFile] strategies of [LocalFileOptions] on the same
+/// access pattern: opening the file and reading it front to back in
+/// `rangeSize` chunks, touching one byte per 4 KB page so mapped reads pay
+/// their page faults. Companion to [MemoryMapBenchmark], which measures the
+/// raw mmap-to-heap copy floor.
+///
+/// - `MEMORY_MAP` — [InputFile#of(Path)], zero-copy slices of a mapping
+/// - `POSITIONAL_READ` — `FileChannel.read` into a direct buffer per range
+/// - `DIRECT_IO` — positional reads with `O_DIRECT` (bypasses the page cache,
+///   so it measures device throughput rather than a warm cache)
+///
+/// Fixture: `yellow_tripdata_2016-03.parquet` — downloaded by
+/// `./mvnw verify -Pperformance-test` (test-data-setup module).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgs = { "-Xms512m", "-Xmx512m", "--add-modules", "jdk.incubator.vector" })
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LocalInputFileBenchmark {
+
+    private static final int PAGE_SIZE = 4096;
+
+    @Param({})
+    private String dataDir;
+
+    @Param("yellow_tripdata_2016-03.parquet")
+    private String fileName;
+
+    @Param({ "MEMORY_MAP", "POSITIONAL_READ", "DIRECT_IO" })
+    private String strategy;
+
+    @Param({ "1048576", "8388608" })
+    private int rangeSize;
+
+    private Path path;
+    private LocalFileOptions options;
+
+    @Setup
+    public void setup() {
+        path = Path.of(dataDir).resolve(fileName).toAbsolutePath().normalize();
+        if (!path.toFile().exists()) {
+            throw new IllegalStateException("Parquet file not found: " + path +
+                    ". Run './mvnw verify -Pperformance-test' first to download test data.");
+        }
+        options = switch (strategy) {
+            case "MEMORY_MAP" -> LocalFileOptions.defaults();
+            case "POSITIONAL_READ" -> LocalFileOptions.builder()
+                    .access(LocalFileOptions.Access.POSITIONAL_READ)
+                    .build();
+            case "DIRECT_IO" -> LocalFileOptions.builder()
+                    .access(LocalFileOptions.Access.POSITIONAL_READ)
+                    .directIo(true)
+                    .build();
+            default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        };
+    }
+
+    @Benchmark
+    public void readWholeFileInRanges(Blackhole blackhole) throws IOException {
+        try (InputFile file = InputFile.of(path, options)) {
+            file.open();
+            long length = file.length();
+            long checksum = 0;
+            for (long offset = 0; offset < length; offset += rangeSize) {
+                int size = (int) Math.min(rangeSize, length - offset);
+                ByteBuffer range = file.readRange(offset, size);
+                for (int i = 0; i < size; i += PAGE_SIZE) {
+                    checksum += range.get(i);
+                }
+            }
+            blackhole.consume(checksum);
+        }
+    }
+}
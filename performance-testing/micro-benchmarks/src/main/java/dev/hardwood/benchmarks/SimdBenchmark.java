@@ -53,6 +53,7 @@ public class SimdBenchmark {
     private int[] dictInt;
     private long[] dictLong;
     private byte[] packedData;
+    private byte[] streamSplitData;
     private SimdOperations ops;
 
     @Setup
@@ -84,6 +85,10 @@ public class SimdBenchmark {
         // Packed bit data for bit-width 1 (one byte = 8 values)
         packedData = new byte[size / 8 + 10];
         random.nextBytes(packedData);
+
+        // BYTE_STREAM_SPLIT streams for `size` values of up to 8 bytes
+        streamSplitData = new byte[size * 8];
+        random.nextBytes(streamSplitData);
     }
 
     @Benchmark
@@ -119,4 +124,50 @@ public class SimdBenchmark {
         ops.unpackBitWidth1(packedData, 0, output, 0, count);
         bh.consume(output);
     }
+
+    @Benchmark
+    public void unpackBitWidthWide(WidePackedData packed, Blackhole bh) {
+        int[] output = new int[size];
+        ops.unpackBitWidthWide(packed.data, 0, output, 0, size, packed.bitWidth);
+        bh.consume(output);
+    }
+
+    @Benchmark
+    public void gatherByteStreamsFloats(Blackhole bh) {
+        float[] output = new float[size];
+        ops.gatherByteStreamsFloats(streamSplitData, 0, size, output, 0, size);
+        bh.consume(output);
+    }
+
+    @Benchmark
+    public void gatherByteStreamsDoubles(Blackhole bh) {
+        double[] output = new double[size];
+        ops.gatherByteStreamsDoubles(streamSplitData, 0, size, output, 0, size);
+        bh.consume(output);
+    }
+
+    @Benchmark
+    public void gatherByteStreamsFixedLen8(Blackhole bh) {
+        byte[] output = new byte[size * 8];
+        ops.gatherByteStreams(streamSplitData, 0, size, 8, output, 0, size);
+        bh.consume(output);
+    }
+
+    /// Bit-packed data at the widths of dictionary indices for dictionaries
+    /// above 256 entries.
+    @State(Scope.Benchmark)
+    public static class WidePackedData {
+
+        @Param({"9", "12", "16", "20", "24", "32"})
+        private int bitWidth;
+
+        private byte[] data;
+
+        @Setup
+        public void setup(SimdBenchmark benchmark) {
+            // size values of bitWidth bits each, i.e. size / 8 groups of bitWidth bytes
+            data = new byte[benchmark.size / 8 * bitWidth];
+            new Random(42).nextBytes(data);
+        }
+    }
 }
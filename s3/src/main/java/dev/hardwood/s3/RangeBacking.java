@@ -23,8 +23,8 @@ public enum RangeBacking {
     /// proportional to bytes touched, not file size, on filesystems
     /// that support sparse files.
     ///
-    /// Inherits the 2 GB cap from `MappedByteBuffer.slice(int, int)`;
-    /// not usable for files larger than `Integer.MAX_VALUE` bytes.
+    /// Files larger than 2 GB are mapped as a series of overlapping
+    /// windows, so objects of any size can be range-backed.
     /// Opt in via [S3Source.Builder#rangeBacking] when the workload
     /// re-reads byte ranges (interactive `dive` is the canonical
     /// caller).
@@ -8,13 +8,23 @@
 package dev.hardwood.s3;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.http.HttpResponse;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import dev.hardwood.InputFile;
+import dev.hardwood.RangeCache;
 import dev.hardwood.internal.FetchReason;
 import dev.hardwood.internal.reader.RangeBackedInputFile;
 import dev.hardwood.s3.internal.S3Api;
@@ -28,6 +38,16 @@ import dev.hardwood.s3.internal.S3Api;
 /// discovers the file length from the `Content-Range` response header
 /// and pre-fetches the Parquet footer (which sits at the end of the file) in
 /// the same round-trip — eliminating a separate HEAD request per file.
+/// The size of that tail fetch follows the source's [TailFetchPolicy]: by
+/// default it adapts to the footer sizes of previously opened files.
+///
+/// A [#readRange] longer than the source's [S3Source.Builder#partSize] is
+/// split into parts fetched with concurrent ranged GETs on virtual threads,
+/// each written straight into its own slice of the returned direct buffer.
+///
+/// [#readRanges] issues the GETs of a vectored read concurrently, one
+/// virtual thread per range, so the initial per-column reads of a row
+/// group overlap on the wire instead of paying one round-trip each.
 ///
 /// When the owning [S3Source] is configured with
 /// [RangeBacking#SPARSE_TEMPFILE], an internal mmap-backed range cache
@@ -36,19 +56,36 @@ import dev.hardwood.s3.internal.S3Api;
 /// counters ([#networkRequestCount], [#networkBytesFetched]) reflect
 /// only network traffic in either mode.
 ///
+/// When the owning [S3Source] is configured with a [RangeCache], range
+/// reads are looked up in that cache first, keyed by object name, ETag and
+/// offset. The cache is shared by all files given the same instance, so
+/// re-opening an object re-uses ranges fetched by earlier opens; the
+/// sparse temp file of [RangeBacking#SPARSE_TEMPFILE] can sit beneath it as
+/// a local-disk tier.
+///
 /// Thread-safe once [#open()] has been called.
 public class S3InputFile implements InputFile {
 
     private static final System.Logger LOG = System.getLogger(S3InputFile.class.getName());
 
-    /// Number of bytes to fetch from the tail of the file during [#open()].
-    /// 64 KB is large enough to cover the Parquet footer in virtually all files
-    /// (footer + footer length + magic is typically a few KB).
-    static final int TAIL_SIZE = 64 * 1024;
+    /// Footer length (4 bytes, little-endian) plus the trailing `PAR1` magic.
+    private static final int FOOTER_TRAILER_SIZE = 8;
+    private static final int PARQUET_MAGIC_LE = 0x31524150;
 
     private final S3Api api;
     private final String bucket;
     private final String key;
+    private final int partSize;
+    private final int maxConcurrentParts;
+    /// Bounds the ranged GETs in flight across all concurrent reads of this
+    /// file, so a vectored read of many ranges, large or small, still keeps at
+    /// most [S3Source#maxConcurrentParts()] requests on the wire.
+    private final Semaphore requestPermits;
+    private final TailSizeEstimator tailSizeEstimator;
+    /// Largest number of bytes from the end of the object this file has been
+    /// seen to need (footer, plus page indexes when the policy learns them);
+    /// reported to [#tailSizeEstimator] on [#close()].
+    private final AtomicLong tailBytesNeeded = new AtomicLong();
     private long fileLength = -1;
     private ByteBuffer tailCache;
     private long tailCacheOffset;
@@ -59,15 +96,24 @@ public class S3InputFile implements InputFile {
     /// exposes the bare S3 fetch path, so cache hits don't re-enter
     /// [#readRange] (and thus don't double-count network counters).
     private final RangeBackedInputFile cache;
+    /// Shared across files when the owning [S3Source] was configured with a
+    /// [RangeCache]; consulted before [#cache] and the network.
+    private final RangeCache rangeCache;
+    private String rangeCacheKey;
 
     S3InputFile(S3Source source, String bucket, String key) {
         this.api = source.api();
         this.bucket = bucket;
         this.key = key;
+        this.partSize = source.partSize();
+        this.maxConcurrentParts = source.maxConcurrentParts();
+        this.requestPermits = new Semaphore(maxConcurrentParts);
+        this.tailSizeEstimator = source.tailSizeEstimator();
         Path tempDir = source.rangeBacking() == RangeBacking.SPARSE_TEMPFILE
                 ? source.tempDir()
                 : null;
         this.cache = tempDir != null ? new RangeBackedInputFile(new BareFetcher(), tempDir) : null;
+        this.rangeCache = source.rangeCache();
     }
 
     @Override
@@ -81,17 +127,79 @@ public class S3InputFile implements InputFile {
 
     @Override
     public ByteBuffer readRange(long offset, int length) throws IOException {
+        if (rangeCache == null || inTailCache(offset, length)) {
+            return fetchRange(offset, length);
+        }
+        ByteBuffer cached = rangeCache.get(rangeCacheKey, offset, length);
+        if (cached != null) {
+            LOG.log(System.Logger.Level.DEBUG,
+                    "[{0}] readRange offset={1} length={2} reason={3} (range cache hit)",
+                    name(), offset, length, FetchReason.current());
+            return cached;
+        }
+        ByteBuffer fetched = fetchRange(offset, length);
+        rangeCache.put(rangeCacheKey, offset, fetched);
+        return fetched;
+    }
+
+    @Override
+    public List<ByteBuffer> readRanges(List<Range> ranges) throws IOException {
+        if (rangeCache == null) {
+            return fetchRanges(ranges);
+        }
+        List<ByteBuffer> results = new ArrayList<>(ranges.size());
+        List<Range> misses = new ArrayList<>();
+        List<Integer> missIndexes = new ArrayList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            Range range = ranges.get(i);
+            ByteBuffer cached = inTailCache(range.offset(), range.length())
+                    ? null
+                    : rangeCache.get(rangeCacheKey, range.offset(), range.length());
+            results.add(cached);
+            if (cached == null) {
+                misses.add(range);
+                missIndexes.add(i);
+            }
+        }
+        if (misses.isEmpty()) {
+            return results;
+        }
+        List<ByteBuffer> fetched = fetchRanges(misses);
+        for (int i = 0; i < misses.size(); i++) {
+            Range range = misses.get(i);
+            ByteBuffer buffer = fetched.get(i);
+            if (!inTailCache(range.offset(), range.length())) {
+                rangeCache.put(rangeCacheKey, range.offset(), buffer);
+            }
+            results.set(missIndexes.get(i), buffer);
+        }
+        return results;
+    }
+
+    private ByteBuffer fetchRange(long offset, int length) throws IOException {
         if (cache != null) {
             return cache.readRange(offset, length);
         }
         return readRangeBare(offset, length);
     }
 
+    private List<ByteBuffer> fetchRanges(List<Range> ranges) throws IOException {
+        if (cache != null) {
+            return cache.readRanges(ranges);
+        }
+        return readRangesBare(ranges);
+    }
+
+    private boolean inTailCache(long offset, int length) {
+        return tailCache != null && offset >= tailCacheOffset
+                && offset + length <= tailCacheOffset + tailCache.capacity();
+    }
+
     private void openBare() throws IOException {
         if (fileLength >= 0) {
             return;
         }
-        String suffixRange = "bytes=-" + TAIL_SIZE;
+        String suffixRange = "bytes=-" + tailSizeEstimator.tailSize();
         HttpResponse<byte[]> response = api.getBytes(bucket, key, suffixRange);
         int status = response.statusCode();
         if (status != 206 && status != 200) {
@@ -99,6 +207,11 @@ public class S3InputFile implements InputFile {
                     + ": HTTP " + status + " " + new String(response.body()));
         }
         fileLength = parseFileLength(response);
+        // Key shared-cache entries by the object version so a cached range is
+        // never served for an overwritten object; fall back to the length
+        // for stores that do not return an ETag.
+        rangeCacheKey = name() + "@" + response.headers().firstValue("ETag")
+                .orElse("length=" + fileLength);
         byte[] tail = response.body();
         long requestNo = networkRequestCount.incrementAndGet();
         long totalBytes = networkBytesFetched.addAndGet(tail.length);
@@ -109,12 +222,37 @@ public class S3InputFile implements InputFile {
         tailCache.flip();
         tailCacheOffset = fileLength - tail.length;
         logFetch("open-tail", tailCacheOffset, tail.length, requestNo, totalBytes);
+        recordFooterSize();
+    }
+
+    /// Reads the footer length from the fetched tail and reports the bytes
+    /// the footer needs to the [TailSizeEstimator]. Does nothing if the tail
+    /// does not end with the plaintext-footer trailer; the reader reports
+    /// that error itself.
+    private void recordFooterSize() {
+        int tailLength = tailCache.capacity();
+        if (tailLength < FOOTER_TRAILER_SIZE) {
+            return;
+        }
+        ByteBuffer trailer = tailCache.slice(tailLength - FOOTER_TRAILER_SIZE, FOOTER_TRAILER_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        int footerLength = trailer.getInt(0);
+        if (trailer.getInt(4) != PARQUET_MAGIC_LE || footerLength < 0) {
+            return;
+        }
+        recordTailNeed(Math.min(fileLength, (long) footerLength + FOOTER_TRAILER_SIZE));
+    }
+
+    /// Records that the bytes `[fileLength - neededBytes, fileLength)` were
+    /// needed from the end of the object.
+    private void recordTailNeed(long neededBytes) {
+        tailBytesNeeded.accumulateAndGet(neededBytes, Math::max);
+        tailSizeEstimator.grow(neededBytes);
     }
 
     private ByteBuffer readRangeBare(long offset, int length) throws IOException {
         // Serve from the tail cache if the requested range falls within it
-        if (tailCache != null && offset >= tailCacheOffset
-                && offset + length <= tailCacheOffset + tailCache.capacity()) {
+        if (inTailCache(offset, length)) {
             int relOffset = Math.toIntExact(offset - tailCacheOffset);
             LOG.log(System.Logger.Level.DEBUG,
                     "[{0}] readRange offset={1} length={2} reason={3} (tail cache hit)",
@@ -122,35 +260,154 @@ public class S3InputFile implements InputFile {
             return tailCache.slice(relOffset, length);
         }
 
+        // A miss that straddles the start of the tail cache is a read of the
+        // index region (or of a footer larger than the tail) that a bigger
+        // tail fetch would have served.
+        if (tailCache != null && tailSizeEstimator.learnsPageIndexes()
+                && offset < tailCacheOffset && offset + length > tailCacheOffset) {
+            recordTailNeed(fileLength - offset);
+        }
+
+        // Use a direct buffer so slices are usable from FFM-based decompressors
+        // (e.g. libdeflate), which require native MemorySegments.
+        ByteBuffer buf = ByteBuffer.allocateDirect(length);
+        if (length <= partSize) {
+            fetchInto(offset, buf);
+        }
+        else {
+            fetchParts(offset, buf);
+        }
+        return buf;
+    }
+
+    /// Splits `[offset, offset + destination.capacity())` into parts of
+    /// [S3Source#partSize()] bytes and fetches them with concurrent ranged
+    /// GETs, each writing into its own disjoint slice of `destination`. Each
+    /// worker thread pulls the next unfetched part until all are done; the
+    /// GETs share the file's request limit with every other read (see
+    /// [#fetchInto]).
+    private void fetchParts(long offset, ByteBuffer destination) throws IOException {
+        int length = destination.capacity();
+        int parts = Math.toIntExact(Math.ceilDiv((long) length, partSize));
+        int workers = Math.min(parts, maxConcurrentParts);
+        AtomicInteger nextPart = new AtomicInteger();
+        String reason = FetchReason.current();
+        List<Callable<Void>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            tasks.add(() -> {
+                int part;
+                while ((part = nextPart.getAndIncrement()) < parts) {
+                    int partStart = Math.toIntExact((long) part * partSize);
+                    int partLength = Math.min(partSize, length - partStart);
+                    try (FetchReason.Scope ignored = FetchReason.set(
+                            reason + " part=" + (part + 1) + "/" + parts)) {
+                        fetchInto(offset + partStart, destination.slice(partStart, partLength));
+                    }
+                }
+                return null;
+            });
+        }
+        invokeAll(tasks);
+    }
+
+    /// Issues one ranged GET for `[offset, offset + destination.remaining())`
+    /// and writes the body straight into `destination`. Every GET holds one of
+    /// the file's [S3Source#maxConcurrentParts()] request permits while it is
+    /// on the wire.
+    private void fetchInto(long offset, ByteBuffer destination) throws IOException {
+        try {
+            requestPermits.acquire();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading from " + name(), e);
+        }
+        try {
+            fetchPermitted(offset, destination);
+        }
+        finally {
+            requestPermits.release();
+        }
+    }
+
+    private void fetchPermitted(long offset, ByteBuffer destination) throws IOException {
+        int length = destination.remaining();
         long requestNo = networkRequestCount.incrementAndGet();
         long totalBytes = networkBytesFetched.addAndGet(length);
         logFetch(FetchReason.current(), offset, length, requestNo, totalBytes);
         String range = "bytes=" + offset + "-" + (offset + length - 1);
-        HttpResponse<InputStream> response = api.getStream(bucket, key, range);
+        HttpResponse<S3Api.RangeBody> response = api.getInto(bucket, key, range, destination);
         int status = response.statusCode();
-        if (status != 206 && status != 200) {
-            try (InputStream body = response.body()) {
-                throw new IOException("Failed to read range [" + offset + ", " + (offset + length)
-                        + ") from " + name() + ": HTTP " + status + " " + new String(body.readAllBytes()));
-            }
+        // A 200 carries the whole object; it only matches the range when the
+        // range is the whole object. Otherwise the server ignored `Range`.
+        if (status != 206 && !(status == 200 && offset == 0 && length == fileLength)) {
+            String detail = status == 200 ? "server ignored the Range header" : response.body().errorBody();
+            throw new IOException("Failed to read range [" + offset + ", " + (offset + length)
+                    + ") from " + name() + ": HTTP " + status + " " + detail);
         }
-        try (InputStream stream = response.body()) {
-            ByteBuffer buf = ByteBuffer.allocateDirect(length);
-            byte[] tmp = new byte[Math.min(8192, length)];
-            while (buf.hasRemaining()) {
-                int toRead = Math.min(tmp.length, buf.remaining());
-                int read = stream.read(tmp, 0, toRead);
-                if (read < 0) {
-                    break;
+        long received = response.body().bytesWritten();
+        if (received < length) {
+            throw new IOException("Short read from " + name() + ": expected " + length
+                    + " bytes but received " + received);
+        }
+        if (received > length) {
+            throw new IOException("Over-long response from " + name() + ": expected " + length
+                    + " bytes but received at least " + received);
+        }
+    }
+
+    /// Fetches each range with its own GET, concurrently on virtual threads,
+    /// at most [S3Source#maxConcurrentParts()] GETs of the file at a time.
+    /// The caller's [FetchReason] is carried to every fetch thread so each
+    /// fetch log line stays attributed.
+    private List<ByteBuffer> readRangesBare(List<Range> ranges) throws IOException {
+        if (ranges.size() == 1) {
+            Range range = ranges.get(0);
+            return List.of(readRangeBare(range.offset(), range.length()));
+        }
+        String reason = FetchReason.current();
+        List<Callable<ByteBuffer>> tasks = new ArrayList<>(ranges.size());
+        for (Range range : ranges) {
+            tasks.add(() -> {
+                try (FetchReason.Scope ignored = FetchReason.set(reason)) {
+                    return readRangeBare(range.offset(), range.length());
                 }
-                buf.put(tmp, 0, read);
+            });
+        }
+        return invokeAll(tasks);
+    }
+
+    /// Runs `tasks` concurrently, one virtual thread each, and returns their
+    /// results in task order. On the first failure the remaining tasks are
+    /// cancelled and the failure is rethrown.
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) throws IOException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(task));
             }
-            if (buf.position() != length) {
-                throw new IOException("Short read from " + name() + ": expected " + length
-                        + " bytes but received " + buf.position());
+            List<T> results = new ArrayList<>(tasks.size());
+            try {
+                for (Future<T> future : futures) {
+                    results.add(future.get());
+                }
             }
-            buf.flip();
-            return buf;
+            catch (ExecutionException e) {
+                futures.forEach(f -> f.cancel(true));
+                if (e.getCause() instanceof IOException io) {
+                    throw io;
+                }
+                if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw new IOException("Failed to read from " + name(), e.getCause());
+            }
+            catch (InterruptedException e) {
+                futures.forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reading from " + name(), e);
+            }
+            return results;
         }
     }
 
@@ -169,6 +426,7 @@ public class S3InputFile implements InputFile {
 
     @Override
     public void close() throws IOException {
+        tailSizeEstimator.settle(tailBytesNeeded.getAndSet(0));
         if (cache != null) {
             cache.close();
         }
@@ -176,7 +434,8 @@ public class S3InputFile implements InputFile {
 
     /// Number of HTTP requests issued against the object since [#open()].
     /// Counts the suffix-range tail fetch from `open` plus every
-    /// network-fetch [#readRange] call. Tail-cache hits do not count.
+    /// ranged GET issued by [#readRange] (one per part when a read is split).
+    /// Tail-cache hits do not count.
     public long networkRequestCount() {
         return networkRequestCount.get();
     }
@@ -208,7 +467,7 @@ public class S3InputFile implements InputFile {
     ///
     /// For suffix-range requests, S3 returns a `Content-Range` header like
     /// `bytes 1000-1999/2000` where the number after `/` is the total
-    /// object size. If the header is absent (e.g. file smaller than TAIL_SIZE),
+    /// object size. If the header is absent (e.g. file smaller than the tail size),
     /// falls back to `Content-Length`.
     private static long parseFileLength(HttpResponse<?> response) throws IOException {
         String contentRange = response.headers().firstValue("Content-Range").orElse(null);
@@ -245,6 +504,11 @@ public class S3InputFile implements InputFile {
             return readRangeBare(offset, length);
         }
 
+        @Override
+        public List<ByteBuffer> readRanges(List<Range> ranges) throws IOException {
+            return readRangesBare(ranges);
+        }
+
         @Override
         public long length() {
             return S3InputFile.this.length();
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import dev.hardwood.RangeCache;
 import dev.hardwood.s3.internal.S3Api;
 
 /// A configured connection to an S3-compatible object store.
@@ -34,14 +35,23 @@ public final class S3Source implements Closeable {
     private final boolean externalHttpClient;
     private final RangeBacking rangeBacking;
     private final Path tempDir;
+    private final int partSize;
+    private final int maxConcurrentParts;
+    private final TailSizeEstimator tailSizeEstimator;
+    private final RangeCache rangeCache;
 
     private S3Source(S3Api api, HttpClient httpClient, boolean externalHttpClient,
-                     RangeBacking rangeBacking, Path tempDir) {
+                     RangeBacking rangeBacking, Path tempDir, int partSize, int maxConcurrentParts,
+                     TailFetchPolicy tailFetchPolicy, RangeCache rangeCache) {
         this.api = api;
         this.httpClient = httpClient;
         this.externalHttpClient = externalHttpClient;
         this.rangeBacking = rangeBacking;
         this.tempDir = tempDir;
+        this.partSize = partSize;
+        this.maxConcurrentParts = maxConcurrentParts;
+        this.tailSizeEstimator = new TailSizeEstimator(tailFetchPolicy);
+        this.rangeCache = rangeCache;
     }
 
     /// Creates an [S3InputFile] for the given bucket and key. When the
@@ -96,6 +106,22 @@ public final class S3Source implements Closeable {
         return tempDir;
     }
 
+    int partSize() {
+        return partSize;
+    }
+
+    int maxConcurrentParts() {
+        return maxConcurrentParts;
+    }
+
+    TailSizeEstimator tailSizeEstimator() {
+        return tailSizeEstimator;
+    }
+
+    RangeCache rangeCache() {
+        return rangeCache;
+    }
+
     @Override
     public void close() {
         if (!externalHttpClient) {
@@ -130,6 +156,8 @@ public final class S3Source implements Closeable {
         private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
         private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(30);
         private static final int DEFAULT_MAX_RETRIES = 3;
+        private static final int DEFAULT_PART_SIZE = 8 * 1024 * 1024;
+        private static final int DEFAULT_MAX_CONCURRENT_PARTS = 16;
 
         private String region;
         private String endpoint;
@@ -141,6 +169,10 @@ public final class S3Source implements Closeable {
         private HttpClient httpClient;
         private RangeBacking rangeBacking = RangeBacking.NONE;
         private Path tempDir;
+        private int partSize = DEFAULT_PART_SIZE;
+        private int maxConcurrentParts = DEFAULT_MAX_CONCURRENT_PARTS;
+        private TailFetchPolicy tailFetchPolicy = TailFetchPolicy.adaptive();
+        private RangeCache rangeCache;
 
         private Builder() {
         }
@@ -226,6 +258,51 @@ public final class S3Source implements Closeable {
             return this;
         }
 
+        /// Sets the part size for multi-part range reads (default 8 MB).
+        /// A `readRange` longer than this is split into parts of this size,
+        /// fetched with concurrent ranged GETs and written into disjoint slices
+        /// of the returned buffer, so one large read (e.g. a coalesced column
+        /// chunk) is not bounded by the throughput of a single connection.
+        /// Pass [Integer#MAX_VALUE] to always issue a single GET per range.
+        public Builder partSize(int partSize) {
+            if (partSize <= 0) {
+                throw new IllegalArgumentException("partSize must be positive: " + partSize);
+            }
+            this.partSize = partSize;
+            return this;
+        }
+
+        /// Sets the maximum number of ranged GETs of one file that are in flight
+        /// at the same time (default 16). The limit is shared by every read of
+        /// the file: the parts of a multi-part range read and the ranges of one
+        /// vectored read, which are otherwise fetched concurrently. See
+        /// [#partSize(int)].
+        public Builder maxConcurrentParts(int maxConcurrentParts) {
+            if (maxConcurrentParts <= 0) {
+                throw new IllegalArgumentException("maxConcurrentParts must be positive: " + maxConcurrentParts);
+            }
+            this.maxConcurrentParts = maxConcurrentParts;
+            return this;
+        }
+
+        /// Sets how many bytes [S3InputFile#open()] fetches from the end of
+        /// each object. Default is [TailFetchPolicy#adaptive()], which learns
+        /// the footer size from files previously opened through this source;
+        /// the estimate is shared by all files of the built [S3Source].
+        public Builder tailFetch(TailFetchPolicy tailFetchPolicy) {
+            this.tailFetchPolicy = Objects.requireNonNull(tailFetchPolicy, "tailFetchPolicy must not be null");
+            return this;
+        }
+
+        /// Sets a [RangeCache] consulted before the network by every file
+        /// opened from this source. The same cache may be shared by several
+        /// sources; entries are keyed by object name and ETag, so files of
+        /// different buckets or versions never collide. Default is no cache.
+        public Builder rangeCache(RangeCache rangeCache) {
+            this.rangeCache = Objects.requireNonNull(rangeCache, "rangeCache must not be null");
+            return this;
+        }
+
         /// Builds the [S3Source].
         ///
         /// Region is required when targeting AWS S3 (no custom endpoint).
@@ -252,7 +329,8 @@ public final class S3Source implements Closeable {
             Path effectiveTempDir = tempDir != null
                     ? tempDir
                     : Path.of(System.getProperty("java.io.tmpdir"));
-            return new S3Source(api, client, externalClient, rangeBacking, effectiveTempDir);
+            return new S3Source(api, client, externalClient, rangeBacking, effectiveTempDir,
+                    partSize, maxConcurrentParts, tailFetchPolicy, rangeCache);
         }
     }
 }
@@ -0,0 +1,114 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.s3;
+
+/// How many bytes [S3InputFile#open()] fetches from the end of the object
+/// with its suffix-range GET.
+///
+/// The tail fetch discovers the object length and pre-fetches the Parquet
+/// footer in one round-trip. If the footer (or, with
+/// [#includePageIndexes()], the column/offset index region just before it)
+/// does not fit, the reader pays a second round-trip; if the tail is much
+/// larger than needed, small footers over-fetch.
+///
+/// - [#fixed(int)] always fetches the same number of bytes.
+/// - [#adaptive()] learns, per [S3Source], how many tail bytes previously
+///   opened files actually needed, and sizes the next tail fetch to match.
+///   It grows immediately when a file needs more than the current
+///   estimate and shrinks gradually when files need less.
+///
+/// Set via [S3Source.Builder#tailFetch(TailFetchPolicy)].
+public final class TailFetchPolicy {
+
+    private static final int DEFAULT_INITIAL_BYTES = 64 * 1024;
+    private static final int DEFAULT_MIN_BYTES = 16 * 1024;
+    private static final int DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+
+    private final int initialBytes;
+    private final int minBytes;
+    private final int maxBytes;
+    private final boolean adaptive;
+    private final boolean includePageIndexes;
+
+    private TailFetchPolicy(int initialBytes, int minBytes, int maxBytes,
+                            boolean adaptive, boolean includePageIndexes) {
+        this.initialBytes = initialBytes;
+        this.minBytes = minBytes;
+        this.maxBytes = maxBytes;
+        this.adaptive = adaptive;
+        this.includePageIndexes = includePageIndexes;
+    }
+
+    /// Always fetches `bytes` from the tail of the object.
+    public static TailFetchPolicy fixed(int bytes) {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("bytes must be positive: " + bytes);
+        }
+        return new TailFetchPolicy(bytes, bytes, bytes, false, false);
+    }
+
+    /// Adaptive footer sizing: starts at 64 KB and learns the footer size
+    /// of opened files, staying between 16 KB and 16 MB. Page indexes are
+    /// not included. This is the default policy.
+    public static TailFetchPolicy adaptive() {
+        return new TailFetchPolicy(DEFAULT_INITIAL_BYTES, DEFAULT_MIN_BYTES, DEFAULT_MAX_BYTES, true, false);
+    }
+
+    /// Adaptive sizing bounded to `[minBytes, maxBytes]`.
+    ///
+    /// When `includePageIndexes` is `true`, the estimate also learns the
+    /// size of the column/offset index region that writers place directly
+    /// before the footer, so that later files have their page indexes
+    /// speculatively pre-fetched by the tail GET. Worth enabling for
+    /// filtered scans over many files, where every file reads its indexes.
+    public static TailFetchPolicy adaptive(int minBytes, int maxBytes, boolean includePageIndexes) {
+        if (minBytes <= 0) {
+            throw new IllegalArgumentException("minBytes must be positive: " + minBytes);
+        }
+        if (maxBytes < minBytes) {
+            throw new IllegalArgumentException("maxBytes must not be less than minBytes: "
+                    + maxBytes + " < " + minBytes);
+        }
+        int initialBytes = Math.clamp(DEFAULT_INITIAL_BYTES, minBytes, maxBytes);
+        return new TailFetchPolicy(initialBytes, minBytes, maxBytes, true, includePageIndexes);
+    }
+
+    /// Number of tail bytes fetched by the first file opened from a source.
+    public int initialBytes() {
+        return initialBytes;
+    }
+
+    /// Lower bound of the adaptive estimate.
+    public int minBytes() {
+        return minBytes;
+    }
+
+    /// Upper bound of the adaptive estimate.
+    public int maxBytes() {
+        return maxBytes;
+    }
+
+    /// Whether the tail size adapts to previously opened files.
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /// Whether the adaptive estimate covers the page index region.
+    public boolean includePageIndexes() {
+        return includePageIndexes;
+    }
+
+    @Override
+    public String toString() {
+        if (!adaptive) {
+            return "TailFetchPolicy[fixed=" + initialBytes + "]";
+        }
+        return "TailFetchPolicy[adaptive, min=" + minBytes + ", max=" + maxBytes
+                + ", includePageIndexes=" + includePageIndexes + "]";
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.s3;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/// Per-[S3Source] estimate of how many tail bytes a file needs, driven by a
+/// [TailFetchPolicy].
+///
+/// Files report the number of bytes from the end of the object they
+/// needed: [#grow] as soon as a need is known (so concurrently opened
+/// files benefit straight away), [#settle] once per file when it is closed.
+/// The estimate is the need plus 25% headroom, raised immediately on
+/// [#grow] and lowered by an eighth of the gap on [#settle], so one
+/// unusually small file does not undo what larger files taught it.
+final class TailSizeEstimator {
+
+    private final TailFetchPolicy policy;
+    private final AtomicInteger estimate;
+
+    TailSizeEstimator(TailFetchPolicy policy) {
+        this.policy = policy;
+        this.estimate = new AtomicInteger(policy.initialBytes());
+    }
+
+    /// Number of bytes the next tail fetch should request.
+    int tailSize() {
+        return estimate.get();
+    }
+
+    /// Whether files should report misses in the page index region.
+    boolean learnsPageIndexes() {
+        return policy.isAdaptive() && policy.includePageIndexes();
+    }
+
+    /// Raises the estimate so that a file needing `neededBytes` tail bytes
+    /// would be covered.
+    void grow(long neededBytes) {
+        if (!policy.isAdaptive()) {
+            return;
+        }
+        int target = target(neededBytes);
+        estimate.accumulateAndGet(target, Math::max);
+    }
+
+    /// Moves the estimate towards what a closed file needed.
+    void settle(long neededBytes) {
+        if (!policy.isAdaptive() || neededBytes <= 0) {
+            return;
+        }
+        int target = target(neededBytes);
+        estimate.updateAndGet(current -> current > target
+                ? current - Math.max(1, (current - target) / 8)
+                : Math.max(current, target));
+    }
+
+    private int target(long neededBytes) {
+        long withHeadroom = neededBytes + neededBytes / 4;
+        return Math.clamp(withHeadroom, policy.minBytes(), policy.maxBytes());
+    }
+}
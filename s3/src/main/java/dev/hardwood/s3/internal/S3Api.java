@@ -13,11 +13,17 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ThreadLocalRandom;
 
 import dev.hardwood.s3.S3Credentials;
@@ -84,6 +90,93 @@ public final class S3Api {
         return sendWithRetry(bucket, key, rangeHeader, HttpResponse.BodyHandlers.ofInputStream());
     }
 
+    /// Sends a GET request with a `Range` header and writes a successful (2xx)
+    /// response body straight into `destination`, starting at its position.
+    /// Each attempt writes into a fresh duplicate of `destination`, so a retried
+    /// request starts over at the same position. A body longer than
+    /// `destination.remaining()` is not drained: the transfer is cancelled at the
+    /// first byte past the end and [RangeBody#bytesWritten] exceeds the capacity.
+    ///
+    /// Retries on HTTP 500/503 responses and network errors up to [#maxRetries] times
+    /// with exponential backoff and jitter.
+    ///
+    /// @return the response; its body reports the bytes received, or carries the
+    ///         error body for a non-2xx status
+    public HttpResponse<RangeBody> getInto(String bucket, String key, String rangeHeader,
+            ByteBuffer destination) throws IOException {
+        return sendWithRetry(bucket, key, rangeHeader, responseInfo -> {
+            if (responseInfo.statusCode() / 100 != 2) {
+                return HttpResponse.BodySubscribers.mapping(
+                        HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8),
+                        error -> new RangeBody(0, error));
+            }
+            return new DirectWriteSubscriber(destination.duplicate());
+        });
+    }
+
+    /// Body of a [#getInto] response.
+    ///
+    /// @param bytesWritten bytes received for the destination buffer; larger than
+    ///        its capacity when the body was over-long and the transfer was cut off
+    /// @param errorBody the response body for a non-2xx status, otherwise `null`
+    public record RangeBody(long bytesWritten, String errorBody) {
+    }
+
+    /// Copies each body chunk the HTTP client delivers into the destination
+    /// buffer as it arrives — no intermediate heap buffer. On the first byte
+    /// beyond the destination's capacity the subscription is cancelled and the
+    /// body completes with the overflowing count, so an over-long body (e.g. a
+    /// `200` for the whole object from a server that ignored `Range`) neither
+    /// downloads in full nor passes for a complete read.
+    private static final class DirectWriteSubscriber implements HttpResponse.BodySubscriber<RangeBody> {
+
+        private final ByteBuffer destination;
+        private final CompletableFuture<RangeBody> body = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+        private long received;
+
+        DirectWriteSubscriber(ByteBuffer destination) {
+            this.destination = destination;
+        }
+
+        @Override
+        public CompletionStage<RangeBody> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (body.isDone()) {
+                return;
+            }
+            for (ByteBuffer item : items) {
+                received += item.remaining();
+                if (item.remaining() > destination.remaining()) {
+                    subscription.cancel();
+                    body.complete(new RangeBody(received, null));
+                    return;
+                }
+                destination.put(item);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            body.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            body.complete(new RangeBody(received, null));
+        }
+    }
+
     private <T> HttpResponse<T> sendWithRetry(String bucket, String key, String rangeHeader,
             HttpResponse.BodyHandler<T> bodyHandler) throws IOException {
         IOException lastException = null;
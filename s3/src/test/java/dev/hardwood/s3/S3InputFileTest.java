@@ -21,6 +21,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.MountableFile;
 
 import dev.hardwood.InputFile;
+import dev.hardwood.RangeCache;
 import dev.hardwood.reader.ColumnReader;
 import dev.hardwood.reader.FilterPredicate;
 import dev.hardwood.reader.ParquetFileReader;
@@ -254,6 +255,69 @@ class S3InputFileTest {
         }
     }
 
+    @Test
+    void largeReadRangeIsSplitIntoParts() throws Exception {
+        try (S3Source partedSource = S3Source.builder()
+                .endpoint(S3ProxyContainers.endpoint(s3))
+                .pathStyle(true)
+                .credentials(S3Credentials.of(S3ProxyContainers.ACCESS_KEY, S3ProxyContainers.SECRET_KEY))
+                .partSize(1024)
+                .maxConcurrentParts(3)
+                .build()) {
+            S3InputFile whole = source.inputFile("test-bucket", "column_index_pushdown.parquet");
+            S3InputFile parted = partedSource.inputFile("test-bucket", "column_index_pushdown.parquet");
+            whole.open();
+            parted.open();
+            try {
+                int length = 10_000;
+                long requestsBefore = parted.networkRequestCount();
+
+                ByteBuffer expected = whole.readRange(100, length);
+                ByteBuffer actual = parted.readRange(100, length);
+
+                assertThat(actual.isDirect()).isTrue();
+                assertThat(actual.remaining()).isEqualTo(length);
+                assertThat(actual).isEqualTo(expected);
+                assertThat(parted.networkRequestCount() - requestsBefore).isEqualTo(10);
+            }
+            finally {
+                whole.close();
+                parted.close();
+            }
+        }
+    }
+
+    @Test
+    void sharedRangeCacheServesReopenedFileWithoutNetworkReads() throws Exception {
+        RangeCache rangeCache = RangeCache.create(16 * 1024 * 1024);
+        try (S3Source cachedSource = S3Source.builder()
+                .endpoint(S3ProxyContainers.endpoint(s3))
+                .pathStyle(true)
+                .credentials(S3Credentials.of(S3ProxyContainers.ACCESS_KEY, S3ProxyContainers.SECRET_KEY))
+                .rangeCache(rangeCache)
+                .build()) {
+            long firstScanRequests = scanIdColumn(cachedSource);
+            long secondScanRequests = scanIdColumn(cachedSource);
+
+            // Both opens pay the tail GET; only the first pays for column data.
+            assertThat(firstScanRequests).isGreaterThan(1);
+            assertThat(secondScanRequests).isEqualTo(1);
+            assertThat(rangeCache.hitCount()).isPositive();
+            assertThat(rangeCache.sizeBytes()).isPositive();
+        }
+    }
+
+    private static long scanIdColumn(S3Source from) throws Exception {
+        S3InputFile file = from.inputFile("test-bucket", "column_index_pushdown.parquet");
+        try (ParquetFileReader reader = ParquetFileReader.open(file);
+                ColumnReader col = reader.columnReader("id")) {
+            while (col.nextBatch()) {
+                // drain
+            }
+        }
+        return file.networkRequestCount();
+    }
+
     @Test
     void name() {
         InputFile file = source.inputFile("test-bucket", "data/file.parquet");
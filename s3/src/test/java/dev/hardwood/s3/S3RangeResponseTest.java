@@ -0,0 +1,189 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.s3;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import dev.hardwood.InputFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/// Verifies how [S3InputFile] treats range responses that do not match the
+/// request, against an in-process HTTP server that can misbehave on purpose.
+class S3RangeResponseTest {
+
+    private static final int OBJECT_SIZE = 64 * 1024;
+
+    private enum Mode {
+        /// Answers every range with `206` and exactly the requested bytes.
+        HONOR_RANGE,
+        /// Answers suffix ranges properly but explicit ranges with `200` and the whole object.
+        IGNORE_RANGE,
+        /// Answers explicit ranges with `206` but sends one byte too many.
+        OVER_LONG
+    }
+
+    private final byte[] object = new byte[OBJECT_SIZE];
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile Mode mode = Mode.HONOR_RANGE;
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        for (int i = 0; i < OBJECT_SIZE; i++) {
+            object[i] = (byte) i;
+        }
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void rangeIgnoredByServerIsRejected() throws Exception {
+        try (S3Source source = source(Integer.MAX_VALUE, 4);
+             S3InputFile file = source.inputFile("bucket", "object")) {
+            file.open();
+            mode = Mode.IGNORE_RANGE;
+            assertThatThrownBy(() -> file.readRange(1000, 4096))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("HTTP 200")
+                    .hasMessageContaining("ignored the Range header");
+        }
+    }
+
+    @Test
+    void rangeIgnoredByServerIsRejectedForEveryPart() throws Exception {
+        try (S3Source source = source(1024, 4);
+             S3InputFile file = source.inputFile("bucket", "object")) {
+            file.open();
+            mode = Mode.IGNORE_RANGE;
+            assertThatThrownBy(() -> file.readRange(1000, 8192))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("ignored the Range header");
+        }
+    }
+
+    @Test
+    void overLongBodyIsRejected() throws Exception {
+        try (S3Source source = source(Integer.MAX_VALUE, 4);
+             S3InputFile file = source.inputFile("bucket", "object")) {
+            file.open();
+            mode = Mode.OVER_LONG;
+            assertThatThrownBy(() -> file.readRange(1000, 4096))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("Over-long response");
+        }
+    }
+
+    @Test
+    void partsOfConcurrentReadsShareTheFileLimit() throws Exception {
+        try (S3Source source = source(1024, 2);
+             S3InputFile file = source.inputFile("bucket", "object")) {
+            file.open();
+            List<ByteBuffer> buffers = file.readRanges(List.of(
+                    new InputFile.Range(0, 8192),
+                    new InputFile.Range(10_000, 8192),
+                    new InputFile.Range(20_000, 8192)));
+
+            assertThat(buffers.get(1).get(0)).isEqualTo((byte) 10_000);
+            assertThat(buffers.get(2).get(8191)).isEqualTo((byte) (20_000 + 8191));
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    void smallRangesOfOneReadShareTheFileLimit() throws Exception {
+        try (S3Source source = source(1024, 2);
+             S3InputFile file = source.inputFile("bucket", "object")) {
+            file.open();
+            List<InputFile.Range> ranges = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                ranges.add(new InputFile.Range(i * 2048L, 512));
+            }
+            List<ByteBuffer> buffers = file.readRanges(ranges);
+
+            assertThat(buffers.get(5).get(0)).isEqualTo((byte) (5 * 2048));
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        }
+    }
+
+    private S3Source source(int partSize, int maxConcurrentParts) {
+        return S3Source.builder()
+                .endpoint("http://127.0.0.1:" + server.getAddress().getPort())
+                .pathStyle(true)
+                .credentials(S3Credentials.of("access", "secret"))
+                .tailFetch(TailFetchPolicy.fixed(1024))
+                .partSize(partSize)
+                .maxConcurrentParts(maxConcurrentParts)
+                .build();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            String range = exchange.getRequestHeaders().getFirst("Range").substring("bytes=".length());
+            int start;
+            int end;
+            if (range.startsWith("-")) {
+                start = OBJECT_SIZE - Integer.parseInt(range.substring(1));
+                end = OBJECT_SIZE;
+            }
+            else if (mode == Mode.IGNORE_RANGE) {
+                respond(exchange, 200, 0, OBJECT_SIZE, null);
+                return;
+            }
+            else {
+                int dash = range.indexOf('-');
+                start = Integer.parseInt(range.substring(0, dash));
+                end = Integer.parseInt(range.substring(dash + 1)) + 1;
+            }
+            Thread.sleep(10);
+            int bodyEnd = mode == Mode.OVER_LONG && !range.startsWith("-") ? end + 1 : end;
+            respond(exchange, 206, start, bodyEnd, "bytes " + start + "-" + (end - 1) + "/" + OBJECT_SIZE);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, int start, int end, String contentRange)
+            throws IOException {
+        if (contentRange != null) {
+            exchange.getResponseHeaders().set("Content-Range", contentRange);
+        }
+        exchange.sendResponseHeaders(status, end - start);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(object, start, end - start);
+        }
+    }
+}
@@ -73,4 +73,18 @@ class S3SourceNullValidationTest {
                 .isInstanceOf(NullPointerException.class)
                 .hasMessageContaining("uri must not be null");
     }
+
+    @Test
+    void builderRejectsNonPositivePartSize() {
+        assertThatThrownBy(() -> S3Source.builder().partSize(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("partSize");
+    }
+
+    @Test
+    void builderRejectsNonPositiveMaxConcurrentParts() {
+        assertThatThrownBy(() -> S3Source.builder().maxConcurrentParts(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxConcurrentParts");
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Copyright The original authors
+ *
+ *  Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package dev.hardwood.s3;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TailSizeEstimatorTest {
+
+    @Test
+    void fixedPolicyNeverAdapts() {
+        TailSizeEstimator estimator = new TailSizeEstimator(TailFetchPolicy.fixed(4096));
+
+        estimator.grow(1_000_000);
+        estimator.settle(10);
+
+        assertThat(estimator.tailSize()).isEqualTo(4096);
+        assertThat(estimator.learnsPageIndexes()).isFalse();
+    }
+
+    @Test
+    void growsImmediatelyToCoverLargeFooterWithHeadroom() {
+        TailSizeEstimator estimator = new TailSizeEstimator(TailFetchPolicy.adaptive());
+        assertThat(estimator.tailSize()).isEqualTo(64 * 1024);
+
+        estimator.grow(400_000);
+
+        assertThat(estimator.tailSize()).isEqualTo(500_000);
+    }
+
+    @Test
+    void shrinksGraduallyTowardsSmallFootersDownToMinimum() {
+        TailSizeEstimator estimator = new TailSizeEstimator(TailFetchPolicy.adaptive());
+
+        estimator.settle(2_000);
+        int afterOne = estimator.tailSize();
+        assertThat(afterOne).isLessThan(64 * 1024).isGreaterThan(16 * 1024);
+
+        for (int i = 0; i < 200; i++) {
+            estimator.settle(2_000);
+        }
+        assertThat(estimator.tailSize()).isEqualTo(16 * 1024);
+    }
+
+    @Test
+    void estimateIsCappedAtMaximum() {
+        TailSizeEstimator estimator = new TailSizeEstimator(
+                TailFetchPolicy.adaptive(1024, 128 * 1024, true));
+
+        estimator.grow(Long.MAX_VALUE / 2);
+
+        assertThat(estimator.tailSize()).isEqualTo(128 * 1024);
+        assertThat(estimator.learnsPageIndexes()).isTrue();
+    }
+
+    @Test
+    void policyRejectsInvalidBounds() {
+        assertThatThrownBy(() -> TailFetchPolicy.fixed(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TailFetchPolicy.adaptive(0, 1024, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TailFetchPolicy.adaptive(2048, 1024, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxBytes");
+    }
+}